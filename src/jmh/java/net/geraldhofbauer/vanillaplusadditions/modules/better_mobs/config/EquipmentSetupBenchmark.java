@@ -0,0 +1,51 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.better_mobs.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rolling one mob's equipment from a dimension section of the Better Mobs config — the work
+ * behind {@link BetterMobsConfig#getRandomEquipmentSetupForMob} on every enabled mob spawn.
+ * Uses the shipped default sections, compiled once in setup like on a config load, so no config
+ * spec or level is needed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EquipmentSetupBenchmark {
+
+    @Param({"above_zero", "below_zero", "nether_end"})
+    public String section;
+
+    private EquipmentTable table;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        List<String> entries = switch (section) {
+            case "above_zero" -> BetterMobsConfig.getAboveZeroConf();
+            case "below_zero" -> BetterMobsConfig.getBelowZeroConf();
+            default -> BetterMobsConfig.getNetherEndConf();
+        };
+        table = EquipmentTable.compile(entries, problem -> {
+            throw new IllegalStateException("Default Better Mobs section is invalid: " + problem);
+        });
+    }
+
+    @Benchmark
+    public Map<BetterMobsConfigKey, List<String>> rollEquipmentSetup() {
+        // A new seed per call, like a new mob UUID per spawn.
+        return table.roll(new Random(seed++));
+    }
+}
@@ -0,0 +1,63 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.haunted_house;
+
+import net.minecraft.core.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the Haunted House spawn-spot cache maintenance that runs on every cache refresh and
+ * direct-spawn attempt: expiry pruning and the overflow eviction down to the configured maximum.
+ * Works on the production {@link SpawnSpotCache}; only block positions are needed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpawnSpotCacheBenchmark {
+
+    private static final long NOW = 100_000L;
+
+    @Param({"2000", "20000"})
+    public int spots;
+
+    /** Percentage of cached spots whose TTL ran out. */
+    @Param({"0", "10", "50"})
+    public int expiredPercent;
+
+    private SpawnSpotCache cache;
+    private long removed;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        Random random = new Random(7L);
+        cache = new SpawnSpotCache();
+        // Spots of a witch villa and its garden: a 96x96 area, a few floors high.
+        while (cache.size() < spots) {
+            BlockPos pos = new BlockPos(random.nextInt(96), 60 + random.nextInt(24), random.nextInt(96));
+            boolean expired = random.nextInt(100) < expiredPercent;
+            long expiresAt = expired ? NOW - 1 - random.nextInt(600) : NOW + random.nextInt(600);
+            cache.put(pos, random.nextBoolean(), expiresAt);
+        }
+    }
+
+    @Benchmark
+    public long pruneExpired() {
+        cache.pruneExpired(NOW, packedPos -> removed++);
+        return removed;
+    }
+
+    @Benchmark
+    public long evictOverflowToHalf() {
+        cache.evictOverflow(spots / 2, packedPos -> removed++);
+        return removed;
+    }
+}
@@ -0,0 +1,91 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.item_vault_viewer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of merging a full vault's slots into the viewer list (ItemVaultViewerModule.aggregateStacks).
+ * Real {@code ItemStack}s need the item registries, so a {@link FakeStack} (item id + component hash
+ * + count) stands in; the merge itself is the production {@link StackMerger}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StackMergerBenchmark {
+
+    /** A biggest-size Create vault is 3x3x9 blocks with 20 slots each. */
+    @Param({"20", "1620"})
+    public int slots;
+
+    /** How many distinct item kinds are spread over the slots. */
+    @Param({"8", "256"})
+    public int distinctItems;
+
+    private List<FakeStack> slotContents;
+
+    static final class FakeStack {
+        private final int item;
+        private final int components;
+        private int count;
+
+        FakeStack(int item, int components, int count) {
+            this.item = item;
+            this.components = components;
+            this.count = count;
+        }
+    }
+
+    private static final StackMerger.Ops<FakeStack> OPS = new StackMerger.Ops<>() {
+        @Override
+        public boolean isEmpty(FakeStack stack) {
+            return stack.count <= 0;
+        }
+
+        @Override
+        public boolean isSameStack(FakeStack a, FakeStack b) {
+            return a.item == b.item && a.components == b.components;
+        }
+
+        @Override
+        public void grow(FakeStack target, FakeStack source) {
+            target.count += source.count;
+        }
+
+        @Override
+        public FakeStack copy(FakeStack stack) {
+            return new FakeStack(stack.item, stack.components, stack.count);
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        slotContents = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            // Roughly one empty slot in eight, like a partially filled vault.
+            int count = random.nextInt(8) == 0 ? 0 : 1 + random.nextInt(64);
+            int item = random.nextInt(distinctItems);
+            slotContents.add(new FakeStack(item, item % 3, count));
+        }
+    }
+
+    @Benchmark
+    public List<FakeStack> mergeVault() {
+        List<FakeStack> merged = new ArrayList<>();
+        for (FakeStack stack : slotContents) {
+            StackMerger.mergeInto(merged, stack, OPS);
+        }
+        return merged;
+    }
+}
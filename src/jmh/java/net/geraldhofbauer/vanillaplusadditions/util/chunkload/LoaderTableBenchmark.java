@@ -0,0 +1,92 @@
+package net.geraldhofbauer.vanillaplusadditions.util.chunkload;
+
+import net.minecraft.core.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link ChunkLoaderManager#reconcile} pass over thousands of active loader rails.
+ * The level, ticket controller and SavedData are replaced by {@link CountingTickets}; the
+ * bookkeeping is the production {@link LoaderTable}.
+ *
+ * <p>{@code steady}: every rail is already forced, reconcile only checks timeouts (the common
+ * case every 10 ticks). {@code churn}: a quarter of the rails expire and as many new ones get
+ * forced.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoaderTableBenchmark {
+
+    private static final int RADIUS = 1;
+    private static final long TIMEOUT_TICKS = 200L;
+
+    @Param({"1000", "5000"})
+    public int rails;
+
+    @Param({"steady", "churn"})
+    public String scenario;
+
+    private LoaderTable table;
+    private CountingTickets tickets;
+    private long now;
+
+    /** Counts ticket and persistence calls instead of touching a level. */
+    static final class CountingTickets implements LoaderTable.Tickets {
+        private long forced;
+        private long persisted;
+
+        @Override
+        public void forceChunk(BlockPos owner, int chunkX, int chunkZ, boolean add) {
+            forced += add ? 1 : -1;
+        }
+
+        @Override
+        public void persist(BlockPos loaderPos, boolean add) {
+            persisted += add ? 1 : -1;
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        table = new LoaderTable();
+        tickets = new CountingTickets();
+        now = 10_000L;
+        for (int i = 0; i < rails; i++) {
+            table.markActive(railPos(i), now);
+        }
+        table.reconcile(now, RADIUS, TIMEOUT_TICKS, tickets);
+
+        if ("churn".equals(scenario)) {
+            now += TIMEOUT_TICKS + 1;
+            for (int i = rails / 4; i < rails; i++) {
+                table.markActive(railPos(i), now);
+            }
+            for (int i = rails; i < rails + rails / 4; i++) {
+                table.markActive(railPos(i), now);
+            }
+        } else {
+            now += 10L;
+        }
+    }
+
+    /** Rails along a long track, a few blocks apart so neighbouring loaders share chunks. */
+    private static BlockPos railPos(int index) {
+        return new BlockPos(index * 5, 64, (index % 7) * 3);
+    }
+
+    @Benchmark
+    public long reconcile() {
+        table.reconcile(now, RADIUS, TIMEOUT_TICKS, tickets);
+        return tickets.forced + tickets.persisted;
+    }
+}
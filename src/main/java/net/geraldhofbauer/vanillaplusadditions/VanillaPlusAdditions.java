@@ -4,9 +4,13 @@ import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
+import net.geraldhofbauer.vanillaplusadditions.core.LoadGovernor;
 import net.geraldhofbauer.vanillaplusadditions.core.ModuleManager;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleStartupTimings;
 import net.geraldhofbauer.vanillaplusadditions.core.Module;
 import net.geraldhofbauer.vanillaplusadditions.core.ModulesConfig;
+import net.geraldhofbauer.vanillaplusadditions.core.TickBudgetScheduler;
 import net.geraldhofbauer.vanillaplusadditions.core.VanillaPlusCreativeTabs;
 import net.geraldhofbauer.vanillaplusadditions.modules.better_mobs.BetterMobsModule;
 import net.geraldhofbauer.vanillaplusadditions.modules.block_glow.BlockGlowModule;
@@ -44,6 +48,7 @@ import net.geraldhofbauer.vanillaplusadditions.modules.stationary_chunk_loader.S
 import net.geraldhofbauer.vanillaplusadditions.modules.item_vault_viewer.ItemVaultViewerModule;
 import net.geraldhofbauer.vanillaplusadditions.modules.texture_kill.TextureKillModule;
 import net.geraldhofbauer.vanillaplusadditions.modules.wither_skeleton.WitherSkeletonModule;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianPathService;
 import net.geraldhofbauer.vanillaplusadditions.util.WorldgenDiagnostics;
 import net.minecraft.client.Minecraft;
 import net.minecraft.ChatFormatting;
@@ -69,9 +74,12 @@ import net.neoforged.neoforge.client.event.RegisterClientTooltipComponentFactori
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.server.ServerStartingEvent;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
 
 // The value here should match an entry in the META-INF/neoforge.mods.toml file
 @Mod(VanillaPlusAdditions.MODID)
@@ -83,6 +91,10 @@ public class VanillaPlusAdditions {
     // Directly reference a slf4j logger (shared with the core framework).
     public static final Logger LOGGER = net.geraldhofbauer.vanillaplusadditions.core.Vpa.LOGGER;
 
+    // How many hot handlers /vpa perf lists per module in the overview and in the single-module view.
+    private static final int PERF_TOP_HANDLERS_SUMMARY = 3;
+    private static final int PERF_TOP_HANDLERS_DETAIL = 10;
+
     private static final SuggestionProvider<CommandSourceStack> MODULE_ID_SUGGESTIONS = (context, builder) ->
             SharedSuggestionProvider.suggest(
                     ModuleManager.getInstance().getAllModules().stream()
@@ -132,44 +144,45 @@ public class VanillaPlusAdditions {
     private void registerModules() {
         ModuleManager moduleManager = ModuleManager.getInstance();
 
-        // Register all available modules.
+        // Register all available modules. Constructed through the manager so the startup
+        // timing report (logged on load complete, /vpa perf startup) includes construction.
         // Debug overlay framework first so other modules can plug renderers into it.
-        moduleManager.registerModule(new DebugOverlayModule());
-        moduleManager.registerModule(new MinecartChunkLoadingModule());
-        moduleManager.registerModule(new TrainChunkLoadingModule());
-        moduleManager.registerModule(new StationaryChunkLoaderModule());
-        moduleManager.registerModule(new HostileZombifiedPiglinsModule());
-        moduleManager.registerModule(new WitherSkeletonModule());
-        moduleManager.registerModule(new MobGlowModule());
-        moduleManager.registerModule(new BlockGlowModule());
-        moduleManager.registerModule(new BetterMobsModule());
-        moduleManager.registerModule(new DeathCoordinatesModule());
-        moduleManager.registerModule(new EndOxygenModule());
-        moduleManager.registerModule(new EndConduitModule());
-        moduleManager.registerModule(new FlyingFishModule());
-        moduleManager.registerModule(new StackablesModule());
-        moduleManager.registerModule(new HauntedHouseModule());
-        moduleManager.registerModule(new FoodEffectsModule());
-        moduleManager.registerModule(new OverpackedExtensionsModule());
-        moduleManager.registerModule(new CustomCraftingRecipesModule());
-        moduleManager.registerModule(new ArmTargetOverlayModule());
-        moduleManager.registerModule(new TextureKillModule());
-        moduleManager.registerModule(new CatGuardianModule());
-        moduleManager.registerModule(new AxolotlGuardianModule());
-        moduleManager.registerModule(new ItemVaultViewerModule());
-        moduleManager.registerModule(new BattleDogsModule());
-        moduleManager.registerModule(new ChunkResetModule());
-        moduleManager.registerModule(new IdleGamerulesModule());
-        moduleManager.registerModule(new BluemapSignsModule());
-        moduleManager.registerModule(new FreeAnvilRepairModule());
-        moduleManager.registerModule(new WaystoneAmethystRepairModule());
-        moduleManager.registerModule(new OptionsModule());
-        moduleManager.registerModule(new StaticFovModule());
-        moduleManager.registerModule(new CreateWaterWheelUnstuckerModule());
-        moduleManager.registerModule(new ConduitAttackRangeModule());
-        moduleManager.registerModule(new MobCartLoaderModule());
-        moduleManager.registerModule(new MobSpawnOverlayModule());
-        moduleManager.registerModule(new PetPotionsModule());
+        moduleManager.registerModule(DebugOverlayModule::new);
+        moduleManager.registerModule(MinecartChunkLoadingModule::new);
+        moduleManager.registerModule(TrainChunkLoadingModule::new);
+        moduleManager.registerModule(StationaryChunkLoaderModule::new);
+        moduleManager.registerModule(HostileZombifiedPiglinsModule::new);
+        moduleManager.registerModule(WitherSkeletonModule::new);
+        moduleManager.registerModule(MobGlowModule::new);
+        moduleManager.registerModule(BlockGlowModule::new);
+        moduleManager.registerModule(BetterMobsModule::new);
+        moduleManager.registerModule(DeathCoordinatesModule::new);
+        moduleManager.registerModule(EndOxygenModule::new);
+        moduleManager.registerModule(EndConduitModule::new);
+        moduleManager.registerModule(FlyingFishModule::new);
+        moduleManager.registerModule(StackablesModule::new);
+        moduleManager.registerModule(HauntedHouseModule::new);
+        moduleManager.registerModule(FoodEffectsModule::new);
+        moduleManager.registerModule(OverpackedExtensionsModule::new);
+        moduleManager.registerModule(CustomCraftingRecipesModule::new);
+        moduleManager.registerModule(ArmTargetOverlayModule::new);
+        moduleManager.registerModule(TextureKillModule::new);
+        moduleManager.registerModule(CatGuardianModule::new);
+        moduleManager.registerModule(AxolotlGuardianModule::new);
+        moduleManager.registerModule(ItemVaultViewerModule::new);
+        moduleManager.registerModule(BattleDogsModule::new);
+        moduleManager.registerModule(ChunkResetModule::new);
+        moduleManager.registerModule(IdleGamerulesModule::new);
+        moduleManager.registerModule(BluemapSignsModule::new);
+        moduleManager.registerModule(FreeAnvilRepairModule::new);
+        moduleManager.registerModule(WaystoneAmethystRepairModule::new);
+        moduleManager.registerModule(OptionsModule::new);
+        moduleManager.registerModule(StaticFovModule::new);
+        moduleManager.registerModule(CreateWaterWheelUnstuckerModule::new);
+        moduleManager.registerModule(ConduitAttackRangeModule::new);
+        moduleManager.registerModule(MobCartLoaderModule::new);
+        moduleManager.registerModule(MobSpawnOverlayModule::new);
+        moduleManager.registerModule(PetPotionsModule::new);
 
         LOGGER.info("Registered {} modules", moduleManager.getAllModules().size());
     }
@@ -247,6 +260,33 @@ public class VanillaPlusAdditions {
                                         )
                                 )
                         )
+                        .then(Commands.literal("perf")
+                                .executes(context -> executePerfReport(context, null))
+                                .then(Commands.literal("start")
+                                        .executes(context -> executePerfToggle(context, true))
+                                )
+                                .then(Commands.literal("stop")
+                                        .executes(context -> executePerfToggle(context, false))
+                                )
+                                .then(Commands.literal("reset")
+                                        .executes(context -> executePerfReset(context, null))
+                                )
+                                .then(Commands.literal("startup")
+                                        .executes(this::executePerfStartupReport)
+                                )
+                                .then(Commands.literal("load")
+                                        .executes(this::executePerfLoadReport)
+                                )
+                                .then(Commands.argument("module_id", StringArgumentType.word())
+                                        .suggests(MODULE_ID_SUGGESTIONS)
+                                        .executes(context -> executePerfReport(context,
+                                                StringArgumentType.getString(context, "module_id")))
+                                        .then(Commands.literal("reset")
+                                                .executes(context -> executePerfReset(context,
+                                                        StringArgumentType.getString(context, "module_id")))
+                                        )
+                                )
+                        )
         );
     }
 
@@ -412,6 +452,171 @@ public class VanillaPlusAdditions {
         return 1;
     }
 
+    private int executePerfToggle(CommandContext<CommandSourceStack> context, boolean start) {
+        if (start) {
+            ModuleProfiler.start();
+        } else {
+            ModuleProfiler.stop();
+        }
+        context.getSource().sendSuccess(() -> Component.literal(start
+                ? "Module profiling started (counters reset). Use /vpa perf to view results."
+                : "Module profiling stopped. Results stay available until the next start or reset.")
+                .withStyle(ChatFormatting.GREEN), true);
+        return 1;
+    }
+
+    private int executePerfReset(CommandContext<CommandSourceStack> context, @Nullable String moduleId) {
+        CommandSourceStack source = context.getSource();
+        if (moduleId != null && ModuleManager.getInstance().getModule(moduleId) == null) {
+            source.sendFailure(Component.literal("Unknown module: " + moduleId)
+                    .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+        ModuleProfiler.reset(moduleId);
+        source.sendSuccess(() -> Component.literal("Profiler counters reset for "
+                + (moduleId == null ? "all modules" : moduleId))
+                .withStyle(ChatFormatting.YELLOW), true);
+        return 1;
+    }
+
+    private int executePerfStartupReport(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        List<String> lines = ModuleStartupTimings.formatReport();
+        source.sendSuccess(() -> Component.literal(lines.get(0))
+                .withStyle(ChatFormatting.GOLD), false);
+        for (String line : lines.subList(1, lines.size())) {
+            source.sendSuccess(() -> Component.literal(line.strip())
+                    .withStyle(ChatFormatting.GRAY), false);
+        }
+        return 1;
+    }
+
+    private int executePerfLoadReport(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        LoadGovernor.Level level = LoadGovernor.getLevel();
+        ChatFormatting levelColor = switch (level) {
+            case NORMAL -> ChatFormatting.GREEN;
+            case DEGRADED -> ChatFormatting.YELLOW;
+            case SEVERE -> ChatFormatting.RED;
+        };
+        source.sendSuccess(() -> Component.literal("Server load: ")
+                .withStyle(ChatFormatting.GOLD)
+                .append(Component.literal(level.name()).withStyle(levelColor))
+                .append(Component.literal(String.format(Locale.ROOT,
+                                " for %ds, average %.1f ms/tick (degraded at %.1f, severe at %.1f)%s",
+                                LoadGovernor.getTicksAtLevel() / 20, LoadGovernor.getAverageMspt(),
+                                ModulesConfig.getDegradedMspt(), ModulesConfig.getSevereMspt(),
+                                ModulesConfig.isLoadGovernorEnabled() ? "" : ", governor disabled"))
+                        .withStyle(ChatFormatting.GRAY)), false);
+        if (LoadGovernor.getPolicies().isEmpty()) {
+            source.sendSuccess(() -> Component.literal("No module policies configured.")
+                    .withStyle(ChatFormatting.GRAY), false);
+        }
+        LoadGovernor.getPolicies().forEach((moduleId, policy) ->
+                source.sendSuccess(() -> Component.literal(String.format(Locale.ROOT,
+                                "  %s: x%d now (degraded x%d, severe x%d)", moduleId,
+                                LoadGovernor.getMultiplier(moduleId), policy.degraded(), policy.severe()))
+                        .withStyle(LoadGovernor.getMultiplier(moduleId) > 1 ? ChatFormatting.YELLOW : ChatFormatting.WHITE),
+                        false));
+        return 1;
+    }
+
+    private int executePerfReport(CommandContext<CommandSourceStack> context, @Nullable String moduleId) {
+        CommandSourceStack source = context.getSource();
+        if (moduleId != null && ModuleManager.getInstance().getModule(moduleId) == null) {
+            source.sendFailure(Component.literal("Unknown module: " + moduleId)
+                    .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+
+        source.sendSuccess(() -> Component.literal("═══════════════════════════════════════════════")
+                .withStyle(ChatFormatting.DARK_GRAY), false);
+        source.sendSuccess(() -> Component.literal("VanillaPlusAdditions Module Performance")
+                .withStyle(ChatFormatting.GOLD, ChatFormatting.BOLD)
+                .append(Component.literal(ModuleProfiler.isEnabled() ? "  ● recording" : "  ○ stopped")
+                        .withStyle(ModuleProfiler.isEnabled() ? ChatFormatting.GREEN : ChatFormatting.GRAY)),
+                false);
+        source.sendSuccess(() -> Component.literal("═══════════════════════════════════════════════")
+                .withStyle(ChatFormatting.DARK_GRAY), false);
+        source.sendSuccess(() -> Component.literal(String.format(Locale.ROOT,
+                        "Tick budget: %d pending, last tick %s in %d slices (budget %s)",
+                        TickBudgetScheduler.getPendingTaskCount(),
+                        formatNanos(TickBudgetScheduler.getLastTickNanos()),
+                        TickBudgetScheduler.getLastTickSlices(),
+                        formatNanos(ModulesConfig.getTickBudgetNanos())))
+                .withStyle(ChatFormatting.GRAY), false);
+        source.sendSuccess(() -> Component.literal(String.format(Locale.ROOT,
+                        "Guardian paths: last tick %d computed, %d cached, %d deferred, %d/%d nodes (%d cached paths)",
+                        GuardianPathService.getLastTickComputed(), GuardianPathService.getLastTickCacheHits(),
+                        GuardianPathService.getLastTickDeferred(), GuardianPathService.getLastTickNodes(),
+                        ModulesConfig.getGuardianPathNodeBudget(), GuardianPathService.getCacheSize()))
+                .withStyle(ChatFormatting.GRAY), false);
+        int[] catStates = CatGuardianModule.getTrackedStateCounts();
+        source.sendSuccess(() -> Component.literal(String.format(Locale.ROOT,
+                        "Guardian cat state: %d cats tracked, %d pending XP redirections",
+                        catStates[0], catStates[1]))
+                .withStyle(ChatFormatting.GRAY), false);
+        source.sendSuccess(() -> Component.literal(String.format(Locale.ROOT,
+                        "Server load: %s, average %.1f ms/tick (details: /vpa perf load)",
+                        LoadGovernor.getLevel(), LoadGovernor.getAverageMspt()))
+                .withStyle(ChatFormatting.GRAY), false);
+
+        List<ModuleProfiler.ModuleReport> reports;
+        int topHandlers;
+        if (moduleId == null) {
+            reports = ModuleProfiler.report().stream()
+                    .filter(report -> report.ticks() > 0)
+                    .toList();
+            topHandlers = PERF_TOP_HANDLERS_SUMMARY;
+        } else {
+            ModuleProfiler.ModuleReport report = ModuleProfiler.report(moduleId);
+            reports = report == null || report.ticks() == 0 ? List.of() : List.of(report);
+            topHandlers = PERF_TOP_HANDLERS_DETAIL;
+        }
+
+        if (reports.isEmpty()) {
+            source.sendSuccess(() -> Component.literal(ModuleProfiler.isEnabled()
+                    ? "No samples yet."
+                    : "No samples. Start profiling with /vpa perf start")
+                    .withStyle(ChatFormatting.GRAY), false);
+        }
+
+        for (ModuleProfiler.ModuleReport report : reports) {
+            Module module = ModuleManager.getInstance().getModule(report.moduleId());
+            String displayName = module != null ? module.getDisplayName() : report.moduleId();
+            MutableComponent moduleLine = Component.literal("▸ ")
+                    .withStyle(ChatFormatting.DARK_GRAY)
+                    .append(Component.literal(displayName).withStyle(ChatFormatting.AQUA))
+                    .append(Component.literal(" (" + report.moduleId() + ")").withStyle(ChatFormatting.GRAY))
+                    .append(Component.literal(String.format(Locale.ROOT,
+                                    "\n  └─ mean %s/tick  p99 %s/tick  %.1f calls/s  (%d ticks)",
+                                    formatNanos(report.meanTickNanos()), formatNanos(report.p99TickNanos()),
+                                    report.callsPerSecond(), report.ticks()))
+                            .withStyle(ChatFormatting.WHITE));
+            report.handlers().stream()
+                    .filter(handler -> handler.calls() > 0)
+                    .limit(topHandlers)
+                    .forEach(handler -> moduleLine.append(Component.literal(String.format(Locale.ROOT,
+                                    "\n     • %s: %s total, %s avg, %s max, %d calls",
+                                    handler.name(), formatNanos(handler.totalNanos()),
+                                    formatNanos(handler.meanNanos()), formatNanos(handler.maxNanos()),
+                                    handler.calls()))
+                            .withStyle(ChatFormatting.GRAY)));
+            source.sendSuccess(() -> moduleLine, false);
+        }
+
+        source.sendSuccess(() -> Component.literal("═══════════════════════════════════════════════")
+                .withStyle(ChatFormatting.DARK_GRAY), false);
+        return 1;
+    }
+
+    private static String formatNanos(double nanos) {
+        if (nanos >= 1_000_000.0) {
+            return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+        }
+        return String.format(Locale.ROOT, "%.1fµs", nanos / 1_000.0);
+    }
+
     private int executeHauntedHouseWhereAmI(CommandContext<CommandSourceStack> context) {
         CommandSourceStack source = context.getSource();
         Module module = ModuleManager.getInstance().getModule("haunted_house");
@@ -1,11 +1,14 @@
 package net.geraldhofbauer.vanillaplusadditions.core;
 
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModuleConfig.DefaultModuleConfig;
+import net.neoforged.bus.api.Event;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.ModContainer;
+import net.neoforged.neoforge.common.NeoForge;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -195,6 +198,31 @@ public abstract class AbstractModule<M extends Module, C extends ModuleConfig> i
         return modContainer;
     }
 
+    /**
+     * Registers a listener on the game event bus ({@code NeoForge.EVENT_BUS}) on behalf of this module.
+     * Use this instead of registering directly: the {@link ModuleManager} unregisters the listener
+     * while the module is disabled at runtime and registers it again when it is re-enabled.
+     *
+     * @param listener An object with {@code @SubscribeEvent} instance methods, or a class with static ones
+     */
+    protected final void registerGameEventListener(Object listener) {
+        ModuleManager.getInstance().registerGameListener(this, listener);
+    }
+
+    /**
+     * Registers a game-bus handler that stays registered while the module is disabled at runtime.
+     * Use this for lifecycle and cleanup events (chunk/level unloads, entities leaving a level,
+     * server start/stop, command registration): a module suspended via
+     * {@link #registerGameEventListener(Object)} would miss them and keep references to unloaded
+     * levels, chunks or entities. Such handlers must do their cleanup without checking
+     * {@link #isModuleEnabled()}.
+     *
+     * @param eventType The event class
+     * @param handler   The handler
+     */
+    protected final <E extends Event> void registerLifecycleListener(Class<E> eventType, Consumer<E> handler) {
+        NeoForge.EVENT_BUS.addListener(eventType, handler);
+    }
 
     /**
      * Helper method to check if this specific module is enabled.
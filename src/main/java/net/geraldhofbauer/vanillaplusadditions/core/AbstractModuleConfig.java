@@ -4,6 +4,10 @@ import net.neoforged.neoforge.common.ModConfigSpec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Debug logging mode for modules.
  */
@@ -36,6 +40,9 @@ public abstract class AbstractModuleConfig<M extends Module, C extends ModuleCon
     
     // Module reference for getting default values
     private final M module;
+
+    // Compiled views of the raw config values, rebuilt on every config (re)load
+    private final List<CompiledSnapshot<?>> snapshots = new ArrayList<>();
     
     /**
      * Creates an abstract module configuration.
@@ -85,13 +92,100 @@ public abstract class AbstractModuleConfig<M extends Module, C extends ModuleCon
     
     @Override
     public void onConfigLoad(ModConfigSpec spec) {
-        // Default implementation - subclasses can override if needed
+        // Default implementation - subclasses can override if needed, but must call super
+        rebuildSnapshots();
         if (enabled != null && debugLogging != null) {
             LOGGER.debug("Configuration loaded for module: {} - enabled: {}, debug logging: {}",
                     getConfigSectionName(), enabled.get(), debugLogging.get());
         }
     }
     
+    /**
+     * Compiles one value of a {@link CompiledSnapshot} from the current raw config values.
+     *
+     * @param <S> The snapshot type
+     */
+    @FunctionalInterface
+    public interface SnapshotCompiler<S> {
+        /**
+         * @param problems Receives a message for every entry that could not be parsed; such
+         *                 entries should be skipped, not fail the whole snapshot
+         * @return The compiled, immutable value
+         */
+        S compile(Consumer<String> problems);
+    }
+
+    /**
+     * An immutable, typed view of a module's raw config values (parsed string lists, lookup sets, ...).
+     * <p>
+     * The snapshot is compiled once per config load and published through a volatile reference, so
+     * hot paths read it with {@link #get()} instead of re-parsing {@link ModConfigSpec} values per call.
+     * Until the config is loaded, the initial value passed to
+     * {@link #compiledSnapshot(Object, SnapshotCompiler)} is returned.
+     *
+     * @param <S> The snapshot type; should be immutable
+     */
+    public static final class CompiledSnapshot<S> {
+        private final SnapshotCompiler<S> compiler;
+        private volatile S value;
+
+        private CompiledSnapshot(S initial, SnapshotCompiler<S> compiler) {
+            this.value = initial;
+            this.compiler = compiler;
+        }
+
+        /**
+         * @return The value compiled at the last config load
+         */
+        public S get() {
+            return value;
+        }
+    }
+
+    /**
+     * Registers a snapshot that is recompiled on every config load. Call this from a field initializer
+     * of the subclass.
+     *
+     * @param initial  The value to return before the config is loaded
+     * @param compiler Builds the value from the loaded config
+     * @return The snapshot to read on hot paths
+     */
+    protected final <S> CompiledSnapshot<S> compiledSnapshot(S initial, SnapshotCompiler<S> compiler) {
+        CompiledSnapshot<S> snapshot = new CompiledSnapshot<>(initial, compiler);
+        snapshots.add(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Recompiles all snapshots of this module. Invalid entries are logged here, once per load,
+     * instead of on every read. A snapshot whose compiler throws keeps its previous value.
+     */
+    private void rebuildSnapshots() {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        List<String> problems = new ArrayList<>();
+        for (CompiledSnapshot<?> snapshot : snapshots) {
+            rebuild(snapshot, problems);
+        }
+        if (!problems.isEmpty()) {
+            LOGGER.warn("Configuration of module {} has {} invalid entries, they are ignored:",
+                    getConfigSectionName(), problems.size());
+            for (String problem : problems) {
+                LOGGER.warn("  - {}", problem);
+            }
+        }
+    }
+
+    private <S> void rebuild(CompiledSnapshot<S> snapshot, List<String> problems) {
+        try {
+            snapshot.value = snapshot.compiler.compile(problems::add);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to compile configuration of module {}, keeping the previous values",
+                    getConfigSectionName(), e);
+        }
+    }
+
     @Override
     public String getConfigSectionName() {
         return module.getModuleId();
@@ -0,0 +1,152 @@
+package net.geraldhofbauer.vanillaplusadditions.core;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.tick.EntityTickEvent;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Central server-side dispatcher for {@link EntityTickEvent}.
+ *
+ * <p>Instead of every module subscribing to the entity tick of <b>every</b> entity (and each one
+ * running its own {@code isModuleEnabled()} + {@code instanceof} chain before bailing out), modules
+ * register typed handlers here. One pair of listeners (Pre/Post) looks up the entity's
+ * {@link EntityType} in an identity table and only calls the handlers that apply to that type; an
+ * entity type nobody cares about costs a single map lookup.
+ *
+ * <p>The table is filled lazily — the first entity of a type decides which handlers match (via
+ * {@code instanceof} on the handler's entity class, so modded subclasses still match) — and is
+ * dropped by {@link #invalidate()} whenever module enabled state or config changes. Handlers of
+ * disabled modules are simply never put into the table.
+ *
+ * <p>Each handler declares a tick interval; it is only called when
+ * {@code entity.tickCount % interval == 0}. All handlers run on the logical server only and are
+ * timed by {@link ModuleProfiler} (as e.g. {@code "Cat tick POST/10"}).
+ */
+public final class EntityTickRouter {
+
+    /**
+     * Which side of the entity tick a handler runs on.
+     */
+    public enum Phase {
+        PRE,
+        POST
+    }
+
+    private record Handler<T extends Entity>(AbstractModule<?, ?> module, Class<T> entityClass,
+                                             Predicate<EntityType<?>> typeFilter, int interval,
+                                             Consumer<? super T> action, ModuleProfiler.Probe probe) {
+        boolean matches(Entity entity) {
+            return entityClass.isInstance(entity) && typeFilter.test(entity.getType());
+        }
+
+        void invoke(Entity entity) {
+            if (interval > 1 && entity.tickCount % interval != 0) {
+                return;
+            }
+            long start = probe.start();
+            try {
+                action.accept(entityClass.cast(entity));
+            } finally {
+                probe.stop(start);
+            }
+        }
+    }
+
+    private static final Handler<?>[] NO_HANDLERS = new Handler<?>[0];
+
+    private static final List<Handler<?>> PRE_HANDLERS = new ArrayList<>();
+    private static final List<Handler<?>> POST_HANDLERS = new ArrayList<>();
+
+    // EntityType → enabled handlers; replaced wholesale on invalidate(), filled on the server thread.
+    private static volatile Map<EntityType<?>, Handler<?>[]> preTable = new IdentityHashMap<>();
+    private static volatile Map<EntityType<?>, Handler<?>[]> postTable = new IdentityHashMap<>();
+
+    private static boolean listening = false;
+
+    private EntityTickRouter() {
+    }
+
+    /**
+     * Registers a handler for every entity that is an instance of {@code entityClass}.
+     *
+     * @param module      the owning module; the handler only runs while it is enabled
+     * @param entityClass the entity class the handler applies to
+     * @param phase       whether to run on {@link EntityTickEvent.Pre} or {@link EntityTickEvent.Post}
+     * @param interval    run every {@code interval} ticks of the entity's {@code tickCount} (1 = every tick)
+     * @param action      the handler
+     */
+    public static <T extends Entity> void register(AbstractModule<?, ?> module, Class<T> entityClass,
+                                                   Phase phase, int interval, Consumer<? super T> action) {
+        register(module, entityClass, type -> true, phase, interval, action);
+    }
+
+    /**
+     * Registers a handler for entities that are an instance of {@code entityClass} and whose type
+     * passes {@code typeFilter}. The filter is evaluated once per entity type per table rebuild, so
+     * call {@link #invalidate()} if its answer changes.
+     */
+    public static synchronized <T extends Entity> void register(AbstractModule<?, ?> module, Class<T> entityClass,
+                                                                Predicate<EntityType<?>> typeFilter, Phase phase,
+                                                                int interval, Consumer<? super T> action) {
+        int every = Math.max(1, interval);
+        String probeName = entityClass.getSimpleName() + " tick " + phase + (every > 1 ? "/" + every : "");
+        Handler<T> handler = new Handler<>(module, entityClass, typeFilter, every, action,
+                ModuleProfiler.probe(module.getModuleId(), probeName));
+        (phase == Phase.PRE ? PRE_HANDLERS : POST_HANDLERS).add(handler);
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(EntityTickRouter::onEntityTickPre);
+            NeoForge.EVENT_BUS.addListener(EntityTickRouter::onEntityTickPost);
+        }
+        invalidate();
+    }
+
+    /**
+     * Drops the type→handler tables so they are rebuilt against the current module enabled state.
+     * Called on runtime module toggles and config reloads.
+     */
+    public static void invalidate() {
+        preTable = new IdentityHashMap<>();
+        postTable = new IdentityHashMap<>();
+    }
+
+    private static void onEntityTickPre(EntityTickEvent.Pre event) {
+        dispatch(event.getEntity(), preTable, PRE_HANDLERS);
+    }
+
+    private static void onEntityTickPost(EntityTickEvent.Post event) {
+        dispatch(event.getEntity(), postTable, POST_HANDLERS);
+    }
+
+    private static void dispatch(Entity entity, Map<EntityType<?>, Handler<?>[]> table, List<Handler<?>> all) {
+        if (entity.level().isClientSide()) {
+            return;
+        }
+        Handler<?>[] handlers = table.get(entity.getType());
+        if (handlers == null) {
+            handlers = resolve(entity, all);
+            table.put(entity.getType(), handlers);
+        }
+        for (Handler<?> handler : handlers) {
+            handler.invoke(entity);
+        }
+    }
+
+    private static synchronized Handler<?>[] resolve(Entity entity, List<Handler<?>> all) {
+        List<Handler<?>> matching = new ArrayList<>();
+        for (Handler<?> handler : all) {
+            if (handler.module().isModuleEnabled() && handler.matches(entity)) {
+                matching.add(handler);
+            }
+        }
+        return matching.isEmpty() ? NO_HANDLERS : matching.toArray(NO_HANDLERS);
+    }
+}
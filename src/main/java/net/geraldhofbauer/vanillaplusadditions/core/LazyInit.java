@@ -0,0 +1,120 @@
+package net.geraldhofbauer.vanillaplusadditions.core;
+
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Expensive one-off work of a module (reflection bootstraps, optional-mod API lookups, ...) that
+ * runs on first use instead of during mod loading.
+ *
+ * <p>{@link #ensure()} runs the task exactly once, thread-safe, and is a single volatile read
+ * afterwards. Work that should be ready before gameplay needs it can additionally be
+ * {@linkplain #deferToFirstServerTick() deferred to the first server tick}; whichever comes first
+ * wins. The time the task took is recorded in {@link ModuleStartupTimings} under
+ * {@link ModuleStartupTimings.Phase#LAZY}, so dedicated servers and clients that never touch the
+ * work never pay for it.</p>
+ *
+ * <pre>{@code
+ * private static final LazyInit REFLECTION =
+ *         LazyInit.of("my_module", "Foo reflection", MyReflection::resolve);
+ *
+ * static Object read(Object target) {
+ *     REFLECTION.ensure();
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class LazyInit {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LazyInit.class);
+
+    private static final Queue<LazyInit> FIRST_SERVER_TICK = new ConcurrentLinkedQueue<>();
+    private static boolean listening = false;
+
+    private final String moduleId;
+    private final String name;
+    private final Runnable task;
+    private volatile boolean done = false;
+
+    private LazyInit(String moduleId, String name, Runnable task) {
+        this.moduleId = moduleId;
+        this.name = name;
+        this.task = task;
+    }
+
+    /**
+     * @param moduleId the owning module, used to attribute the time
+     * @param name     short description for the log, e.g. {@code "Create water wheel reflection"}
+     * @param task     the work; exceptions are logged and the task is not retried
+     */
+    public static LazyInit of(String moduleId, String name, Runnable task) {
+        return new LazyInit(moduleId, name, task);
+    }
+
+    /**
+     * Additionally runs the task on the first server tick if nothing used it before.
+     *
+     * @return this
+     */
+    public LazyInit deferToFirstServerTick() {
+        if (!done) {
+            FIRST_SERVER_TICK.add(this);
+            listenForServerTick();
+        }
+        return this;
+    }
+
+    /**
+     * Runs the task if it has not run yet; blocks while another thread runs it.
+     */
+    public void ensure() {
+        if (!done) {
+            run("first use");
+        }
+    }
+
+    /**
+     * @return true once the task has run
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    private synchronized void run(String trigger) {
+        if (done) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } catch (Exception e) {
+            LOGGER.error("Lazy initialization '{}' of module {} failed", name, moduleId, e);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            ModuleStartupTimings.record(moduleId, ModuleStartupTimings.Phase.LAZY, nanos);
+            LOGGER.debug("Lazy initialization '{}' of module {} ran on {} in {} ms",
+                    name, moduleId, trigger, nanos / 1_000_000L);
+            done = true;
+        }
+    }
+
+    private static synchronized void listenForServerTick() {
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(LazyInit::onServerTick);
+        }
+    }
+
+    private static void onServerTick(ServerTickEvent.Pre event) {
+        LazyInit lazyInit;
+        while ((lazyInit = FIRST_SERVER_TICK.poll()) != null) {
+            if (!lazyInit.done) {
+                lazyInit.run("first server tick");
+            }
+        }
+    }
+}
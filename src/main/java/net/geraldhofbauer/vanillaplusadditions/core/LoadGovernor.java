@@ -0,0 +1,243 @@
+package net.geraldhofbauer.vanillaplusadditions.core;
+
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Watches the server's average tick time (MSPT) and publishes a {@link Level degradation level}
+ * that modules consult to stretch their optional periodic work while the server falls behind.
+ *
+ * <p>Each module has a policy of interval multipliers per level, configured in the
+ * {@code loadGovernor} section of the global config as {@code module_id=degraded,severe}, e.g.
+ * {@code cat_guardian=2,4}. Modules without a policy are never slowed down. Modules ask for their
+ * current interval with {@link #scale(String, int)}, or use {@link #skip(String, int, int)} in
+ * handlers that a fixed-interval caller (like {@link EntityTickRouter}) runs.</p>
+ *
+ * <p>The level rises as soon as MSPT crosses a threshold and only drops once MSPT stayed below
+ * {@value #RECOVERY_FACTOR} of the threshold for {@value #RECOVERY_CHECKS} checks in a row, so it
+ * doesn't flap around a threshold. Server thread only, except the level itself which is volatile.</p>
+ */
+public final class LoadGovernor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadGovernor.class);
+
+    /** Server ticks between two MSPT checks. */
+    private static final int CHECK_INTERVAL_TICKS = 20;
+    /** Consecutive checks below the recovery threshold before the level drops by one. */
+    private static final int RECOVERY_CHECKS = 5;
+    /** A level is left once MSPT is below this fraction of its threshold. */
+    private static final double RECOVERY_FACTOR = 0.9;
+
+    /** How far the server is behind. */
+    public enum Level {
+        /** MSPT below the degraded threshold: everything runs at full rate. */
+        NORMAL,
+        /** MSPT above {@code degradedMspt}. */
+        DEGRADED,
+        /** MSPT above {@code severeMspt}. */
+        SEVERE
+    }
+
+    /**
+     * Interval multipliers of one module.
+     *
+     * @param degraded multiplier while {@link Level#DEGRADED}
+     * @param severe   multiplier while {@link Level#SEVERE}
+     */
+    public record Policy(int degraded, int severe) {
+        public int multiplier(Level level) {
+            return switch (level) {
+                case NORMAL -> 1;
+                case DEGRADED -> degraded;
+                case SEVERE -> severe;
+            };
+        }
+    }
+
+    private static volatile Level level = Level.NORMAL;
+    private static volatile Map<String, Policy> policies = Map.of();
+    private static volatile double averageMspt;
+
+    private static boolean listening = false;
+    private static int recoveryStreak;
+    private static long levelSinceTick;
+    private static long tickCounter;
+
+    private LoadGovernor() {
+    }
+
+    /**
+     * @return the current degradation level; always {@link Level#NORMAL} while the governor is disabled
+     */
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * @return the average tick time of the last 100 server ticks at the last check, in milliseconds
+     */
+    public static double getAverageMspt() {
+        return averageMspt;
+    }
+
+    /**
+     * @return server ticks since the level last changed
+     */
+    public static long getTicksAtLevel() {
+        return tickCounter - levelSinceTick;
+    }
+
+    /**
+     * @return the configured policies by module id, in config order
+     */
+    public static Map<String, Policy> getPolicies() {
+        return policies;
+    }
+
+    /**
+     * @return the factor the intervals of {@code moduleId} are currently stretched by (1 = full rate)
+     */
+    public static int getMultiplier(String moduleId) {
+        Level current = level;
+        if (current == Level.NORMAL) {
+            return 1;
+        }
+        Policy policy = policies.get(moduleId);
+        return policy == null ? 1 : policy.multiplier(current);
+    }
+
+    /**
+     * @return {@code baseInterval} stretched by the current multiplier of {@code moduleId}
+     */
+    public static int scale(String moduleId, int baseInterval) {
+        return baseInterval * getMultiplier(moduleId);
+    }
+
+    /**
+     * For handlers that are called every {@code baseInterval} ticks by someone else: tells whether
+     * this call should be skipped so the handler effectively runs every
+     * {@link #scale(String, int) scale(moduleId, baseInterval)} ticks.
+     *
+     * @param tickCount the counter the caller's interval is based on, e.g. {@code entity.tickCount}
+     */
+    public static boolean skip(String moduleId, int tickCount, int baseInterval) {
+        int multiplier = getMultiplier(moduleId);
+        return multiplier > 1 && (tickCount / baseInterval) % multiplier != 0;
+    }
+
+    /**
+     * Recompiles the policies from the global config and starts watching the server tick time.
+     * Called whenever the config is (re)loaded.
+     */
+    static void onConfigLoad() {
+        policies = compilePolicies(ModulesConfig.getLoadGovernorPolicies());
+        if (!ModulesConfig.isLoadGovernorEnabled()) {
+            setLevel(Level.NORMAL);
+        }
+        startListening();
+    }
+
+    private static Map<String, Policy> compilePolicies(List<? extends String> entries) {
+        Map<String, Policy> compiled = new LinkedHashMap<>();
+        for (String entry : entries) {
+            Policy policy = parsePolicy(entry);
+            if (policy == null) {
+                LOGGER.warn("Ignoring invalid load governor policy '{}', expected module_id=degraded,severe", entry);
+                continue;
+            }
+            compiled.put(entry.substring(0, entry.indexOf('=')).strip(), policy);
+        }
+        return Collections.unmodifiableMap(compiled);
+    }
+
+    /**
+     * Parses {@code module_id=degraded,severe}.
+     *
+     * @return the policy, or null if the entry is malformed
+     */
+    static Policy parsePolicy(String entry) {
+        int equals = entry.indexOf('=');
+        if (equals <= 0) {
+            return null;
+        }
+        String[] multipliers = entry.substring(equals + 1).split(",");
+        if (multipliers.length != 2) {
+            return null;
+        }
+        try {
+            int degraded = Integer.parseInt(multipliers[0].strip());
+            int severe = Integer.parseInt(multipliers[1].strip());
+            if (degraded < 1 || severe < 1) {
+                return null;
+            }
+            return new Policy(degraded, severe);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static synchronized void startListening() {
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(LoadGovernor::onServerTick);
+            NeoForge.EVENT_BUS.addListener(LoadGovernor::onServerStopped);
+        }
+    }
+
+    private static void onServerTick(ServerTickEvent.Post event) {
+        tickCounter++;
+        if (tickCounter % CHECK_INTERVAL_TICKS != 0) {
+            return;
+        }
+        averageMspt = event.getServer().getAverageTickTimeNanos() / 1_000_000.0;
+        if (!ModulesConfig.isLoadGovernorEnabled()) {
+            setLevel(Level.NORMAL);
+            return;
+        }
+
+        Level measured = averageMspt >= ModulesConfig.getSevereMspt() ? Level.SEVERE
+                : averageMspt >= ModulesConfig.getDegradedMspt() ? Level.DEGRADED
+                : Level.NORMAL;
+        Level current = level;
+        if (measured.ordinal() > current.ordinal()) {
+            recoveryStreak = 0;
+            setLevel(measured);
+        } else if (current != Level.NORMAL && averageMspt < threshold(current) * RECOVERY_FACTOR) {
+            if (++recoveryStreak >= RECOVERY_CHECKS) {
+                recoveryStreak = 0;
+                setLevel(Level.values()[current.ordinal() - 1]);
+            }
+        } else {
+            recoveryStreak = 0;
+        }
+    }
+
+    private static double threshold(Level current) {
+        return current == Level.SEVERE ? ModulesConfig.getSevereMspt() : ModulesConfig.getDegradedMspt();
+    }
+
+    private static void setLevel(Level newLevel) {
+        Level previous = level;
+        if (previous == newLevel) {
+            return;
+        }
+        level = newLevel;
+        levelSinceTick = tickCounter;
+        LOGGER.info("Server load {} -> {} (average {} ms per tick)", previous, newLevel,
+                String.format(Locale.ROOT, "%.1f", averageMspt));
+    }
+
+    private static void onServerStopped(ServerStoppedEvent event) {
+        level = Level.NORMAL;
+        recoveryStreak = 0;
+        averageMspt = 0.0;
+    }
+}
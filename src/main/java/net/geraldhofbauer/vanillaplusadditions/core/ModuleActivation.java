@@ -0,0 +1,71 @@
+package net.geraldhofbauer.vanillaplusadditions.core;
+
+import net.neoforged.neoforge.common.NeoForge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runtime on/off switch of one module, owned by {@link ModuleManager}.
+ *
+ * <p>Holds the module's game-bus listeners (registered via
+ * {@link AbstractModule#registerGameEventListener(Object)}) and keeps them registered on
+ * {@link NeoForge#EVENT_BUS} only while the module is active, so a module disabled at runtime costs
+ * no event dispatch at all. Block entity tickers wrapped with
+ * {@link ModuleManager#suspendable(String, net.minecraft.world.level.block.entity.BlockEntityTicker)}
+ * read {@link #isActive()} (a single volatile read) and skip their work while suspended.
+ */
+public final class ModuleActivation {
+    private final String moduleId;
+    private final List<Object> listeners = new ArrayList<>();
+    private volatile boolean active = true;
+
+    ModuleActivation(String moduleId) {
+        this.moduleId = moduleId;
+    }
+
+    public String getModuleId() {
+        return moduleId;
+    }
+
+    /**
+     * @return false while the module is disabled at runtime
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return the number of game-bus listeners owned by the module
+     */
+    public synchronized int getListenerCount() {
+        return listeners.size();
+    }
+
+    synchronized void addListener(Object listener) {
+        listeners.add(listener);
+        if (active) {
+            NeoForge.EVENT_BUS.register(listener);
+        }
+    }
+
+    /**
+     * Registers or unregisters all listeners if the state changes.
+     *
+     * @return true if the state changed
+     */
+    synchronized boolean setActive(boolean newActive) {
+        if (active == newActive) {
+            return false;
+        }
+        for (Object listener : listeners) {
+            if (newActive) {
+                NeoForge.EVENT_BUS.register(listener);
+            } else {
+                NeoForge.EVENT_BUS.unregister(listener);
+            }
+        }
+        active = newActive;
+        return true;
+    }
+}
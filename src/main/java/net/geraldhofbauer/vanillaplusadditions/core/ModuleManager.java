@@ -1,5 +1,7 @@
 package net.geraldhofbauer.vanillaplusadditions.core;
 
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.ModContainer;
 import org.slf4j.Logger;
@@ -11,6 +13,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Manages the lifecycle and registration of all VanillaPlusAdditions modules.
@@ -24,6 +27,7 @@ public final class ModuleManager {
     private final Map<String, Boolean> moduleEnabledState = new ConcurrentHashMap<>();
     private final Map<String, Boolean> runtimeModuleOverrides = new ConcurrentHashMap<>();
     private final List<Module> enabledModules = new ArrayList<>();
+    private final Map<String, ModuleActivation> activations = new ConcurrentHashMap<>();
     
     private boolean initialized = false;
     
@@ -41,6 +45,21 @@ public final class ModuleManager {
         return instance;
     }
     
+    /**
+     * Constructs and registers a module, recording the construction time in the startup report.
+     *
+     * @param factory The module constructor, e.g. {@code CatGuardianModule::new}
+     * @throws IllegalArgumentException if a module with the same ID is already registered
+     * @throws IllegalStateException if called after initialization
+     */
+    public void registerModule(Supplier<? extends Module> factory) {
+        long start = System.nanoTime();
+        Module module = factory.get();
+        ModuleStartupTimings.record(module.getModuleId(), ModuleStartupTimings.Phase.CONSTRUCT,
+                System.nanoTime() - start);
+        registerModule(module);
+    }
+
     /**
      * Registers a module with the manager.
      * 
@@ -102,6 +121,7 @@ public final class ModuleManager {
                    enabledModules.size(), registeredModules.size());
         
         for (Module module : enabledModules) {
+            long start = System.nanoTime();
             try {
                 LOGGER.debug("Initializing module: {}", module.getDisplayName());
                 module.initialize(modEventBus, modContainer);
@@ -109,6 +129,7 @@ public final class ModuleManager {
                 LOGGER.error("Failed to initialize module: {}", module.getDisplayName(), e);
                 // Continue with other modules
             }
+            recordPhase(module, ModuleStartupTimings.Phase.INITIALIZE, start);
         }
         
         initialized = true;
@@ -127,11 +148,13 @@ public final class ModuleManager {
         LOGGER.debug("Running common setup for {} modules", enabledModules.size());
         
         for (Module module : enabledModules) {
+            long start = System.nanoTime();
             try {
                 module.commonSetup();
             } catch (Exception e) {
                 LOGGER.error("Failed common setup for module: {}", module.getDisplayName(), e);
             }
+            recordPhase(module, ModuleStartupTimings.Phase.COMMON_SETUP, start);
         }
     }
 
@@ -147,12 +170,17 @@ public final class ModuleManager {
         LOGGER.debug("Running load complete for {} modules", enabledModules.size());
 
         for (Module module : enabledModules) {
+            long start = System.nanoTime();
             try {
                 module.loadComplete();
             } catch (Exception e) {
                 LOGGER.error("Failed load complete for module: {}", module.getDisplayName(), e);
             }
+            recordPhase(module, ModuleStartupTimings.Phase.LOAD_COMPLETE, start);
         }
+
+        // Load complete is the last lifecycle phase on both sides (client setup runs before it)
+        ModuleStartupTimings.logReport();
     }
     
     /**
@@ -167,13 +195,19 @@ public final class ModuleManager {
         LOGGER.debug("Running client setup for {} modules", enabledModules.size());
         
         for (Module module : enabledModules) {
+            long start = System.nanoTime();
             try {
                 module.clientSetup();
             } catch (Exception e) {
                 LOGGER.error("Failed client setup for module: {}", module.getDisplayName(), e);
             }
+            recordPhase(module, ModuleStartupTimings.Phase.CLIENT_SETUP, start);
         }
     }
+
+    private static void recordPhase(Module module, ModuleStartupTimings.Phase phase, long startNanos) {
+        ModuleStartupTimings.record(module.getModuleId(), phase, System.nanoTime() - startNanos);
+    }
     
     /**
      * Gets a module by its ID.
@@ -216,6 +250,8 @@ public final class ModuleManager {
             return false;
         }
         runtimeModuleOverrides.put(moduleId, enabled);
+        EntityTickRouter.invalidate();
+        refreshActivation(moduleId);
         return true;
     }
 
@@ -223,7 +259,68 @@ public final class ModuleManager {
      * Clears runtime override for a module and falls back to config state.
      */
     public boolean clearRuntimeModuleOverride(String moduleId) {
-        return runtimeModuleOverrides.remove(moduleId) != null;
+        boolean cleared = runtimeModuleOverrides.remove(moduleId) != null;
+        EntityTickRouter.invalidate();
+        refreshActivation(moduleId);
+        return cleared;
+    }
+
+    /**
+     * Gets the runtime switch of a module, creating it on first use.
+     *
+     * @param moduleId The module ID
+     * @return The module's activation
+     */
+    public ModuleActivation getActivation(String moduleId) {
+        return activations.computeIfAbsent(moduleId, ModuleActivation::new);
+    }
+
+    /**
+     * Registers a game-bus listener owned by {@code module}; it stays registered only while the
+     * module is enabled. See {@link AbstractModule#registerGameEventListener(Object)}.
+     */
+    void registerGameListener(Module module, Object listener) {
+        getActivation(module.getModuleId()).addListener(listener);
+    }
+
+    /**
+     * Wraps a block entity ticker so it does nothing while the module is disabled at runtime.
+     * The activation is looked up once here, so a suspended tick costs a single volatile read.
+     */
+    public static <T extends BlockEntity> BlockEntityTicker<T> suspendable(String moduleId,
+                                                                         BlockEntityTicker<T> ticker) {
+        ModuleActivation activation = getInstance().getActivation(moduleId);
+        return (level, pos, state, blockEntity) -> {
+            if (activation.isActive()) {
+                ticker.tick(level, pos, state, blockEntity);
+            }
+        };
+    }
+
+    /**
+     * Re-applies the enabled state of every initialized module to its listeners and tickers.
+     * Called after config (re)loads.
+     */
+    public void refreshActivations() {
+        for (Module module : enabledModules) {
+            refreshActivation(module.getModuleId());
+        }
+    }
+
+    private void refreshActivation(String moduleId) {
+        Module module = registeredModules.get(moduleId);
+        // Modules that were disabled at startup never registered anything
+        if (module == null || !enabledModules.contains(module)) {
+            return;
+        }
+        boolean enabled = module instanceof AbstractModule<?, ?> abstractModule
+                ? abstractModule.isModuleEnabled()
+                : isModuleEnabled(moduleId);
+        ModuleActivation activation = getActivation(moduleId);
+        if (activation.setActive(enabled)) {
+            LOGGER.info("Module {} {}: {} game event listeners {}", moduleId, enabled ? "resumed" : "suspended",
+                    activation.getListenerCount(), enabled ? "registered" : "unregistered");
+        }
     }
 
     public Boolean getRuntimeModuleOverride(String moduleId) {
@@ -0,0 +1,316 @@
+package net.geraldhofbauer.vanillaplusadditions.core;
+
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-module server tick profiler behind {@code /vpa perf}.
+ *
+ * <p>Hot code paths hold a {@link Probe} (one per module + handler name, created once) and bracket
+ * their work with {@link Probe#start()} / {@link Probe#stop(long)}. While profiling is off,
+ * {@code start()} is a single volatile read returning {@code 0} and {@code stop(0)} returns
+ * immediately, so the probes can stay in place permanently.
+ *
+ * <p>While profiling is on, every probe adds its nanoseconds to lock-free counters
+ * ({@link LongAdder}) and to its module's running total for the current server tick. At the end of
+ * each server tick those totals are folded into a per-module log-linear histogram, from which the
+ * mean and p99 time per tick are reported (p99 is the upper bound of its bucket, i.e. within 25%).
+ *
+ * <p>{@link EntityTickRouter} handlers are probed automatically; block entity tickers can be
+ * wrapped with {@link #wrap(Probe, BlockEntityTicker)}.
+ */
+public final class ModuleProfiler {
+
+    // 16 linear buckets for 0..15 ns, then 4 sub-buckets per power of two up to 2^63.
+    private static final int LINEAR_BUCKETS = 16;
+    private static final int BUCKETS = LINEAR_BUCKETS + (63 - 4) * 4;
+
+    private static final Map<String, ModuleStats> MODULES = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = false;
+    private static boolean listening = false;
+
+    private ModuleProfiler() {
+    }
+
+    /**
+     * A named measuring point belonging to one module. Obtain via {@link #probe(String, String)}
+     * and keep it in a field; probes are cheap to hold and are never removed.
+     */
+    public static final class Probe {
+        private final String name;
+        private final ModuleStats module;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        private Probe(String name, ModuleStats module) {
+            this.name = name;
+            this.module = module;
+        }
+
+        /**
+         * @return the start timestamp to hand to {@link #stop(long)}, or {@code 0} when profiling is off
+         */
+        public long start() {
+            return enabled ? System.nanoTime() : 0L;
+        }
+
+        /**
+         * Records the time since {@code start}. A {@code start} of {@code 0} (profiling was off when
+         * the measurement began) is ignored.
+         */
+        public void stop(long start) {
+            if (start == 0L) {
+                return;
+            }
+            long elapsed = System.nanoTime() - start;
+            calls.increment();
+            totalNanos.add(elapsed);
+            maxNanos.accumulate(elapsed);
+            module.currentTickNanos.add(elapsed);
+        }
+
+        /**
+         * Records a call without timing it, for a path that runs inside another probe's measurement
+         * (its time is already counted there). Does nothing while profiling is off.
+         */
+        public void count() {
+            if (enabled) {
+                calls.increment();
+            }
+        }
+
+        private void reset() {
+            calls.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+        }
+    }
+
+    private static final class ModuleStats {
+        private final String moduleId;
+        private final List<Probe> probes = new CopyOnWriteArrayList<>();
+        private final LongAdder currentTickNanos = new LongAdder();
+        private final AtomicLong ticks = new AtomicLong();
+        private final AtomicLong tickNanos = new AtomicLong();
+        private final AtomicLongArray tickHistogram = new AtomicLongArray(BUCKETS);
+        private volatile long sinceNanos = System.nanoTime();
+
+        private ModuleStats(String moduleId) {
+            this.moduleId = moduleId;
+        }
+
+        private void endTick() {
+            long nanos = currentTickNanos.sumThenReset();
+            ticks.incrementAndGet();
+            tickNanos.addAndGet(nanos);
+            tickHistogram.incrementAndGet(bucketOf(nanos));
+        }
+
+        private void reset() {
+            for (Probe probe : probes) {
+                probe.reset();
+            }
+            currentTickNanos.reset();
+            ticks.set(0L);
+            tickNanos.set(0L);
+            for (int i = 0; i < BUCKETS; i++) {
+                tickHistogram.set(i, 0L);
+            }
+            sinceNanos = System.nanoTime();
+        }
+
+        private long percentileTickNanos(double percentile) {
+            long total = ticks.get();
+            if (total == 0L) {
+                return 0L;
+            }
+            long threshold = (long) Math.ceil(total * percentile);
+            long seen = 0L;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += tickHistogram.get(i);
+                if (seen >= threshold) {
+                    return bucketUpperBound(i);
+                }
+            }
+            return bucketUpperBound(BUCKETS - 1);
+        }
+    }
+
+    /**
+     * One handler's share of a module's time.
+     *
+     * @param name       the probe name
+     * @param calls      number of measured calls
+     * @param totalNanos summed time of all calls
+     * @param maxNanos   slowest single call
+     */
+    public record HandlerReport(String name, long calls, long totalNanos, long maxNanos) {
+        public double meanNanos() {
+            return calls == 0L ? 0.0 : (double) totalNanos / calls;
+        }
+    }
+
+    /**
+     * Aggregated timings of one module since profiling was started or reset.
+     *
+     * @param moduleId       the module id
+     * @param ticks          server ticks sampled
+     * @param meanTickNanos  mean time the module spent per server tick
+     * @param p99TickNanos   99th percentile time per server tick
+     * @param callsPerSecond handler calls per second of wall time
+     * @param handlers       handlers sorted by total time, hottest first
+     */
+    public record ModuleReport(String moduleId, long ticks, double meanTickNanos, long p99TickNanos,
+                               double callsPerSecond, List<HandlerReport> handlers) {
+    }
+
+    /**
+     * Returns the probe for {@code moduleId} / {@code name}, creating it on first use.
+     */
+    public static Probe probe(String moduleId, String name) {
+        ModuleStats stats = MODULES.computeIfAbsent(moduleId, ModuleStats::new);
+        synchronized (stats) {
+            for (Probe probe : stats.probes) {
+                if (probe.name.equals(name)) {
+                    return probe;
+                }
+            }
+            Probe probe = new Probe(name, stats);
+            stats.probes.add(probe);
+            return probe;
+        }
+    }
+
+    /**
+     * Wraps a block entity ticker so each call is recorded on {@code probe}.
+     */
+    public static <T extends BlockEntity> BlockEntityTicker<T> wrap(Probe probe, BlockEntityTicker<T> ticker) {
+        return (level, pos, state, blockEntity) -> {
+            long start = probe.start();
+            try {
+                ticker.tick(level, pos, state, blockEntity);
+            } finally {
+                probe.stop(start);
+            }
+        };
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a fresh profiling sample (all counters are reset).
+     */
+    public static synchronized void start() {
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(ModuleProfiler::onServerTick);
+        }
+        reset(null);
+        enabled = true;
+    }
+
+    /**
+     * Stops profiling. Collected data stays available until the next {@link #start()} or reset.
+     */
+    public static void stop() {
+        enabled = false;
+    }
+
+    /**
+     * Clears the counters of one module, or of all modules when {@code moduleId} is {@code null}.
+     */
+    public static void reset(String moduleId) {
+        if (moduleId == null) {
+            MODULES.values().forEach(ModuleStats::reset);
+            return;
+        }
+        ModuleStats stats = MODULES.get(moduleId);
+        if (stats != null) {
+            stats.reset();
+        }
+    }
+
+    /**
+     * Builds reports for every module that owns at least one probe, slowest (by mean tick time) first.
+     */
+    public static List<ModuleReport> report() {
+        List<ModuleReport> reports = new ArrayList<>();
+        for (ModuleStats stats : MODULES.values()) {
+            reports.add(report(stats));
+        }
+        reports.sort(Comparator.comparingDouble(ModuleReport::meanTickNanos).reversed());
+        return reports;
+    }
+
+    /**
+     * Builds the report of one module, or {@code null} if it never registered a probe.
+     */
+    public static ModuleReport report(String moduleId) {
+        ModuleStats stats = MODULES.get(moduleId);
+        return stats == null ? null : report(stats);
+    }
+
+    private static ModuleReport report(ModuleStats stats) {
+        List<HandlerReport> handlers = new ArrayList<>();
+        long calls = 0L;
+        for (Probe probe : stats.probes) {
+            HandlerReport handler = new HandlerReport(probe.name, probe.calls.sum(), probe.totalNanos.sum(),
+                    probe.maxNanos.get());
+            calls += handler.calls();
+            handlers.add(handler);
+        }
+        handlers.sort(Comparator.comparingLong(HandlerReport::totalNanos).reversed());
+
+        long ticks = stats.ticks.get();
+        double meanTick = ticks == 0L ? 0.0 : (double) stats.tickNanos.get() / ticks;
+        double seconds = (System.nanoTime() - stats.sinceNanos) / 1_000_000_000.0;
+        double callsPerSecond = seconds <= 0.0 ? 0.0 : calls / seconds;
+        return new ModuleReport(stats.moduleId, ticks, meanTick, stats.percentileTickNanos(0.99),
+                callsPerSecond, handlers);
+    }
+
+    private static void onServerTick(ServerTickEvent.Post event) {
+        if (!enabled) {
+            return;
+        }
+        for (ModuleStats stats : MODULES.values()) {
+            stats.endTick();
+        }
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < LINEAR_BUCKETS) {
+            return (int) Math.max(0L, nanos);
+        }
+        int log = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) ((nanos >>> (log - 2)) & 3);
+        return LINEAR_BUCKETS + (log - 4) * 4 + sub;
+    }
+
+    static long bucketUpperBound(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        int log = (bucket - LINEAR_BUCKETS) / 4 + 4;
+        int sub = (bucket - LINEAR_BUCKETS) % 4;
+        long width = 1L << (log - 2);
+        return ((4L + sub) * width) + width - 1;
+    }
+}
@@ -0,0 +1,123 @@
+package net.geraldhofbauer.vanillaplusadditions.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Wall-clock time each module spends in the mod-loading phases, recorded by {@link ModuleManager}
+ * and logged as one report sorted by total time once loading completes.
+ *
+ * <p>Work a module deferred with {@link LazyInit} is recorded under {@link Phase#LAZY} when it
+ * eventually runs, so it shows up in {@link #formatReport()} without inflating the startup phases.</p>
+ */
+public final class ModuleStartupTimings {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModuleStartupTimings.class);
+
+    /** Lifecycle phases, in the order FML runs them. */
+    public enum Phase {
+        CONSTRUCT("construct"),
+        INITIALIZE("initialize"),
+        COMMON_SETUP("commonSetup"),
+        CLIENT_SETUP("clientSetup"),
+        LOAD_COMPLETE("loadComplete"),
+        LAZY("lazy");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /** module id -> nanoseconds per phase; insertion order = registration order. */
+    private static final Map<String, EnumMap<Phase, Long>> TIMINGS = new LinkedHashMap<>();
+
+    private ModuleStartupTimings() {
+    }
+
+    /**
+     * Adds {@code nanos} to the time of {@code moduleId} in {@code phase}.
+     */
+    public static synchronized void record(String moduleId, Phase phase, long nanos) {
+        TIMINGS.computeIfAbsent(moduleId, id -> new EnumMap<>(Phase.class)).merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * @return the recorded time of {@code moduleId} in {@code phase}, in nanoseconds
+     */
+    public static synchronized long get(String moduleId, Phase phase) {
+        EnumMap<Phase, Long> phases = TIMINGS.get(moduleId);
+        return phases == null ? 0L : phases.getOrDefault(phase, 0L);
+    }
+
+    /**
+     * Logs {@link #formatReport()} at info level.
+     */
+    public static void logReport() {
+        for (String line : formatReport()) {
+            LOGGER.info(line);
+        }
+    }
+
+    /**
+     * One line per module, slowest first; phases a module did not spend measurable time in are
+     * left out.
+     *
+     * @return the report lines, starting with a header
+     */
+    public static synchronized List<String> formatReport() {
+        List<Map.Entry<String, EnumMap<Phase, Long>>> entries = new ArrayList<>(TIMINGS.entrySet());
+        entries.sort(Comparator.comparingLong(
+                (Map.Entry<String, EnumMap<Phase, Long>> entry) -> total(entry.getValue())).reversed());
+
+        long grandTotal = 0L;
+        int idWidth = 0;
+        for (Map.Entry<String, EnumMap<Phase, Long>> entry : entries) {
+            grandTotal += total(entry.getValue());
+            idWidth = Math.max(idWidth, entry.getKey().length());
+        }
+
+        List<String> lines = new ArrayList<>(entries.size() + 1);
+        lines.add(String.format(Locale.ROOT, "Module startup timings: %d modules, %s ms total (slowest first)",
+                entries.size(), millis(grandTotal)));
+        for (Map.Entry<String, EnumMap<Phase, Long>> entry : entries) {
+            StringBuilder phases = new StringBuilder();
+            for (Map.Entry<Phase, Long> phase : entry.getValue().entrySet()) {
+                if (phase.getValue() < 50_000L) {
+                    continue; // < 0.05 ms is noise
+                }
+                if (!phases.isEmpty()) {
+                    phases.append(", ");
+                }
+                phases.append(phase.getKey().getLabel()).append(' ').append(millis(phase.getValue()));
+            }
+            lines.add(String.format(Locale.ROOT, "  %-" + idWidth + "s %9s ms  %s",
+                    entry.getKey(), millis(total(entry.getValue())), phases));
+        }
+        return lines;
+    }
+
+    private static long total(EnumMap<Phase, Long> phases) {
+        long total = 0L;
+        for (long nanos : phases.values()) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -31,6 +31,19 @@ public final class ModulesConfig {
     // Global debug logging configuration
     private static ModConfigSpec.BooleanValue globalDebugLogging;
     private static ModConfigSpec.BooleanValue worldgenCrashGuardEnabled;
+    private static ModConfigSpec.IntValue tickBudgetMicros;
+    private static ModConfigSpec.IntValue guardianPathNodeBudget;
+
+    // Load governor configuration
+    private static ModConfigSpec.BooleanValue loadGovernorEnabled;
+    private static ModConfigSpec.DoubleValue degradedMspt;
+    private static ModConfigSpec.DoubleValue severeMspt;
+    private static ModConfigSpec.ConfigValue<List<? extends String>> loadGovernorPolicies;
+
+    private static final int DEFAULT_TICK_BUDGET_MICROS = 2000;
+    private static final int DEFAULT_GUARDIAN_PATH_NODE_BUDGET = 16_000;
+    private static final double DEFAULT_DEGRADED_MSPT = 45.0;
+    private static final double DEFAULT_SEVERE_MSPT = 60.0;
 
     // The configuration specification - built dynamically
     private static ModConfigSpec spec = null;
@@ -67,6 +80,10 @@ public final class ModulesConfig {
                         "Use only to keep servers running while isolating incompatible worldgen mods.")
                 .define("worldgenCrashGuardEnabled", false);
 
+        tickBudgetMicros = defineTickBudget(builder);
+        guardianPathNodeBudget = defineGuardianPathNodeBudget(builder);
+        defineLoadGovernor(builder);
+
         builder.push("modules");
 
         // Build configuration for each registered module
@@ -125,6 +142,10 @@ public final class ModulesConfig {
                         "Use only to keep servers running while isolating incompatible worldgen mods.")
                 .define("worldgenCrashGuardEnabled", false);
 
+        tickBudgetMicros = defineTickBudget(builder);
+        guardianPathNodeBudget = defineGuardianPathNodeBudget(builder);
+        defineLoadGovernor(builder);
+
         builder.push("modules");
 
         ModuleConfig config = module.getConfig();
@@ -195,6 +216,94 @@ public final class ModulesConfig {
         return defaultEnabled;
     }
     
+    private static ModConfigSpec.IntValue defineTickBudget(ModConfigSpec.Builder builder) {
+        return builder
+                .comment("Time in microseconds per server tick that modules may spend on background work",
+                        "spread over several ticks (periodic sweeps, resuming chunk loaders, cache refreshes).",
+                        "Unfinished work carries over to the next tick.")
+                .defineInRange("tickBudgetMicros", DEFAULT_TICK_BUDGET_MICROS, 100, 50_000);
+    }
+
+    private static ModConfigSpec.IntValue defineGuardianPathNodeBudget(ModConfigSpec.Builder builder) {
+        return builder
+                .comment("Pathfinding nodes per server tick shared by all guardian cats and axolotls for target",
+                        "evaluation and return trips. Requests over the budget wait for the next tick.")
+                .defineInRange("guardianPathNodeBudget", DEFAULT_GUARDIAN_PATH_NODE_BUDGET, 500, 1_000_000);
+    }
+
+    private static void defineLoadGovernor(ModConfigSpec.Builder builder) {
+        builder.comment("Stretches the intervals of optional periodic module work while the server falls behind",
+                        "(average milliseconds per tick above a threshold). Check the current level with /vpa perf load.")
+                .push("loadGovernor");
+        loadGovernorEnabled = builder
+                .comment("Whether modules slow down their periodic work when the server is overloaded")
+                .define("enabled", true);
+        degradedMspt = builder
+                .comment("Average milliseconds per tick from which the server counts as degraded")
+                .defineInRange("degradedMspt", DEFAULT_DEGRADED_MSPT, 1.0, 1000.0);
+        severeMspt = builder
+                .comment("Average milliseconds per tick from which the server counts as severely overloaded")
+                .defineInRange("severeMspt", DEFAULT_SEVERE_MSPT, 1.0, 1000.0);
+        loadGovernorPolicies = builder
+                .comment("Interval multipliers per module as 'module_id=degraded,severe'.",
+                        "Modules not listed always run at full rate.")
+                .defineListAllowEmpty("policies",
+                        List.of("cat_guardian=2,4", "axolotl_guardian=2,4", "haunted_house=2,4",
+                                "hostile_zombified_piglins=2,3", "create_water_wheel_unstucker=2,4"),
+                        () -> "module_id=2,4",
+                        obj -> obj instanceof String entry && LoadGovernor.parsePolicy(entry) != null);
+        builder.pop();
+    }
+
+    /**
+     * Gets the per-tick budget of the {@link TickBudgetScheduler}.
+     *
+     * @return the budget in nanoseconds
+     */
+    public static long getTickBudgetNanos() {
+        int micros = tickBudgetMicros != null ? tickBudgetMicros.get() : DEFAULT_TICK_BUDGET_MICROS;
+        return micros * 1_000L;
+    }
+
+    /**
+     * Gets the per-tick pathfinding node budget of all guardian animals together.
+     *
+     * @return the budget in pathfinder nodes
+     */
+    public static int getGuardianPathNodeBudget() {
+        return guardianPathNodeBudget != null ? guardianPathNodeBudget.get() : DEFAULT_GUARDIAN_PATH_NODE_BUDGET;
+    }
+
+    /**
+     * Checks if the {@link LoadGovernor} is enabled.
+     *
+     * @return true if modules should slow down while the server is overloaded
+     */
+    public static boolean isLoadGovernorEnabled() {
+        return loadGovernorEnabled == null || loadGovernorEnabled.get();
+    }
+
+    /**
+     * @return the average milliseconds per tick from which the server counts as degraded
+     */
+    public static double getDegradedMspt() {
+        return degradedMspt != null ? degradedMspt.get() : DEFAULT_DEGRADED_MSPT;
+    }
+
+    /**
+     * @return the average milliseconds per tick from which the server counts as severely overloaded
+     */
+    public static double getSevereMspt() {
+        return severeMspt != null ? severeMspt.get() : DEFAULT_SEVERE_MSPT;
+    }
+
+    /**
+     * @return the raw {@code module_id=degraded,severe} policy entries of the {@link LoadGovernor}
+     */
+    public static List<? extends String> getLoadGovernorPolicies() {
+        return loadGovernorPolicies != null ? loadGovernorPolicies.get() : List.of();
+    }
+
     /**
      * Checks if global debug logging is enabled.
      * 
@@ -248,6 +357,12 @@ public final class ModulesConfig {
             }
         }
 
+        // Enabled states may have changed - let the tick router rebuild its dispatch tables
+        EntityTickRouter.invalidate();
+        // ... and (un)register the game-bus listeners of modules toggled in the config file
+        ModuleManager.getInstance().refreshActivations();
+        LoadGovernor.onConfigLoad();
+
         // Log the current module states
         LOGGER.info("Module configuration reloaded. Current states:");
         for (Module module : REGISTERED_MODULES) {
@@ -0,0 +1,130 @@
+package net.geraldhofbauer.vanillaplusadditions.core;
+
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.PreparableReloadListener;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.util.Unit;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * Central registry for recipes that modules inject in code (datapack recipe JSONs don't load
+ * reliably in this mod, see CLAUDE.md).
+ *
+ * <p>Modules register a {@link Contributor} once during initialization. On every datapack (re)load a
+ * single reload listener copies the {@link RecipeManager}'s recipes into one map, lets each enabled
+ * module's contributor add its recipes to it and calls {@link RecipeManager#replaceRecipes} once,
+ * instead of every module rebuilding the full recipe map on its own. The merge time is logged.
+ */
+public final class RecipeContributions {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RecipeContributions.class);
+
+    private static final List<Contribution> CONTRIBUTIONS = new CopyOnWriteArrayList<>();
+
+    private static boolean listening = false;
+
+    private RecipeContributions() {
+    }
+
+    /**
+     * Adds a module's recipes to the merged recipe map.
+     */
+    @FunctionalInterface
+    public interface Contributor {
+        /**
+         * @param recipes        every recipe merged so far, keyed by id; put new or replacing recipes here
+         * @param registryAccess the registries of the server resources being loaded
+         */
+        void contribute(Map<ResourceLocation, RecipeHolder<?>> recipes, RegistryAccess registryAccess);
+    }
+
+    private record Contribution(AbstractModule<?, ?> module, Contributor contributor) {
+    }
+
+    /**
+     * Registers the recipes of {@code module}. They are merged on every datapack reload while the
+     * module is enabled.
+     */
+    public static synchronized void register(AbstractModule<?, ?> module, Contributor contributor) {
+        CONTRIBUTIONS.add(new Contribution(module, contributor));
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(RecipeContributions::onAddReloadListener);
+        }
+    }
+
+    private static void onAddReloadListener(AddReloadListenerEvent event) {
+        event.addListener(new MergeReloadListener(
+                event.getServerResources().getRecipeManager(), event.getRegistryAccess()));
+    }
+
+    private static void merge(RecipeManager recipeManager, RegistryAccess registryAccess) {
+        List<Contribution> active = new ArrayList<>();
+        for (Contribution contribution : CONTRIBUTIONS) {
+            if (contribution.module().isModuleEnabled()) {
+                active.add(contribution);
+            }
+        }
+        if (active.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Collection<RecipeHolder<?>> existing = recipeManager.getRecipes();
+        Map<ResourceLocation, RecipeHolder<?>> merged = new LinkedHashMap<>(existing.size() * 4 / 3 + 64);
+        for (RecipeHolder<?> recipeHolder : existing) {
+            merged.put(recipeHolder.id(), recipeHolder);
+        }
+        int before = merged.size();
+
+        for (Contribution contribution : active) {
+            try {
+                contribution.contributor().contribute(merged, registryAccess);
+            } catch (Exception e) {
+                LOGGER.error("Failed to add recipes of module {}", contribution.module().getModuleId(), e);
+            }
+        }
+
+        recipeManager.replaceRecipes(merged.values());
+        LOGGER.info("Merged recipes of {} modules into {} recipes ({} new) in {} ms",
+                active.size(), merged.size(), merged.size() - before, (System.nanoTime() - start) / 1_000_000L);
+    }
+
+    private static final class MergeReloadListener implements PreparableReloadListener {
+        private final RecipeManager recipeManager;
+        private final RegistryAccess registryAccess;
+
+        private MergeReloadListener(RecipeManager recipeManager, RegistryAccess registryAccess) {
+            this.recipeManager = recipeManager;
+            this.registryAccess = registryAccess;
+        }
+
+        @Override
+        public CompletableFuture<Void> reload(PreparationBarrier preparationBarrier, ResourceManager resourceManager,
+                                              ProfilerFiller preparationsProfiler, ProfilerFiller reloadProfiler,
+                                              Executor backgroundExecutor, Executor gameExecutor) {
+            return preparationBarrier.wait(Unit.INSTANCE)
+                    .thenRunAsync(() -> merge(recipeManager, registryAccess), gameExecutor);
+        }
+
+        @Override
+        public String getName() {
+            return "vanillaplusadditions_module_recipes";
+        }
+    }
+}
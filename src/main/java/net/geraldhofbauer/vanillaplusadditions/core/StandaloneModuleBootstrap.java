@@ -51,6 +51,8 @@ public final class StandaloneModuleBootstrap {
             if (config != null && event.getConfig().getModId().equals(modContainer.getModId())) {
                 try {
                     config.onConfigLoad(spec);
+                    EntityTickRouter.invalidate();
+                    LoadGovernor.onConfigLoad();
                 } catch (Exception e) {
                     Vpa.LOGGER.error("Error loading config for standalone module {}: {}",
                             module.getModuleId(), e.getMessage());
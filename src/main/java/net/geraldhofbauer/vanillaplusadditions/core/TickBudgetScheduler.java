@@ -0,0 +1,296 @@
+package net.geraldhofbauer.vanillaplusadditions.core;
+
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Spreads bursty background work of modules (periodic sweeps, resuming persisted chunk loaders,
+ * cache refreshes) over several server ticks instead of doing it all in one.
+ *
+ * <p>Modules {@linkplain #submit submit} {@link Work} that runs in small slices. At the end of every
+ * server tick the scheduler runs slices until the per-tick budget
+ * ({@code tickBudgetMicros} in the global config) is used up; unfinished work carries over to the
+ * next tick. {@link Priority#HIGH} work goes first, and within a priority the modules take turns
+ * slice by slice (round-robin that also carries over), so one module's big job cannot starve the
+ * others. A priority that got no slice for {@value #STARVATION_TICKS} ticks is served one slice
+ * ahead of the rest, and every tick runs at least one slice, so all work eventually completes.</p>
+ *
+ * <p>Slices of modules that are disabled at runtime are held back until the module is re-enabled.
+ * Each slice is recorded in {@link ModuleProfiler} under {@code budget:<name>}.</p>
+ *
+ * <p>Server thread only, like the work it schedules.</p>
+ */
+public final class TickBudgetScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TickBudgetScheduler.class);
+
+    /** Ticks a non-empty priority may go without a slice before it is served out of turn. */
+    private static final int STARVATION_TICKS = 20;
+
+    /** Order in which pending work is served. */
+    public enum Priority {
+        /** Players are waiting for it, e.g. re-forcing chunks after the first join. */
+        HIGH,
+        /** Regular background work. */
+        NORMAL,
+        /** Safety-net sweeps that may take many ticks. */
+        LOW
+    }
+
+    /**
+     * Work that can be run in slices.
+     */
+    @FunctionalInterface
+    public interface Work {
+        /**
+         * Runs the next small unit of work; one unit should take well below the tick budget.
+         *
+         * @return true if more units remain
+         */
+        boolean runSlice();
+    }
+
+    /**
+     * A submitted piece of work.
+     */
+    public static final class Handle {
+        private final String name;
+        private final Work work;
+        private final ModuleProfiler.Probe probe;
+        private boolean cancelled;
+        private boolean done;
+
+        private Handle(String moduleId, String name, Work work) {
+            this.name = name;
+            this.work = work;
+            this.probe = ModuleProfiler.probe(moduleId, "budget:" + name);
+        }
+
+        /**
+         * Drops the remaining slices. No-op if the work already finished.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * @return true once all slices ran or the work was cancelled
+         */
+        public boolean isDone() {
+            return done || cancelled;
+        }
+    }
+
+    /** One module's pending work within a priority, served in submission order. */
+    private static final class ModuleQueue {
+        private final String moduleId;
+        private final ModuleActivation activation;
+        private final ArrayDeque<Handle> tasks = new ArrayDeque<>();
+
+        private ModuleQueue(String moduleId) {
+            this.moduleId = moduleId;
+            this.activation = ModuleManager.getInstance().getActivation(moduleId);
+        }
+    }
+
+    /** The modules with pending work of one priority, in round-robin order. */
+    private static final class Lane {
+        private final ArrayDeque<ModuleQueue> ring = new ArrayDeque<>();
+        private final Map<String, ModuleQueue> byModule = new HashMap<>();
+        private long lastServedTick;
+    }
+
+    private static final Map<Priority, Lane> LANES = new EnumMap<>(Priority.class);
+
+    static {
+        for (Priority priority : Priority.values()) {
+            LANES.put(priority, new Lane());
+        }
+    }
+
+    private static boolean listening = false;
+    private static long tickCounter;
+    private static int pendingTasks;
+    private static long lastTickNanos;
+    private static int lastTickSlices;
+
+    private TickBudgetScheduler() {
+    }
+
+    /**
+     * Queues {@code work}; its first slice runs at the end of the current server tick at the
+     * earliest.
+     *
+     * @param moduleId the submitting module (fairness, profiling, runtime suspension)
+     * @param name     short name of the work, e.g. {@code "resume"}
+     */
+    public static Handle submit(String moduleId, String name, Priority priority, Work work) {
+        startListening();
+        Handle handle = new Handle(moduleId, name, work);
+        Lane lane = LANES.get(priority);
+        ModuleQueue queue = lane.byModule.get(moduleId);
+        if (queue == null) {
+            queue = new ModuleQueue(moduleId);
+            lane.byModule.put(moduleId, queue);
+            lane.ring.add(queue);
+            if (lane.ring.size() == 1) {
+                lane.lastServedTick = tickCounter;
+            }
+        }
+        queue.tasks.add(handle);
+        pendingTasks++;
+        return handle;
+    }
+
+    /**
+     * Convenience for the common case: runs {@code action} once per item, one item per slice.
+     * {@code items} must not be modified until the work is done; pass a copy if in doubt.
+     */
+    public static <T> Handle submitEach(String moduleId, String name, Priority priority,
+                                        List<T> items, Consumer<? super T> action) {
+        int[] next = {0};
+        return submit(moduleId, name, priority, () -> {
+            if (next[0] < items.size()) {
+                action.accept(items.get(next[0]++));
+            }
+            return next[0] < items.size();
+        });
+    }
+
+    /**
+     * @return the number of submitted pieces of work that have not finished yet
+     */
+    public static int getPendingTaskCount() {
+        return pendingTasks;
+    }
+
+    /**
+     * @return the time the scheduler spent running slices in the last server tick
+     */
+    public static long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * @return the number of slices run in the last server tick
+     */
+    public static int getLastTickSlices() {
+        return lastTickSlices;
+    }
+
+    private static synchronized void startListening() {
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(TickBudgetScheduler::onServerTick);
+            NeoForge.EVENT_BUS.addListener(TickBudgetScheduler::onServerStopped);
+        }
+    }
+
+    private static void onServerTick(ServerTickEvent.Post event) {
+        tickCounter++;
+        if (pendingTasks == 0) {
+            lastTickNanos = 0L;
+            lastTickSlices = 0;
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + ModulesConfig.getTickBudgetNanos();
+        int slices = 0;
+
+        // Priorities that waited too long get one slice before anything else
+        for (Priority priority : Priority.values()) {
+            Lane lane = LANES.get(priority);
+            if (!lane.ring.isEmpty() && tickCounter - lane.lastServedTick >= STARVATION_TICKS && runSlice(lane)) {
+                slices++;
+            }
+        }
+
+        for (Priority priority : Priority.values()) {
+            Lane lane = LANES.get(priority);
+            // At least one slice per tick, even if the starvation pass used up the budget
+            while ((slices == 0 || System.nanoTime() < deadline) && runSlice(lane)) {
+                slices++;
+            }
+            if (System.nanoTime() >= deadline && slices > 0) {
+                break;
+            }
+        }
+
+        lastTickNanos = System.nanoTime() - start;
+        lastTickSlices = slices;
+    }
+
+    /**
+     * Runs one slice of the next module in {@code lane} that has runnable work.
+     *
+     * @return false if no module in the lane could run a slice
+     */
+    private static boolean runSlice(Lane lane) {
+        int candidates = lane.ring.size();
+        for (int i = 0; i < candidates; i++) {
+            ModuleQueue queue = lane.ring.poll();
+            Handle task = queue.tasks.peek();
+            while (task != null && task.cancelled) {
+                queue.tasks.poll();
+                pendingTasks--;
+                task = queue.tasks.peek();
+            }
+            if (task == null) {
+                lane.byModule.remove(queue.moduleId);
+                continue;
+            }
+            if (!queue.activation.isActive()) {
+                lane.ring.add(queue);
+                continue;
+            }
+
+            boolean more;
+            long probeStart = task.probe.start();
+            try {
+                more = task.work.runSlice();
+            } catch (Exception e) {
+                LOGGER.error("Scheduled work '{}' of module {} failed, dropping it", task.name, queue.moduleId, e);
+                more = false;
+            } finally {
+                task.probe.stop(probeStart);
+            }
+            if (!more || task.cancelled) {
+                queue.tasks.poll();
+                task.done = true;
+                pendingTasks--;
+            }
+
+            if (queue.tasks.isEmpty()) {
+                lane.byModule.remove(queue.moduleId);
+            } else {
+                lane.ring.add(queue);
+            }
+            lane.lastServedTick = tickCounter;
+            return true;
+        }
+        return false;
+    }
+
+    private static void onServerStopped(ServerStoppedEvent event) {
+        for (Lane lane : LANES.values()) {
+            for (ModuleQueue queue : lane.ring) {
+                for (Handle task : queue.tasks) {
+                    task.cancelled = true;
+                }
+            }
+            lane.ring.clear();
+            lane.byModule.clear();
+        }
+        pendingTasks = 0;
+    }
+}
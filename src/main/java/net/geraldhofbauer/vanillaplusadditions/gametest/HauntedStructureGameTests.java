@@ -0,0 +1,109 @@
+package net.geraldhofbauer.vanillaplusadditions.gametest;
+
+import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
+import net.geraldhofbauer.vanillaplusadditions.modules.haunted_house.HauntedStructureIndex;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Checks {@link HauntedStructureIndex} against a structure start placed like world generation
+ * places one (see {@link TestStructures}). The index is used on its own, so these run whether or
+ * not the Haunted House module is enabled.
+ *
+ * <p>Every test runs in its own batch: the fixture changes chunk data, and tests of one batch may
+ * share chunks.</p>
+ */
+@GameTestHolder(VanillaPlusAdditions.MODID)
+@PrefixGameTestTemplate(false)
+public final class HauntedStructureGameTests {
+
+    private static final String ARENA = "perf_arena";
+    private static final String TARGET = "minecraft:swamp_hut";
+
+    private HauntedStructureGameTests() {
+    }
+
+    /**
+     * The start's bounding box is found from every chunk it reaches into, and its corners are inside.
+     */
+    @GameTest(template = ARENA, batch = "vpa_haunted_structure_boxes")
+    public static void structureIndexResolvesStartBoxes(GameTestHelper helper) {
+        TestStructures.Placement placement = placeHut(helper);
+        try {
+            ServerLevel level = helper.getLevel();
+            HauntedStructureIndex index = new HauntedStructureIndex(() -> List.of(TARGET), TARGET::equals);
+            BoundingBox box = placement.start().getBoundingBox();
+            BlockPos min = new BlockPos(box.minX(), box.minY(), box.minZ());
+            BlockPos max = new BlockPos(box.maxX(), box.maxY(), box.maxZ());
+
+            for (BlockPos pos : List.of(min, box.getCenter(), max)) {
+                helper.assertTrue(Arrays.asList(index.boxesAt(level, pos)).contains(box),
+                        "No structure box in the chunk of " + pos.toShortString());
+                helper.assertTrue(index.isInside(level, pos), pos.toShortString() + " is not inside " + box);
+            }
+            helper.succeed();
+        } finally {
+            placement.undo().run();
+        }
+    }
+
+    /**
+     * Haunted spawns (witch boost, replacement) require the spawn position inside a target
+     * structure's bounding box - a box merely reaching into the chunk is not enough, and neither is
+     * a box of a structure that isn't a target.
+     */
+    @GameTest(template = ARENA, batch = "vpa_haunted_structure_spawn_rule")
+    public static void hauntedSpawnsNeedTheBoundingBox(GameTestHelper helper) {
+        TestStructures.Placement placement = placeHut(helper);
+        try {
+            ServerLevel level = helper.getLevel();
+            AtomicReference<List<String>> targets = new AtomicReference<>(List.of(TARGET));
+            HauntedStructureIndex index = new HauntedStructureIndex(targets::get, id -> targets.get().contains(id));
+            BoundingBox box = placement.start().getBoundingBox();
+            BlockPos center = box.getCenter();
+
+            BlockPos above = center.atY(box.maxY() + 1);
+            helper.assertTrue(Arrays.asList(index.boxesAt(level, above)).contains(box),
+                    "The chunk above the structure doesn't reference it");
+            helper.assertFalse(index.isInside(level, above), "A spawn above the structure box counts as inside");
+
+            BlockPos beside = new BlockPos(box.minX() - 1, box.minY(), box.minZ());
+            if (SectionPos.blockToSectionCoord(beside.getX()) == SectionPos.blockToSectionCoord(box.minX())) {
+                helper.assertTrue(Arrays.asList(index.boxesAt(level, beside)).contains(box),
+                        "The chunk beside the structure doesn't reference it");
+            }
+            helper.assertFalse(index.isInside(level, beside), "A spawn beside the structure box counts as inside");
+
+            // Not a target: the box is ignored until the target list names the structure again
+            targets.set(List.of("minecraft:igloo"));
+            helper.assertFalse(index.isInside(level, center), "A spawn in a non-target structure counts as inside");
+            targets.set(List.of(TARGET));
+            helper.assertTrue(index.isInside(level, center), "The index didn't pick up the changed target list");
+            helper.succeed();
+        } finally {
+            placement.undo().run();
+        }
+    }
+
+    private static TestStructures.Placement placeHut(GameTestHelper helper) {
+        Structure structure = helper.getLevel().registryAccess().registryOrThrow(Registries.STRUCTURE)
+                .get(ResourceLocation.parse(TARGET));
+        if (structure == null) {
+            throw new IllegalStateException("Structure " + TARGET + " is not registered");
+        }
+        return TestStructures.place(helper, structure, new BlockPos(4, 0, 4), new BlockPos(40, 0, 40));
+    }
+}
@@ -0,0 +1,284 @@
+package net.geraldhofbauer.vanillaplusadditions.gametest;
+
+import com.mojang.authlib.GameProfile;
+import io.netty.channel.embedded.EmbeddedChannel;
+import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleManager;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
+import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.CatGuardianModule;
+import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.blockentity.CatFeedingStationBlockEntity;
+import net.geraldhofbauer.vanillaplusadditions.modules.haunted_house.HauntedHouseModule;
+import net.geraldhofbauer.vanillaplusadditions.modules.minecart_chunk_loading.MinecartChunkLoadingModule;
+import net.geraldhofbauer.vanillaplusadditions.modules.minecart_chunk_loading.config.MinecartChunkLoadingConfig;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.Connection;
+import net.minecraft.network.protocol.PacketFlow;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.CommonListenerCookie;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.animal.Cat;
+import net.minecraft.world.entity.monster.Zombie;
+import net.minecraft.world.entity.vehicle.Minecart;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Performance regression scenarios for the modules with the heaviest per-tick work, run by the
+ * {@code gameTestServer} run configuration.
+ *
+ * <p>Each scenario builds its load in the {@code perf_arena} template (48x48 stone floor with glass
+ * walls), lets it settle for {@value #WARMUP_TICKS} ticks, then samples the module with
+ * {@link ModuleProfiler} for {@value #MEASURE_TICKS} ticks and fails if the mean or p99 time per
+ * server tick exceeds the module's budget. Budgets default to values with some headroom on a
+ * mid-range machine and can be overridden per module with the system properties
+ * {@code vpa.perf.<module_id>.meanMicros} and {@code vpa.perf.<module_id>.p99Micros}.</p>
+ *
+ * <p>The profiler is global, so every scenario runs in its own batch and the batches run one after
+ * another. Scenarios of modules that are disabled in the config are skipped.</p>
+ */
+@GameTestHolder(VanillaPlusAdditions.MODID)
+@PrefixGameTestTemplate(false)
+public final class ModulePerformanceGameTests {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModulePerformanceGameTests.class);
+
+    private static final String ARENA = "perf_arena";
+    private static final int ARENA_SIZE = 48;
+    private static final int WARMUP_TICKS = 100;
+    private static final int MEASURE_TICKS = 200;
+    private static final int TIMEOUT_TICKS = WARMUP_TICKS + MEASURE_TICKS + 100;
+
+    private ModulePerformanceGameTests() {
+    }
+
+    /**
+     * 50 guardian cats around 5 feeding stations, 200 zombies to fight.
+     */
+    @GameTest(template = ARENA, timeoutTicks = TIMEOUT_TICKS, batch = "vpa_perf_cat_guardian")
+    public static void catGuardianSiege(GameTestHelper helper) {
+        String moduleId = "cat_guardian";
+        if (skipIfDisabled(helper, moduleId)) {
+            return;
+        }
+
+        BlockPos[] stations = {
+            new BlockPos(12, 1, 12), new BlockPos(35, 1, 12), new BlockPos(24, 1, 24),
+            new BlockPos(12, 1, 35), new BlockPos(35, 1, 35)
+        };
+        for (BlockPos station : stations) {
+            helper.setBlock(station, CatGuardianModule.CAT_FEEDING_STATION.get());
+            if (helper.getBlockEntity(station) instanceof CatFeedingStationBlockEntity feedingStation) {
+                for (int i = 0; i < 4; i++) {
+                    feedingStation.insertFish(new ItemStack(Items.COD, 64), false);
+                }
+            }
+        }
+
+        UUID owner = UUID.randomUUID();
+        for (int i = 0; i < 50; i++) {
+            BlockPos station = stations[i % stations.length];
+            Cat cat = helper.spawn(EntityType.CAT, station.offset(i % 3 - 1, 0, i / 3 % 3 - 1));
+            cat.setTame(true, false);
+            cat.setOwnerUUID(owner);
+        }
+        for (int i = 0; i < 200; i++) {
+            // Ring of zombies along the walls, helmets so daylight doesn't thin them out
+            int edge = i % 4;
+            int along = 2 + i / 4 % (ARENA_SIZE - 4);
+            BlockPos pos = switch (edge) {
+                case 0 -> new BlockPos(along, 1, 2);
+                case 1 -> new BlockPos(along, 1, ARENA_SIZE - 3);
+                case 2 -> new BlockPos(2, 1, along);
+                default -> new BlockPos(ARENA_SIZE - 3, 1, along);
+            };
+            Zombie zombie = helper.spawn(EntityType.ZOMBIE, pos);
+            zombie.setItemSlot(EquipmentSlot.HEAD, new ItemStack(Items.LEATHER_HELMET));
+        }
+
+        measure(helper, moduleId, 3_000L, null, () -> { });
+    }
+
+    /**
+     * 500 chunk loader rails, each with a minecart on it.
+     *
+     * <p>The test server has no players, so the "only while players online" gate is turned off for
+     * the test; otherwise the rails would never force-load anything. It is restored afterwards.</p>
+     */
+    @GameTest(template = ARENA, timeoutTicks = TIMEOUT_TICKS, batch = "vpa_perf_minecart_chunk_loading")
+    public static void chunkLoaderRailYard(GameTestHelper helper) {
+        String moduleId = "minecart_chunk_loading";
+        if (skipIfDisabled(helper, moduleId)) {
+            return;
+        }
+
+        MinecartChunkLoadingConfig config = ((MinecartChunkLoadingModule) ModuleManager.getInstance()
+                .getModule(moduleId)).getConfig();
+        boolean previousPlayerGate = config.isOnlyWhilePlayersOnline();
+        boolean measuring = false;
+        try {
+            config.setOnlyWhilePlayersOnline(false);
+
+            // 20 rows of 25 rails, one empty row between them
+            for (int row = 0; row < 20; row++) {
+                for (int column = 0; column < 25; column++) {
+                    BlockPos pos = new BlockPos(11 + column, 1, 4 + row * 2);
+                    helper.setBlock(pos, MinecartChunkLoadingModule.CHUNK_LOADER_RAIL.get());
+                    Minecart minecart = helper.spawn(EntityType.MINECART, pos);
+                    minecart.setDeltaMovement(0.0, 0.0, 0.0);
+                }
+            }
+
+            measure(helper, moduleId, 1_000L, null, () -> config.setOnlyWhilePlayersOnline(previousPlayerGate));
+            measuring = true;
+        } finally {
+            if (!measuring) {
+                config.setOnlyWhilePlayersOnline(previousPlayerGate);
+            }
+        }
+    }
+
+    /**
+     * 20 players inside a haunted structure.
+     *
+     * <p>The test server has none of the configured witch villa structures, so a swamp hut start
+     * spanning the arena is placed in the arena's chunks for the test and the swamp hut is made a
+     * target structure; both are restored afterwards. The players are survival players (the fog
+     * check skips creative ones), and mock players have no network connection, so their player tick
+     * is driven here.</p>
+     */
+    @GameTest(template = ARENA, timeoutTicks = TIMEOUT_TICKS, batch = "vpa_perf_haunted_house")
+    public static void hauntedStructureCrowd(GameTestHelper helper) {
+        String moduleId = "haunted_house";
+        if (skipIfDisabled(helper, moduleId)) {
+            return;
+        }
+
+        HauntedHouseModule module = (HauntedHouseModule) ModuleManager.getInstance().getModule(moduleId);
+        ResourceLocation structureId = ResourceLocation.withDefaultNamespace("swamp_hut");
+        Structure structure = helper.getLevel().registryAccess().registryOrThrow(Registries.STRUCTURE).get(structureId);
+        if (structure == null) {
+            helper.fail("Structure " + structureId + " is not registered");
+            return;
+        }
+
+        List<? extends String> previousTargets = List.copyOf(module.getConfig().getTargetStructures());
+        module.getConfig().setTargetStructures(List.of(structureId.toString()));
+        Runnable restoreStructure = TestStructures.place(helper, structure, BlockPos.ZERO,
+                new BlockPos(ARENA_SIZE - 1, 0, ARENA_SIZE - 1)).undo();
+
+        List<ServerPlayer> players = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ServerPlayer player = makeSurvivalPlayer(helper);
+            BlockPos pos = helper.absolutePos(new BlockPos(4 + i % 5 * 10, 1, 4 + i / 5 * 12));
+            player.moveTo(pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5);
+            players.add(player);
+        }
+        helper.onEachTick(() -> players.forEach(ServerPlayer::doTick));
+
+        measure(helper, moduleId, 1_000L, "fog.in_structure", () -> {
+            players.forEach(player -> helper.getLevel().getServer().getPlayerList().remove(player));
+            restoreStructure.run();
+            module.getConfig().setTargetStructures(previousTargets);
+        });
+    }
+
+    /**
+     * Like {@link GameTestHelper#makeMockServerPlayerInLevel()}, but the player is in survival mode
+     * rather than creative.
+     */
+    private static ServerPlayer makeSurvivalPlayer(GameTestHelper helper) {
+        CommonListenerCookie cookie = CommonListenerCookie.createInitial(
+                new GameProfile(UUID.randomUUID(), "test-mock-player"), false);
+        ServerPlayer player = new ServerPlayer(helper.getLevel().getServer(), helper.getLevel(),
+                cookie.gameProfile(), cookie.clientInformation()) {
+            @Override
+            public boolean isSpectator() {
+                return false;
+            }
+
+            @Override
+            public boolean isCreative() {
+                return false;
+            }
+        };
+        Connection connection = new Connection(PacketFlow.SERVERBOUND);
+        new EmbeddedChannel(connection);
+        helper.getLevel().getServer().getPlayerList().placeNewPlayer(connection, player, cookie);
+        return player;
+    }
+
+    private static boolean skipIfDisabled(GameTestHelper helper, String moduleId) {
+        if (ModuleManager.getInstance().isModuleEnabled(moduleId)) {
+            return false;
+        }
+        LOGGER.warn("Skipping performance test of {}: module is disabled", moduleId);
+        helper.succeed();
+        return true;
+    }
+
+    /**
+     * Samples {@code moduleId} after the warmup and checks it against its budget.
+     *
+     * @param defaultMeanMicros mean budget per server tick if no system property overrides it
+     * @param requiredProbe     probe that must have been hit for the scenario to count, or null
+     * @param cleanup           undoes changes outside the test area; runs before the verdict
+     */
+    private static void measure(GameTestHelper helper, String moduleId, long defaultMeanMicros,
+                                @Nullable String requiredProbe, Runnable cleanup) {
+        long meanBudgetMicros = Long.getLong("vpa.perf." + moduleId + ".meanMicros", defaultMeanMicros);
+        long p99BudgetMicros = Long.getLong("vpa.perf." + moduleId + ".p99Micros", defaultMeanMicros * 4);
+
+        helper.runAfterDelay(WARMUP_TICKS, ModuleProfiler::start);
+        helper.runAfterDelay(WARMUP_TICKS + MEASURE_TICKS, () -> {
+            ModuleProfiler.ModuleReport report = ModuleProfiler.report(moduleId);
+            ModuleProfiler.stop();
+            cleanup.run();
+
+            if (report == null || report.ticks() == 0L) {
+                helper.fail("No profiler samples recorded for " + moduleId);
+                return;
+            }
+            if (report.handlers().stream().allMatch(handler -> handler.calls() == 0L)) {
+                // The scenario never reached the measured code, so the budget check would prove nothing
+                helper.fail("No probed handler of " + moduleId + " ran");
+                return;
+            }
+            if (requiredProbe != null && report.handlers().stream()
+                    .noneMatch(handler -> handler.name().equals(requiredProbe) && handler.calls() > 0L)) {
+                helper.fail("Probe " + requiredProbe + " of " + moduleId + " was never hit");
+                return;
+            }
+            double meanMicros = report.meanTickNanos() / 1_000.0;
+            double p99Micros = report.p99TickNanos() / 1_000.0;
+            String summary = String.format(Locale.ROOT,
+                    "%s: mean %.1f us/tick (budget %d), p99 %.1f us/tick (budget %d) over %d ticks",
+                    moduleId, meanMicros, meanBudgetMicros, p99Micros, p99BudgetMicros, report.ticks());
+            LOGGER.info("Performance test {}", summary);
+            for (ModuleProfiler.HandlerReport handler : report.handlers()) {
+                LOGGER.info("  {}: {} calls, {} us total, max {} us", handler.name(), handler.calls(),
+                        handler.totalNanos() / 1_000L, handler.maxNanos() / 1_000L);
+            }
+
+            if (meanMicros > meanBudgetMicros || p99Micros > p99BudgetMicros) {
+                helper.fail("Tick budget exceeded, " + summary);
+            } else {
+                helper.succeed();
+            }
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package net.geraldhofbauer.vanillaplusadditions.gametest;
+
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructurePiece;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+import net.minecraft.world.level.levelgen.structure.pieces.PiecesContainer;
+import net.minecraft.world.level.levelgen.structure.structures.SwampHutPiece;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structure fixtures for GameTests. The test server generates none of the structures the modules
+ * look for, so tests place the chunk data world generation would leave behind (start + references)
+ * without building any blocks.
+ */
+final class TestStructures {
+
+    /**
+     * @param start the placed start
+     * @param undo  restores the chunks' previous starts and references
+     */
+    record Placement(StructureStart start, Runnable undo) {
+    }
+
+    private TestStructures() {
+    }
+
+    /**
+     * Places a start of {@code structure} whose pieces span {@code from} to {@code to} (relative to
+     * the test; Y from {@code from} up by a swamp hut's height) in the chunk of the area's lowest
+     * corner, and references it from every chunk of that area.
+     */
+    static Placement place(GameTestHelper helper, Structure structure, BlockPos from, BlockPos to) {
+        ServerLevel level = helper.getLevel();
+        BlockPos min = helper.absolutePos(from);
+        BlockPos max = helper.absolutePos(to);
+        BlockPos low = new BlockPos(Math.min(min.getX(), max.getX()), min.getY(), Math.min(min.getZ(), max.getZ()));
+        BlockPos high = new BlockPos(Math.max(min.getX(), max.getX()), min.getY(), Math.max(min.getZ(), max.getZ()));
+
+        // One piece in each corner: the start's bounding box is the union of its pieces
+        RandomSource random = RandomSource.create(0L);
+        StructurePiece lowPiece = new SwampHutPiece(random, 0, 0);
+        StructurePiece highPiece = new SwampHutPiece(random, 0, 0);
+        BoundingBox lowBox = lowPiece.getBoundingBox();
+        lowPiece.move(low.getX() - lowBox.minX(), low.getY() - lowBox.minY(), low.getZ() - lowBox.minZ());
+        BoundingBox highBox = highPiece.getBoundingBox();
+        highPiece.move(high.getX() - highBox.maxX(), high.getY() - highBox.minY(), high.getZ() - highBox.maxZ());
+
+        ChunkPos startChunk = new ChunkPos(low);
+        StructureStart start = new StructureStart(structure, startChunk, 0,
+                new PiecesContainer(List.of(lowPiece, highPiece)));
+        LevelChunk startLevelChunk = level.getChunk(startChunk.x, startChunk.z);
+        Map<Structure, StructureStart> previousStarts = new HashMap<>(startLevelChunk.getAllStarts());
+        startLevelChunk.setStartForStructure(start);
+
+        Map<LevelChunk, Map<Structure, LongSet>> previousReferences = new HashMap<>();
+        BoundingBox box = start.getBoundingBox();
+        int maxChunkX = SectionPos.blockToSectionCoord(box.maxX());
+        int maxChunkZ = SectionPos.blockToSectionCoord(box.maxZ());
+        for (int chunkX = SectionPos.blockToSectionCoord(box.minX()); chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(box.minZ()); chunkZ <= maxChunkZ; chunkZ++) {
+                LevelChunk chunk = level.getChunk(chunkX, chunkZ);
+                previousReferences.put(chunk, new HashMap<>(chunk.getAllReferences()));
+                chunk.addReferenceForStructure(structure, startChunk.toLong());
+            }
+        }
+
+        return new Placement(start, () -> {
+            previousReferences.forEach(LevelChunk::setAllReferences);
+            startLevelChunk.setAllStarts(previousStarts);
+        });
+    }
+}
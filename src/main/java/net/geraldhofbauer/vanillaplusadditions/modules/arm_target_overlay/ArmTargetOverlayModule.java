@@ -17,4 +17,10 @@ public class ArmTargetOverlayModule extends AbstractModule<ArmTargetOverlayModul
     protected void onInitialize() {
         getLogger().info("Arm Target Overlay module initialized");
     }
+
+    @Override
+    protected void onClientSetup() {
+        registerGameEventListener(
+                net.geraldhofbauer.vanillaplusadditions.modules.arm_target_overlay.client.ArmTargetOverlayClientEvents.class);
+    }
 }
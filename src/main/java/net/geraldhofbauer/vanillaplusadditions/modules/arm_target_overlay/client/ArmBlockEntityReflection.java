@@ -2,6 +2,7 @@ package net.geraldhofbauer.vanillaplusadditions.modules.arm_target_overlay.clien
 
 import com.simibubi.create.content.kinetics.mechanicalArm.ArmBlockEntity;
 import com.simibubi.create.content.kinetics.mechanicalArm.ArmInteractionPoint;
+import net.geraldhofbauer.vanillaplusadditions.core.LazyInit;
 import net.geraldhofbauer.vanillaplusadditions.core.Vpa;
 
 import java.lang.reflect.Field;
@@ -11,10 +12,11 @@ import java.util.List;
 /**
  * Accesses ArmBlockEntity.inputs and ArmBlockEntity.outputs via reflection.
  * Both fields are package-private in Create, so direct access is not possible.
- * Fields are resolved once and cached for performance.
+ * Fields are resolved once on first use and cached for performance.
  */
 final class ArmBlockEntityReflection {
-    private static volatile boolean initialized;
+    private static final LazyInit REFLECTION = LazyInit.of("arm_target_overlay",
+            "ArmBlockEntity reflection", ArmBlockEntityReflection::resolveFields);
     private static volatile boolean warningLogged;
     private static Field inputsField;
     private static Field outputsField;
@@ -51,23 +53,19 @@ final class ArmBlockEntityReflection {
     }
 
     private static void ensureInitialized() {
-        if (initialized) {
-            return;
-        }
-        synchronized (ArmBlockEntityReflection.class) {
-            if (!initialized) {
-                try {
-                    Field f1 = ArmBlockEntity.class.getDeclaredField("inputs");
-                    f1.setAccessible(true);
-                    Field f2 = ArmBlockEntity.class.getDeclaredField("outputs");
-                    f2.setAccessible(true);
-                    inputsField = f1;
-                    outputsField = f2;
-                } catch (ReflectiveOperationException ex) {
-                    warnOnce("Failed to initialize ArmBlockEntity reflection", ex);
-                }
-                initialized = true;
-            }
+        REFLECTION.ensure();
+    }
+
+    private static void resolveFields() {
+        try {
+            Field f1 = ArmBlockEntity.class.getDeclaredField("inputs");
+            f1.setAccessible(true);
+            Field f2 = ArmBlockEntity.class.getDeclaredField("outputs");
+            f2.setAccessible(true);
+            inputsField = f1;
+            outputsField = f2;
+        } catch (ReflectiveOperationException ex) {
+            warnOnce("Failed to initialize ArmBlockEntity reflection", ex);
         }
     }
 
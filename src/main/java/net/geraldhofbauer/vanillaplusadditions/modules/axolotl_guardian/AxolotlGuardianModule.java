@@ -3,6 +3,10 @@ package net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian;
 import com.mojang.serialization.Codec;
 import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.EntityTickRouter;
+import net.geraldhofbauer.vanillaplusadditions.core.LoadGovernor;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
+import net.geraldhofbauer.vanillaplusadditions.core.RecipeContributions;
 import net.geraldhofbauer.vanillaplusadditions.core.VanillaPlusCreativeTabs;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.block.AxolotlBowlBlock;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.block.AxolotlFeedingStationBlock;
@@ -16,13 +20,25 @@ import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.item.Axo
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.menu.AxolotlFeedingStationMenu;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.menu.AxolotlInventoryMenu;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.network.OpenAxolotlInventoryPacket;
-import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.network.RequestAxolotlStatsPacket;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.network.SyncAxolotlInventoryPacket;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.network.SyncAxolotlOwnerPacket;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.network.SyncAxolotlPathPacket;
+import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.network.SubscribeAxolotlStatsPacket;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.network.SyncAxolotlStatsPacket;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.network.SyncAxolotlTargetPacket;
+import net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.DebugPathSync;
+import net.geraldhofbauer.vanillaplusadditions.util.BlockEntitySectionIndex;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardZone;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianEvents;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianKind;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianLoot;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianStateTable;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.StationThreatTable;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.StuckTracker;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.TargetBlacklist;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.TargetEvaluation;
 import net.geraldhofbauer.vanillaplusadditions.util.MobArmorEnchantments;
+import net.geraldhofbauer.vanillaplusadditions.util.StatsSubscriptions;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.RegistryAccess;
@@ -31,16 +47,13 @@ import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.server.packs.resources.PreparableReloadListener;
-import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.tags.ItemTags;
-import net.minecraft.util.Unit;
-import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.SimpleMenuProvider;
 import net.minecraft.world.effect.MobEffectInstance;
@@ -66,7 +79,6 @@ import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.item.crafting.CraftingBookCategory;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.ShapedRecipe;
 import net.minecraft.world.item.crafting.ShapedRecipePattern;
 import net.minecraft.world.level.Level;
@@ -74,25 +86,22 @@ import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.material.MapColor;
-import net.minecraft.world.phys.AABB;
+import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.ModList;
 import net.neoforged.neoforge.attachment.AttachmentType;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.capabilities.RegisterCapabilitiesEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.common.extensions.IMenuTypeExtension;
-import net.neoforged.neoforge.event.AddReloadListenerEvent;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
 import net.neoforged.neoforge.event.entity.living.BabyEntitySpawnEvent;
 import net.neoforged.neoforge.event.entity.living.LivingDamageEvent;
 import net.neoforged.neoforge.event.entity.living.LivingDeathEvent;
 import net.neoforged.neoforge.event.entity.living.LivingDropsEvent;
-import net.neoforged.neoforge.event.entity.living.LivingExperienceDropEvent;
 import net.neoforged.neoforge.event.entity.player.AttackEntityEvent;
-import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerInteractEvent;
-import net.neoforged.neoforge.event.tick.EntityTickEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
 import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
 import net.neoforged.neoforge.registries.DeferredBlock;
@@ -102,16 +111,12 @@ import net.neoforged.neoforge.registries.DeferredRegister;
 import net.neoforged.neoforge.registries.NeoForgeRegistries;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -298,6 +303,91 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
     private static final ResourceLocation GUARDIAN_FOLLOW_RANGE_ID =
             ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "axolotl_guardian_follow_range");
 
+    // Attachments, config and packets of guardian axolotls for the shared guardian logic
+    private static final GuardianKind<Axolotl> KIND = new AxolotlKind();
+
+    private static final class AxolotlKind implements GuardianKind<Axolotl> {
+        @Override
+        public Class<Axolotl> type() {
+            return Axolotl.class;
+        }
+
+        @Override
+        public Supplier<AttachmentType<Long>> bowlPos() {
+            return AXOLOTL_BOWL_POS;
+        }
+
+        @Override
+        public Supplier<AttachmentType<Integer>> fedTicks() {
+            return AXOLOTL_FED_TICKS;
+        }
+
+        @Override
+        public Supplier<AttachmentType<Integer>> xp() {
+            return AXOLOTL_XP;
+        }
+
+        @Override
+        public Supplier<AttachmentType<Boolean>> returning() {
+            return AXOLOTL_RETURNING;
+        }
+
+        @Override
+        public Supplier<AttachmentType<Boolean>> fleeing() {
+            return AXOLOTL_FLEEING;
+        }
+
+        @Override
+        public double guardRadius() {
+            return getGuardRadius();
+        }
+
+        @Override
+        public double guardRadiusY() {
+            return getGuardRadiusY();
+        }
+
+        @Override
+        public int xpCapacity() {
+            return getAxolotlXpCapacity();
+        }
+
+        @Override
+        public int fedDurationTicks() {
+            return getFedDurationTicks();
+        }
+
+        @Override
+        public ItemStack armor(Axolotl axolotl) {
+            return axolotl.getData(AXOLOTL_INVENTORY.get()).getArmor();
+        }
+
+        @Override
+        public ResourceLocation armorModifierId() {
+            return ARMOR_MODIFIER_ID;
+        }
+
+        @Override
+        public double armorAttackBonus(ItemStack armor) {
+            return armor.getItem() instanceof AxolotlArmorItem axolotlArmor ? axolotlArmor.getTier().getAttackBonus() : 0.0;
+        }
+
+        @Override
+        public CustomPacketPayload armorPacket(Axolotl axolotl, ItemStack armor) {
+            return new SyncAxolotlInventoryPacket(axolotl.getId(), armor);
+        }
+
+        @Override
+        public CustomPacketPayload targetPacket(Axolotl axolotl, int targetId) {
+            return new SyncAxolotlTargetPacket(axolotl.getId(), targetId);
+        }
+
+        @Override
+        public CustomPacketPayload statsPacket(Axolotl axolotl, int changed, int[] stats) {
+            return new SyncAxolotlStatsPacket(axolotl.getId(), changed, stats[0], stats[1], stats[2], stats[3]);
+        }
+    }
+
     // ---- Bucket payload ----
 
     /** Sub-tag inside BUCKET_ENTITY_DATA carrying the guardian payload through a bucket round-trip. */
@@ -313,29 +403,66 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
     private static final double AXOLOTL_ZONE_BUFFER = 10.0;
 
     private static final long BLACKLIST_TICKS = 1200L; // 60 seconds
+    /**
+     * Target candidates evaluated by A* per duty tick. The duty tick runs every 10 ticks, so a full
+     * evaluation of 8 candidates takes two of them.
+     */
+    private static final int EVAL_CANDIDATES_PER_STEP = 4;
+
+    // ---- Loaded bowls and feeding stations, maintained by the block entities themselves ----
+
+    public static final BlockEntitySectionIndex<AbstractAxolotlBowlBlockEntity> BOWL_INDEX =
+            new BlockEntitySectionIndex<>();
 
     // ---- Singleton reference for config access from static context ----
 
     private static AxolotlGuardianModule instance;
 
-    // Accumulated ticks an axolotl has spent in the ordinary (interruptible) returning state.
-    private final Map<UUID, Integer> returningAge = new HashMap<>();
-    // Per-axolotl target-search cooldown, in tick-cycles (tickAxolotl runs every 10 ticks).
-    private final Map<UUID, Integer> searchCooldown = new HashMap<>();
-    // Per-axolotl temporarily blacklisted mob entity IDs (value = game time when entry expires).
-    private final Map<UUID, Map<Integer, Long>> blockedTargets = new HashMap<>();
-    // Last combat-target entity ID synced to clients (NO_TARGET when none) — brain mobs have no
-    // goal start()/stop() hooks, so target sync is edge-detected here.
-    private final Map<UUID, Integer> lastSyncedTarget = new HashMap<>();
-    // Stuck detection: last sampled position + consecutive no-progress strikes.
-    private final Map<UUID, net.minecraft.world.phys.Vec3> stuckSample = new HashMap<>();
-    private final Map<UUID, Integer> stuckStrikes = new HashMap<>();
-    // Homebound progress sample: last sampled distance to the bowl while returning/fleeing.
-    // Catches "moving but circling" — position deltas alone never call that stuck.
-    private final Map<UUID, Double> homeDistSample = new HashMap<>();
-
-    // Maps dead entity ID → guardian axolotl entity ID; used to redirect XP to the axolotl.
-    private final Map<Integer, Integer> pendingXpCapture = new HashMap<>();
+    // Hostile candidates per bowl/station, swept once per station for all of its axolotls.
+    // Axolotls are water guardians: only hostiles in water count.
+    private final StationThreatTable threatTable = new StationThreatTable(m -> m.isInWaterOrBubble());
+    // Transient duty bookkeeping per loaded guardian axolotl, by entity ID (see GuardianState).
+    private final GuardianStateTable<GuardianState> guardianStates = new GuardianStateTable<>(GuardianState::new);
+
+    private static final int NEVER_SYNCED = Integer.MIN_VALUE;
+
+    /**
+     * Transient duty bookkeeping of one loaded guardian axolotl. Not saved — rebuilt as the axolotl
+     * ticks — and dropped when the axolotl leaves its level (death, bucket pickup, chunk unload).
+     */
+    private static final class GuardianState {
+        // Accumulated ticks spent in the ordinary (interruptible) returning state.
+        private int returningAge;
+        // Target-search cooldown, in tick-cycles (tickAxolotl runs every 10 ticks).
+        private int searchCooldown;
+        // Temporarily blacklisted mobs.
+        private final TargetBlacklist blacklist = new TargetBlacklist();
+        // Resumable target evaluation (see findTarget).
+        private final TargetEvaluation evaluation = new TargetEvaluation(EVAL_CANDIDATES_PER_STEP);
+        // Last combat-target entity ID synced to clients (NO_TARGET when none, NEVER_SYNCED before
+        // the first sync) — brain mobs have no goal start()/stop() hooks, so target sync is
+        // edge-detected here.
+        private int lastSyncedTarget = NEVER_SYNCED;
+        // Stuck detection: last sampled position and distance home + consecutive no-progress strikes.
+        private final StuckTracker stuck = new StuckTracker();
+    }
+
+    private GuardianState guardianState(Axolotl axolotl) {
+        return guardianStates.get(axolotl);
+    }
+
+    // Loot and XP of mobs killed by guardian axolotls; kills are recorded in onMobDamagedByAxolotl and
+    // the shared GuardianEvents.onLivingDrops, and consumed in its onExperienceDrop (same death tick).
+    private final GuardianLoot<Axolotl> loot = new GuardianLoot<>(Axolotl.class,
+            axolotl -> axolotl.getData(AXOLOTL_INVENTORY.get()).getInventory(), AXOLOTL_XP);
+
+    // Goggles popup subscriptions: stat changes of the looked-at axolotl are pushed to its viewer.
+    private final StatsSubscriptions<Axolotl> statsSubscriptions = KIND.statsSubscriptions();
+    // Time spent in target evaluation steps (see /vpa perf and /vpa bench guardians)
+    private final ModuleProfiler.Probe findTargetProbe = ModuleProfiler.probe(getModuleId(), "Axolotl.findTarget");
+
+    // Per-station water volume: hostiles outside the station's connected water are skipped before A*.
+    private final StationWaterMap waterMap = new StationWaterMap();
 
     // Guardian payloads captured from a used axolotl bucket, waiting for the spawned entity.
     private record PendingBucketRestore(CompoundTag payload, ResourceKey<Level> dimension,
@@ -469,28 +596,35 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
                 AXOLOTL_BOWL_ITEM, AXOLOTL_FEEDING_STATION_ITEM,
                 AXOLOTL_ARMOR_IRON, AXOLOTL_ARMOR_GOLD, AXOLOTL_ARMOR_DIAMOND, AXOLOTL_ARMOR_NETHERITE);
 
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
+        registerGameEventListener(new GuardianEvents<>(KIND, this::isModuleEnabled, threatTable, loot, KIND::hasBowl,
+                (player, axolotl) -> {
+                    // Owner + bowl assignment (attachments never sync on their own)
+                    PacketDistributor.sendToPlayer(player, ownerPacket(axolotl));
+                    DebugPathSync.sendTo(player, axolotl, SyncAxolotlPathPacket::new);
+                }));
+        registerLifecycleListener(ServerStoppedEvent.class, this::onServerStopped);
+        registerLifecycleListener(EntityLeaveLevelEvent.class, this::onEntityLeaveLevel);
+        RecipeContributions.register(this, this::addAxolotlGuardianRecipes);
+
+        EntityTickRouter.register(this, Axolotl.class, EntityTickRouter.Phase.POST, 10, this::onAxolotlTick);
 
         getLogger().info("Axolotl Guardian module initialized");
     }
 
-    // ---- Recipes (in code — datapack recipe JSONs don't load reliably in this mod) ----
-
-    @SubscribeEvent
-    public void onAddReloadListener(AddReloadListenerEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        event.addListener(new AxolotlGuardianRecipeReloadListener(
-                event.getServerResources().getRecipeManager(), event.getRegistryAccess()));
+    @Override
+    protected void onClientSetup() {
+        // Goggles overlay and client tick/interact handlers; registered here (not via
+        // @EventBusSubscriber) so they are dropped while the module is disabled at runtime.
+        registerGameEventListener(
+                net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.client.AxolotlGuardianClientEvents.class);
+        registerGameEventListener(net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.client
+                .AxolotlGuardianGogglesClientHandler.class);
     }
 
-    private void applyAxolotlGuardianRecipes(RecipeManager recipeManager, RegistryAccess registryAccess) {
-        Map<ResourceLocation, RecipeHolder<?>> mergedRecipes = new LinkedHashMap<>();
-        for (RecipeHolder<?> recipeHolder : recipeManager.getRecipes()) {
-            mergedRecipes.put(recipeHolder.id(), recipeHolder);
-        }
+    // ---- Recipes (in code — datapack recipe JSONs don't load reliably in this mod) ----
 
+    private void addAxolotlGuardianRecipes(Map<ResourceLocation, RecipeHolder<?>> mergedRecipes, RegistryAccess registryAccess) {
         addArmorShapedRecipe(mergedRecipes, "axolotl_armor_iron", AXOLOTL_ARMOR_IRON.get(), Items.IRON_INGOT,
                 registryAccess);
         addArmorShapedRecipe(mergedRecipes, "axolotl_armor_gold", AXOLOTL_ARMOR_GOLD.get(), Items.GOLD_INGOT,
@@ -513,8 +647,6 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
                         'P', Ingredient.of(Items.PRISMARINE)),
                 CraftingBookCategory.MISC, new ItemStack(AXOLOTL_FEEDING_STATION_ITEM.get()),
                 "GGG", "GCG", "PPP");
-
-        recipeManager.replaceRecipes(mergedRecipes.values());
     }
 
     private void addArmorShapedRecipe(Map<ResourceLocation, RecipeHolder<?>> recipes, String name,
@@ -544,29 +676,6 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         recipes.put(id, new RecipeHolder<>(id, recipe));
     }
 
-    private final class AxolotlGuardianRecipeReloadListener implements PreparableReloadListener {
-        private final RecipeManager recipeManager;
-        private final RegistryAccess registryAccess;
-
-        private AxolotlGuardianRecipeReloadListener(RecipeManager recipeManager, RegistryAccess registryAccess) {
-            this.recipeManager = recipeManager;
-            this.registryAccess = registryAccess;
-        }
-
-        @Override
-        public CompletableFuture<Void> reload(PreparationBarrier preparationBarrier, ResourceManager resourceManager,
-                                              ProfilerFiller preparationsProfiler, ProfilerFiller reloadProfiler,
-                                              Executor backgroundExecutor, Executor gameExecutor) {
-            return preparationBarrier.wait(Unit.INSTANCE)
-                    .thenRunAsync(() -> applyAxolotlGuardianRecipes(recipeManager, registryAccess), gameExecutor);
-        }
-
-        @Override
-        public String getName() {
-            return "vanillaplusadditions_axolotl_guardian_recipes";
-        }
-    }
-
     // ---- Capabilities + network ----
 
     private void onRegisterCapabilities(RegisterCapabilitiesEvent event) {
@@ -623,22 +732,12 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
                 (packet, ctx) -> ctx.enqueueWork(() -> AxolotlGuardianClientEvents.handleSyncAxolotlOwner(packet))
         );
 
-        event.registrar("1").playToServer(RequestAxolotlStatsPacket.TYPE, RequestAxolotlStatsPacket.STREAM_CODEC,
+        event.registrar("1").playToServer(SubscribeAxolotlStatsPacket.TYPE, SubscribeAxolotlStatsPacket.STREAM_CODEC,
                 (packet, ctx) -> ctx.enqueueWork(() -> {
                     if (!isModuleEnabled()) {
                         return;
                     }
-                    ServerPlayer player = (ServerPlayer) ctx.player();
-                    if (!(player.level().getEntity(packet.axolotlId()) instanceof Axolotl axolotl)) {
-                        return;
-                    }
-                    if (player.distanceToSqr(axolotl) > 64.0 * 64.0) {
-                        return;
-                    }
-                    PacketDistributor.sendToPlayer(player, new SyncAxolotlInventoryPacket(axolotl.getId(),
-                            axolotl.getData(AXOLOTL_INVENTORY.get()).getArmor()));
-                    PacketDistributor.sendToPlayer(player, new SyncAxolotlStatsPacket(axolotl.getId(),
-                            axolotl.getData(AXOLOTL_XP.get()), getAxolotlXpCapacity()));
+                    statsSubscriptions.subscribe((ServerPlayer) ctx.player(), packet.axolotlId());
                 })
         );
     }
@@ -649,23 +748,32 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         if (axolotl.level().isClientSide()) {
             return;
         }
-        PacketDistributor.sendToPlayersTrackingEntityAndSelf(axolotl, new SyncAxolotlOwnerPacket(
-                axolotl.getId(),
-                axolotl.getData(AXOLOTL_OWNER.get()),
-                axolotl.getData(AXOLOTL_BOWL_POS.get())));
+        PacketDistributor.sendToPlayersTrackingEntityAndSelf(axolotl, ownerPacket(axolotl));
     }
 
-    private static void broadcastArmorSync(Axolotl axolotl) {
-        ItemStack armor = axolotl.getData(AXOLOTL_INVENTORY.get()).getArmor();
-        PacketDistributor.sendToPlayersTrackingEntityAndSelf(axolotl,
-                new SyncAxolotlInventoryPacket(axolotl.getId(), armor));
+    private static SyncAxolotlOwnerPacket ownerPacket(Axolotl axolotl) {
+        return new SyncAxolotlOwnerPacket(axolotl.getId(), axolotl.getData(AXOLOTL_OWNER.get()),
+                axolotl.getData(AXOLOTL_BOWL_POS.get()));
     }
 
-    static void broadcastStatsSync(Axolotl axolotl) {
-        int xp = axolotl.getData(AXOLOTL_XP.get());
-        int cap = getAxolotlXpCapacity();
-        PacketDistributor.sendToPlayersTrackingEntityAndSelf(axolotl,
-                new SyncAxolotlStatsPacket(axolotl.getId(), xp, cap));
+    private void onServerStopped(ServerStoppedEvent event) {
+        threatTable.clear();
+        guardianStates.clear();
+        loot.clear();
+    }
+
+    /**
+     * Drops the transient bookkeeping of entities leaving their level: guardian state of axolotls,
+     * and XP redirections of mobs that were hit by an axolotl but didn't die.
+     */
+    private void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide()) {
+            return;
+        }
+        loot.forget(event.getEntity());
+        if (event.getEntity() instanceof Axolotl axolotl) {
+            guardianStates.remove(axolotl); // unload / dimension change: the next ID is a new one
+        }
     }
 
     // ---- Join level — attribute boost, armor restore, bucket-payload restore ----
@@ -698,37 +806,8 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         AxolotlInventoryData invData = axolotl.getData(AXOLOTL_INVENTORY.get());
         ItemStack armor = invData.getArmor();
         if (!armor.isEmpty()) {
-            applyArmorAttribute(axolotl, armor);
-            broadcastArmorSync(axolotl);
-        }
-    }
-
-    @SubscribeEvent
-    public void onStartTracking(PlayerEvent.StartTracking event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        if (!(event.getTarget() instanceof Axolotl axolotl)) {
-            return;
-        }
-        ServerPlayer player = (ServerPlayer) event.getEntity();
-        // Owner + bowl assignment (attachments never sync on their own)
-        PacketDistributor.sendToPlayer(player, new SyncAxolotlOwnerPacket(
-                axolotl.getId(),
-                axolotl.getData(AXOLOTL_OWNER.get()),
-                axolotl.getData(AXOLOTL_BOWL_POS.get())));
-        ItemStack armor = axolotl.getData(AXOLOTL_INVENTORY.get()).getArmor();
-        if (!armor.isEmpty()) {
-            PacketDistributor.sendToPlayer(player, new SyncAxolotlInventoryPacket(axolotl.getId(), armor));
-        }
-        PacketDistributor.sendToPlayer(player,
-                new SyncAxolotlStatsPacket(axolotl.getId(), axolotl.getData(AXOLOTL_XP.get()), getAxolotlXpCapacity()));
-        // Resync current combat target so the goggles overlay shows immediately when a player
-        // approaches an axolotl that is already fighting.
-        LivingEntity target = axolotl.getTarget();
-        if (target != null && target.isAlive() && isGuardianAxolotl(axolotl)) {
-            PacketDistributor.sendToPlayer(player,
-                    new SyncAxolotlTargetPacket(axolotl.getId(), target.getId()));
+            KIND.applyArmorBonus(axolotl);
+            KIND.broadcastArmor(axolotl);
         }
     }
 
@@ -769,20 +848,7 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
 
     // ---- Axolotl tick logic ----
 
-    @SubscribeEvent
-    public void onEntityTick(EntityTickEvent.Post event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        if (!(event.getEntity() instanceof Axolotl axolotl)) {
-            return;
-        }
-        if (axolotl.level().isClientSide()) {
-            return;
-        }
-        if (axolotl.tickCount % 10 != 0) {
-            return;
-        }
+    private void onAxolotlTick(Axolotl axolotl) {
         if (!isOwned(axolotl)) {
             return;
         }
@@ -796,15 +862,17 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         long bowlPosLong = axolotl.getData(AXOLOTL_BOWL_POS.get());
         boolean hasBowl = bowlPosLong != Long.MIN_VALUE;
 
-        UUID uid = axolotl.getUUID();
         if (!hasBowl) {
-            tryAutoAssociate(axolotl, config.getAutoAssociateRadius());
+            if (KIND.autoAssociate(axolotl, BOWL_INDEX, config.getAutoAssociateRadius(),
+                    AbstractAxolotlBowlBlockEntity::canAddAxolotl, AbstractAxolotlBowlBlockEntity::addAxolotl) != null) {
+                broadcastOwnerSync(axolotl);
+            }
             return;
         }
 
-        // Sync navigation path to clients every 20 ticks for the debug overlay.
+        // Sync navigation path to debug-overlay clients (only if changed) every 20 ticks.
         if (axolotl.tickCount % 20 == 0) {
-            syncPathToClients(axolotl);
+            DebugPathSync.sync(axolotl, SyncAxolotlPathPacket::new);
         }
 
         BlockPos bowlPos = BlockPos.of(bowlPosLong);
@@ -815,6 +883,11 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
             return;
         }
 
+        if (isDormant(axolotl)) {
+            tickDormant(axolotl);
+            return;
+        }
+
         // Dry-out safety (inverse of the cat's drowning check): a beached axolotl slowly dries
         // out. If it has been out of water for a while, abandon the target and head home — the
         // bowl sits in/under water.
@@ -829,7 +902,7 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         // out of zone) until the axolotl wakes up. Fresh targets are re-acquired afterwards.
         if (axolotl.isPlayingDead()) {
             eraseAttackTarget(axolotl);
-            decrementFedTicks(axolotl);
+            KIND.runDownFedTime(axolotl, 10);
             syncTargetIfChanged(axolotl);
             return;
         }
@@ -846,7 +919,7 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         if (fleeing) {
             eraseAttackTarget(axolotl);
             axolotl.setData(AXOLOTL_RETURNING.get(), false);
-            returningAge.remove(uid);
+            guardianState(axolotl).returningAge = 0;
             double distSqToBowl = axolotl.distanceToSqr(bowlPos.getX() + 0.5, bowlPos.getY(), bowlPos.getZ() + 0.5);
             boolean atBase = distSqToBowl <= 16.0;
             if (atBase) {
@@ -863,7 +936,7 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
             } else {
                 moveHome(axolotl, bowlPos, 1.0f);
             }
-            decrementFedTicks(axolotl);
+            KIND.runDownFedTime(axolotl, 10);
             syncTargetIfChanged(axolotl);
             return;
         }
@@ -873,7 +946,8 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         // version of the cat's repath loop). Interruptible by new targets. Clears when within
         // ~4 blocks of the bowl; a return that hasn't arrived after a minute teleports home.
         if (axolotl.getData(AXOLOTL_RETURNING.get())) {
-            int age = returningAge.merge(uid, 10, Integer::sum); // tickAxolotl runs every 10 ticks
+            GuardianState state = guardianState(axolotl);
+            int age = state.returningAge += 10; // tickAxolotl runs every 10 ticks
             double distSqToBowl = axolotl.distanceToSqr(bowlPos.getX() + 0.5, bowlPos.getY(), bowlPos.getZ() + 0.5);
             // A full minute without arriving means the path has failed for good — don't strand
             // the axolotl wherever it drifted, emergency-port it home. Only if even the teleport
@@ -884,7 +958,7 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
             }
             if (distSqToBowl <= 16.0 || age >= 1800) {
                 axolotl.setData(AXOLOTL_RETURNING.get(), false);
-                returningAge.remove(uid);
+                state.returningAge = 0;
                 axolotl.getNavigation().resetMaxVisitedNodesMultiplier();
                 if (distSqToBowl <= 16.0) {
                     AbstractAxolotlBowlBlockEntity returnBowl = getBowlEntity(axolotl, bowlPos);
@@ -896,7 +970,7 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
                 moveHome(axolotl, bowlPos, 1.0f);
             }
         } else {
-            returningAge.remove(uid);
+            guardianState(axolotl).returningAge = 0;
         }
 
         // Zone enforcement on the current brain target (also leashes vanilla fish hunting).
@@ -968,11 +1042,34 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         syncTargetIfChanged(axolotl);
     }
 
-    private void decrementFedTicks(Axolotl axolotl) {
-        int fed = axolotl.getData(AXOLOTL_FED_TICKS.get());
-        if (fed > 0) {
-            axolotl.setData(AXOLOTL_FED_TICKS.get(), Math.max(0, fed - 10));
+    // ---- Dormancy — axolotls at quiet stations skip their duty logic ----
+
+    /**
+     * True if {@code axolotl} is fed, healed, idle in the water at its bowl with no target, and its
+     * station is quiet: no hostile in the guard zone and no player within
+     * {@code dormancy_player_range}. Dormant axolotls skip the duty tick except for
+     * {@link #tickDormant}; the vanilla brain keeps them swimming about.
+     */
+    private boolean isDormant(Axolotl axolotl) {
+        AxolotlGuardianConfig config = getConfig();
+        if (!config.isDormancyEnabled()) {
+            return false;
+        }
+        if (!axolotl.isInWaterOrBubble() || axolotl.isPlayingDead()
+                || axolotl.getHealth() < axolotl.getMaxHealth() * config.getHealRecoveryTarget()) {
+            return false;
         }
+        // The idle leash lets axolotls drift around the bowl: "at home" is the heal radius of 4 blocks
+        return KIND.canRest(axolotl, threatTable, 4.0, config.getDormancyPlayerRange(), true);
+    }
+
+    /**
+     * Duty tick of a dormant axolotl: only the fed time runs down. Once it is used up the axolotl
+     * is no longer dormant and the regular duty tick feeds it.
+     */
+    private void tickDormant(Axolotl axolotl) {
+        KIND.runDownFedTime(axolotl, 10);
+        syncTargetIfChanged(axolotl);
     }
 
     // ---- Brain-memory movement/targeting helpers ----
@@ -1004,24 +1101,12 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
     }
 
     private boolean isBlacklisted(Axolotl axolotl, LivingEntity target) {
-        Map<Integer, Long> map = blockedTargets.get(axolotl.getUUID());
-        if (map == null) {
-            return false;
-        }
-        Long until = map.get(target.getId());
-        if (until == null) {
-            return false;
-        }
-        if (axolotl.level().getGameTime() >= until) {
-            map.remove(target.getId());
-            return false;
-        }
-        return true;
+        GuardianState state = guardianStates.peek(axolotl);
+        return state != null && state.blacklist.isBlocked(target, axolotl.level().getGameTime());
     }
 
     private void blacklist(Axolotl axolotl, LivingEntity target) {
-        blockedTargets.computeIfAbsent(axolotl.getUUID(), k -> new HashMap<>())
-                .put(target.getId(), axolotl.level().getGameTime() + BLACKLIST_TICKS);
+        guardianState(axolotl).blacklist.block(target, axolotl.level().getGameTime() + BLACKLIST_TICKS);
     }
 
     /**
@@ -1059,12 +1144,12 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
             dropTarget(axolotl, true);
             return;
         }
-        if (!isWithinGuardZone(axolotl, target.getX(), target.getY(), target.getZ(), TARGET_ZONE_BUFFER)) {
+        if (!KIND.isWithinGuardZone(axolotl, target.getX(), target.getY(), target.getZ(), TARGET_ZONE_BUFFER)) {
             blacklist(axolotl, target);
             dropTarget(axolotl, true);
             return;
         }
-        if (!isWithinGuardZone(axolotl, axolotl.getX(), axolotl.getY(), axolotl.getZ(), AXOLOTL_ZONE_BUFFER)) {
+        if (!KIND.isWithinGuardZone(axolotl, axolotl.getX(), axolotl.getY(), axolotl.getZ(), AXOLOTL_ZONE_BUFFER)) {
             blacklist(axolotl, target);
             dropTarget(axolotl, true);
             return;
@@ -1072,9 +1157,9 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         // Every 20 ticks: evict expired blacklist entries and check that the live navigation
         // path (recomputed by the brain as the target moves) still stays inside the guard zone.
         if (axolotl.tickCount % 20 == 0) {
-            Map<Integer, Long> map = blockedTargets.get(axolotl.getUUID());
-            if (map != null) {
-                map.entrySet().removeIf(e -> axolotl.level().getGameTime() >= e.getValue());
+            GuardianState state = guardianStates.peek(axolotl);
+            if (state != null) {
+                state.blacklist.evictExpired(axolotl.level().getGameTime());
             }
             net.minecraft.world.level.pathfinder.Path livePath = axolotl.getNavigation().getPath();
             if (livePath != null && !isPathWithinZone(livePath, axolotl)) {
@@ -1098,7 +1183,7 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
             return;
         }
         // If the axolotl has strayed outside its zone, commit to returning home first.
-        if (!isWithinGuardZone(axolotl, axolotl.getX(), axolotl.getY(), axolotl.getZ(), AXOLOTL_ZONE_BUFFER)) {
+        if (!KIND.isWithinGuardZone(axolotl, axolotl.getX(), axolotl.getY(), axolotl.getZ(), AXOLOTL_ZONE_BUFFER)) {
             return;
         }
         LivingEntity current = axolotl.getTarget();
@@ -1106,28 +1191,29 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
             return; // already fighting a hostile
         }
 
-        UUID uid = axolotl.getUUID();
-        Integer cooldown = searchCooldown.get(uid);
-        if (cooldown != null && cooldown > 0) {
-            searchCooldown.put(uid, cooldown - 1);
+        GuardianState state = guardianState(axolotl);
+        if (state.searchCooldown > 0) {
+            state.searchCooldown--;
             return;
         }
 
         boolean returning = axolotl.getData(AXOLOTL_RETURNING.get());
-        if (returning && isLootFull(axolotl)) {
+        if (returning && loot.isLootFull(axolotl)) {
             // Don't interrupt a return trip if all loot slots are full — the axolotl must
             // deposit before it can pick up more loot anyway; let it finish the trip.
             return;
         }
 
-        Monster best = findTarget(axolotl, bowlPos);
+        Monster best = findTarget(axolotl, bowlPos, state.evaluation);
         if (best == null) {
-            searchCooldown.put(uid, 2); // ~20 ticks — A* per candidate is expensive
+            // Evaluation still running (or waiting for path budget): continue on the next cycle.
+            // Otherwise ~20 ticks — A* per candidate is expensive; longer while the server is overloaded
+            state.searchCooldown = state.evaluation.isRunning() ? 0 : LoadGovernor.scale(getModuleId(), 2);
             return;
         }
         if (returning) {
             axolotl.setData(AXOLOTL_RETURNING.get(), false);
-            returningAge.remove(uid);
+            state.returningAge = 0;
             // The return trip doubled the A* node budget — don't drag that into combat.
             axolotl.getNavigation().resetMaxVisitedNodesMultiplier();
         }
@@ -1136,110 +1222,35 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         brain.eraseMemory(MemoryModuleType.WALK_TARGET);
     }
 
-    private boolean isLootFull(Axolotl axolotl) {
-        var inv = axolotl.getData(AXOLOTL_INVENTORY.get()).getInventory();
-        for (int s = AxolotlInventoryData.LOOT_START; s < AxolotlInventoryData.TOTAL_SLOTS; s++) {
-            if (inv.getStackInSlot(s).isEmpty()) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Selects the best in-water Monster around the bowl by A* path length. Pre-sorts by
-     * Euclidean distance and evaluates the top 8 via actual path computation, discarding
-     * partial paths (end node further than 2 blocks from the target) and routes that would
-     * lead the axolotl out of its guard zone.
-     */
-    private Monster findTarget(Axolotl axolotl, BlockPos bowlPos) {
-        double radius = getGuardRadius();
-        double radiusY = getGuardRadiusY();
-        AABB searchBox = new AABB(bowlPos).inflate(radius, radiusY, radius);
-        List<Monster> hostiles = axolotl.level().getEntitiesOfClass(
-                Monster.class, searchBox,
-                m -> !m.isDeadOrDying() && m.isInWaterOrBubble() && !isBlacklisted(axolotl, m));
-        if (hostiles.isEmpty()) {
-            return null;
-        }
-        hostiles.sort(Comparator.comparingDouble(axolotl::distanceToSqr));
-        int limit = Math.min(8, hostiles.size());
-        Monster best = null;
-        double bestLength = Double.MAX_VALUE;
-        for (int i = 0; i < limit; i++) {
-            Monster mob = hostiles.get(i);
-            net.minecraft.world.level.pathfinder.Path path =
-                    axolotl.getNavigation().createPath(mob.getX(), mob.getY(), mob.getZ(), 0);
-            if (!endNodeNear(path, mob.getX(), mob.getY(), mob.getZ(), 2.0)) {
-                continue; // unreachable or partial path — discard early instead of running at it
-            }
-            if (!isPathWithinZone(path, axolotl)) {
-                continue; // route exits guard zone
-            }
-            double length = 0.0;
-            for (int j = 1; j < path.getNodeCount(); j++) {
-                net.minecraft.world.level.pathfinder.Node a = path.getNode(j - 1);
-                net.minecraft.world.level.pathfinder.Node b = path.getNode(j);
-                double dx = b.x - a.x, dy = b.y - a.y, dz = b.z - a.z;
-                length += Math.sqrt(dx * dx + dy * dy + dz * dz);
-            }
-            if (length < bestLength) {
-                bestLength = length;
-                best = mob;
-            }
-        }
-        return best;
-    }
-
     /**
-     * True if the path's closest reachable end node is within {@code maxDist} of the goal.
+     * Runs one step of the axolotl's target evaluation: the shared {@link TargetEvaluation} ranks the
+     * in-water Monsters around the bowl by A* path length. Hostiles outside the water connected to
+     * the station ({@link StationWaterMap}) are skipped outright when the evaluation starts.
+     *
+     * @return the chosen target, or null if there is none or the evaluation is still running
      */
-    private static boolean endNodeNear(net.minecraft.world.level.pathfinder.Path path,
-                                       double gx, double gy, double gz, double maxDist) {
-        if (path == null) {
-            return false;
-        }
-        net.minecraft.world.level.pathfinder.Node end = path.getEndNode();
-        if (end == null) {
-            return false;
+    private Monster findTarget(Axolotl axolotl, BlockPos bowlPos, TargetEvaluation evaluation) {
+        long start = findTargetProbe.start();
+        try {
+            GuardZone zone = new GuardZone(bowlPos, getGuardRadius(), getGuardRadiusY());
+            TargetEvaluation.Outcome outcome = evaluation.step(axolotl, zone, () -> {
+                Predicate<Entity> reachable = waterMap.reachability(axolotl.level(), bowlPos, zone.radius(),
+                        zone.radiusY(), axolotl);
+                return threatTable.pull(axolotl.level(), bowlPos, zone.searchBox(),
+                        m -> !isBlacklisted(axolotl, m) && reachable.test(m));
+            }, m -> m.isInWaterOrBubble() && !isBlacklisted(axolotl, m));
+            return outcome == TargetEvaluation.Outcome.FOUND ? evaluation.chosen() : null;
+        } finally {
+            findTargetProbe.stop(start);
         }
-        double dx = (end.x + 0.5) - gx;
-        double dy = end.y - gy;
-        double dz = (end.z + 0.5) - gz;
-        return dx * dx + dy * dy + dz * dz <= maxDist * maxDist;
     }
 
     /**
      * True if every node of {@code path} lies within the axolotl's guard zone (zero buffer).
      */
     private static boolean isPathWithinZone(net.minecraft.world.level.pathfinder.Path path, Axolotl axolotl) {
-        if (path == null) {
-            return false;
-        }
-        for (int i = 0; i < path.getNodeCount(); i++) {
-            net.minecraft.world.level.pathfinder.Node n = path.getNode(i);
-            if (!isWithinGuardZone(axolotl, n.x + 0.5, n.y, n.z + 0.5, 0.0)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    /**
-     * True if the given position is inside the axolotl's guard zone (bowl-centred, asymmetric
-     * XZ/Y radius) plus the given hysteresis buffer. Returns false without a bowl.
-     */
-    private static boolean isWithinGuardZone(Axolotl axolotl, double x, double y, double z, double buffer) {
-        long bowlLong = axolotl.getData(AXOLOTL_BOWL_POS.get());
-        if (bowlLong == Long.MIN_VALUE) {
-            return false;
-        }
-        BlockPos bowl = BlockPos.of(bowlLong);
-        double radius = getGuardRadius();
-        double radiusY = getGuardRadiusY();
-        return Math.abs(x - (bowl.getX() + 0.5)) <= radius + buffer
-                && Math.abs(z - (bowl.getZ() + 0.5)) <= radius + buffer
-                && Math.abs(y - (bowl.getY() + 0.5)) <= radiusY + buffer;
+        GuardZone zone = KIND.guardZone(axolotl);
+        return zone != null && zone.containsPath(path);
     }
 
     /**
@@ -1253,47 +1264,10 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
      * stays stranded.
      */
     private void tickStuckDetection(Axolotl axolotl) {
-        UUID uid = axolotl.getUUID();
-        boolean homebound = axolotl.getData(AXOLOTL_RETURNING.get())
-                || axolotl.getData(AXOLOTL_FLEEING.get());
-        boolean wantsToMove = axolotl.getTarget() != null || homebound;
-        if (!wantsToMove) {
-            stuckSample.remove(uid);
-            stuckStrikes.remove(uid);
-            homeDistSample.remove(uid);
-            return;
-        }
-        if (axolotl.tickCount % 40 != 0) {
-            return;
-        }
-        net.minecraft.world.phys.Vec3 now = axolotl.position();
-        net.minecraft.world.phys.Vec3 prev = stuckSample.put(uid, now);
-
-        // Homebound trips also track distance to the bowl: a failed return path degrades into
-        // vanilla RandomSwim circling — plenty of movement, zero progress. Only counts as a
-        // strike while still >5 blocks out (fighting/wandering around home is fine).
-        Double distNow = null;
-        Double distPrev = null;
-        long bowlLong = axolotl.getData(AXOLOTL_BOWL_POS.get());
-        if (homebound && bowlLong != Long.MIN_VALUE) {
-            BlockPos bowl = BlockPos.of(bowlLong);
-            distNow = Math.sqrt(axolotl.distanceToSqr(
-                    bowl.getX() + 0.5, bowl.getY() + 0.5, bowl.getZ() + 0.5));
-            distPrev = homeDistSample.put(uid, distNow);
-        } else {
-            homeDistSample.remove(uid);
-        }
-        if (prev == null) {
-            return;
-        }
-        boolean noMove = prev.distanceToSqr(now) < 0.75 * 0.75;
-        boolean noHomeProgress = distNow != null && distPrev != null
-                && distNow > 5.0 && distPrev - distNow < 0.5;
-        if (!noMove && !noHomeProgress) {
-            stuckStrikes.remove(uid);
+        int strikes = KIND.sampleStuck(axolotl, guardianStates, state -> state.stuck, true);
+        if (strikes == 0) {
             return;
         }
-        int strikes = stuckStrikes.merge(uid, 1, Integer::sum);
         // Force a fresh path attempt — MoveToTargetSink keeps following its stored PATH memory.
         axolotl.getBrain().eraseMemory(MemoryModuleType.PATH);
         axolotl.getNavigation().stop();
@@ -1304,40 +1278,25 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
             }
             dropTarget(axolotl, true);
         }
-        boolean headingHome = axolotl.getData(AXOLOTL_RETURNING.get())
-                || axolotl.getData(AXOLOTL_FLEEING.get());
-        if (strikes >= 5 && headingHome
-                && bowlLong != Long.MIN_VALUE && teleportToBowl(axolotl, BlockPos.of(bowlLong))) {
-            stuckStrikes.remove(uid);
-            stuckSample.remove(uid);
-            homeDistSample.remove(uid);
-        }
+        KIND.rescueStuck(axolotl, strikes, guardianState(axolotl).stuck, AxolotlGuardianModule::isSwimmable);
     }
 
     /**
      * Emergency teleport into a water block next to the bowl. The bowl sits in/under water by
      * module design, so a candidate practically always exists; returns false otherwise and the
-     * caller simply retries on a later strike.
+     * caller simply retries later.
      */
     private boolean teleportToBowl(Axolotl axolotl, BlockPos bowlPos) {
-        var level = axolotl.level();
-        for (BlockPos candidate : BlockPos.betweenClosed(bowlPos.offset(-2, -1, -2), bowlPos.offset(2, 1, 2))) {
-            if (candidate.equals(bowlPos)) {
-                continue; // don't drop the axolotl into the bowl block itself
-            }
-            boolean swimmable =
-                    level.getFluidState(candidate).is(net.minecraft.tags.FluidTags.WATER)
-                            && level.getBlockState(candidate).getCollisionShape(level, candidate).isEmpty();
-            if (!swimmable) {
-                continue;
-            }
-            axolotl.moveTo(candidate.getX() + 0.5, candidate.getY(), candidate.getZ() + 0.5,
-                    axolotl.getYRot(), axolotl.getXRot());
-            axolotl.getNavigation().stop();
-            axolotl.getBrain().eraseMemory(MemoryModuleType.PATH);
-            return true;
+        if (!KIND.teleportToBowl(axolotl, bowlPos, AxolotlGuardianModule::isSwimmable)) {
+            return false;
         }
-        return false;
+        axolotl.getBrain().eraseMemory(MemoryModuleType.PATH);
+        return true;
+    }
+
+    private static boolean isSwimmable(Level level, BlockPos pos) {
+        return level.getFluidState(pos).is(net.minecraft.tags.FluidTags.WATER)
+                && level.getBlockState(pos).getCollisionShape(level, pos).isEmpty();
     }
 
     private void syncTargetIfChanged(Axolotl axolotl) {
@@ -1345,11 +1304,11 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         int targetId = (target != null && target.isAlive())
                 ? target.getId()
                 : SyncAxolotlTargetPacket.NO_TARGET;
-        Integer last = lastSyncedTarget.get(axolotl.getUUID());
-        if (last != null && last == targetId) {
+        GuardianState state = guardianState(axolotl);
+        if (state.lastSyncedTarget == targetId) {
             return;
         }
-        lastSyncedTarget.put(axolotl.getUUID(), targetId);
+        state.lastSyncedTarget = targetId;
         PacketDistributor.sendToPlayersTrackingEntityAndSelf(axolotl,
                 new SyncAxolotlTargetPacket(axolotl.getId(), targetId));
     }
@@ -1357,122 +1316,11 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
     // ---- Loot / station transfer ----
 
     private void transferLootToStation(Axolotl axolotl, AxolotlFeedingStationBlockEntity station) {
-        AxolotlInventoryData axolotlInv = axolotl.getData(AXOLOTL_INVENTORY.get());
-        var axolotlLoot = axolotlInv.getInventory();
-        var stationLoot = station.getLootInventory();
-        for (int slot = AxolotlInventoryData.LOOT_START; slot < AxolotlInventoryData.TOTAL_SLOTS; slot++) {
-            ItemStack stack = axolotlLoot.getStackInSlot(slot);
-            if (stack.isEmpty()) {
-                continue;
-            }
-            for (int ss = 0; ss < stationLoot.getSlots(); ss++) {
-                stack = stationLoot.insertItem(ss, stack, false);
-                if (stack.isEmpty()) {
-                    break;
-                }
-            }
-            axolotlLoot.setStackInSlot(slot, stack);
-        }
-
-        // XP: axolotl buffer → station counter
-        int axolotlXp = axolotl.getData(AXOLOTL_XP.get());
-        if (axolotlXp > 0) {
-            int stationCap = getConfig().getStationXpCapacity();
-            int canStore = stationCap - station.getStoredXp();
-            int toTransfer = Math.min(axolotlXp, canStore);
-            if (toTransfer > 0) {
-                station.addStoredXp(toTransfer);
-                axolotl.setData(AXOLOTL_XP.get(), axolotlXp - toTransfer);
-                broadcastStatsSync(axolotl);
-            }
-        }
-
-        // Convert station XP into XP Bottles in the loot inventory
-        int xpPerBottle = getConfig().getXpPerBottle();
-        while (station.getStoredXp() >= xpPerBottle) {
-            ItemStack bottle = new ItemStack(Items.EXPERIENCE_BOTTLE);
-            boolean inserted = false;
-            for (int s = 0; s < stationLoot.getSlots(); s++) {
-                ItemStack rem = stationLoot.insertItem(s, bottle, false);
-                if (rem.isEmpty()) {
-                    inserted = true;
-                    break;
-                }
-            }
-            if (!inserted) {
-                break; // loot inventory full
-            }
-            station.addStoredXp(-xpPerBottle);
-        }
+        loot.transferToStation(axolotl, station, getConfig().getStationXpCapacity(), getConfig().getXpPerBottle());
     }
 
     private AbstractAxolotlBowlBlockEntity getBowlEntity(Axolotl axolotl, BlockPos bowlPos) {
-        var be = axolotl.level().getBlockEntity(bowlPos);
-        if (be instanceof AbstractAxolotlBowlBlockEntity bowl) {
-            return bowl;
-        }
-        axolotl.setData(AXOLOTL_BOWL_POS.get(), Long.MIN_VALUE);
-        return null;
-    }
-
-    private void tryAutoAssociate(Axolotl axolotl, double autoRadius) {
-        BlockPos axolotlPos = axolotl.blockPosition();
-        int r = (int) Math.ceil(autoRadius);
-        double radiusSq = autoRadius * autoRadius;
-
-        // Collect all valid bowls in range, then pick the nearest one. BlockPos.betweenClosed
-        // iterates in YXZ order so first-found is not necessarily closest.
-        BlockPos nearestPos = null;
-        AbstractAxolotlBowlBlockEntity nearestBowl = null;
-        double nearestDistSq = Double.MAX_VALUE;
-
-        for (BlockPos checkPos : BlockPos.betweenClosed(
-                axolotlPos.offset(-r, -r, -r), axolotlPos.offset(r, r, r))) {
-            if (!(axolotl.level().getBlockEntity(checkPos) instanceof AbstractAxolotlBowlBlockEntity bowl)
-                    || !bowl.canAddAxolotl(axolotl.getUUID())) {
-                continue;
-            }
-            double distSq = axolotl.distanceToSqr(
-                    checkPos.getX() + 0.5, checkPos.getY() + 0.5, checkPos.getZ() + 0.5);
-            if (distSq <= radiusSq && distSq < nearestDistSq) {
-                nearestPos = checkPos.immutable();
-                nearestBowl = bowl;
-                nearestDistSq = distSq;
-            }
-        }
-
-        if (nearestPos != null) {
-            axolotl.setData(AXOLOTL_BOWL_POS.get(), nearestPos.asLong());
-            nearestBowl.addAxolotl(axolotl.getUUID());
-            broadcastOwnerSync(axolotl);
-        }
-    }
-
-    // ---- Path sync for debug overlay ----
-
-    private void syncPathToClients(Axolotl axolotl) {
-        net.minecraft.world.level.pathfinder.Path path = axolotl.getNavigation().getPath();
-        if (path == null || path.isDone()) {
-            // Keep the last path on the client while the axolotl has a target so the approach
-            // path stays visible through momentary isDone() gaps. Only clear when truly idle.
-            if (axolotl.getTarget() != null) {
-                return;
-            }
-            PacketDistributor.sendToPlayersTrackingEntityAndSelf(axolotl,
-                    new SyncAxolotlPathPacket(axolotl.getId(),
-                            SyncAxolotlPathPacket.EMPTY, SyncAxolotlPathPacket.EMPTY, SyncAxolotlPathPacket.EMPTY, 0));
-            return;
-        }
-        int n = path.getNodeCount();
-        int[] xs = new int[n], ys = new int[n], zs = new int[n];
-        for (int i = 0; i < n; i++) {
-            net.minecraft.world.level.pathfinder.Node node = path.getNode(i);
-            xs[i] = node.x;
-            ys[i] = node.y;
-            zs[i] = node.z;
-        }
-        PacketDistributor.sendToPlayersTrackingEntityAndSelf(axolotl,
-                new SyncAxolotlPathPacket(axolotl.getId(), xs, ys, zs, path.getNextNodeIndex()));
+        return KIND.bowlEntity(axolotl, bowlPos, AbstractAxolotlBowlBlockEntity.class);
     }
 
     // ---- Interaction: taming, feeding, armor equip, bucket handling ----
@@ -1575,11 +1423,11 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
                 }
                 ItemStack newArmor = heldItem.copyWithCount(1);
                 invData.setArmor(newArmor);
-                applyArmorAttribute(axolotl, newArmor);
+                KIND.applyArmorBonus(axolotl);
                 if (!player.isCreative()) {
                     heldItem.shrink(1);
                 }
-                broadcastArmorSync(axolotl);
+                KIND.broadcastArmor(axolotl);
             }
             event.setCanceled(true);
         }
@@ -1617,19 +1465,13 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
                 && axolotl.level().getBlockEntity(BlockPos.of(bowlLong)) instanceof AbstractAxolotlBowlBlockEntity bowl) {
             bowl.removeAxolotl(axolotl.getUUID());
         }
-        clearAxolotlState(axolotl.getUUID()); // discarded entity never dies — clean the maps here
+        clearAxolotlState(axolotl); // discarded entity never dies — clean up here
         axolotl.discard();
     }
 
-    /** Drops all per-UUID module state for an axolotl that left the world (death or bucket pickup). */
-    private void clearAxolotlState(UUID uid) {
-        returningAge.remove(uid);
-        searchCooldown.remove(uid);
-        blockedTargets.remove(uid);
-        lastSyncedTarget.remove(uid);
-        stuckSample.remove(uid);
-        stuckStrikes.remove(uid);
-        homeDistSample.remove(uid);
+    /** Drops the transient module state of an axolotl that left the world (death or bucket pickup). */
+    private void clearAxolotlState(Axolotl axolotl) {
+        guardianStates.remove(axolotl);
     }
 
     /**
@@ -1698,7 +1540,7 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         }
         ItemStack armor = axolotl.getData(AXOLOTL_INVENTORY.get()).getArmor();
         if (!armor.isEmpty()) {
-            applyArmorAttribute(axolotl, armor);
+            KIND.applyArmorBonus(axolotl);
         }
 
         long bowlLong = payload.getLong("bowl_pos");
@@ -1747,6 +1589,10 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         if (!(event.getEntity() instanceof Axolotl axolotl)) {
             return;
         }
+        long bowlLong = axolotl.getData(AXOLOTL_BOWL_POS.get());
+        if (!axolotl.level().isClientSide() && bowlLong != Long.MIN_VALUE) {
+            threatTable.wake(axolotl.level(), BlockPos.of(bowlLong)); // attacked from outside the zone
+        }
         AxolotlInventoryData invData = axolotl.getData(AXOLOTL_INVENTORY.get());
         ItemStack armor = invData.getArmor();
         if (armor.getItem() instanceof AxolotlArmorItem) {
@@ -1769,11 +1615,12 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
 
             armor.hurtAndBreak(Math.max(1, (int) Math.ceil(absorbed)), axolotl,
                     net.minecraft.world.entity.EquipmentSlot.CHEST);
+            // Durability alone only matters to the goggles popup, whose subscription pushes it
             if (armor.isEmpty()) {
                 invData.setArmor(ItemStack.EMPTY);
-                removeArmorAttribute(axolotl);
+                KIND.removeArmorBonus(axolotl);
+                KIND.broadcastArmor(axolotl);
             }
-            broadcastArmorSync(axolotl);
 
             // Thorns: reflect a share of the absorbed damage back to a living attacker.
             MobArmorEnchantments.reflectThorns(axolotl, event.getSource(), absorbed, thornsLevel,
@@ -1796,7 +1643,7 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
             // behind a wall stays ignored; only a melee-range hit (provably reachable)
             // overrides the blacklist.
             if (attacker != null && !attacker.isDeadOrDying() && attacker.isInWaterOrBubble()
-                    && isWithinGuardZone(axolotl, attacker.getX(), attacker.getY(), attacker.getZ(),
+                    && KIND.isWithinGuardZone(axolotl, attacker.getX(), attacker.getY(), attacker.getZ(),
                     TARGET_ZONE_BUFFER)
                     && (!isBlacklisted(axolotl, attacker) || axolotl.distanceToSqr(attacker) <= 9.0)) {
                 // End any return trip FIRST: otherwise the returning branch keeps re-asserting
@@ -1805,7 +1652,7 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
                 // for a target it didn't acquire itself).
                 if (axolotl.getData(AXOLOTL_RETURNING.get())) {
                     axolotl.setData(AXOLOTL_RETURNING.get(), false);
-                    returningAge.remove(axolotl.getUUID());
+                    guardianState(axolotl).returningAge = 0;
                     axolotl.getNavigation().resetMaxVisitedNodesMultiplier();
                 }
                 axolotl.getBrain().setMemory(MemoryModuleType.ATTACK_TARGET, attacker);
@@ -1849,36 +1696,29 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
             victim.setLastHurtByPlayer(ownerPlayer);
         }
         // Pre-record XP redirection so it is set before death regardless of event ordering.
-        pendingXpCapture.put(victim.getId(), axolotl.getId());
+        loot.recordKill(victim, axolotl);
     }
 
     // ---- Loot collection ----
 
-    @SubscribeEvent
-    public void onLivingDrops(LivingDropsEvent event) {
+    /**
+     * Routes any edible catch (cod/salmon/tropical fish/pufferfish from the axolotl's vanilla fish
+     * hunting) into its bowl/station fish slots as real food. Runs before the shared loot capture
+     * ({@link GuardianEvents#onLivingDrops}, normal priority), so a guardian self-restocks its
+     * station instead of the fish becoming loot.
+     */
+    @SubscribeEvent(priority = EventPriority.HIGH)
+    public void onLivingDropsCatch(LivingDropsEvent event) {
         if (!isModuleEnabled()) {
             return;
         }
-        Entity direct = event.getSource().getDirectEntity();
-        Entity indirect = event.getSource().getEntity();
-        Axolotl axolotl = null;
-        if (direct instanceof Axolotl a && a.getData(AXOLOTL_BOWL_POS.get()) != Long.MIN_VALUE) {
-            axolotl = a;
-        } else if (indirect instanceof Axolotl a && a.getData(AXOLOTL_BOWL_POS.get()) != Long.MIN_VALUE) {
-            axolotl = a;
-        }
+        Axolotl axolotl = loot.killer(event.getSource(), KIND::hasBowl);
         if (axolotl == null) {
             return;
         }
 
-        // Record for XP redirection (consumed by onExperienceDrop in the same tick)
-        pendingXpCapture.put(event.getEntity().getId(), axolotl.getId());
-
-        // Route any edible catch (cod/salmon/tropical fish/pufferfish from the axolotl's vanilla
-        // fish hunting) into its bowl/station fish slots as real food — BEFORE the loot capture
-        // below, so a guardian self-restocks its station instead of the fish becoming loot.
         // Deposit item-by-item so a full station keeps the leftover, which then falls through to
-        // loot / the ground. Non-food drops (ink sacs, bones, …) are left for the loot loop.
+        // loot / the ground. Non-food drops (ink sacs, bones, …) are left for the loot capture.
         AbstractAxolotlBowlBlockEntity fishBowl =
                 getBowlEntity(axolotl, BlockPos.of(axolotl.getData(AXOLOTL_BOWL_POS.get())));
         if (fishBowl != null) {
@@ -1900,54 +1740,6 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
                 }
             }
         }
-
-        AxolotlInventoryData axolotlInv = axolotl.getData(AXOLOTL_INVENTORY.get());
-        var lootHandler = axolotlInv.getInventory();
-
-        Iterator<ItemEntity> iter = event.getDrops().iterator();
-        while (iter.hasNext()) {
-            ItemEntity itemEntity = iter.next();
-            ItemStack drop = itemEntity.getItem().copy();
-            for (int slot = AxolotlInventoryData.LOOT_START; slot < AxolotlInventoryData.TOTAL_SLOTS; slot++) {
-                drop = lootHandler.insertItem(slot, drop, false);
-                if (drop.isEmpty()) {
-                    break;
-                }
-            }
-            if (drop.isEmpty()) {
-                iter.remove();
-            } else {
-                itemEntity.setItem(drop);
-            }
-        }
-    }
-
-    @SubscribeEvent
-    public void onExperienceDrop(LivingExperienceDropEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        Integer axolotlEntityId = pendingXpCapture.remove(event.getEntity().getId());
-        if (axolotlEntityId == null) {
-            return;
-        }
-        if (!(event.getEntity().level() instanceof ServerLevel serverLevel)) {
-            return;
-        }
-        if (!(serverLevel.getEntity(axolotlEntityId) instanceof Axolotl axolotl)) {
-            return;
-        }
-        int xp = event.getDroppedExperience();
-        int capacity = getConfig().getAxolotlXpCapacity();
-        int current = axolotl.getData(AXOLOTL_XP.get());
-        int canAbsorb = capacity - current;
-        if (canAbsorb <= 0) {
-            return;
-        }
-        int absorbed = Math.min(xp, canAbsorb);
-        axolotl.setData(AXOLOTL_XP.get(), current + absorbed);
-        broadcastStatsSync(axolotl);
-        event.setDroppedExperience(xp - absorbed);
     }
 
     @SubscribeEvent
@@ -1962,7 +1754,7 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
             return;
         }
         UUID uid = axolotl.getUUID();
-        clearAxolotlState(uid);
+        clearAxolotlState(axolotl);
         long bowlLong = axolotl.getData(AXOLOTL_BOWL_POS.get());
         if (bowlLong == Long.MIN_VALUE) {
             return;
@@ -1973,26 +1765,4 @@ public class AxolotlGuardianModule extends AbstractModule<AxolotlGuardianModule,
         }
         axolotl.setData(AXOLOTL_BOWL_POS.get(), Long.MIN_VALUE);
     }
-
-    // ---- Armor attribute helpers ----
-
-    private void applyArmorAttribute(Axolotl axolotl, ItemStack armor) {
-        var attrInstance = axolotl.getAttribute(Attributes.ATTACK_DAMAGE);
-        if (attrInstance == null) {
-            return;
-        }
-        attrInstance.removeModifier(ARMOR_MODIFIER_ID);
-        if (armor.getItem() instanceof AxolotlArmorItem axolotlArmor) {
-            attrInstance.addPermanentModifier(new AttributeModifier(
-                    ARMOR_MODIFIER_ID, axolotlArmor.getTier().getAttackBonus(),
-                    AttributeModifier.Operation.ADD_VALUE));
-        }
-    }
-
-    private void removeArmorAttribute(Axolotl axolotl) {
-        var attrInstance = axolotl.getAttribute(Attributes.ATTACK_DAMAGE);
-        if (attrInstance != null) {
-            attrInstance.removeModifier(ARMOR_MODIFIER_ID);
-        }
-    }
 }
@@ -0,0 +1,369 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Per-station map of the water connected to an axolotl station, used to reject unreachable targets
+ * before any A* runs.
+ *
+ * <p>Each station's guard box is flood-filled (6-connected, water fluid incl. waterlogged blocks
+ * and bubble columns) from the water next to the station and from every cell its axolotls swim in;
+ * the result is one bit per cell of the box. A hostile whose cell is not set is in a separate pool
+ * or cave and costs nothing more; one whose cell is set may still be unreachable (the map knows
+ * nothing about mob-sized gaps), so A* still has the final word.</p>
+ *
+ * <p>The fill runs on demand and spreads over ticks ({@value #FILL_BUDGET_PER_TICK} cells per tick
+ * server-wide); while a station's fill is unfinished, or touched an unloaded chunk, its map rejects
+ * nothing. Block changes inside a box are applied as they happen ({@link BlockEvent.NeighborNotifyEvent}):
+ * new water next to the set volume is filled from, removed water is cleared and the station is
+ * filled again from scratch {@value #SHRINK_REFILL_TICKS} ticks later (a removal can only split the
+ * volume, so the old map stays a safe superset until then). Every map is also refilled after
+ * {@value #REFILL_TICKS} ticks to catch changes that fire no event.</p>
+ *
+ * <p>Server thread only. Stations nobody asked about for {@value #EXPIRE_TICKS} ticks are dropped.</p>
+ */
+final class StationWaterMap {
+
+    /** Cells flood-filled per server tick, over all stations. */
+    private static final int FILL_BUDGET_PER_TICK = 8192;
+    /** Boxes with more cells than this get no map (their stations reject nothing). */
+    private static final int MAX_CELLS = 1 << 22;
+    /** Radius around the station whose water seeds the fill. */
+    private static final int SEED_RADIUS = 2;
+    /** Age after which a map is filled again from scratch. */
+    private static final long REFILL_TICKS = 1200L;
+    /** Delay between water disappearing from a map and the refill that tightens it. */
+    private static final long SHRINK_REFILL_TICKS = 100L;
+    /** Delay before a fill that hit unloaded chunks is retried. */
+    private static final long UNLOADED_RETRY_TICKS = 200L;
+    /** Stations without queries for this long are forgotten. */
+    private static final long EXPIRE_TICKS = 1200L;
+
+    private static final Predicate<Entity> UNKNOWN = entity -> true;
+
+    private static final class Volume {
+        private final BlockPos station;
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int sizeX;
+        private final int sizeY;
+        private final int sizeZ;
+        // One bit per cell of the box: water connected to a seed
+        private final BitSet water = new BitSet();
+        // Set cells whose neighbours are still to be visited
+        private final IntArrayFIFOQueue pending = new IntArrayFIFOQueue();
+        private boolean hitUnloaded;
+        private long refillAt;
+        private long lastQueriedAt;
+
+        private Volume(BlockPos station, int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ) {
+            this.station = station;
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.sizeX = sizeX;
+            this.sizeY = sizeY;
+            this.sizeZ = sizeZ;
+        }
+
+        private boolean isComplete() {
+            return pending.isEmpty() && !hitUnloaded;
+        }
+
+        /** Cell index of the block position, or -1 outside the box. */
+        private int index(int x, int y, int z) {
+            int dx = x - minX;
+            int dy = y - minY;
+            int dz = z - minZ;
+            if (dx < 0 || dy < 0 || dz < 0 || dx >= sizeX || dy >= sizeY || dz >= sizeZ) {
+                return -1;
+            }
+            return (dy * sizeZ + dz) * sizeX + dx;
+        }
+
+        private boolean contains(Entity entity) {
+            BlockPos pos = entity.blockPosition();
+            int feet = index(pos.getX(), pos.getY(), pos.getZ());
+            if (feet < 0) {
+                return true; // outside the box: unknown, let A* decide
+            }
+            int above = index(pos.getX(), pos.getY() + 1, pos.getZ());
+            return water.get(feet) || (above >= 0 && water.get(above));
+        }
+    }
+
+    private final Map<ResourceKey<Level>, Long2ObjectMap<Volume>> stations = new HashMap<>();
+    // chunk column (ChunkPos#asLong) -> volumes whose box overlaps it, per dimension
+    private final Map<ResourceKey<Level>, Long2ObjectMap<List<Volume>>> columns = new HashMap<>();
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    private boolean listening = false;
+    private long lastExpiry;
+    private long budgetTick = Long.MIN_VALUE;
+    private int budgetLeft;
+
+    /**
+     * Returns a test for "may {@code axolotl} reach this entity through water" for the station at
+     * {@code station}, whose guard box extends {@code radius} / {@code radiusY} blocks around it.
+     * Advances the station's fill first. The test answers true for everything while the map is
+     * incomplete, and for entities outside the box.
+     */
+    Predicate<Entity> reachability(Level level, BlockPos station, double radius, double radiusY, Entity axolotl) {
+        long now = level.getGameTime();
+        expire(now);
+
+        Volume volume = volume(level, station, radius, radiusY, now);
+        if (volume == null) {
+            return UNKNOWN;
+        }
+        volume.lastQueriedAt = now;
+        // refillAt too far ahead: a different world was loaded into the same dimension
+        if (now >= volume.refillAt || volume.refillAt - now > REFILL_TICKS) {
+            refill(level, volume, now);
+        }
+        // The axolotl's own pool belongs to the station even if it isn't connected to the station
+        BlockPos pos = axolotl.blockPosition();
+        seed(level, volume, pos.getX(), pos.getY(), pos.getZ());
+        seed(level, volume, pos.getX(), pos.getY() + 1, pos.getZ());
+        fill(level, volume, now);
+        return volume.isComplete() ? volume::contains : UNKNOWN;
+    }
+
+    /**
+     * Forgets all maps (server stopped).
+     */
+    void clear() {
+        stations.clear();
+        columns.clear();
+        lastExpiry = 0L;
+        budgetTick = Long.MIN_VALUE;
+    }
+
+    private Volume volume(Level level, BlockPos station, double radius, double radiusY, long now) {
+        Long2ObjectMap<Volume> levelStations = stations.computeIfAbsent(level.dimension(),
+                key -> new Long2ObjectOpenHashMap<>());
+        int r = Mth.ceil(radius);
+        int minY = Math.max(station.getY() - Mth.ceil(radiusY), level.getMinBuildHeight());
+        int maxY = Math.min(station.getY() + Mth.ceil(radiusY), level.getMaxBuildHeight() - 1);
+        int size = 2 * r + 1;
+        if (maxY < minY || (long) size * size * (maxY - minY + 1) > MAX_CELLS) {
+            return null;
+        }
+        Volume volume = levelStations.get(station.asLong());
+        if (volume != null && volume.sizeX == size && volume.minY == minY && volume.sizeY == maxY - minY + 1) {
+            return volume;
+        }
+        if (volume != null) {
+            unindex(level, volume); // guard radius changed
+        }
+        startListening();
+        volume = new Volume(station.immutable(), station.getX() - r, minY, station.getZ() - r, size, maxY - minY + 1, size);
+        levelStations.put(station.asLong(), volume);
+        Long2ObjectMap<List<Volume>> levelColumns = columns.computeIfAbsent(level.dimension(),
+                key -> new Long2ObjectOpenHashMap<>());
+        forEachColumn(volume, column -> levelColumns.computeIfAbsent(column, key -> new ArrayList<>(1)).add(volume));
+        refill(level, volume, now);
+        return volume;
+    }
+
+    private void refill(Level level, Volume volume, long now) {
+        volume.water.clear();
+        volume.pending.clear();
+        volume.hitUnloaded = false;
+        volume.refillAt = now + REFILL_TICKS;
+        BlockPos station = volume.station;
+        for (int dx = -SEED_RADIUS; dx <= SEED_RADIUS; dx++) {
+            for (int dy = -SEED_RADIUS; dy <= SEED_RADIUS; dy++) {
+                for (int dz = -SEED_RADIUS; dz <= SEED_RADIUS; dz++) {
+                    seed(level, volume, station.getX() + dx, station.getY() + dy, station.getZ() + dz);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the cell and queues it for the fill if it is water and not set yet.
+     */
+    private void seed(Level level, Volume volume, int x, int y, int z) {
+        int index = volume.index(x, y, z);
+        if (index >= 0 && !volume.water.get(index) && isWater(level, volume, x, y, z)) {
+            volume.water.set(index);
+            volume.pending.enqueue(index);
+        }
+    }
+
+    /**
+     * Spreads the set volume from its queued cells until the queue is empty or this tick's budget
+     * is used up.
+     */
+    private void fill(Level level, Volume volume, long now) {
+        if (volume.pending.isEmpty()) {
+            return;
+        }
+        if (budgetTick != now) {
+            budgetTick = now;
+            budgetLeft = FILL_BUDGET_PER_TICK;
+        }
+        int layer = volume.sizeX * volume.sizeZ;
+        while (!volume.pending.isEmpty() && budgetLeft > 0) {
+            budgetLeft--;
+            int index = volume.pending.dequeueInt();
+            int dx = index % volume.sizeX;
+            int dz = (index / volume.sizeX) % volume.sizeZ;
+            int dy = index / layer;
+            int x = volume.minX + dx;
+            int y = volume.minY + dy;
+            int z = volume.minZ + dz;
+            seed(level, volume, x - 1, y, z);
+            seed(level, volume, x + 1, y, z);
+            seed(level, volume, x, y - 1, z);
+            seed(level, volume, x, y + 1, z);
+            seed(level, volume, x, y, z - 1);
+            seed(level, volume, x, y, z + 1);
+        }
+    }
+
+    private boolean isWater(Level level, Volume volume, int x, int y, int z) {
+        cursor.set(x, y, z);
+        if (!level.isLoaded(cursor)) {
+            if (!volume.hitUnloaded) {
+                volume.hitUnloaded = true;
+                volume.refillAt = Math.min(volume.refillAt, level.getGameTime() + UNLOADED_RETRY_TICKS);
+            }
+            return false;
+        }
+        return level.getFluidState(cursor).is(FluidTags.WATER);
+    }
+
+    // ---- Block changes ----
+
+    private void startListening() {
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(this::onNeighborNotify);
+            NeoForge.EVENT_BUS.addListener(this::onServerStopped);
+        }
+    }
+
+    private void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (columns.isEmpty() || !(event.getLevel() instanceof Level level) || level.isClientSide()) {
+            return;
+        }
+        Long2ObjectMap<List<Volume>> levelColumns = columns.get(level.dimension());
+        if (levelColumns == null) {
+            return;
+        }
+        BlockPos pos = event.getPos();
+        List<Volume> volumes = levelColumns.get(ChunkPos.asLong(pos));
+        if (volumes == null) {
+            return;
+        }
+        BlockState state = event.getState();
+        boolean isWater = state.getFluidState().is(FluidTags.WATER);
+        for (Volume volume : volumes) {
+            int index = volume.index(pos.getX(), pos.getY(), pos.getZ());
+            if (index < 0) {
+                continue;
+            }
+            if (volume.water.get(index)) {
+                if (!isWater) {
+                    // May split the volume: keep the (now too large) map until the refill
+                    volume.water.clear(index);
+                    volume.refillAt = Math.min(volume.refillAt, level.getGameTime() + SHRINK_REFILL_TICKS);
+                }
+            } else if (isWater && touchesVolume(volume, pos)) {
+                // New water joins the volume: fill on from it at the next query
+                volume.water.set(index);
+                volume.pending.enqueue(index);
+            }
+        }
+    }
+
+    private static boolean touchesVolume(Volume volume, BlockPos pos) {
+        int x = pos.getX();
+        int y = pos.getY();
+        int z = pos.getZ();
+        return isSet(volume, x - 1, y, z) || isSet(volume, x + 1, y, z)
+                || isSet(volume, x, y - 1, z) || isSet(volume, x, y + 1, z)
+                || isSet(volume, x, y, z - 1) || isSet(volume, x, y, z + 1);
+    }
+
+    private static boolean isSet(Volume volume, int x, int y, int z) {
+        int index = volume.index(x, y, z);
+        return index >= 0 && volume.water.get(index);
+    }
+
+    private void onServerStopped(ServerStoppedEvent event) {
+        clear();
+    }
+
+    // ---- Bookkeeping ----
+
+    private void expire(long now) {
+        if (now - lastExpiry < EXPIRE_TICKS && now >= lastExpiry) {
+            return;
+        }
+        lastExpiry = now;
+        for (Map.Entry<ResourceKey<Level>, Long2ObjectMap<Volume>> entry : stations.entrySet()) {
+            Long2ObjectMap<List<Volume>> levelColumns = columns.get(entry.getKey());
+            entry.getValue().values().removeIf(volume -> {
+                boolean expired = now - volume.lastQueriedAt >= EXPIRE_TICKS || now < volume.lastQueriedAt;
+                if (expired && levelColumns != null) {
+                    forEachColumn(volume, column -> removeFromColumn(levelColumns, column, volume));
+                }
+                return expired;
+            });
+        }
+    }
+
+    private void unindex(Level level, Volume volume) {
+        Long2ObjectMap<List<Volume>> levelColumns = columns.get(level.dimension());
+        if (levelColumns != null) {
+            forEachColumn(volume, column -> removeFromColumn(levelColumns, column, volume));
+        }
+    }
+
+    private static void removeFromColumn(Long2ObjectMap<List<Volume>> levelColumns, long column, Volume volume) {
+        List<Volume> volumes = levelColumns.get(column);
+        if (volumes != null) {
+            volumes.remove(volume);
+            if (volumes.isEmpty()) {
+                levelColumns.remove(column);
+            }
+        }
+    }
+
+    private static void forEachColumn(Volume volume, LongConsumer action) {
+        int minChunkX = SectionPos.blockToSectionCoord(volume.minX);
+        int maxChunkX = SectionPos.blockToSectionCoord(volume.minX + volume.sizeX - 1);
+        int minChunkZ = SectionPos.blockToSectionCoord(volume.minZ);
+        int maxChunkZ = SectionPos.blockToSectionCoord(volume.minZ + volume.sizeZ - 1);
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                action.accept(ChunkPos.asLong(cx, cz));
+            }
+        }
+    }
+}
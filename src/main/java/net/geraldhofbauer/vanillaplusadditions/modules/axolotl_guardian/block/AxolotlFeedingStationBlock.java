@@ -1,5 +1,7 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.block;
 
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleManager;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.AxolotlGuardianModule;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.blockentity.AxolotlFeedingStationBlockEntity;
 import net.minecraft.core.BlockPos;
@@ -35,6 +37,9 @@ import org.jetbrains.annotations.Nullable;
 
 public class AxolotlFeedingStationBlock extends AbstractAxolotlBowlBlock {
 
+    private static final ModuleProfiler.Probe TICK_PROBE =
+            ModuleProfiler.probe("axolotl_guardian", "AxolotlFeedingStationBlockEntity.serverTick");
+
     public static final DirectionProperty FACING = BlockStateProperties.HORIZONTAL_FACING;
     public static final EnumProperty<AxolotlStationSkin> SKIN =
             EnumProperty.create("skin", AxolotlStationSkin.class);
@@ -155,9 +160,9 @@ public class AxolotlFeedingStationBlock extends AbstractAxolotlBowlBlock {
         if (level.isClientSide() || blockEntityType != AxolotlGuardianModule.AXOLOTL_FEEDING_STATION_BE.get()) {
             return null;
         }
-        return (lvl, pos, blockState, be) ->
+        return ModuleManager.suspendable("axolotl_guardian", ModuleProfiler.wrap(TICK_PROBE, (lvl, pos, blockState, be) ->
                 AxolotlFeedingStationBlockEntity.serverTick(
-                        lvl, pos, blockState, (AxolotlFeedingStationBlockEntity) be);
+                        lvl, pos, blockState, (AxolotlFeedingStationBlockEntity) be)));
     }
 
     @Override
@@ -171,6 +171,20 @@ public abstract class AbstractAxolotlBowlBlockEntity extends BlockEntity {
         }
     }
 
+    // --- Bowl index ---
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        AxolotlGuardianModule.BOWL_INDEX.add(this);
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        AxolotlGuardianModule.BOWL_INDEX.remove(this);
+    }
+
     // --- Sync packet ---
 
     @Override
@@ -4,6 +4,8 @@ import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.AxolotlG
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.block.AxolotlFeedingStationBlock;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.block.AxolotlStationSkin;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.menu.AxolotlFeedingStationMenu;
+import net.geraldhofbauer.vanillaplusadditions.util.IndexedItemStackHandler;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianStation;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
@@ -17,7 +19,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.items.ItemStackHandler;
 
-public class AxolotlFeedingStationBlockEntity extends AbstractAxolotlBowlBlockEntity implements MenuProvider {
+public class AxolotlFeedingStationBlockEntity extends AbstractAxolotlBowlBlockEntity implements MenuProvider, GuardianStation {
 
     private static final int SLOTS = 9;
 
@@ -37,9 +39,10 @@ public class AxolotlFeedingStationBlockEntity extends AbstractAxolotlBowlBlockEn
         }
     };
 
-    private final ItemStackHandler lootInventory = new ItemStackHandler(15) {
+    private final IndexedItemStackHandler lootInventory = new IndexedItemStackHandler(15) {
         @Override
         protected void onContentsChanged(int slot) {
+            super.onContentsChanged(slot);
             setChanged();
             syncToClient();
         }
@@ -150,7 +153,8 @@ public class AxolotlFeedingStationBlockEntity extends AbstractAxolotlBowlBlockEn
         return inventory;
     }
 
-    public ItemStackHandler getLootInventory() {
+    @Override
+    public IndexedItemStackHandler getLootInventory() {
         return lootInventory;
     }
 
@@ -174,10 +178,12 @@ public class AxolotlFeedingStationBlockEntity extends AbstractAxolotlBowlBlockEn
         }
     }
 
+    @Override
     public int getStoredXp() {
         return storedXp;
     }
 
+    @Override
     public void addStoredXp(int delta) {
         storedXp = Math.max(0, storedXp + delta);
         setChanged();
@@ -13,11 +13,10 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.animal.axolotl.Axolotl;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
-import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerInteractEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
@@ -28,14 +27,13 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
-@EventBusSubscriber(value = Dist.CLIENT, bus = EventBusSubscriber.Bus.GAME)
 public final class AxolotlGuardianClientEvents {
 
     // axolotlEntityId → targetEntityId; populated by SyncAxolotlTargetPacket
     static final Map<Integer, Integer> AXOLOTL_TARGET_MAP = new HashMap<>();
 
-    // axolotlEntityId → [xp, xpCap]; populated by SyncAxolotlStatsPacket
-    static final Map<Integer, int[]> AXOLOTL_XP_MAP = new HashMap<>();
+    // axolotlEntityId → [xp, xpCap, fed %]; merged from SyncAxolotlStatsPacket diffs (-1 = not received yet)
+    static final Map<Integer, int[]> AXOLOTL_STATS_MAP = new HashMap<>();
 
     // axolotlEntityId → path packet; populated by SyncAxolotlPathPacket; empty arrays = no path
     static final Map<Integer, SyncAxolotlPathPacket> AXOLOTL_PATH_MAP = new HashMap<>();
@@ -82,6 +80,8 @@ public final class AxolotlGuardianClientEvents {
         Minecraft mc = Minecraft.getInstance();
         if (mc.level == null || mc.player == null) {
             GLOW_EXPIRY.clear();
+            AXOLOTL_STATS_MAP.clear();
+            AxolotlGuardianGogglesClientHandler.resetStatsSubscription();
             return;
         }
 
@@ -90,6 +90,7 @@ public final class AxolotlGuardianClientEvents {
         }
 
         AxolotlGuardianGogglesClientHandler.onClientTick(mc);
+        AxolotlGuardianGogglesClientHandler.updateStatsSubscription();
 
         long gameTime = mc.level.getGameTime();
 
@@ -173,7 +174,23 @@ public final class AxolotlGuardianClientEvents {
     }
 
     public static void handleSyncAxolotlStats(SyncAxolotlStatsPacket packet) {
-        AXOLOTL_XP_MAP.put(packet.axolotlId(), new int[]{packet.xp(), packet.xpCap()});
+        int[] stats = AXOLOTL_STATS_MAP.computeIfAbsent(packet.axolotlId(), id -> new int[]{-1, -1, -1});
+        if (packet.has(SyncAxolotlStatsPacket.XP)) {
+            stats[0] = packet.xp();
+            stats[1] = packet.xpCap();
+        }
+        if (packet.has(SyncAxolotlStatsPacket.FED)) {
+            stats[2] = packet.fedPercent();
+        }
+        // Armor durability is no longer broadcast with every hit; apply it to the synced armor copy
+        Minecraft mc = Minecraft.getInstance();
+        if (packet.has(SyncAxolotlStatsPacket.ARMOR_DAMAGE) && mc.level != null
+                && mc.level.getEntity(packet.axolotlId()) instanceof Axolotl axolotl) {
+            ItemStack armor = axolotl.getData(AxolotlGuardianModule.AXOLOTL_INVENTORY.get()).getArmor();
+            if (!armor.isEmpty()) {
+                armor.setDamageValue(packet.armorDamage());
+            }
+        }
     }
 
     public static void handleSyncAxolotlTarget(SyncAxolotlTargetPacket packet) {
@@ -9,7 +9,7 @@ import net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.client.Debu
 import net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.client.GogglesUtil;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.AxolotlGuardianModule;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.blockentity.AbstractAxolotlBowlBlockEntity;
-import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.network.RequestAxolotlStatsPacket;
+import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.network.SubscribeAxolotlStatsPacket;
 import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.network.SyncAxolotlPathPacket;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.LevelRenderer;
@@ -27,9 +27,7 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
-import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.RenderGuiEvent;
 import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
@@ -42,7 +40,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.OptionalDouble;
 
-@EventBusSubscriber(value = Dist.CLIENT, bus = EventBusSubscriber.Bus.GAME)
 public final class AxolotlGuardianGogglesClientHandler {
 
     private static final RenderType XRAY_LINES = RenderType.create(
@@ -73,7 +70,8 @@ public final class AxolotlGuardianGogglesClientHandler {
     private static List<Component> activeTooltip = null;
     @Nullable
     private static Axolotl lookedAtAxolotl = null;
-    private static long nextStatRequestTick = Long.MIN_VALUE;
+    /** Axolotl whose stats the server pushes to us; SubscribeAxolotlStatsPacket.NONE = none. */
+    private static int subscribedAxolotlId = SubscribeAxolotlStatsPacket.NONE;
     private static final List<LivingEntity> PENDING_TARGET_OUTLINES = new ArrayList<>();
     private static final List<Axolotl> PENDING_AXOLOTL_OUTLINES = new ArrayList<>();
     private static final List<BlockPos> PENDING_RADIUS_POSITIONS = new ArrayList<>();
@@ -151,10 +149,6 @@ public final class AxolotlGuardianGogglesClientHandler {
             // the axolotl must hide it (the 3D boxes stay xray on purpose — debug view).
             if (popupHeld && hasLineOfSight(mc, eyePos, detectedAxolotlHit)) {
                 lookedAtAxolotl = detectedAxolotl;
-                if (gameTime >= nextStatRequestTick) {
-                    nextStatRequestTick = gameTime + 20;
-                    PacketDistributor.sendToServer(new RequestAxolotlStatsPacket(detectedAxolotl.getId()));
-                }
             }
             if (boxesOn) {
                 AXOLOTL_OVERLAY_EXPIRY.put(detectedAxolotl.getId(), gameTime + OVERLAY_TIMEOUT_TICKS);
@@ -254,6 +248,23 @@ public final class AxolotlGuardianGogglesClientHandler {
         }
     }
 
+    /**
+     * Points the server-side stats subscription at the axolotl the popup shows: subscribes when the
+     * looked-at axolotl changes and unsubscribes when the popup closes. Runs after {@link #onClientTick}.
+     */
+    static void updateStatsSubscription() {
+        int axolotlId = lookedAtAxolotl != null ? lookedAtAxolotl.getId() : SubscribeAxolotlStatsPacket.NONE;
+        if (axolotlId != subscribedAxolotlId) {
+            subscribedAxolotlId = axolotlId;
+            PacketDistributor.sendToServer(new SubscribeAxolotlStatsPacket(axolotlId));
+        }
+    }
+
+    /** Forgets the subscription after a disconnect (the server drops it on logout). */
+    static void resetStatsSubscription() {
+        subscribedAxolotlId = SubscribeAxolotlStatsPacket.NONE;
+    }
+
     private static void renderAxolotlStatsOverlay(net.minecraft.client.gui.GuiGraphics g, Minecraft mc,
                                                   Axolotl axolotl) {
         int hp = Math.round(axolotl.getHealth());
@@ -270,14 +281,15 @@ public final class AxolotlGuardianGogglesClientHandler {
             armorStr = "No armor";
         }
 
-        int[] xpData = AxolotlGuardianClientEvents.AXOLOTL_XP_MAP.get(axolotl.getId());
-        String xpStr = xpData != null
-                ? xpData[0] + "/" + xpData[1]
+        int[] stats = AxolotlGuardianClientEvents.AXOLOTL_STATS_MAP.get(axolotl.getId());
+        String xpStr = stats != null && stats[0] >= 0
+                ? stats[0] + "/" + stats[1]
                 : "?/" + AxolotlGuardianModule.getAxolotlXpCapacity();
+        String fedStr = stats != null && stats[2] >= 0 ? stats[2] + "%" : "?";
 
         String ownerStr = resolveOwnerName(mc, AxolotlGuardianModule.getOwnerUUID(axolotl));
 
-        // --- Layout: unified icon size for all three rows ---
+        // --- Layout: unified icon size for all rows ---
         net.minecraft.client.gui.Font font = mc.font;
         int iconSize = 14;                        // all icons the same size
         float itemScale = iconSize / 16f;         // scale for item icons (0.875)
@@ -288,8 +300,9 @@ public final class AxolotlGuardianGogglesClientHandler {
         int armorGap = hasArmor ? iconGap : 0;
         int panelW = Math.max(iconGap + font.width(healthStr),
                 Math.max(armorGap + font.width(armorStr),
-                        Math.max(iconGap + font.width(xpStr), iconGap + font.width(ownerStr))));
-        int contentH = rowH * 4;
+                        Math.max(iconGap + font.width(xpStr),
+                                Math.max(iconGap + font.width(fedStr), iconGap + font.width(ownerStr)))));
+        int contentH = rowH * 5;
         int pad = 4;
 
         // Position: to the right of the crosshair, same as station tooltip
@@ -330,15 +343,25 @@ public final class AxolotlGuardianGogglesClientHandler {
         g.pose().popPose();
         g.drawString(font, xpStr, x + panelW - font.width(xpStr), row2Y + textOff, 0xFF7BE018, false);
 
-        // Row 3: player head icon (left) + owner name (right-aligned)
+        // Row 3: fish icon (left) + fed percentage (right-aligned)
         int row3Y = y + rowH * 3;
-        ItemStack playerHead = new ItemStack(net.minecraft.world.item.Items.PLAYER_HEAD);
+        ItemStack fish = new ItemStack(net.minecraft.world.item.Items.TROPICAL_FISH);
         g.pose().pushPose();
         g.pose().translate(x, row3Y, 0);
         g.pose().scale(itemScale, itemScale, 1f);
+        g.renderItem(fish, 0, 0);
+        g.pose().popPose();
+        g.drawString(font, fedStr, x + panelW - font.width(fedStr), row3Y + textOff, 0xFFE0A040, false);
+
+        // Row 4: player head icon (left) + owner name (right-aligned)
+        int row4Y = y + rowH * 4;
+        ItemStack playerHead = new ItemStack(net.minecraft.world.item.Items.PLAYER_HEAD);
+        g.pose().pushPose();
+        g.pose().translate(x, row4Y, 0);
+        g.pose().scale(itemScale, itemScale, 1f);
         g.renderItem(playerHead, 0, 0);
         g.pose().popPose();
-        g.drawString(font, ownerStr, x + panelW - font.width(ownerStr), row3Y + textOff, 0xFFAAAAFF, false);
+        g.drawString(font, ownerStr, x + panelW - font.width(ownerStr), row4Y + textOff, 0xFFAAAAFF, false);
     }
 
     /** Resolves an owner UUID to a display name via the client's tab-list player info. */
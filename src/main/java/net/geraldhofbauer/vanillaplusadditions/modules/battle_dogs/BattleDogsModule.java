@@ -2,6 +2,7 @@ package net.geraldhofbauer.vanillaplusadditions.modules.battle_dogs;
 
 import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.RecipeContributions;
 import net.geraldhofbauer.vanillaplusadditions.core.VanillaPlusCreativeTabs;
 import net.geraldhofbauer.vanillaplusadditions.modules.battle_dogs.config.BattleDogsConfig;
 import net.geraldhofbauer.vanillaplusadditions.modules.battle_dogs.item.WolfArmorItem;
@@ -20,29 +21,19 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.common.ItemAbilities;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.entity.living.LivingDamageEvent;
 import net.neoforged.neoforge.event.entity.living.LivingEquipmentChangeEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerInteractEvent;
 import net.neoforged.neoforge.registries.DeferredItem;
 import net.neoforged.neoforge.registries.DeferredRegister;
-import net.minecraft.server.packs.resources.PreparableReloadListener;
-import net.minecraft.server.packs.resources.ResourceManager;
-import net.minecraft.util.Unit;
-import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.CraftingBookCategory;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.ShapedRecipe;
 import net.minecraft.world.item.crafting.ShapedRecipePattern;
-import net.neoforged.neoforge.event.AddReloadListenerEvent;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 
 public class BattleDogsModule extends AbstractModule<BattleDogsModule, BattleDogsConfig> {
 
@@ -84,7 +75,8 @@ public class BattleDogsModule extends AbstractModule<BattleDogsModule, BattleDog
         VanillaPlusCreativeTabs.addAllToMainTab(
                 WOLF_ARMOR_IRON, WOLF_ARMOR_GOLD, WOLF_ARMOR_DIAMOND, WOLF_ARMOR_NETHERITE);
 
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
+        RecipeContributions.register(this, this::addBattleDogsRecipes);
 
         getLogger().info("Battle Dogs module initialized");
     }
@@ -206,28 +198,12 @@ public class BattleDogsModule extends AbstractModule<BattleDogsModule, BattleDog
         }
     }
 
-    @SubscribeEvent
-    public void onAddReloadListener(AddReloadListenerEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        event.addListener(new BattleDogsRecipeReloadListener(
-                event.getServerResources().getRecipeManager(), event.getRegistryAccess()));
-    }
-
-    private void applyBattleDogsRecipes(RecipeManager recipeManager, RegistryAccess registryAccess) {
-        Map<ResourceLocation, RecipeHolder<?>> mergedRecipes = new LinkedHashMap<>();
-        for (RecipeHolder<?> recipeHolder : recipeManager.getRecipes()) {
-            mergedRecipes.put(recipeHolder.id(), recipeHolder);
-        }
-
+    private void addBattleDogsRecipes(Map<ResourceLocation, RecipeHolder<?>> mergedRecipes, RegistryAccess registryAccess) {
         addShapedRecipe(mergedRecipes, "wolf_armor_iron", WOLF_ARMOR_IRON.get(), Items.IRON_INGOT, registryAccess);
         addShapedRecipe(mergedRecipes, "wolf_armor_gold", WOLF_ARMOR_GOLD.get(), Items.GOLD_INGOT, registryAccess);
         addShapedRecipe(mergedRecipes, "wolf_armor_diamond", WOLF_ARMOR_DIAMOND.get(), Items.DIAMOND, registryAccess);
         addShapedRecipe(mergedRecipes, "wolf_armor_netherite", WOLF_ARMOR_NETHERITE.get(), Items.NETHERITE_INGOT,
                 registryAccess);
-
-        recipeManager.replaceRecipes(mergedRecipes.values());
     }
 
     private void addShapedRecipe(Map<ResourceLocation, RecipeHolder<?>> recipes, String name, Item resultItem,
@@ -248,29 +224,6 @@ public class BattleDogsModule extends AbstractModule<BattleDogsModule, BattleDog
         recipes.put(id, new RecipeHolder<>(id, recipe));
     }
 
-    private final class BattleDogsRecipeReloadListener implements PreparableReloadListener {
-        private final RecipeManager recipeManager;
-        private final RegistryAccess registryAccess;
-
-        private BattleDogsRecipeReloadListener(RecipeManager recipeManager, RegistryAccess registryAccess) {
-            this.recipeManager = recipeManager;
-            this.registryAccess = registryAccess;
-        }
-
-        @Override
-        public CompletableFuture<Void> reload(PreparationBarrier preparationBarrier, ResourceManager resourceManager,
-                                              ProfilerFiller preparationsProfiler, ProfilerFiller reloadProfiler,
-                                              Executor backgroundExecutor, Executor gameExecutor) {
-            return preparationBarrier.wait(Unit.INSTANCE)
-                    .thenRunAsync(() -> applyBattleDogsRecipes(recipeManager, registryAccess), gameExecutor);
-        }
-
-        @Override
-        public String getName() {
-            return "vanillaplusadditions_battle_dogs_recipes";
-        }
-    }
-
     private void updateArmorAttribute(Wolf wolf, ItemStack stack) {
         var attr = wolf.getAttribute(Attributes.ATTACK_DAMAGE);
         if (attr == null) {
@@ -27,7 +27,6 @@ import net.minecraft.world.item.enchantment.EnchantmentHelper;
 import net.minecraft.world.item.enchantment.Enchantments;
 import net.minecraft.world.item.enchantment.ItemEnchantments;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
 import org.jetbrains.annotations.NotNull;
 
@@ -49,7 +48,7 @@ public class BetterMobsModule extends AbstractModule<BetterMobsModule, BetterMob
     @Override
     protected void onInitialize() {
         // Event-Handler registrieren
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
     }
 
     @Override
@@ -70,7 +69,7 @@ public class BetterMobsModule extends AbstractModule<BetterMobsModule, BetterMob
 
         BetterMobsConfig config = getConfig();
         String mobId = BuiltInRegistries.ENTITY_TYPE.getKey(mob.getType()).toString();
-        if (!config.getEnabledMobs().contains(mobId)) {
+        if (!config.isEntityEnabled(mobId)) {
             return;
         }
 
@@ -168,7 +167,7 @@ public class BetterMobsModule extends AbstractModule<BetterMobsModule, BetterMob
         }
 
         // Armor nur für Mobs aus enabledMobsWithArmor
-        if (config.getEnabledMobsWithArmor().contains(mobId)) {
+        if (config.canEntityWearArmor(mobId)) {
             // Hole die Liste der Rüstungsteile, die spawnen sollen
             List<String> spawnedArmor = setup.get(BetterMobsConfigKey.ARMOR_CHANCES);
 
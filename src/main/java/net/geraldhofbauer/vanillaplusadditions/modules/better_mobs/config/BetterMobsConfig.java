@@ -10,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 public class BetterMobsConfig extends AbstractModuleConfig<BetterMobsModule, BetterMobsConfig> {
     private static final Logger LOGGER = LoggerFactory.getLogger(BetterMobsConfig.class);
@@ -20,9 +21,6 @@ public class BetterMobsConfig extends AbstractModuleConfig<BetterMobsModule, Bet
     /** Highest remaining armor durability, in percent - mob armor never exceeds one fifth. */
     public static final int DEFAULT_MAX_ARMOR_DURABILITY_PERCENT = 20;
 
-    /** One durability roll per armor slot: helmet, chestplate, leggings, boots. */
-    private static final int ARMOR_DURABILITY_ROLL_COUNT = 4;
-
     private static final List<String> DEFAULT_ENABLED_MOBS = List.of(
             "minecraft:zombie",
             "minecraft:skeleton",
@@ -62,6 +60,12 @@ public class BetterMobsConfig extends AbstractModuleConfig<BetterMobsModule, Bet
     private ModConfigSpec.ConfigValue<List<? extends String>> enabledMobs;
     private ModConfigSpec.ConfigValue<List<? extends String>> enabledMobsWithArmor;
 
+    private final CompiledSnapshot<Compiled> compiled = compiledSnapshot(
+            new Compiled(DEFAULT_ENABLED_MOBS, Set.copyOf(DEFAULT_ENABLED_MOBS),
+                    DEFAULT_ENABLED_MOBS_WITH_ARMOR, Set.copyOf(DEFAULT_ENABLED_MOBS_WITH_ARMOR),
+                    EquipmentTable.EMPTY, EquipmentTable.EMPTY, EquipmentTable.EMPTY),
+            this::compile);
+
     public BetterMobsConfig(BetterMobsModule module) {
         super(module);
     }
@@ -122,7 +126,7 @@ public class BetterMobsConfig extends AbstractModuleConfig<BetterMobsModule, Bet
         LOGGER.debug("Built module-specific configuration for Better Mobs module");
     }
 
-    private static @NotNull List<String> getAboveZeroConf() {
+    static @NotNull List<String> getAboveZeroConf() {
         List<String> config = new ArrayList<>();
 
         // Gear types
@@ -200,7 +204,7 @@ public class BetterMobsConfig extends AbstractModuleConfig<BetterMobsModule, Bet
         return config;
     }
 
-    private static @NotNull List<String> getBelowZeroConf() {
+    static @NotNull List<String> getBelowZeroConf() {
         List<String> config = new ArrayList<>();
 
         // Gear types
@@ -283,7 +287,7 @@ public class BetterMobsConfig extends AbstractModuleConfig<BetterMobsModule, Bet
         return config;
     }
 
-    private static @NotNull List<String> getNetherEndConf() {
+    static @NotNull List<String> getNetherEndConf() {
         // TODO: Unterschiedliche Konfiguration für Nether/End, falls gewünscht bzw. für andere Dimensionen
         List<String> config = new ArrayList<>();
 
@@ -480,269 +484,70 @@ public class BetterMobsConfig extends AbstractModuleConfig<BetterMobsModule, Bet
     }
 
     /**
-     * Gibt die Liste der Mobs zurück, die zufällige Ausrüstung erhalten sollen.
+     * Gibt die Liste der Mobs zurück, die zufällige Ausrüstung erhalten sollen (unveränderlich).
      */
     public List<String> getEnabledMobs() {
-        return enabledMobs != null ? new ArrayList<>(enabledMobs.get()) : new ArrayList<>(DEFAULT_ENABLED_MOBS);
+        return compiled.get().enabledMobs();
     }
 
     /**
-     * Gibt die Liste der Mobs zurück, die Rüstung erhalten können.
+     * Gibt die Liste der Mobs zurück, die Rüstung erhalten können (unveränderlich).
      */
     public List<String> getEnabledMobsWithArmor() {
-        return enabledMobsWithArmor != null
-                ? new ArrayList<>(enabledMobsWithArmor.get())
-                : new ArrayList<>(DEFAULT_ENABLED_MOBS_WITH_ARMOR);
+        return compiled.get().enabledMobsWithArmor();
     }
 
     /**
      * Prüft, ob ein Mob in der Liste der aktivierten Mobs ist.
      */
     public boolean isEntityEnabled(String entityId) {
-        return getEnabledMobs().contains(entityId);
+        return compiled.get().enabledMobSet().contains(entityId);
     }
 
     /**
      * Prüft, ob ein Mob Rüstung tragen kann.
      */
     public boolean canEntityWearArmor(String entityId) {
-        return getEnabledMobsWithArmor().contains(entityId);
+        return compiled.get().armorMobSet().contains(entityId);
     }
 
     public Map<BetterMobsConfigKey, List<String>> getRandomEquipmentSetupForMob(ResourceKey<Level> dimension,
                                                                                 UUID uuid,
                                                                                 int y) {
-        List<String> configEntries = getDimensionConfigEntries(dimension, y);
-        Random random = new Random(uuid.getLeastSignificantBits()); // Seed basierend auf Y-Koordinate
-        Map<BetterMobsConfigKey, List<String>> equipment = new java.util.HashMap<>();
-
-        // Gruppiere Einträge nach ConfigKey
-        Map<BetterMobsConfigKey, List<String[]>> groupedEntries = new HashMap<>();
-        for (String entry : configEntries) {
-            String[] parts = splitConfigEntry(entry);
-            if (parts.length < 3) {
-                continue;
-            }
-
-            try {
-                BetterMobsConfigKey key = BetterMobsConfigKey.valueOf(parts[0]);
-                groupedEntries.computeIfAbsent(key, k -> new ArrayList<>()).add(parts);
-            } catch (IllegalArgumentException e) {
-                // Unbekannte Config-Keys ignorieren
-            }
-        }
-
-        // Prüfe Rüstungschancen zuerst
-        Map<String, Boolean> armorSpawns = new HashMap<>();
-        List<String[]> armorChances = groupedEntries.get(BetterMobsConfigKey.ARMOR_CHANCES);
-        if (armorChances != null) {
-            for (String[] chance : armorChances) {
-                armorSpawns.put(chance[1], random.nextInt(100) < Integer.parseInt(chance[2]));
-            }
-        }
-
-        // Gear Types - wähle einen zufälligen Typ basierend auf der Wahrscheinlichkeit
-        List<String[]> gearTypes = groupedEntries.get(BetterMobsConfigKey.GEAR_TYPES);
-        if (gearTypes != null) {
-            for (String[] gearType : gearTypes) {
-                if (random.nextInt(100) < Integer.parseInt(gearType[2])) {
-                    equipment.put(BetterMobsConfigKey.GEAR_TYPES, List.of(gearType[1]));
-                    break;
-                }
-            }
-        }
-
-        // Weapon Types - wähle einen gewichteten Typ für Waffenmaterialien aus
-        List<String[]> weaponTypes = groupedEntries.get(BetterMobsConfigKey.WEAPON_TYPES);
-        String selectedWeaponType = selectWeightedProperty(weaponTypes, random);
-        if (selectedWeaponType != null) {
-            equipment.put(BetterMobsConfigKey.WEAPON_TYPES, List.of(selectedWeaponType));
-        }
-
-        // Enchantments für jedes Ausrüstungsteil (nur wenn das entsprechende Teil spawnen soll)
-        Map<BetterMobsConfigKey, String> armorKeyMapping = Map.of(
-                BetterMobsConfigKey.HELMET_ENCHANTMENTS, "helmet",
-                BetterMobsConfigKey.CHESTPLATE_ENCHANTMENTS, "chestplate",
-                BetterMobsConfigKey.LEGGINGS_ENCHANTMENTS, "leggings",
-                BetterMobsConfigKey.BOOTS_ENCHANTMENTS, "boots"
-        );
-
-        for (Map.Entry<BetterMobsConfigKey, String> mapping : armorKeyMapping.entrySet()) {
-            BetterMobsConfigKey key = mapping.getKey();
-            String armorPiece = mapping.getValue();
-
-            // Nur wenn das Rüstungsteil spawnen soll
-            if (Boolean.TRUE.equals(armorSpawns.get(armorPiece))) {
-                List<String[]> enchants = groupedEntries.get(key);
-                if (enchants != null) {
-                    List<String> selectedEnchants = new ArrayList<>();
-                    for (String[] enchant : enchants) {
-                        if (random.nextInt(100) < Integer.parseInt(enchant[2])) {
-                            selectedEnchants.add(enchant[1]);
-                        }
-                    }
-                    if (!selectedEnchants.isEmpty()) {
-                        equipment.put(key, selectedEnchants);
-                    }
-                }
-            }
-        }
-
-        // Enchantment Levels
-        List<String[]> enchantLevels = groupedEntries.get(BetterMobsConfigKey.ENCHANTMENT_LEVELS);
-        if (enchantLevels != null) {
-            int minLevel = 1;
-            int maxLevel = 1;
-            for (String[] level : enchantLevels) {
-                if (level[1].equals("min_level")) {
-                    minLevel = Integer.parseInt(level[2]);
-                } else if (level[1].equals("max_level")) {
-                    maxLevel = Integer.parseInt(level[2]);
-                }
-            }
-            int selectedLevel1 = minLevel + random.nextInt(Math.max(1, maxLevel - minLevel + 1));
-            int selectedLevel2 = minLevel + random.nextInt(Math.max(1, maxLevel - minLevel + 1));
-            equipment.put(BetterMobsConfigKey.ENCHANTMENT_LEVELS, List.of(
-                    String.valueOf(selectedLevel1),
-                    String.valueOf(selectedLevel2)
-            ));
-        }
-
-        // Armor durability: one roll per armor piece, so helmet/chestplate/leggings/boots are worn
-        // down differently instead of all four sharing a single value.
-        int minPercent = DEFAULT_MIN_ARMOR_DURABILITY_PERCENT;
-        int maxPercent = DEFAULT_MAX_ARMOR_DURABILITY_PERCENT;
-        List<String[]> durabilityEntries = groupedEntries.get(BetterMobsConfigKey.ARMOR_DURABILITY);
-        if (durabilityEntries != null) {
-            for (String[] entry : durabilityEntries) {
-                try {
-                    if (entry[1].equals("min_percent")) {
-                        minPercent = Integer.parseInt(entry[2]);
-                    } else if (entry[1].equals("max_percent")) {
-                        maxPercent = Integer.parseInt(entry[2]);
-                    }
-                } catch (NumberFormatException e) {
-                    LOGGER.warn("Invalid armor durability value in Better Mobs config: {};{}", entry[1], entry[2]);
-                }
-            }
-        }
-        minPercent = Math.max(1, Math.min(100, minPercent));
-        maxPercent = Math.max(minPercent, Math.min(100, maxPercent));
-        List<String> durabilityRolls = new ArrayList<>(ARMOR_DURABILITY_ROLL_COUNT);
-        for (int i = 0; i < ARMOR_DURABILITY_ROLL_COUNT; i++) {
-            durabilityRolls.add(String.valueOf(minPercent + random.nextInt(maxPercent - minPercent + 1)));
-        }
-        equipment.put(BetterMobsConfigKey.ARMOR_DURABILITY, durabilityRolls);
-
-        // Potion Effects
-        List<String[]> potionEffects = groupedEntries.get(BetterMobsConfigKey.POTION_EFFECTS);
-        if (potionEffects != null) {
-            List<String> selectedEffects = new ArrayList<>();
-            for (String[] effect : potionEffects) {
-                if (random.nextInt(100) < Integer.parseInt(effect[2])) {
-                    selectedEffects.add(effect[1]);
-                }
-            }
-            if (!selectedEffects.isEmpty()) {
-                equipment.put(BetterMobsConfigKey.POTION_EFFECTS, selectedEffects);
-            }
-        }
-
-        // Weapon Enchantments
-        List<String[]> weaponEnchants = groupedEntries.get(BetterMobsConfigKey.WEAPON_ENCHANTMENTS);
-        if (weaponEnchants != null) {
-            List<String> selectedEnchants = new ArrayList<>();
-            for (String[] enchant : weaponEnchants) {
-                if (random.nextInt(100) < Integer.parseInt(enchant[2])) {
-                    selectedEnchants.add(enchant[1]);
-                }
-            }
-            if (!selectedEnchants.isEmpty()) {
-                equipment.put(BetterMobsConfigKey.WEAPON_ENCHANTMENTS, selectedEnchants);
-            }
-        }
-
-        // Weapon Randomizers
-        List<String[]> weaponRandomizers = groupedEntries.get(BetterMobsConfigKey.WEAPON_RANDOMIZER);
-        if (weaponRandomizers != null) {
-            List<String> randomizers = new ArrayList<>();
-            for (String[] rand : weaponRandomizers) {
-                WeaponRandomizerEntry weaponRandomizerEntry = parseWeaponRandomizer(rand);
-                if (weaponRandomizerEntry != null) {
-                    randomizers.add(weaponRandomizerEntry.mobId() + ";"
-                            + weaponRandomizerEntry.weaponType() + ";"
-                            + weaponRandomizerEntry.chance());
-                }
-            }
-            if (!randomizers.isEmpty()) {
-                equipment.put(BetterMobsConfigKey.WEAPON_RANDOMIZER, randomizers);
-            }
+        Compiled snapshot = compiled.get();
+        EquipmentTable table;
+        if (dimension == Level.END || dimension == Level.NETHER) {
+            table = snapshot.netherEnd();
+        } else {
+            table = y >= 0 ? snapshot.aboveZero() : snapshot.belowZero();
         }
-
-        // Initialize all keys to avoid null checks later
-        for (BetterMobsConfigKey key : BetterMobsConfigKey.values()) {
-            equipment.putIfAbsent(key, List.of());
-        }
-
-        // Speichere die Rüstungschancen auch in der Ausgabe
-        equipment.put(BetterMobsConfigKey.ARMOR_CHANCES,
-                armorSpawns.entrySet().stream()
-                        .filter(Map.Entry::getValue)
-                        .map(Map.Entry::getKey)
-                        .collect(java.util.stream.Collectors.toList()));
-
-        return equipment;
+        Random random = new Random(uuid.getLeastSignificantBits()); // Seed basierend auf Y-Koordinate
+        return table.roll(random);
     }
 
-    private List<String> getDimensionConfigEntries(ResourceKey<Level> dimension, int y) {
-        try {
-            if (dimension == Level.END || dimension == Level.NETHER) {
-                return netherEndConfig != null ? List.copyOf(netherEndConfig.get()) : List.of();
-            }
-            return y >= 0
-                    ? (aboveZeroConfig != null ? List.copyOf(aboveZeroConfig.get()) : List.of())
-                    : (belowZeroConfig != null ? List.copyOf(belowZeroConfig.get()) : List.of());
-        } catch (Exception e) {
-            LOGGER.debug("Better Mobs config not available yet for dimension lookup, using empty list: {}", e.getMessage());
-            return List.of();
-        }
+    /**
+     * Parst die Listen-Einträge einmal pro Config-Load (siehe {@link AbstractModuleConfig#compiledSnapshot}).
+     */
+    private Compiled compile(Consumer<String> problems) {
+        List<String> mobs = enabledMobs != null ? List.copyOf(enabledMobs.get()) : DEFAULT_ENABLED_MOBS;
+        List<String> armorMobs = enabledMobsWithArmor != null
+                ? List.copyOf(enabledMobsWithArmor.get())
+                : DEFAULT_ENABLED_MOBS_WITH_ARMOR;
+        return new Compiled(mobs, Set.copyOf(mobs), armorMobs, Set.copyOf(armorMobs),
+                compileSection("above_zero", aboveZeroConfig, problems),
+                compileSection("below_zero", belowZeroConfig, problems),
+                compileSection("nether_end", netherEndConfig, problems));
     }
 
-    private String selectWeightedProperty(List<String[]> entries, Random random) {
-        if (entries == null || entries.isEmpty()) {
-            return null;
-        }
-
-        int totalWeight = 0;
-        for (String[] entry : entries) {
-            if (entry.length < 3) {
-                continue;
-            }
-            totalWeight += Math.max(0, Integer.parseInt(entry[2]));
-        }
-
-        if (totalWeight <= 0) {
-            return null;
-        }
-
-        int roll = random.nextInt(totalWeight);
-        int cumulativeWeight = 0;
-        for (String[] entry : entries) {
-            if (entry.length < 3) {
-                continue;
-            }
-
-            int weight = Math.max(0, Integer.parseInt(entry[2]));
-            cumulativeWeight += weight;
-            if (roll < cumulativeWeight) {
-                return entry[1];
-            }
+    private static EquipmentTable compileSection(String name, ModConfigSpec.ConfigValue<List<String>> section,
+                                                 Consumer<String> problems) {
+        if (section == null) {
+            return EquipmentTable.EMPTY;
         }
-
-        return null;
+        return EquipmentTable.compile(section.get(), problem -> problems.accept(name + ": " + problem));
     }
 
-    private WeaponRandomizerEntry parseWeaponRandomizer(String[] parts) {
+    private static WeaponRandomizerEntry parseWeaponRandomizer(String[] parts) {
         if (parts.length != 4) {
             return null;
         }
@@ -750,7 +555,7 @@ public class BetterMobsConfig extends AbstractModuleConfig<BetterMobsModule, Bet
         return new WeaponRandomizerEntry(parts[1], parts[2], Integer.parseInt(parts[3]));
     }
 
-    private String[] splitConfigEntry(String entry) {
+    static String[] splitConfigEntry(String entry) {
         if (!entry.contains(";") && entry.contains(":")) {
             throw new IllegalArgumentException(
                     "Better Mobs config entry uses ':' as delimiter. Use ';' instead: " + entry);
@@ -761,4 +566,13 @@ public class BetterMobsConfig extends AbstractModuleConfig<BetterMobsModule, Bet
 
     private record WeaponRandomizerEntry(String mobId, String weaponType, int chance) {
     }
+
+    /**
+     * Kompilierter Stand der Config: Mob-Listen als Sets für O(1)-Lookups und die drei
+     * Dimensions-Sektionen als vorgeparste {@link EquipmentTable}s.
+     */
+    private record Compiled(List<String> enabledMobs, Set<String> enabledMobSet,
+                            List<String> enabledMobsWithArmor, Set<String> armorMobSet,
+                            EquipmentTable aboveZero, EquipmentTable belowZero, EquipmentTable netherEnd) {
+    }
 }
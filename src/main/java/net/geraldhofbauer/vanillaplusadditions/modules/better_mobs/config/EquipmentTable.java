@@ -0,0 +1,233 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.better_mobs.config;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Eine Dimensions-Sektion der Better-Mobs-Config ({@code above_zero}, {@code below_zero},
+ * {@code nether_end}), einmal pro Config-Load geparst.
+ *
+ * <p>{@link #roll(Random)} würfelt beim Spawn nur noch gegen die vorgeparsten Chancen, statt jeden
+ * Eintrag pro Mob neu zu splitten und zu parsen. Ungültige Einträge werden beim Kompilieren einmal
+ * gemeldet und ausgelassen. Kommt ohne Minecraft-Zustand aus, damit der JMH-Benchmark
+ * ({@code src/jmh}) genau diesen Pfad messen kann.</p>
+ */
+final class EquipmentTable {
+
+    /** Rüstungsteil je Verzauberungs-Key, in fester Würfelreihenfolge. */
+    private static final BetterMobsConfigKey[] ARMOR_ENCHANTMENT_KEYS = {
+            BetterMobsConfigKey.HELMET_ENCHANTMENTS,
+            BetterMobsConfigKey.CHESTPLATE_ENCHANTMENTS,
+            BetterMobsConfigKey.LEGGINGS_ENCHANTMENTS,
+            BetterMobsConfigKey.BOOTS_ENCHANTMENTS
+    };
+    private static final String[] ARMOR_PIECES = {"helmet", "chestplate", "leggings", "boots"};
+
+    /** One durability roll per armor slot: helmet, chestplate, leggings, boots. */
+    private static final int ARMOR_DURABILITY_ROLL_COUNT = 4;
+
+    static final EquipmentTable EMPTY = compile(List.of(), problem -> { });
+
+    private record Chance(String property, int value) {
+    }
+
+    private final Map<BetterMobsConfigKey, List<Chance>> chances;
+    private final List<String> weaponRandomizers;
+    private final int weaponTypeTotalWeight;
+    private final boolean hasEnchantmentLevels;
+    private final int minEnchantmentLevel;
+    private final int maxEnchantmentLevel;
+    private final int minDurabilityPercent;
+    private final int maxDurabilityPercent;
+
+    private EquipmentTable(Map<BetterMobsConfigKey, List<Chance>> chances, List<String> weaponRandomizers) {
+        this.chances = chances;
+        this.weaponRandomizers = weaponRandomizers;
+
+        int totalWeight = 0;
+        for (Chance weaponType : chances(BetterMobsConfigKey.WEAPON_TYPES)) {
+            totalWeight += Math.max(0, weaponType.value());
+        }
+        this.weaponTypeTotalWeight = totalWeight;
+
+        int minLevel = 1;
+        int maxLevel = 1;
+        for (Chance level : chances(BetterMobsConfigKey.ENCHANTMENT_LEVELS)) {
+            if (level.property().equals("min_level")) {
+                minLevel = level.value();
+            } else if (level.property().equals("max_level")) {
+                maxLevel = level.value();
+            }
+        }
+        this.hasEnchantmentLevels = chances.containsKey(BetterMobsConfigKey.ENCHANTMENT_LEVELS);
+        this.minEnchantmentLevel = minLevel;
+        this.maxEnchantmentLevel = maxLevel;
+
+        int minPercent = BetterMobsConfig.DEFAULT_MIN_ARMOR_DURABILITY_PERCENT;
+        int maxPercent = BetterMobsConfig.DEFAULT_MAX_ARMOR_DURABILITY_PERCENT;
+        for (Chance durability : chances(BetterMobsConfigKey.ARMOR_DURABILITY)) {
+            if (durability.property().equals("min_percent")) {
+                minPercent = durability.value();
+            } else if (durability.property().equals("max_percent")) {
+                maxPercent = durability.value();
+            }
+        }
+        this.minDurabilityPercent = Math.max(1, Math.min(100, minPercent));
+        this.maxDurabilityPercent = Math.max(this.minDurabilityPercent, Math.min(100, maxPercent));
+    }
+
+    /**
+     * Parst die Einträge einer Dimensions-Sektion ({@code KEY;property;value} bzw.
+     * {@code WEAPON_RANDOMIZER;mob;weapon;chance}).
+     *
+     * @param problems erhält eine Meldung für jeden Eintrag, der ausgelassen wurde
+     */
+    static EquipmentTable compile(List<String> entries, Consumer<String> problems) {
+        Map<BetterMobsConfigKey, List<Chance>> chances = new EnumMap<>(BetterMobsConfigKey.class);
+        List<String> weaponRandomizers = new ArrayList<>();
+
+        for (String entry : entries) {
+            try {
+                String[] parts = BetterMobsConfig.splitConfigEntry(entry);
+                if (parts.length < 3) {
+                    problems.accept("expected KEY;property;value: " + entry);
+                    continue;
+                }
+
+                BetterMobsConfigKey key = BetterMobsConfigKey.valueOf(parts[0]);
+                if (key == BetterMobsConfigKey.WEAPON_RANDOMIZER) {
+                    if (parts.length != 4) {
+                        problems.accept("expected WEAPON_RANDOMIZER;mob;weapon;chance: " + entry);
+                        continue;
+                    }
+                    weaponRandomizers.add(parts[1] + ";" + parts[2] + ";" + Integer.parseInt(parts[3]));
+                    continue;
+                }
+
+                chances.computeIfAbsent(key, k -> new ArrayList<>())
+                        .add(new Chance(parts[1], Integer.parseInt(parts[2])));
+            } catch (NumberFormatException e) {
+                problems.accept("invalid number in entry: " + entry);
+            } catch (IllegalArgumentException e) {
+                // Unbekannter Config-Key oder ':' als Trennzeichen
+                problems.accept(e.getMessage() + " (" + entry + ")");
+            }
+        }
+
+        chances.replaceAll((key, list) -> List.copyOf(list));
+        return new EquipmentTable(chances, List.copyOf(weaponRandomizers));
+    }
+
+    /**
+     * Würfelt die Ausrüstung eines Mobs aus. Jeder {@link BetterMobsConfigKey} ist im Ergebnis
+     * enthalten (ggf. als leere Liste).
+     */
+    Map<BetterMobsConfigKey, List<String>> roll(Random random) {
+        Map<BetterMobsConfigKey, List<String>> equipment = new EnumMap<>(BetterMobsConfigKey.class);
+
+        // Prüfe Rüstungschancen zuerst
+        List<String> spawnedArmor = new ArrayList<>(ARMOR_PIECES.length);
+        for (Chance chance : chances(BetterMobsConfigKey.ARMOR_CHANCES)) {
+            if (random.nextInt(100) < chance.value() && !spawnedArmor.contains(chance.property())) {
+                spawnedArmor.add(chance.property());
+            }
+        }
+
+        // Gear Types - wähle einen zufälligen Typ basierend auf der Wahrscheinlichkeit
+        for (Chance gearType : chances(BetterMobsConfigKey.GEAR_TYPES)) {
+            if (random.nextInt(100) < gearType.value()) {
+                equipment.put(BetterMobsConfigKey.GEAR_TYPES, List.of(gearType.property()));
+                break;
+            }
+        }
+
+        // Weapon Types - wähle einen gewichteten Typ für Waffenmaterialien aus
+        String selectedWeaponType = selectWeightedWeaponType(random);
+        if (selectedWeaponType != null) {
+            equipment.put(BetterMobsConfigKey.WEAPON_TYPES, List.of(selectedWeaponType));
+        }
+
+        // Enchantments für jedes Ausrüstungsteil (nur wenn das entsprechende Teil spawnen soll)
+        for (int i = 0; i < ARMOR_ENCHANTMENT_KEYS.length; i++) {
+            if (spawnedArmor.contains(ARMOR_PIECES[i])) {
+                rollChances(ARMOR_ENCHANTMENT_KEYS[i], random, equipment);
+            }
+        }
+
+        // Enchantment Levels
+        if (hasEnchantmentLevels) {
+            int range = Math.max(1, maxEnchantmentLevel - minEnchantmentLevel + 1);
+            int selectedLevel1 = minEnchantmentLevel + random.nextInt(range);
+            int selectedLevel2 = minEnchantmentLevel + random.nextInt(range);
+            equipment.put(BetterMobsConfigKey.ENCHANTMENT_LEVELS, List.of(
+                    String.valueOf(selectedLevel1),
+                    String.valueOf(selectedLevel2)
+            ));
+        }
+
+        // Armor durability: one roll per armor piece, so helmet/chestplate/leggings/boots are worn
+        // down differently instead of all four sharing a single value.
+        List<String> durabilityRolls = new ArrayList<>(ARMOR_DURABILITY_ROLL_COUNT);
+        for (int i = 0; i < ARMOR_DURABILITY_ROLL_COUNT; i++) {
+            durabilityRolls.add(String.valueOf(minDurabilityPercent
+                    + random.nextInt(maxDurabilityPercent - minDurabilityPercent + 1)));
+        }
+        equipment.put(BetterMobsConfigKey.ARMOR_DURABILITY, durabilityRolls);
+
+        rollChances(BetterMobsConfigKey.POTION_EFFECTS, random, equipment);
+        rollChances(BetterMobsConfigKey.WEAPON_ENCHANTMENTS, random, equipment);
+
+        if (!weaponRandomizers.isEmpty()) {
+            equipment.put(BetterMobsConfigKey.WEAPON_RANDOMIZER, weaponRandomizers);
+        }
+
+        // Speichere die Rüstungschancen auch in der Ausgabe
+        equipment.put(BetterMobsConfigKey.ARMOR_CHANCES, spawnedArmor);
+
+        // Initialize all keys to avoid null checks later
+        for (BetterMobsConfigKey key : BetterMobsConfigKey.values()) {
+            equipment.putIfAbsent(key, List.of());
+        }
+        return equipment;
+    }
+
+    private List<Chance> chances(BetterMobsConfigKey key) {
+        return chances.getOrDefault(key, List.of());
+    }
+
+    /** Würfelt jeden Eintrag von {@code key} einzeln und legt die Treffer ab, falls es welche gibt. */
+    private void rollChances(BetterMobsConfigKey key, Random random, Map<BetterMobsConfigKey, List<String>> equipment) {
+        List<Chance> entries = chances(key);
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<String> selected = new ArrayList<>();
+        for (Chance entry : entries) {
+            if (random.nextInt(100) < entry.value()) {
+                selected.add(entry.property());
+            }
+        }
+        if (!selected.isEmpty()) {
+            equipment.put(key, selected);
+        }
+    }
+
+    private String selectWeightedWeaponType(Random random) {
+        if (weaponTypeTotalWeight <= 0) {
+            return null;
+        }
+        int roll = random.nextInt(weaponTypeTotalWeight);
+        int cumulativeWeight = 0;
+        for (Chance weaponType : chances(BetterMobsConfigKey.WEAPON_TYPES)) {
+            cumulativeWeight += Math.max(0, weaponType.value());
+            if (roll < cumulativeWeight) {
+                return weaponType.property();
+            }
+        }
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.block_glow.client.compat;
 
+import net.geraldhofbauer.vanillaplusadditions.core.LazyInit;
 import net.geraldhofbauer.vanillaplusadditions.core.Vpa;
 import net.geraldhofbauer.vanillaplusadditions.modules.block_glow.client.BlockGlowHighlight;
 import net.minecraft.client.multiplayer.ClientLevel;
@@ -24,8 +25,9 @@ import java.util.function.Consumer;
  */
 public final class BlockGlowSableIntegration {
     private static final String SABLE_MODID = "sable";
+    private static final LazyInit REFLECTION = LazyInit.of("block_glow",
+            "Sable reflection API", BlockGlowSableIntegration::resolveReflectionApi);
     private static volatile SableReflectionApi reflectionApi;
-    private static volatile boolean reflectionInitialized;
     private static volatile boolean reflectionWarningLogged;
 
     private BlockGlowSableIntegration() {
@@ -106,21 +108,16 @@ public final class BlockGlowSableIntegration {
     }
 
     private static SableReflectionApi getReflectionApi() {
-        if (reflectionInitialized) {
-            return reflectionApi;
-        }
+        REFLECTION.ensure();
+        return reflectionApi;
+    }
 
-        synchronized (BlockGlowSableIntegration.class) {
-            if (!reflectionInitialized) {
-                try {
-                    reflectionApi = new SableReflectionApi();
-                } catch (ReflectiveOperationException ex) {
-                    warnOnce("Failed to initialize Sable BlockGlow integration", ex);
-                    reflectionApi = null;
-                }
-                reflectionInitialized = true;
-            }
-            return reflectionApi;
+    private static void resolveReflectionApi() {
+        try {
+            reflectionApi = new SableReflectionApi();
+        } catch (ReflectiveOperationException ex) {
+            warnOnce("Failed to initialize Sable BlockGlow integration", ex);
+            reflectionApi = null;
         }
     }
 
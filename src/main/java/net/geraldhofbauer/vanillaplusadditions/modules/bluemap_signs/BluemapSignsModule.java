@@ -10,7 +10,6 @@ import net.minecraft.world.level.block.entity.SignBlockEntity;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.ModList;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
 import net.neoforged.neoforge.event.level.ChunkEvent;
@@ -40,7 +39,10 @@ public class BluemapSignsModule extends AbstractModule<BluemapSignsModule, Bluem
 
     @Override
     protected void onInitialize() {
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
+        registerLifecycleListener(ServerStartingEvent.class, this::onServerStarting);
+        registerLifecycleListener(ServerStoppingEvent.class, this::onServerStopping);
+        registerLifecycleListener(RegisterCommandsEvent.class, this::onRegisterCommands);
         bluemapPresent = ModList.get().isLoaded("bluemap");
         if (bluemapPresent) {
             // Instantiate the BlueMap-importing bridge ONLY here, so its de.bluecolored.* types are
@@ -78,13 +80,11 @@ public class BluemapSignsModule extends AbstractModule<BluemapSignsModule, Bluem
 
     // ---- events ----
 
-    @SubscribeEvent
-    public void onServerStarting(ServerStartingEvent event) {
+    private void onServerStarting(ServerStartingEvent event) {
         manager.setServer(event.getServer());
     }
 
-    @SubscribeEvent
-    public void onServerStopping(ServerStoppingEvent event) {
+    private void onServerStopping(ServerStoppingEvent event) {
         manager.setServer(null);
     }
 
@@ -115,8 +115,7 @@ public class BluemapSignsModule extends AbstractModule<BluemapSignsModule, Bluem
         }
     }
 
-    @SubscribeEvent
-    public void onRegisterCommands(RegisterCommandsEvent event) {
+    private void onRegisterCommands(RegisterCommandsEvent event) {
         BluemapSignsCommands.register(event.getDispatcher(), this);
     }
 }
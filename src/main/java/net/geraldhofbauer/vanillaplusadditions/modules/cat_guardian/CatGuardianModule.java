@@ -3,6 +3,10 @@ package net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian;
 import com.mojang.serialization.Codec;
 import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.EntityTickRouter;
+import net.geraldhofbauer.vanillaplusadditions.core.LoadGovernor;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
+import net.geraldhofbauer.vanillaplusadditions.core.RecipeContributions;
 import net.geraldhofbauer.vanillaplusadditions.core.VanillaPlusCreativeTabs;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.block.CatBowlBlock;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.block.CatFeedingStationBlock;
@@ -13,23 +17,33 @@ import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.blockentity.
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.client.CatGuardianClientEvents;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.config.CatGuardianConfig;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.item.CatArmorItem;
+import net.geraldhofbauer.vanillaplusadditions.util.BlockEntitySectionIndex;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardZone;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianEvents;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianKind;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianLoot;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianPathService;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianStateTable;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.StationThreatTable;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.StuckTracker;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.TargetBlacklist;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.TargetEvaluation;
 import net.geraldhofbauer.vanillaplusadditions.util.MobArmorEnchantments;
+import net.geraldhofbauer.vanillaplusadditions.util.StatsSubscriptions;
 import net.minecraft.core.RegistryAccess;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.menu.CatFeedingStationMenu;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.menu.CatInventoryMenu;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.network.*;
+import net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.DebugPathSync;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.server.packs.resources.PreparableReloadListener;
-import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.sounds.SoundEvents;
-import net.minecraft.util.Unit;
-import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.SimpleMenuProvider;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
@@ -41,7 +55,6 @@ import net.minecraft.world.entity.ai.goal.*;
 import net.minecraft.world.entity.ai.goal.target.HurtByTargetGoal;
 import net.minecraft.world.entity.ai.goal.target.TargetGoal;
 import net.minecraft.world.entity.animal.Cat;
-import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.MenuType;
@@ -50,35 +63,33 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.*;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.material.MapColor;
 import net.minecraft.world.level.pathfinder.PathType;
-import net.minecraft.world.phys.AABB;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.ModList;
 import net.neoforged.neoforge.attachment.AttachmentType;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.capabilities.RegisterCapabilitiesEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.common.extensions.IMenuTypeExtension;
-import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
 import net.neoforged.neoforge.event.entity.living.*;
 import net.neoforged.neoforge.event.entity.player.AttackEntityEvent;
-import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerInteractEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
 import net.minecraft.core.particles.ParticleTypes;
 import net.geraldhofbauer.vanillaplusadditions.modules.flying_fish.FlyingFishModule;
-import net.neoforged.neoforge.event.tick.EntityTickEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
 import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
 import net.neoforged.neoforge.registries.*;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuardianConfig> {
@@ -240,27 +251,146 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
     private static final ResourceLocation GUARDIAN_STEP_HEIGHT_ID =
             ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "guardian_step_height");
 
+    // Attachments, config and packets of guardian cats for the shared guardian logic
+    private static final GuardianKind<Cat> KIND = new CatKind();
+
+    private static final class CatKind implements GuardianKind<Cat> {
+        @Override
+        public Class<Cat> type() {
+            return Cat.class;
+        }
+
+        @Override
+        public Supplier<AttachmentType<Long>> bowlPos() {
+            return CAT_BOWL_POS;
+        }
+
+        @Override
+        public Supplier<AttachmentType<Integer>> fedTicks() {
+            return CAT_FED_TICKS;
+        }
+
+        @Override
+        public Supplier<AttachmentType<Integer>> xp() {
+            return CAT_XP;
+        }
+
+        @Override
+        public Supplier<AttachmentType<Boolean>> returning() {
+            return CAT_RETURNING;
+        }
+
+        @Override
+        public Supplier<AttachmentType<Boolean>> fleeing() {
+            return CAT_FLEEING;
+        }
+
+        @Override
+        public double guardRadius() {
+            return getGuardRadius();
+        }
+
+        @Override
+        public double guardRadiusY() {
+            return getGuardRadiusY();
+        }
+
+        @Override
+        public int xpCapacity() {
+            return getCatXpCapacity();
+        }
+
+        @Override
+        public int fedDurationTicks() {
+            return getFedDurationTicks();
+        }
+
+        @Override
+        public ItemStack armor(Cat cat) {
+            return cat.getData(CAT_INVENTORY.get()).getArmor();
+        }
+
+        @Override
+        public ResourceLocation armorModifierId() {
+            return ARMOR_MODIFIER_ID;
+        }
+
+        @Override
+        public double armorAttackBonus(ItemStack armor) {
+            return armor.getItem() instanceof CatArmorItem catArmor ? catArmor.getTier().getAttackBonus() : 0.0;
+        }
+
+        @Override
+        public CustomPacketPayload armorPacket(Cat cat, ItemStack armor) {
+            return new SyncCatInventoryPacket(cat.getId(), armor);
+        }
+
+        @Override
+        public CustomPacketPayload targetPacket(Cat cat, int targetId) {
+            return new net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.network.SyncCatTargetPacket(
+                    cat.getId(), targetId);
+        }
+
+        @Override
+        public CustomPacketPayload statsPacket(Cat cat, int changed, int[] stats) {
+            return new SyncCatStatsPacket(cat.getId(), changed, stats[0], stats[1], stats[2], stats[3]);
+        }
+    }
+
+    // ---- Loaded bowls and feeding stations, maintained by the block entities themselves ----
+
+    public static final BlockEntitySectionIndex<AbstractCatBowlBlockEntity> BOWL_INDEX =
+            new BlockEntitySectionIndex<>();
+
     // ---- Singleton reference for config access from static context ----
 
     private static CatGuardianModule instance;
 
-    // Accumulated ticks a cat has spent in the ordinary (interruptible) returning state.
-    private final Map<UUID, Integer> catReturningAge = new HashMap<>();
-    // Throttled cache of a cat's computed path toward its goal (for stuck-drive direction + reach).
-    private final Map<UUID, net.minecraft.world.level.pathfinder.Path> catGoalPath = new HashMap<>();
-    private final Map<UUID, Integer> catGoalPathTick = new HashMap<>();
-
-    // Maps dead entity ID → guardian cat entity ID; used to redirect XP to the cat.
-    // Populated in onLivingDrops, consumed in onExperienceDrop (same death tick).
-    private final Map<Integer, Integer> pendingXpCapture = new HashMap<>();
+    // Hostile candidates per bowl/station, swept once per station for all of its cats. Cats are
+    // land guardians: submerged hostiles don't count.
+    private final StationThreatTable threatTable = new StationThreatTable(m -> !m.isUnderWater());
+    // Transient duty bookkeeping per loaded guardian cat, by entity ID (see GuardianState).
+    private final GuardianStateTable<GuardianState> guardianStates = new GuardianStateTable<>(GuardianState::new);
+    // Goggles popup subscriptions: stat changes of the looked-at cat are pushed to its viewer.
+    private final StatsSubscriptions<Cat> statsSubscriptions = KIND.statsSubscriptions();
 
-    // Stuck detection: last sampled position + consecutive no-progress strikes.
-    private final Map<UUID, net.minecraft.world.phys.Vec3> stuckSample = new HashMap<>();
-    private final Map<UUID, Integer> stuckStrikes = new HashMap<>();
+    // Loot and XP of mobs killed by guardian cats; kills are recorded in onMobDamagedByCat and the
+    // shared GuardianEvents.onLivingDrops, and consumed in its onExperienceDrop (same death tick).
+    private final GuardianLoot<Cat> loot =
+            new GuardianLoot<>(Cat.class, cat -> cat.getData(CAT_INVENTORY.get()).getInventory(), CAT_XP);
 
     // Chest/bed idle-goal handling for cats on duty (see CatSitGoalSuppressor).
     private final CatSitGoalSuppressor sitGoalSuppressor = new CatSitGoalSuppressor();
 
+    /**
+     * Transient duty bookkeeping of one loaded guardian cat. Not saved — rebuilt as the cat ticks —
+     * and dropped when the cat leaves its level (death, chunk unload, dimension change).
+     */
+    private static final class GuardianState {
+        // Accumulated ticks spent in the ordinary (interruptible) returning state.
+        private int returningAge;
+        // Throttled path toward the cat's goal (for stuck-drive direction + reach) and when it was computed.
+        private net.minecraft.world.level.pathfinder.Path goalPath;
+        private boolean hasGoalPath;
+        private int goalPathTick;
+        // Stuck detection: last sampled position + consecutive no-progress strikes.
+        private final StuckTracker stuck = new StuckTracker();
+    }
+
+    private GuardianState guardianState(Cat cat) {
+        return guardianStates.get(cat);
+    }
+
+    /**
+     * @return the number of cats with guardian bookkeeping and of pending XP redirections, for
+     *         {@code /vpa perf}; zeros if the module isn't loaded
+     */
+    public static int[] getTrackedStateCounts() {
+        return instance != null
+                ? new int[] {instance.guardianStates.size(), instance.loot.pendingCount()}
+                : new int[] {0, 0};
+    }
+
     public static double getAssociationRadius() {
         return instance != null ? instance.getConfig().getAssociationRadius() : 64.0D;
     }
@@ -340,26 +470,33 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
                 CAT_BOWL_ITEM, CAT_FEEDING_STATION_ITEM,
                 CAT_ARMOR_IRON, CAT_ARMOR_GOLD, CAT_ARMOR_DIAMOND, CAT_ARMOR_NETHERITE);
 
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
+        registerGameEventListener(new GuardianEvents<>(KIND, this::isModuleEnabled, threatTable, loot,
+                cat -> cat.isTame() && KIND.hasBowl(cat),
+                (player, cat) -> DebugPathSync.sendTo(player, cat, SyncCatPathPacket::new)));
+        registerLifecycleListener(RegisterCommandsEvent.class, this::onRegisterCommands);
+        registerLifecycleListener(ServerStoppedEvent.class, this::onServerStopped);
+        registerLifecycleListener(EntityLeaveLevelEvent.class, this::onEntityLeaveLevel);
+        RecipeContributions.register(this, this::addCatGuardianRecipes);
+
+        EntityTickRouter.register(this, Cat.class, EntityTickRouter.Phase.PRE, 1, this::onCatTickPre);
+        EntityTickRouter.register(this, Cat.class, EntityTickRouter.Phase.POST, 1, this::onCatTick);
+        EntityTickRouter.register(this, Cat.class, EntityTickRouter.Phase.POST, 10, this::onCatDutyTick);
 
         getLogger().info("Cat Guardian module initialized");
     }
 
-    @SubscribeEvent
-    public void onAddReloadListener(AddReloadListenerEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        event.addListener(new CatGuardianRecipeReloadListener(
-                event.getServerResources().getRecipeManager(), event.getRegistryAccess()));
+    @Override
+    protected void onClientSetup() {
+        // Goggles overlay and client tick/interact handlers; registered here (not via
+        // @EventBusSubscriber) so they are dropped while the module is disabled at runtime.
+        registerGameEventListener(
+                net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.client.CatGuardianClientEvents.class);
+        registerGameEventListener(
+                net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.client.CatGuardianGogglesClientHandler.class);
     }
 
-    private void applyCatGuardianRecipes(RecipeManager recipeManager, RegistryAccess registryAccess) {
-        Map<ResourceLocation, RecipeHolder<?>> mergedRecipes = new LinkedHashMap<>();
-        for (RecipeHolder<?> recipeHolder : recipeManager.getRecipes()) {
-            mergedRecipes.put(recipeHolder.id(), recipeHolder);
-        }
-
+    private void addCatGuardianRecipes(Map<ResourceLocation, RecipeHolder<?>> mergedRecipes, RegistryAccess registryAccess) {
         addCatShapedRecipe(mergedRecipes, "cat_armor_iron", CAT_ARMOR_IRON.get(), Items.IRON_INGOT, registryAccess);
         addCatShapedRecipe(mergedRecipes, "cat_armor_gold", CAT_ARMOR_GOLD.get(), Items.GOLD_INGOT, registryAccess);
         addCatShapedRecipe(mergedRecipes, "cat_armor_diamond", CAT_ARMOR_DIAMOND.get(), Items.DIAMOND, registryAccess);
@@ -379,8 +516,6 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
                         'S', Ingredient.of(Items.SMOOTH_STONE)),
                 CraftingBookCategory.MISC, new ItemStack(CAT_FEEDING_STATION_ITEM.get()),
                 "GGG", "GCG", "SSS");
-
-        recipeManager.replaceRecipes(mergedRecipes.values());
     }
 
     private void addCatShapedRecipe(Map<ResourceLocation, RecipeHolder<?>> recipes, String name, Item resultItem,
@@ -410,29 +545,6 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         recipes.put(id, new RecipeHolder<>(id, recipe));
     }
 
-    private final class CatGuardianRecipeReloadListener implements PreparableReloadListener {
-        private final RecipeManager recipeManager;
-        private final RegistryAccess registryAccess;
-
-        private CatGuardianRecipeReloadListener(RecipeManager recipeManager, RegistryAccess registryAccess) {
-            this.recipeManager = recipeManager;
-            this.registryAccess = registryAccess;
-        }
-
-        @Override
-        public CompletableFuture<Void> reload(PreparationBarrier preparationBarrier, ResourceManager resourceManager,
-                                              ProfilerFiller preparationsProfiler, ProfilerFiller reloadProfiler,
-                                              Executor backgroundExecutor, Executor gameExecutor) {
-            return preparationBarrier.wait(Unit.INSTANCE)
-                    .thenRunAsync(() -> applyCatGuardianRecipes(recipeManager, registryAccess), gameExecutor);
-        }
-
-        @Override
-        public String getName() {
-            return "vanillaplusadditions_cat_guardian_recipes";
-        }
-    }
-
     private void onRegisterCapabilities(RegisterCapabilitiesEvent event) {
         event.registerBlockEntity(
                 Capabilities.ItemHandler.BLOCK,
@@ -486,22 +598,12 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
                 (packet, ctx) -> ctx.enqueueWork(() -> CatGuardianClientEvents.handleSyncCatPath(packet))
         );
 
-        event.registrar("1").playToServer(RequestCatStatsPacket.TYPE, RequestCatStatsPacket.STREAM_CODEC,
+        event.registrar("1").playToServer(SubscribeCatStatsPacket.TYPE, SubscribeCatStatsPacket.STREAM_CODEC,
                 (packet, ctx) -> ctx.enqueueWork(() -> {
                     if (!isModuleEnabled()) {
                         return;
                     }
-                    ServerPlayer player = (ServerPlayer) ctx.player();
-                    if (!(player.level().getEntity(packet.catId()) instanceof Cat cat)) {
-                        return;
-                    }
-                    if (player.distanceToSqr(cat) > 64.0 * 64.0) {
-                        return;
-                    }
-                    PacketDistributor.sendToPlayer(player, new SyncCatInventoryPacket(cat.getId(),
-                            cat.getData(CAT_INVENTORY.get()).getArmor()));
-                    PacketDistributor.sendToPlayer(player, new SyncCatStatsPacket(cat.getId(),
-                            cat.getData(CAT_XP.get()), getCatXpCapacity()));
+                    statsSubscriptions.subscribe((ServerPlayer) ctx.player(), packet.catId());
                 })
         );
 
@@ -511,18 +613,17 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         // their own cats light up.
     }
 
-    private static void broadcastArmorSync(Cat cat) {
-        ItemStack armor = cat.getData(CAT_INVENTORY.get()).getArmor();
-        PacketDistributor.sendToPlayersTrackingEntityAndSelf(cat, new SyncCatInventoryPacket(cat.getId(), armor));
-    }
+    // ---- Cat join level — inject guard target goal + restore armor attribute ----
 
-    static void broadcastStatsSync(Cat cat) {
-        int xp = cat.getData(CAT_XP.get());
-        int cap = getCatXpCapacity();
-        PacketDistributor.sendToPlayersTrackingEntityAndSelf(cat, new SyncCatStatsPacket(cat.getId(), xp, cap));
+    private void onRegisterCommands(RegisterCommandsEvent event) {
+        GuardianBenchmark.register(event.getDispatcher());
     }
 
-    // ---- Cat join level — inject guard target goal + restore armor attribute ----
+    private void onServerStopped(ServerStoppedEvent event) {
+        threatTable.clear();
+        guardianStates.clear();
+        loot.clear();
+    }
 
     @SubscribeEvent
     public void onEntityJoinLevel(EntityJoinLevelEvent event) {
@@ -539,7 +640,7 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         boolean alreadyAdded = cat.targetSelector.getAvailableGoals().stream()
                 .anyMatch(w -> w.getGoal() instanceof CatGuardTargetGoal);
         if (!alreadyAdded) {
-            cat.targetSelector.addGoal(1, new CatGuardTargetGoal(cat));
+            cat.targetSelector.addGoal(1, new CatGuardTargetGoal(this, cat));
             boostAttackGoalPriority(cat);
         }
 
@@ -563,8 +664,8 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         CatInventoryData invData = cat.getData(CAT_INVENTORY.get());
         ItemStack armor = invData.getArmor();
         if (!armor.isEmpty()) {
-            applyArmorAttribute(cat, armor);
-            broadcastArmorSync(cat);
+            KIND.applyArmorBonus(cat);
+            KIND.broadcastArmor(cat);
         }
 
         // Bowl-assigned cats should not teleport to their owner or switch targets
@@ -573,31 +674,6 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         }
     }
 
-    @SubscribeEvent
-    public void onStartTracking(PlayerEvent.StartTracking event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        if (!(event.getTarget() instanceof Cat cat)) {
-            return;
-        }
-        ServerPlayer player = (ServerPlayer) event.getEntity();
-        ItemStack armor = cat.getData(CAT_INVENTORY.get()).getArmor();
-        if (!armor.isEmpty()) {
-            PacketDistributor.sendToPlayer(player, new SyncCatInventoryPacket(cat.getId(), armor));
-        }
-        PacketDistributor.sendToPlayer(player,
-                new SyncCatStatsPacket(cat.getId(), cat.getData(CAT_XP.get()), getCatXpCapacity()));
-        // Resync current combat target so the goggles overlay shows immediately when a player
-        // approaches a cat that is already fighting.
-        LivingEntity target = cat.getTarget();
-        if (target != null && target.isAlive() && isGuardianCat(cat)) {
-            PacketDistributor.sendToPlayer(player,
-                    new net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.network.SyncCatTargetPacket(
-                            cat.getId(), target.getId()));
-        }
-    }
-
     @SubscribeEvent
     public void onBabyEntitySpawn(BabyEntitySpawnEvent event) {
         if (!isModuleEnabled()) {
@@ -638,48 +714,83 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
 
     // ---- Cat tick logic ----
 
-    @SubscribeEvent
-    public void onEntityTickPre(EntityTickEvent.Pre event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        if (!(event.getEntity() instanceof Cat cat) || cat.level().isClientSide()) {
-            return;
-        }
+    private void onCatTickPre(Cat cat) {
         // Strip FollowOwnerGoal BEFORE the goal selector runs this tick, so an associated cat
         // can never teleport to a far-away owner (doing this in Post left a one-tick window in
         // which the goal could still fire — e.g. while a cat was returning to its station).
         suppressOwnerFollow(cat);
     }
 
-    @SubscribeEvent
-    public void onEntityTick(EntityTickEvent.Post event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        if (!(event.getEntity() instanceof Cat cat)) {
-            return;
-        }
-        if (cat.level().isClientSide()) {
-            return;
-        }
+    private void onCatTick(Cat cat) {
         if (!cat.isTame() || cat.getOwnerUUID() == null) {
             return;
         }
+        if (isDormant(cat, false)) {
+            return; // resting at a quiet station: nothing to jump over, nowhere to get stuck
+        }
 
         // Per-tick ledge-jump assist so cats reliably clear ~1.5-block steps.
         assistLedgeJump(cat);
 
         // Stuck detection: repath when a guardian stops making progress toward its goal.
         tickStuckDetection(cat);
+    }
 
-        if (cat.tickCount % 10 != 0) {
+    private void onCatDutyTick(Cat cat) {
+        if (!cat.isTame() || cat.getOwnerUUID() == null) {
+            return;
+        }
+        if (isDormant(cat, true)) {
+            tickDormant(cat);
             return;
         }
-
         tickCat(cat);
     }
 
+    // ---- Dormancy — cats at quiet stations skip their duty logic ----
+
+    /**
+     * True if {@code cat} is fed, idle at its bowl with no target, and its station is quiet: no
+     * hostile in the guard zone and no player within {@code dormancy_player_range}. Dormant cats
+     * skip the per-tick movement assists, their target search and the duty tick except for
+     * {@link #tickDormant}.
+     *
+     * @param recheck whether the station's quiet state may be refreshed (duty tick); otherwise the
+     *                cached state is read, which a joining hostile or player clears at once
+     */
+    private boolean isDormant(Cat cat, boolean recheck) {
+        CatGuardianConfig config = getConfig();
+        if (!config.isDormancyEnabled()) {
+            return false;
+        }
+        return !cat.isInWater() && KIND.canRest(cat, threatTable, 2.0, config.getDormancyPlayerRange(), recheck);
+    }
+
+    /**
+     * Duty tick of a dormant cat: only the fed time runs down. Once it is used up the cat is no
+     * longer dormant and the regular duty tick feeds it.
+     */
+    private void tickDormant(Cat cat) {
+        KIND.runDownFedTime(cat, 10);
+        if (!cat.isOrderedToSit()) {
+            cat.setOrderedToSit(true);
+        }
+        if (cat.tickCount % 20 == 0) {
+            DebugPathSync.sync(cat, SyncCatPathPacket::new); // clears the overlay path of the last walk home
+        }
+    }
+
+    @SubscribeEvent
+    public void onGuardianHurt(LivingDamageEvent.Pre event) {
+        if (!isModuleEnabled() || !(event.getEntity() instanceof Cat cat) || cat.level().isClientSide()) {
+            return;
+        }
+        long bowlLong = cat.getData(CAT_BOWL_POS.get());
+        if (bowlLong != Long.MIN_VALUE) {
+            threatTable.wake(cat.level(), BlockPos.of(bowlLong)); // attacked from outside the zone
+        }
+    }
+
     /**
      * The cat's current movement goal: its combat target if any, else its bowl. Null if neither.
      */
@@ -701,48 +812,25 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
      */
     private static boolean isPathWithinZone(
             net.minecraft.world.level.pathfinder.Path path, Cat cat) {
-        if (path == null) {
-            return false;
-        }
-        for (int i = 0; i < path.getNodeCount(); i++) {
-            net.minecraft.world.level.pathfinder.Node n = path.getNode(i);
-            if (!isWithinGuardZone(cat, n.x + 0.5, n.y, n.z + 0.5, 0.0)) {
-                return false;
-            }
-        }
-        return true;
+        GuardZone zone = KIND.guardZone(cat);
+        return zone != null && zone.containsPath(path);
     }
 
     /**
      * Throttled path toward a goal position (A* is costly), recomputed at most every 10 ticks.
      */
     private net.minecraft.world.level.pathfinder.Path goalPath(Cat cat, double gx, double gy, double gz) {
-        UUID uid = cat.getUUID();
+        GuardianState state = guardianState(cat);
         int now = cat.tickCount;
-        Integer last = catGoalPathTick.get(uid);
-        if (last == null || now - last >= 10) {
-            catGoalPath.put(uid, cat.getNavigation().createPath(gx, gy, gz, 0));
-            catGoalPathTick.put(uid, now);
-        }
-        return catGoalPath.get(uid);
-    }
-
-    /**
-     * True if the path's closest reachable end node is within {@code maxDist} of the goal.
-     */
-    private boolean endNodeNear(net.minecraft.world.level.pathfinder.Path path,
-                                net.minecraft.world.phys.Vec3 goal, double maxDist) {
-        if (path == null) {
-            return false;
-        }
-        net.minecraft.world.level.pathfinder.Node end = path.getEndNode();
-        if (end == null) {
-            return false;
+        if (!state.hasGoalPath || now - state.goalPathTick >= 10) {
+            GuardianPathService.PathResult result = GuardianPathService.findPath(cat, gx, gy, gz);
+            if (!result.deferred()) { // deferred: keep the old path, retry next call
+                state.goalPath = result.path();
+                state.goalPathTick = now;
+                state.hasGoalPath = true;
+            }
         }
-        double dx = (end.x + 0.5) - goal.x;
-        double dy = end.y - goal.y;
-        double dz = (end.z + 0.5) - goal.z;
-        return dx * dx + dy * dy + dz * dz <= maxDist * maxDist;
+        return state.goalPath;
     }
 
     /**
@@ -883,28 +971,10 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         if (!isGuardianCat(cat)) {
             return;
         }
-        UUID uid = cat.getUUID();
-        boolean wantsToMove = cat.getTarget() != null
-                || cat.getData(CAT_RETURNING.get())
-                || cat.getData(CAT_FLEEING.get());
-        if (!wantsToMove) {
-            stuckSample.remove(uid);
-            stuckStrikes.remove(uid);
-            return;
-        }
-        if (cat.tickCount % 40 != 0) {
-            return;
-        }
-        net.minecraft.world.phys.Vec3 now = cat.position();
-        net.minecraft.world.phys.Vec3 prev = stuckSample.put(uid, now);
-        if (prev == null) {
-            return;
-        }
-        if (prev.distanceToSqr(now) >= 0.75 * 0.75) {
-            stuckStrikes.remove(uid);
+        int strikes = KIND.sampleStuck(cat, guardianStates, state -> state.stuck, false);
+        if (strikes == 0) {
             return;
         }
-        int strikes = stuckStrikes.merge(uid, 1, Integer::sum);
         cat.getNavigation().recomputePath();
         if (strikes >= 2) {
             unstickHop(cat);
@@ -923,14 +993,7 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
                 cat.setData(CAT_RETURNING.get(), true);
             }
         }
-        boolean headingHome = cat.getData(CAT_RETURNING.get()) || cat.getData(CAT_FLEEING.get());
-        if (strikes >= 5 && headingHome) {
-            long bowlLong = cat.getData(CAT_BOWL_POS.get());
-            if (bowlLong != Long.MIN_VALUE && teleportToBowl(cat, BlockPos.of(bowlLong))) {
-                stuckStrikes.remove(uid);
-                stuckSample.remove(uid);
-            }
-        }
+        KIND.rescueStuck(cat, strikes, guardianState(cat).stuck, CatGuardianModule::isStandable);
     }
 
     /**
@@ -958,32 +1021,15 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
     }
 
     /**
-     * Emergency teleport onto a standable block next to the bowl (vanilla pet-teleport style:
-     * solid floor, two collision-free blocks of clearance). Returns false when no candidate
-     * around the bowl qualifies — the caller simply retries on a later strike.
+     * Emergency teleport spot for a stranded cat (vanilla pet-teleport style): solid floor, two
+     * collision-free blocks of clearance, no fluid.
      */
-    private boolean teleportToBowl(Cat cat, BlockPos bowlPos) {
-        var level = cat.level();
-        for (BlockPos candidate : BlockPos.betweenClosed(bowlPos.offset(-2, -1, -2), bowlPos.offset(2, 1, 2))) {
-            if (candidate.equals(bowlPos)) {
-                continue; // don't drop the cat into the bowl block itself
-            }
-            BlockPos floor = candidate.below();
-            boolean standable =
-                    level.getBlockState(floor).isFaceSturdy(level, floor, Direction.UP)
-                            && level.getBlockState(candidate).getCollisionShape(level, candidate).isEmpty()
-                            && level.getBlockState(candidate.above())
-                                    .getCollisionShape(level, candidate.above()).isEmpty()
-                            && level.getFluidState(candidate).isEmpty();
-            if (!standable) {
-                continue;
-            }
-            cat.moveTo(candidate.getX() + 0.5, candidate.getY(), candidate.getZ() + 0.5,
-                    cat.getYRot(), cat.getXRot());
-            cat.getNavigation().stop();
-            return true;
-        }
-        return false;
+    private static boolean isStandable(Level level, BlockPos pos) {
+        BlockPos floor = pos.below();
+        return level.getBlockState(floor).isFaceSturdy(level, floor, Direction.UP)
+                && level.getBlockState(pos).getCollisionShape(level, pos).isEmpty()
+                && level.getBlockState(pos.above()).getCollisionShape(level, pos.above()).isEmpty()
+                && level.getFluidState(pos).isEmpty();
     }
 
     private static boolean isFishItem(ItemStack stack) {
@@ -1004,10 +1050,10 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         long bowlPosLong = cat.getData(CAT_BOWL_POS.get());
         boolean hasBowl = bowlPosLong != Long.MIN_VALUE;
 
-        UUID uid = cat.getUUID();
         if (!hasBowl) {
             sitGoalSuppressor.restore(cat); // duty ended (bowl gone) — give idle behaviors back
-            tryAutoAssociate(cat, config.getAutoAssociateRadius());
+            KIND.autoAssociate(cat, BOWL_INDEX, config.getAutoAssociateRadius(),
+                    AbstractCatBowlBlockEntity::canAddCat, AbstractCatBowlBlockEntity::addCat);
             return;
         }
 
@@ -1026,9 +1072,9 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         suppressFollowingBehaviors(cat);
         sitGoalSuppressor.suppress(cat);
 
-        // Sync navigation path to clients every 20 ticks for the debug overlay.
+        // Sync navigation path to debug-overlay clients (only if changed) every 20 ticks.
         if (cat.tickCount % 20 == 0) {
-            syncPathToClients(cat);
+            DebugPathSync.sync(cat, SyncCatPathPacket::new);
         }
 
         // Drowning escape: if air runs critically low, abandon the current target and return
@@ -1053,7 +1099,7 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         if (fleeing) {
             cat.setTarget(null); // ignore all mobs while fleeing
             cat.setData(CAT_RETURNING.get(), false);
-            catReturningAge.remove(uid);
+            guardianState(cat).returningAge = 0;
             double distSqToBowl = cat.distanceToSqr(bowlPos.getX() + 0.5, bowlPos.getY(), bowlPos.getZ() + 0.5);
             boolean atBase = distSqToBowl <= 16.0;
             if (atBase) {
@@ -1075,7 +1121,7 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
                 }
                 // Doubled A* node budget: the way home may span the whole guard radius.
                 cat.getNavigation().setMaxVisitedNodesMultiplier(2.0f);
-                cat.getNavigation().moveTo(bowlPos.getX() + 0.5, bowlPos.getY(), bowlPos.getZ() + 0.5, 1.0);
+                GuardianPathService.moveTo(cat, bowlPos.getX() + 0.5, bowlPos.getY(), bowlPos.getZ() + 0.5, 1.0, 2.0f);
                 nudgeTowardBowlIfPathless(cat, bowlPos);
             }
             // Keep fed-state ticking down while fleeing, then skip all normal duty logic
@@ -1093,11 +1139,12 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
             if (cat.isOrderedToSit()) {
                 cat.setOrderedToSit(false);
             }
-            int returningAge = catReturningAge.merge(uid, 10, Integer::sum); // tickCat runs every 10 ticks
+            GuardianState state = guardianState(cat);
+            int returningAge = state.returningAge += 10; // tickCat runs every 10 ticks
             double distSqToBowl = cat.distanceToSqr(bowlPos.getX() + 0.5, bowlPos.getY(), bowlPos.getZ() + 0.5);
             if (distSqToBowl <= 16.0 || returningAge >= 1200) {
                 cat.setData(CAT_RETURNING.get(), false);
-                catReturningAge.remove(uid);
+                state.returningAge = 0;
                 cat.getNavigation().resetMaxVisitedNodesMultiplier();
                 if (distSqToBowl <= 16.0) {
                     AbstractCatBowlBlockEntity returnBowl = getBowlEntity(cat, bowlPos);
@@ -1108,11 +1155,11 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
             } else {
                 // Doubled A* node budget: the way home may span the whole guard radius.
                 cat.getNavigation().setMaxVisitedNodesMultiplier(2.0f);
-                cat.getNavigation().moveTo(bowlPos.getX() + 0.5, bowlPos.getY(), bowlPos.getZ() + 0.5, 1.0);
+                GuardianPathService.moveTo(cat, bowlPos.getX() + 0.5, bowlPos.getY(), bowlPos.getZ() + 0.5, 1.0, 2.0f);
                 nudgeTowardBowlIfPathless(cat, bowlPos);
             }
         } else {
-            catReturningAge.remove(uid);
+            guardianState(cat).returningAge = 0;
         }
 
         // Decrement fed ticks regardless of other state
@@ -1211,122 +1258,11 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
     }
 
     private void transferLootToStation(Cat cat, CatFeedingStationBlockEntity station) {
-        CatInventoryData catInv = cat.getData(CAT_INVENTORY.get());
-        var catLoot = catInv.getInventory();
-        var stationLoot = station.getLootInventory();
-        for (int slot = CatInventoryData.LOOT_START; slot < CatInventoryData.TOTAL_SLOTS; slot++) {
-            ItemStack stack = catLoot.getStackInSlot(slot);
-            if (stack.isEmpty()) {
-                continue;
-            }
-            for (int ss = 0; ss < stationLoot.getSlots(); ss++) {
-                stack = stationLoot.insertItem(ss, stack, false);
-                if (stack.isEmpty()) {
-                    break;
-                }
-            }
-            catLoot.setStackInSlot(slot, stack);
-        }
-
-        // XP: cat buffer → station counter
-        int catXp = cat.getData(CAT_XP.get());
-        if (catXp > 0) {
-            int stationCap = getConfig().getStationXpCapacity();
-            int canStore = stationCap - station.getStoredXp();
-            int toTransfer = Math.min(catXp, canStore);
-            if (toTransfer > 0) {
-                station.addStoredXp(toTransfer);
-                cat.setData(CAT_XP.get(), catXp - toTransfer);
-                broadcastStatsSync(cat);
-            }
-        }
-
-        // Convert station XP into XP Bottles in the loot inventory
-        int xpPerBottle = getConfig().getXpPerBottle();
-        while (station.getStoredXp() >= xpPerBottle) {
-            ItemStack bottle = new ItemStack(Items.EXPERIENCE_BOTTLE);
-            boolean inserted = false;
-            for (int s = 0; s < stationLoot.getSlots(); s++) {
-                ItemStack rem = stationLoot.insertItem(s, bottle, false);
-                if (rem.isEmpty()) {
-                    inserted = true;
-                    break;
-                }
-            }
-            if (!inserted) {
-                break; // loot inventory full
-            }
-            station.addStoredXp(-xpPerBottle);
-        }
+        loot.transferToStation(cat, station, getConfig().getStationXpCapacity(), getConfig().getXpPerBottle());
     }
 
     private AbstractCatBowlBlockEntity getBowlEntity(Cat cat, BlockPos bowlPos) {
-        var be = cat.level().getBlockEntity(bowlPos);
-        if (be instanceof AbstractCatBowlBlockEntity bowl) {
-            return bowl;
-        }
-        cat.setData(CAT_BOWL_POS.get(), Long.MIN_VALUE);
-        return null;
-    }
-
-    private void tryAutoAssociate(Cat cat, double autoRadius) {
-        BlockPos catPos = cat.blockPosition();
-        int r = (int) Math.ceil(autoRadius);
-        double radiusSq = autoRadius * autoRadius;
-
-        // Collect all valid bowls in range, then pick the nearest one. BlockPos.betweenClosed
-        // iterates in YXZ order so first-found is not necessarily closest.
-        BlockPos nearestPos = null;
-        AbstractCatBowlBlockEntity nearestBowl = null;
-        double nearestDistSq = Double.MAX_VALUE;
-
-        for (BlockPos checkPos : BlockPos.betweenClosed(
-                catPos.offset(-r, -r, -r), catPos.offset(r, r, r))) {
-            if (!(cat.level().getBlockEntity(checkPos) instanceof AbstractCatBowlBlockEntity bowl) || !bowl.canAddCat(cat.getUUID())) {
-                continue;
-            }
-            double distSq = cat.distanceToSqr(
-                    checkPos.getX() + 0.5, checkPos.getY() + 0.5, checkPos.getZ() + 0.5);
-            if (distSq <= radiusSq && distSq < nearestDistSq) {
-                nearestPos = checkPos.immutable();
-                nearestBowl = bowl;
-                nearestDistSq = distSq;
-            }
-        }
-
-        if (nearestPos != null) {
-            cat.setData(CAT_BOWL_POS.get(), nearestPos.asLong());
-            nearestBowl.addCat(cat.getUUID());
-        }
-    }
-
-    // ---- Path sync for debug overlay ----
-
-    private void syncPathToClients(Cat cat) {
-        net.minecraft.world.level.pathfinder.Path path = cat.getNavigation().getPath();
-        if (path == null || path.isDone()) {
-            // During combat, MeleeAttackGoal resets the path every tick — the 20-tick sync window
-            // may catch a momentary isDone() gap. Keep the last path on the client while the cat
-            // has a target so the approach path stays visible. Only clear when truly idle.
-            if (cat.getTarget() != null) {
-                return;
-            }
-            net.neoforged.neoforge.network.PacketDistributor.sendToPlayersTrackingEntityAndSelf(cat,
-                    new net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.network.SyncCatPathPacket(
-                            cat.getId(), new int[0], new int[0], new int[0], 0));
-            return;
-        }
-        int n = path.getNodeCount();
-        int[] xs = new int[n], ys = new int[n], zs = new int[n];
-        for (int i = 0; i < n; i++) {
-            net.minecraft.world.level.pathfinder.Node node = path.getNode(i);
-            xs[i] = node.x;
-            ys[i] = node.y;
-            zs[i] = node.z;
-        }
-        net.neoforged.neoforge.network.PacketDistributor.sendToPlayersTrackingEntityAndSelf(cat,
-                new net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.network.SyncCatPathPacket(
-                        cat.getId(), xs, ys, zs, path.getNextNodeIndex()));
+        return KIND.bowlEntity(cat, bowlPos, AbstractCatBowlBlockEntity.class);
     }
 
     // ---- Cat armor equip / unequip ----
@@ -1383,11 +1319,11 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
                 }
                 ItemStack newArmor = heldItem.copyWithCount(1);
                 invData.setArmor(newArmor);
-                applyArmorAttribute(cat, newArmor);
+                KIND.applyArmorBonus(cat);
                 if (!player.isCreative()) {
                     heldItem.shrink(1);
                 }
-                broadcastArmorSync(cat);
+                KIND.broadcastArmor(cat);
             }
             event.setCanceled(true);
         }
@@ -1442,11 +1378,12 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         event.setNewDamage(0f);
 
         armor.hurtAndBreak(Math.max(1, (int) Math.ceil(absorbed)), cat, net.minecraft.world.entity.EquipmentSlot.CHEST);
+        // Durability alone only matters to the goggles popup, whose subscription pushes it
         if (armor.isEmpty()) {
             invData.setArmor(ItemStack.EMPTY);
-            removeArmorAttribute(cat);
+            KIND.removeArmorBonus(cat);
+            KIND.broadcastArmor(cat);
         }
-        broadcastArmorSync(cat);
 
         // Thorns: reflect a share of the absorbed damage back to a living attacker.
         MobArmorEnchantments.reflectThorns(cat, event.getSource(), absorbed, thornsLevel,
@@ -1461,7 +1398,7 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
             LivingEntity attacker = direct instanceof Monster m ? m
                     : indirect instanceof Monster m2 ? m2 : null;
             if (attacker != null && !attacker.isDeadOrDying()
-                    && isWithinGuardZone(cat, attacker.getX(), attacker.getY(), attacker.getZ(),
+                    && KIND.isWithinGuardZone(cat, attacker.getX(), attacker.getY(), attacker.getZ(),
                     TARGET_ZONE_BUFFER)) {
                 cat.targetSelector.getAvailableGoals().stream()
                         .map(net.minecraft.world.entity.ai.goal.WrappedGoal::getGoal)
@@ -1477,7 +1414,7 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
      *
      * <p>Vanilla only drops experience (and player-conditioned loot) when the victim was recently
      * hurt by a player ({@code lastHurtByPlayerTime > 0}). A mob killed purely by a cat therefore
-     * drops no XP and {@link #onExperienceDrop} never fires. Marking the owner as the last player
+     * drops no XP and {@link GuardianEvents#onExperienceDrop} never fires. Marking the owner as the last player
      * attacker makes vanilla drop XP normally, which is then redirected into the cat's buffer.
      */
     @SubscribeEvent
@@ -1506,7 +1443,7 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
             victim.setLastHurtByPlayer(owner);
         }
         // Pre-record XP redirection so it is set before death regardless of event ordering.
-        pendingXpCapture.put(victim.getId(), cat.getId());
+        loot.recordKill(victim, cat);
 
         // Creepers fear cats — give that a real consequence: a guardian cat one-shots a creeper,
         // killing it before its fuse can ignite (no explosion). Loot/XP still drop (owner credited).
@@ -1517,73 +1454,20 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
 
     // ---- Cat loot collection ----
 
-    @SubscribeEvent
-    public void onLivingDrops(LivingDropsEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        Entity direct = event.getSource().getDirectEntity();
-        Entity indirect = event.getSource().getEntity();
-        Cat cat = null;
-        if (direct instanceof Cat c && c.isTame() && c.getData(CAT_BOWL_POS.get()) != Long.MIN_VALUE) {
-            cat = c;
-        } else if (indirect instanceof Cat c && c.isTame() && c.getData(CAT_BOWL_POS.get()) != Long.MIN_VALUE) {
-            cat = c;
-        }
-        if (cat == null) {
-            return;
-        }
-
-        // Record for XP redirection (consumed by onExperienceDrop in the same tick)
-        pendingXpCapture.put(event.getEntity().getId(), cat.getId());
-
-        CatInventoryData catInv = cat.getData(CAT_INVENTORY.get());
-        var lootHandler = catInv.getInventory();
-
-        Iterator<ItemEntity> iter = event.getDrops().iterator();
-        while (iter.hasNext()) {
-            ItemEntity itemEntity = iter.next();
-            ItemStack drop = itemEntity.getItem().copy();
-            for (int slot = CatInventoryData.LOOT_START; slot < CatInventoryData.TOTAL_SLOTS; slot++) {
-                drop = lootHandler.insertItem(slot, drop, false);
-                if (drop.isEmpty()) {
-                    break;
-                }
-            }
-            if (drop.isEmpty()) {
-                iter.remove();
-            } else {
-                itemEntity.setItem(drop);
-            }
-        }
-    }
-
-    @SubscribeEvent
-    public void onExperienceDrop(LivingExperienceDropEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        Integer catEntityId = pendingXpCapture.remove(event.getEntity().getId());
-        if (catEntityId == null) {
-            return;
-        }
-        if (!(event.getEntity().level() instanceof ServerLevel serverLevel)) {
-            return;
-        }
-        if (!(serverLevel.getEntity(catEntityId) instanceof Cat cat)) {
+    /**
+     * Drops the transient bookkeeping of entities leaving their level: guardian state and stored
+     * idle goals of cats, and XP redirections of mobs that were hit by a cat but didn't die.
+     */
+    private void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide()) {
             return;
         }
-        int xp = event.getDroppedExperience();
-        int capacity = getConfig().getCatXpCapacity();
-        int current = cat.getData(CAT_XP.get());
-        int canAbsorb = capacity - current;
-        if (canAbsorb <= 0) {
-            return;
+        Entity entity = event.getEntity();
+        loot.forget(entity);
+        if (entity instanceof Cat cat) {
+            guardianStates.remove(cat);
+            sitGoalSuppressor.forget(cat.getUUID());
         }
-        int absorbed = Math.min(xp, canAbsorb);
-        cat.setData(CAT_XP.get(), current + absorbed);
-        broadcastStatsSync(cat);
-        event.setDroppedExperience(xp - absorbed);
     }
 
     @SubscribeEvent
@@ -1600,13 +1484,6 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         if (!(cat.level() instanceof ServerLevel serverLevel)) {
             return;
         }
-        UUID uid = cat.getUUID();
-        catReturningAge.remove(uid);
-        catGoalPath.remove(uid);
-        catGoalPathTick.remove(uid);
-        stuckSample.remove(uid);
-        stuckStrikes.remove(uid);
-        sitGoalSuppressor.forget(uid);
         long bowlLong = cat.getData(CAT_BOWL_POS.get());
         if (bowlLong == Long.MIN_VALUE) {
             return;
@@ -1618,28 +1495,6 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         cat.setData(CAT_BOWL_POS.get(), Long.MIN_VALUE);
     }
 
-    // ---- Armor attribute helpers ----
-
-    private void applyArmorAttribute(Cat cat, ItemStack armor) {
-        var attrInstance = cat.getAttribute(Attributes.ATTACK_DAMAGE);
-        if (attrInstance == null) {
-            return;
-        }
-        attrInstance.removeModifier(ARMOR_MODIFIER_ID);
-        if (armor.getItem() instanceof CatArmorItem catArmor) {
-            attrInstance.addPermanentModifier(new AttributeModifier(
-                    ARMOR_MODIFIER_ID, catArmor.getTier().getAttackBonus(),
-                    AttributeModifier.Operation.ADD_VALUE));
-        }
-    }
-
-    private void removeArmorAttribute(Cat cat) {
-        var attrInstance = cat.getAttribute(Attributes.ATTACK_DAMAGE);
-        if (attrInstance != null) {
-            attrInstance.removeModifier(ARMOR_MODIFIER_ID);
-        }
-    }
-
     /**
      * Vanilla cats register LeapAtTargetGoal (prio 8) and OcelotAttackGoal (prio 9) BELOW
      * CatLieOnBedGoal (prio 5), so bed-lying blocks combat. Re-register the attack goals
@@ -1731,49 +1586,46 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
      */
     private static final double CAT_ZONE_BUFFER = 10.0;
 
-    /**
-     * True if the given position is inside the cat's guard zone (bowl-centred, asymmetric
-     * XZ/Y radius) plus the given hysteresis buffer. Used to bound both target eligibility and
-     * how far the cat itself may travel while pursuing, so cats never wander out of their
-     * assigned area (e.g. chasing a mob whose only path leads through a cave mouth outside the
-     * radius). Returns false if the cat has no bowl.
-     */
-    private static boolean isWithinGuardZone(Cat cat, double x, double y, double z, double buffer) {
-        long bowlLong = cat.getData(CAT_BOWL_POS.get());
-        if (bowlLong == Long.MIN_VALUE) {
-            return false;
-        }
-        BlockPos bowl = BlockPos.of(bowlLong);
-        double radius = instance != null ? instance.getConfig().getGuardRadius() : 32.0;
-        double radiusY = instance != null ? instance.getConfig().getGuardRadiusY() : 16.0;
-        return Math.abs(x - (bowl.getX() + 0.5)) <= radius + buffer
-                && Math.abs(z - (bowl.getZ() + 0.5)) <= radius + buffer
-                && Math.abs(y - (bowl.getY() + 0.5)) <= radiusY + buffer;
-    }
-
     // ---- CatGuardTargetGoal — proper AI target goal for guarding ----
 
     private static final class CatGuardTargetGoal extends TargetGoal {
 
+        private final CatGuardianModule module;
+        private final ModuleProfiler.Probe canUseProbe;
         private final Cat cat;
         /**
          * Throttle: skip A* target searches when recently found no valid target.
          */
         private int targetSearchCooldown = 0;
+        /** Candidates evaluated by A* per canUse() call while an evaluation is running. */
+        private static final int EVAL_CANDIDATES_PER_STEP = 2;
+        /** Resumable target evaluation, see {@link #findAndSetTarget}. */
+        private final TargetEvaluation evaluation = new TargetEvaluation(EVAL_CANDIDATES_PER_STEP);
         /**
          * Mob entity IDs that are temporarily blacklisted (value = game time when blacklist expires).
          */
-        private final Map<Integer, Long> blockedTargets = new HashMap<>();
+        private final TargetBlacklist blockedTargets = new TargetBlacklist();
         private static final long BLACKLIST_TICKS = 1200L; // 60 seconds
 
-        CatGuardTargetGoal(Cat cat) {
+        CatGuardTargetGoal(CatGuardianModule module, Cat cat) {
             super(cat, false, false);
+            this.module = module;
+            this.canUseProbe = ModuleProfiler.probe(module.getModuleId(), "CatGuardTargetGoal.canUse");
             this.cat = cat;
             this.setFlags(EnumSet.of(Goal.Flag.TARGET));
         }
 
         @Override
         public boolean canUse() {
+            long start = canUseProbe.start();
+            try {
+                return shouldAcquireTarget();
+            } finally {
+                canUseProbe.stop(start);
+            }
+        }
+
+        private boolean shouldAcquireTarget() {
             if (!cat.isTame() || cat.getOwnerUUID() == null) {
                 return false;
             }
@@ -1794,31 +1646,28 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
             // If the cat has strayed outside its zone, commit to returning home before
             // acquiring new targets — prevents oscillating at a cave mouth / boundary where a
             // mob keeps pulling it back out. (The return path itself is unconstrained.)
-            if (!isWithinGuardZone(cat, cat.getX(), cat.getY(), cat.getZ(), CAT_ZONE_BUFFER)) {
+            if (!KIND.isWithinGuardZone(cat, cat.getX(), cat.getY(), cat.getZ(), CAT_ZONE_BUFFER)) {
                 return false;
             }
+            if (module.isDormant(cat, false)) {
+                return false; // quiet station: the duty tick watches for threats
+            }
             // Throttle: A* path computation per candidate is expensive; skip the search
             // for a few ticks after a failed search rather than running it every tick.
             if (targetSearchCooldown > 0) {
                 targetSearchCooldown--;
                 return false;
             }
-            boolean found = findAndSetTarget(BlockPos.of(bowlLong));
+            boolean found = findAndSetTarget(BlockPos.of(bowlLong), false);
             if (!found) {
-                targetSearchCooldown = 20;
+                // Evaluation still running (or waiting for path budget): continue on the next
+                // call. Otherwise search less often while the server is overloaded.
+                targetSearchCooldown = evaluation.isRunning() ? 0 : LoadGovernor.scale(module.getModuleId(), 20);
             }
             if (found && cat.getData(CAT_RETURNING.get())) {
                 // Don't interrupt a return trip if all loot slots are full — the cat must deposit
                 // before it can pick up more loot anyway; let it finish the trip.
-                var catInv = cat.getData(CAT_INVENTORY.get()).getInventory();
-                boolean lootFull = true;
-                for (int s = CatInventoryData.LOOT_START; s < CatInventoryData.TOTAL_SLOTS; s++) {
-                    if (catInv.getStackInSlot(s).isEmpty()) {
-                        lootFull = false;
-                        break;
-                    }
-                }
-                if (lootFull) {
+                if (module.loot.isLootFull(cat)) {
                     return false;
                 }
                 cat.setData(CAT_RETURNING.get(), false); // interrupt return to engage
@@ -1846,13 +1695,13 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
             }
             // Drop the target the moment it leaves the guard zone (e.g. wanders off or falls
             // into a ravine) so the cat returns to base instead of chasing it indefinitely.
-            if (!isWithinGuardZone(cat, target.getX(), target.getY(), target.getZ(), TARGET_ZONE_BUFFER)) {
+            if (!KIND.isWithinGuardZone(cat, target.getX(), target.getY(), target.getZ(), TARGET_ZONE_BUFFER)) {
                 return false;
             }
             // Bound the cat's OWN travel: if pursuit drags it too far from base (e.g. the only
             // path to an in-zone mob leads out through a cave mouth outside the radius),
             // blacklist that mob and head home rather than wandering off.
-            if (!isWithinGuardZone(cat, cat.getX(), cat.getY(), cat.getZ(), CAT_ZONE_BUFFER)) {
+            if (!KIND.isWithinGuardZone(cat, cat.getX(), cat.getY(), cat.getZ(), CAT_ZONE_BUFFER)) {
                 blacklist(target);
                 return false;
             }
@@ -1862,7 +1711,7 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
             // stays inside the guard zone. AmphibiousPathNavigation produces full 3D paths
             // including underwater nodes, so this check works uniformly for all targets.
             if (cat.tickCount % 20 == 0) {
-                blockedTargets.entrySet().removeIf(e -> cat.level().getGameTime() >= e.getValue());
+                blockedTargets.evictExpired(cat.level().getGameTime());
                 net.minecraft.world.level.pathfinder.Path livePath = cat.getNavigation().getPath();
                 if (livePath != null && !isPathWithinZone(livePath, cat)) {
                     blacklist(target);
@@ -1880,11 +1729,12 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
             cat.setTarget(null);
             this.targetMob = null;
             targetSearchCooldown = 0; // allow immediate re-search
+            evaluation.reset(); // start over with the current hostiles
             long bowlLong = cat.getData(CAT_BOWL_POS.get());
             if (bowlLong == Long.MIN_VALUE) {
                 return;
             }
-            findAndSetTarget(BlockPos.of(bowlLong));
+            findAndSetTarget(BlockPos.of(bowlLong), true); // complete now, so the client hears the result
             LivingEntity t = cat.getTarget();
             if (t != null) {
                 PacketDistributor.sendToPlayersTrackingEntityAndSelf(cat,
@@ -1894,19 +1744,11 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         }
 
         private boolean isBlocked(Monster m) {
-            Long until = blockedTargets.get(m.getId());
-            if (until == null) {
-                return false;
-            }
-            if (cat.level().getGameTime() >= until) {
-                blockedTargets.remove(m.getId());
-                return false;
-            }
-            return true;
+            return blockedTargets.isBlocked(m, cat.level().getGameTime());
         }
 
         private void blacklist(LivingEntity target) {
-            blockedTargets.put(target.getId(), cat.level().getGameTime() + BLACKLIST_TICKS);
+            blockedTargets.block(target, cat.level().getGameTime() + BLACKLIST_TICKS);
         }
 
         @Override
@@ -1936,56 +1778,32 @@ public class CatGuardianModule extends AbstractModule<CatGuardianModule, CatGuar
         }
 
         /**
-         * Selects the best target from {@code candidates} using A* path length.
-         * Pre-sorts by Euclidean distance and evaluates the top 8 via actual path computation.
-         * AmphibiousPathNavigation produces underwater nodes, so endNodeNear and isPathWithinZone
-         * work uniformly for both land and submerged targets.
+         * Runs one step (with {@code finish}, all steps) of the target evaluation for the station at
+         * {@code bowlPos}: the shared {@link TargetEvaluation} ranks the hostiles of the station's
+         * {@link StationThreatTable} by A* path length, a few candidates per call. Submerged hostiles
+         * don't count.
+         * AmphibiousPathNavigation produces underwater nodes, so the partial-path and zone checks work
+         * uniformly for land and submerged routes.
+         *
+         * @return true if a target was committed; false if there is none or the evaluation is still
+         *         running ({@link TargetEvaluation#isRunning})
          */
-        private Monster selectTargetByPathLength(List<Monster> candidates) {
-            candidates.sort(Comparator.comparingDouble(cat::distanceToSqr));
-            int limit = Math.min(8, candidates.size());
-            Monster best = null;
-            double bestLength = Double.MAX_VALUE;
-            for (int i = 0; i < limit; i++) {
-                Monster mob = candidates.get(i);
-                net.minecraft.world.level.pathfinder.Path path =
-                        cat.getNavigation().createPath(mob.getX(), mob.getY(), mob.getZ(), 0);
-                if (!instance.endNodeNear(path,
-                        new net.minecraft.world.phys.Vec3(mob.getX(), mob.getY(), mob.getZ()), 2.0)) {
-                    continue; // unreachable or partial path — discard early instead of running at it
-                }
-                if (!isPathWithinZone(path, cat)) {
-                    continue; // route exits guard zone
-                }
-                double length = 0.0;
-                for (int j = 1; j < path.getNodeCount(); j++) {
-                    net.minecraft.world.level.pathfinder.Node a = path.getNode(j - 1);
-                    net.minecraft.world.level.pathfinder.Node b = path.getNode(j);
-                    double dx = b.x - a.x, dy = b.y - a.y, dz = b.z - a.z;
-                    length += Math.sqrt(dx * dx + dy * dy + dz * dz);
-                }
-                if (length < bestLength) {
-                    bestLength = length;
-                    best = mob;
-                }
-            }
-            return best;
-        }
-
-        private boolean findAndSetTarget(BlockPos bowlPos) {
-            double radius = instance != null ? instance.getConfig().getGuardRadius() : 32.0;
-            double radiusY = instance != null ? instance.getConfig().getGuardRadiusY() : 16.0;
-            AABB searchBox = new AABB(bowlPos).inflate(radius, radiusY, radius);
-            List<Monster> hostiles = cat.level().getEntitiesOfClass(
-                    Monster.class, searchBox, m -> !m.isDeadOrDying() && !isBlocked(m) && !m.isUnderWater());
-            if (hostiles.isEmpty()) {
-                return false;
-            }
-            Monster best = selectTargetByPathLength(hostiles);
-            if (best == null) {
+        private boolean findAndSetTarget(BlockPos bowlPos, boolean finish) {
+            GuardZone zone = new GuardZone(bowlPos, getGuardRadius(), getGuardRadiusY());
+            Supplier<List<Monster>> hostiles =
+                    () -> module.threatTable.pull(cat.level(), bowlPos, zone.searchBox(), m -> !isBlocked(m));
+            Predicate<Monster> eligible = m -> !m.isUnderWater() && !isBlocked(m);
+            TargetEvaluation.Outcome outcome = finish
+                    ? evaluation.finish(cat, zone, hostiles, eligible)
+                    : evaluation.step(cat, zone, hostiles, eligible);
+            if (outcome == TargetEvaluation.Outcome.NONE_REACHABLE) {
                 cat.setData(CAT_RETURNING.get(), true); // no reachable in-zone mob → go home
                 return false;
             }
+            if (outcome != TargetEvaluation.Outcome.FOUND) {
+                return false; // no hostile, or continue on the next call
+            }
+            Monster best = evaluation.chosen();
             this.targetMob = best;
             cat.setTarget(best);
             cat.setOrderedToSit(false); // stand up immediately so MeleeAttackGoal isn't blocked
@@ -0,0 +1,616 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.geraldhofbauer.vanillaplusadditions.core.LoadGovernor;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
+import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.AxolotlGuardianModule;
+import net.geraldhofbauer.vanillaplusadditions.modules.axolotl_guardian.blockentity.AxolotlFeedingStationBlockEntity;
+import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.blockentity.CatFeedingStationBlockEntity;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianPathService;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.ExperienceOrb;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.animal.Cat;
+import net.minecraft.world.entity.animal.axolotl.Axolotl;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.neoforged.neoforge.items.IItemHandlerModifiable;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * {@code /vpa bench guardians <cats|axolotls> <count> <mobs> [ticks]}: a throughput benchmark for
+ * guardian cats or guardian axolotls.
+ *
+ * <p>Builds a walled stone platform in the sky of the overworld, {@value #AREA_OFFSET} blocks east of
+ * the world spawn, so no player base, farm or natural spawning shares its chunks. For axolotls the
+ * platform is a pool, two blocks of water deep. The platform's chunks are force-loaded for the run,
+ * so they tick without a player nearby. It puts feeding stations on the platform, and spawns fed,
+ * owned guardians and hostiles that don't burn in sunlight (husks on land, drowned in the pool) at
+ * positions drawn from a fixed seed, so two runs with the same arguments start from the same layout.
+ * Hostiles that die are replaced, so the load stays constant. Guardians are invulnerable: a
+ * benchmark measures a fixed number of guardians, not how long they survive. The first
+ * {@value #WARMUP_TICKS} ticks (chunk generation, lighting, guardians settling at their stations)
+ * are not recorded.</p>
+ *
+ * <p>Every tick it records the time spent in the guardian module's entity tick handlers and in its
+ * target search ({@code CatGuardTargetGoal.canUse} or {@code Axolotl.findTarget}, via
+ * {@link ModuleProfiler}, started for the run if it is off), and the path requests of
+ * {@link GuardianPathService}. Node counts are the nodes charged against the path budget (the
+ * navigation's node limit per computed path); the pathfinder doesn't report how many it actually
+ * visited. The rows go to {@code vpa_bench/} in the server directory as CSV, after {@code #} comment
+ * lines with the scenario (guardian, station and mob counts, area) and the {@link LoadGovernor}
+ * state at the start; each row also has the module's interval multiplier of that tick. Afterwards
+ * every block, entity and dropped item of the scenario is removed again and the chunks are
+ * released.</p>
+ */
+final class GuardianBenchmark {
+
+    private static final int MAX_GUARDIANS = 512;
+    private static final int MAX_MOBS = 1024;
+    private static final int DEFAULT_TICKS = 600;
+    /** Distance between two stations of the grid. */
+    private static final int STATION_SPACING = 16;
+    /** Free platform around the station grid. */
+    private static final int MARGIN = 8;
+    /** Platform height below the build limit. */
+    private static final int SKY_OFFSET = 24;
+    /** Distance of the platform centre east of the world spawn. */
+    private static final int AREA_OFFSET = 20000;
+    /** Ticks run before the recording starts. */
+    private static final int WARMUP_TICKS = 100;
+    /** Seed of the guardian and hostile placement. */
+    private static final long LAYOUT_SEED = 0x6775617264L;
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String CSV_HEADER = "tick,entity_tick_ns,target_search_ns,target_search_calls,paths_computed,"
+            + "path_cache_hits,paths_deferred,path_nodes_charged,hostiles,governor_multiplier,server_avg_mspt";
+
+    /**
+     * The guardian animal a benchmark runs: its module, profiler handlers, station and hostiles.
+     */
+    private enum Species {
+        CATS("cats", "cat_guardian", "Cat tick", "CatGuardTargetGoal.canUse") {
+            @Override
+            boolean isModuleActive() {
+                return CatGuardianModule.isModuleActive();
+            }
+
+            @Override
+            int maxPerStation() {
+                return CatGuardianModule.getMaxCatsPerStation();
+            }
+
+            @Override
+            BlockState station() {
+                return CatGuardianModule.CAT_FEEDING_STATION.get().defaultBlockState();
+            }
+
+            @Override
+            void stockStation(BlockEntity station) {
+                if (station instanceof CatFeedingStationBlockEntity catStation) {
+                    fill(catStation.getInventory());
+                }
+            }
+
+            @Override
+            @Nullable
+            Mob createGuardian(ServerLevel level, UUID owner, BlockPos stationPos) {
+                Cat cat = EntityType.CAT.create(level);
+                if (cat == null) {
+                    return null;
+                }
+                cat.setTame(true, false);
+                cat.setOwnerUUID(owner);
+                cat.setData(CatGuardianModule.CAT_BOWL_POS.get(), stationPos.asLong());
+                if (level.getBlockEntity(stationPos) instanceof CatFeedingStationBlockEntity station) {
+                    station.addCat(cat.getUUID());
+                }
+                return cat;
+            }
+
+            @Override
+            void feed(Mob guardian) {
+                guardian.setData(CatGuardianModule.CAT_FED_TICKS.get(), CatGuardianModule.getFedDurationTicks());
+            }
+
+            @Override
+            EntityType<? extends Monster> hostile() {
+                return EntityType.HUSK;
+            }
+        },
+        AXOLOTLS("axolotls", "axolotl_guardian", "Axolotl tick", "Axolotl.findTarget") {
+            @Override
+            boolean isModuleActive() {
+                return AxolotlGuardianModule.isModuleActive();
+            }
+
+            @Override
+            int maxPerStation() {
+                return AxolotlGuardianModule.getMaxAxolotlsPerStation();
+            }
+
+            @Override
+            BlockState station() {
+                return AxolotlGuardianModule.AXOLOTL_FEEDING_STATION.get().defaultBlockState()
+                        .setValue(BlockStateProperties.WATERLOGGED, true);
+            }
+
+            @Override
+            void stockStation(BlockEntity station) {
+                if (station instanceof AxolotlFeedingStationBlockEntity axolotlStation) {
+                    fill(axolotlStation.getInventory());
+                }
+            }
+
+            @Override
+            @Nullable
+            Mob createGuardian(ServerLevel level, UUID owner, BlockPos stationPos) {
+                Axolotl axolotl = EntityType.AXOLOTL.create(level);
+                if (axolotl == null) {
+                    return null;
+                }
+                axolotl.setData(AxolotlGuardianModule.AXOLOTL_OWNER.get(), owner.toString());
+                axolotl.setData(AxolotlGuardianModule.AXOLOTL_BOWL_POS.get(), stationPos.asLong());
+                if (level.getBlockEntity(stationPos) instanceof AxolotlFeedingStationBlockEntity station) {
+                    station.addAxolotl(axolotl.getUUID());
+                }
+                return axolotl;
+            }
+
+            @Override
+            void feed(Mob guardian) {
+                guardian.setData(AxolotlGuardianModule.AXOLOTL_FED_TICKS.get(),
+                        AxolotlGuardianModule.getFedDurationTicks());
+            }
+
+            @Override
+            EntityType<? extends Monster> hostile() {
+                return EntityType.DROWNED;
+            }
+
+            @Override
+            boolean aquatic() {
+                return true;
+            }
+        };
+
+        private final String argument;
+        private final String moduleId;
+        private final String tickHandlerPrefix;
+        private final String targetSearchProbe;
+
+        Species(String argument, String moduleId, String tickHandlerPrefix, String targetSearchProbe) {
+            this.argument = argument;
+            this.moduleId = moduleId;
+            this.tickHandlerPrefix = tickHandlerPrefix;
+            this.targetSearchProbe = targetSearchProbe;
+        }
+
+        abstract boolean isModuleActive();
+
+        abstract int maxPerStation();
+
+        abstract BlockState station();
+
+        abstract void stockStation(BlockEntity station);
+
+        /**
+         * A fed-to-be guardian assigned to the station at {@code stationPos}, not yet in the level,
+         * so the module's join handler sets it up as a guardian.
+         */
+        @Nullable
+        abstract Mob createGuardian(ServerLevel level, UUID owner, BlockPos stationPos);
+
+        abstract void feed(Mob guardian);
+
+        abstract EntityType<? extends Monster> hostile();
+
+        /**
+         * @return whether the platform is flooded
+         */
+        boolean aquatic() {
+            return false;
+        }
+
+        private static void fill(IItemHandlerModifiable inventory) {
+            for (int slot = 0; slot < inventory.getSlots(); slot++) {
+                inventory.setStackInSlot(slot, new ItemStack(Items.COD, 64));
+            }
+        }
+    }
+
+    @Nullable
+    private static GuardianBenchmark active;
+    private static boolean listening = false;
+
+    private final CommandSourceStack source;
+    private final ServerLevel level;
+    private final Species species;
+    private final int guardianCount;
+    private final int mobCount;
+    private final int ticks;
+    private final boolean startedProfiler;
+    private final RandomSource random = RandomSource.create(LAYOUT_SEED);
+    private final LoadGovernor.Level governorLevel = LoadGovernor.getLevel();
+    private final List<long[]> forcedChunks = new ArrayList<>();
+    private final List<BlockPos> changedBlocks = new ArrayList<>();
+    private final List<BlockState> originalStates = new ArrayList<>();
+    private final List<BlockPos> stations = new ArrayList<>();
+    private final List<Mob> guardians = new ArrayList<>();
+    private final List<Monster> mobs = new ArrayList<>();
+    private final List<long[]> rows = new ArrayList<>();
+    private int minX;
+    private int maxX;
+    private int minZ;
+    private int maxZ;
+    private int floorY;
+    private int tick;
+    private long lastEntityTickNanos;
+    private long lastTargetSearchNanos;
+    private long lastTargetSearchCalls;
+
+    private GuardianBenchmark(CommandSourceStack source, ServerLevel level, Species species, int guardianCount,
+                              int mobCount, int ticks) {
+        this.source = source;
+        this.level = level;
+        this.species = species;
+        this.guardianCount = guardianCount;
+        this.mobCount = mobCount;
+        this.ticks = ticks;
+        this.startedProfiler = !ModuleProfiler.isEnabled();
+    }
+
+    static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        LiteralArgumentBuilder<CommandSourceStack> guardians = Commands.literal("guardians");
+        for (Species species : Species.values()) {
+            guardians.then(Commands.literal(species.argument)
+                    .then(Commands.argument("count", IntegerArgumentType.integer(1, MAX_GUARDIANS))
+                            .then(Commands.argument("mobs", IntegerArgumentType.integer(0, MAX_MOBS))
+                                    .executes(context -> execute(context, species, DEFAULT_TICKS))
+                                    .then(Commands.argument("ticks", IntegerArgumentType.integer(20, 72000))
+                                            .executes(context -> execute(context, species,
+                                                    IntegerArgumentType.getInteger(context, "ticks"))))
+                            )
+                    )
+            );
+        }
+        dispatcher.register(
+                Commands.literal("vpa")
+                        .requires(source -> source.hasPermission(2))
+                        .then(Commands.literal("bench")
+                                .then(guardians)
+                        )
+        );
+    }
+
+    private static int execute(CommandContext<CommandSourceStack> context, Species species, int ticks) {
+        CommandSourceStack source = context.getSource();
+        if (!species.isModuleActive()) {
+            source.sendFailure(Component.literal("Module " + species.moduleId + " is disabled")
+                    .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+        if (active != null) {
+            source.sendFailure(Component.literal("A guardian benchmark is already running").withStyle(ChatFormatting.RED));
+            return 0;
+        }
+        GuardianBenchmark bench = new GuardianBenchmark(source, source.getServer().overworld(), species,
+                IntegerArgumentType.getInteger(context, "count"), IntegerArgumentType.getInteger(context, "mobs"), ticks);
+        if (!bench.placeArea()) {
+            source.sendFailure(Component.literal("The benchmark area is outside the world border")
+                    .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+        startListening();
+        bench.setUp();
+        active = bench;
+        source.sendSuccess(() -> Component.literal(String.format(Locale.ROOT,
+                        "Guardian benchmark: %d %s at %d stations, %d hostiles, %d + %d warm-up ticks at %d %d %d%s",
+                        bench.guardianCount, species.argument, bench.stations.size(), bench.mobCount, ticks, WARMUP_TICKS,
+                        (bench.minX + bench.maxX) / 2, bench.floorY + 1, (bench.minZ + bench.maxZ) / 2,
+                        bench.startedProfiler ? " (started /vpa perf, counters were reset)" : ""))
+                .withStyle(ChatFormatting.GOLD), true);
+        return 1;
+    }
+
+    private static synchronized void startListening() {
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(GuardianBenchmark::onServerTick);
+            NeoForge.EVENT_BUS.addListener(GuardianBenchmark::onServerStopping);
+        }
+    }
+
+    private static void onServerTick(ServerTickEvent.Post event) {
+        GuardianBenchmark bench = active;
+        if (bench != null) {
+            bench.tick(event.getServer());
+        }
+    }
+
+    private static void onServerStopping(ServerStoppingEvent event) {
+        GuardianBenchmark bench = active;
+        if (bench != null) {
+            bench.finish(event.getServer());
+        }
+    }
+
+    // ---- Scenario ----
+
+    private int stationCount() {
+        return Mth.positiveCeilDiv(guardianCount, Math.max(1, species.maxPerStation()));
+    }
+
+    /**
+     * Lays the platform out {@value #AREA_OFFSET} blocks east of the world spawn.
+     *
+     * @return false if it doesn't fit inside the world border
+     */
+    private boolean placeArea() {
+        int side = Mth.ceil(Math.sqrt(stationCount()));
+        int size = (side - 1) * STATION_SPACING + 2 * MARGIN;
+        BlockPos spawn = level.getSharedSpawnPos();
+        minX = spawn.getX() + AREA_OFFSET - size / 2;
+        minZ = spawn.getZ() - size / 2;
+        maxX = minX + size;
+        maxZ = minZ + size;
+        floorY = level.getMaxBuildHeight() - SKY_OFFSET;
+        return level.getWorldBorder().isWithinBounds(new AABB(minX, floorY, minZ, maxX + 1, floorY + 3, maxZ + 1));
+    }
+
+    private void setUp() {
+        int stationCount = stationCount();
+        int side = Mth.ceil(Math.sqrt(stationCount));
+
+        if (startedProfiler) {
+            ModuleProfiler.start();
+        }
+
+        // Keep the platform's chunks loaded and ticking without a player nearby
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                if (level.setChunkForced(cx, cz, true)) {
+                    forcedChunks.add(new long[]{cx, cz});
+                }
+            }
+        }
+
+        // Floor plus a two-high barrier wall so nothing wanders off into the void; axolotls get a
+        // pool of the same height
+        BlockState floor = Blocks.SMOOTH_STONE.defaultBlockState();
+        BlockState wall = Blocks.BARRIER.defaultBlockState();
+        BlockState water = Blocks.WATER.defaultBlockState();
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                place(new BlockPos(x, floorY, z), floor);
+                boolean edge = x == minX || x == maxX || z == minZ || z == maxZ;
+                if (edge || species.aquatic()) {
+                    place(new BlockPos(x, floorY + 1, z), edge ? wall : water);
+                    place(new BlockPos(x, floorY + 2, z), edge ? wall : water);
+                }
+            }
+        }
+
+        UUID owner = source.getPlayer() != null ? source.getPlayer().getUUID() : UUID.randomUUID();
+        BlockState stationState = species.station();
+        for (int i = 0; i < stationCount; i++) {
+            BlockPos pos = new BlockPos(minX + MARGIN + (i % side) * STATION_SPACING, floorY + 1,
+                    minZ + MARGIN + (i / side) * STATION_SPACING);
+            place(pos, stationState);
+            stations.add(pos);
+            BlockEntity station = level.getBlockEntity(pos);
+            if (station != null) {
+                species.stockStation(station);
+            }
+        }
+
+        for (int i = 0; i < guardianCount; i++) {
+            BlockPos stationPos = stations.get(i % stations.size());
+            // Bowl assignment before joining the level, so the join handler sets it up as a guardian
+            Mob guardian = species.createGuardian(level, owner, stationPos);
+            if (guardian == null) {
+                continue;
+            }
+            guardian.setInvulnerable(true);
+            guardian.setPersistenceRequired();
+            species.feed(guardian);
+            guardian.moveTo(stationPos.getX() + 0.5 + random.nextInt(5) - 2, floorY + 1,
+                    stationPos.getZ() + 0.5 + random.nextInt(5) - 2, random.nextFloat() * 360f, 0f);
+            level.addFreshEntity(guardian);
+            guardians.add(guardian);
+        }
+
+        for (int i = 0; i < mobCount; i++) {
+            spawnMob();
+        }
+    }
+
+    private void place(BlockPos pos, BlockState state) {
+        changedBlocks.add(pos);
+        originalStates.add(level.getBlockState(pos));
+        level.setBlock(pos, state, Block.UPDATE_CLIENTS);
+    }
+
+    private void spawnMob() {
+        Monster mob = species.hostile().create(level);
+        if (mob == null) {
+            return;
+        }
+        mob.setPersistenceRequired();
+        mob.moveTo(minX + 2 + random.nextInt(maxX - minX - 3) + 0.5, floorY + 1,
+                minZ + 2 + random.nextInt(maxZ - minZ - 3) + 0.5, random.nextFloat() * 360f, 0f);
+        level.addFreshEntity(mob);
+        mobs.add(mob);
+    }
+
+    private void tick(MinecraftServer server) {
+        // Keep the hostile count constant: replace the killed ones
+        mobs.removeIf(mob -> !mob.isAlive());
+        while (mobs.size() < mobCount) {
+            spawnMob();
+        }
+        for (Mob guardian : guardians) {
+            species.feed(guardian);
+        }
+
+        long entityTickNanos = 0L;
+        long targetSearchNanos = 0L;
+        long targetSearchCalls = 0L;
+        ModuleProfiler.ModuleReport report = ModuleProfiler.report(species.moduleId);
+        if (report != null) {
+            for (ModuleProfiler.HandlerReport handler : report.handlers()) {
+                if (handler.name().equals(species.targetSearchProbe)) {
+                    targetSearchNanos = handler.totalNanos();
+                    targetSearchCalls = handler.calls();
+                } else if (handler.name().startsWith(species.tickHandlerPrefix)) {
+                    entityTickNanos += handler.totalNanos();
+                }
+            }
+        }
+        if (tick < WARMUP_TICKS) {
+            lastEntityTickNanos = entityTickNanos;
+            lastTargetSearchNanos = targetSearchNanos;
+            lastTargetSearchCalls = targetSearchCalls;
+            tick++;
+            return;
+        }
+        rows.add(new long[]{
+                tick - WARMUP_TICKS,
+                entityTickNanos - lastEntityTickNanos,
+                targetSearchNanos - lastTargetSearchNanos,
+                targetSearchCalls - lastTargetSearchCalls,
+                GuardianPathService.getComputedThisTick(),
+                GuardianPathService.getCacheHitsThisTick(),
+                GuardianPathService.getDeferredThisTick(),
+                GuardianPathService.getNodesThisTick(),
+                mobs.size(),
+                LoadGovernor.getMultiplier(species.moduleId),
+                server.getAverageTickTimeNanos() / 1000L // µs, written as ms
+        });
+        lastEntityTickNanos = entityTickNanos;
+        lastTargetSearchNanos = targetSearchNanos;
+        lastTargetSearchCalls = targetSearchCalls;
+
+        if (++tick >= WARMUP_TICKS + ticks) {
+            finish(server);
+        }
+    }
+
+    private void finish(MinecraftServer server) {
+        active = null;
+        if (startedProfiler) {
+            ModuleProfiler.stop();
+        }
+        cleanUp();
+
+        Path file;
+        try {
+            file = writeCsv(server);
+        } catch (IOException e) {
+            source.sendFailure(Component.literal("Guardian benchmark: could not write CSV: " + e.getMessage())
+                    .withStyle(ChatFormatting.RED));
+            return;
+        }
+        double[] mean = new double[CSV_HEADER.split(",").length];
+        for (long[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                mean[i] += row[i];
+            }
+        }
+        int n = Math.max(1, rows.size());
+        source.sendSuccess(() -> Component.literal(String.format(Locale.ROOT,
+                        "Guardian benchmark done after %d ticks: entity ticks %.3f ms/tick, target search %.3f ms/tick "
+                                + "(%.0f calls), %.1f paths computed + %.1f cached, %.0f nodes charged per tick, "
+                                + "server %.2f ms/tick. CSV: %s",
+                        rows.size(), mean[1] / n / 1e6, mean[2] / n / 1e6, mean[3] / n, mean[4] / n, mean[5] / n,
+                        mean[7] / n, mean[10] / n / 1e3, file))
+                .withStyle(ChatFormatting.GREEN), true);
+    }
+
+    private void cleanUp() {
+        for (Mob guardian : guardians) {
+            guardian.discard();
+        }
+        for (Monster mob : mobs) {
+            mob.discard();
+        }
+        // Remove the station block entities first so breaking the blocks drops nothing
+        for (BlockPos pos : stations) {
+            level.removeBlockEntity(pos);
+        }
+        AABB area = new AABB(minX, floorY - 1, minZ, maxX + 1, floorY + 8, maxZ + 1);
+        for (Entity entity : level.getEntitiesOfClass(Entity.class, area,
+                e -> e instanceof ItemEntity || e instanceof ExperienceOrb)) {
+            entity.discard();
+        }
+        for (int i = changedBlocks.size() - 1; i >= 0; i--) {
+            level.setBlock(changedBlocks.get(i), originalStates.get(i), Block.UPDATE_CLIENTS);
+        }
+        for (long[] chunk : forcedChunks) {
+            level.setChunkForced((int) chunk[0], (int) chunk[1], false);
+        }
+    }
+
+    private Path writeCsv(MinecraftServer server) throws IOException {
+        Path dir = server.getServerDirectory().resolve("vpa_bench");
+        Files.createDirectories(dir);
+        Path file = dir.resolve(String.format(Locale.ROOT, "guardians_%d%s_%dm_%s.csv",
+                guardianCount, species.argument, mobCount, LocalDateTime.now().format(STAMP)));
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write(String.format(Locale.ROOT, "# %s=%d,stations=%d,mobs=%d,ticks=%d,warmup_ticks=%d,area=%d..%d %d %d..%d",
+                    species.argument, guardianCount, stations.size(), mobCount, ticks, WARMUP_TICKS,
+                    minX, maxX, floorY, minZ, maxZ));
+            out.newLine();
+            LoadGovernor.Policy policy = LoadGovernor.getPolicies().get(species.moduleId);
+            out.write(String.format(Locale.ROOT, "# governor_level=%s,governor_policy=%s",
+                    governorLevel, policy == null ? "none" : policy.degraded() + "/" + policy.severe()));
+            out.newLine();
+            out.write(CSV_HEADER);
+            out.newLine();
+            for (long[] row : rows) {
+                StringBuilder line = new StringBuilder();
+                for (int i = 0; i < row.length - 1; i++) {
+                    line.append(row[i]).append(',');
+                }
+                line.append(String.format(Locale.ROOT, "%.3f", row[row.length - 1] / 1000.0));
+                out.write(line.toString());
+                out.newLine();
+            }
+        }
+        return file.toAbsolutePath();
+    }
+}
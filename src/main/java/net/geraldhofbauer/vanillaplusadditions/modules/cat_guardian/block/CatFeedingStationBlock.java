@@ -1,5 +1,7 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.block;
 
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleManager;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.CatGuardianModule;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.blockentity.CatFeedingStationBlockEntity;
 import net.minecraft.core.BlockPos;
@@ -35,6 +37,9 @@ import org.jetbrains.annotations.Nullable;
 
 public class CatFeedingStationBlock extends AbstractCatBowlBlock {
 
+    private static final ModuleProfiler.Probe TICK_PROBE =
+            ModuleProfiler.probe("cat_guardian", "CatFeedingStationBlockEntity.serverTick");
+
     public static final DirectionProperty FACING = BlockStateProperties.HORIZONTAL_FACING;
     public static final EnumProperty<CatStationSkin> SKIN = EnumProperty.create("skin", CatStationSkin.class);
 
@@ -151,9 +156,9 @@ public class CatFeedingStationBlock extends AbstractCatBowlBlock {
         if (level.isClientSide() || blockEntityType != CatGuardianModule.CAT_FEEDING_STATION_BE.get()) {
             return null;
         }
-        return (lvl, pos, blockState, be) ->
+        return ModuleManager.suspendable("cat_guardian", ModuleProfiler.wrap(TICK_PROBE, (lvl, pos, blockState, be) ->
                 CatFeedingStationBlockEntity.serverTick(
-                        lvl, pos, blockState, (CatFeedingStationBlockEntity) be);
+                        lvl, pos, blockState, (CatFeedingStationBlockEntity) be)));
     }
 
     @Override
@@ -145,6 +145,20 @@ public abstract class AbstractCatBowlBlockEntity extends BlockEntity {
         }
     }
 
+    // --- Bowl index ---
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        CatGuardianModule.BOWL_INDEX.add(this);
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        CatGuardianModule.BOWL_INDEX.remove(this);
+    }
+
     // --- Sync packet ---
 
     @Override
@@ -4,6 +4,8 @@ import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.CatGuardianM
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.block.CatFeedingStationBlock;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.block.CatStationSkin;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.menu.CatFeedingStationMenu;
+import net.geraldhofbauer.vanillaplusadditions.util.IndexedItemStackHandler;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianStation;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
@@ -18,7 +20,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.items.ItemStackHandler;
 
-public class CatFeedingStationBlockEntity extends AbstractCatBowlBlockEntity implements MenuProvider {
+public class CatFeedingStationBlockEntity extends AbstractCatBowlBlockEntity implements MenuProvider, GuardianStation {
 
     private static final int SLOTS = 9;
 
@@ -38,9 +40,10 @@ public class CatFeedingStationBlockEntity extends AbstractCatBowlBlockEntity imp
         }
     };
 
-    private final ItemStackHandler lootInventory = new ItemStackHandler(15) {
+    private final IndexedItemStackHandler lootInventory = new IndexedItemStackHandler(15) {
         @Override
         protected void onContentsChanged(int slot) {
+            super.onContentsChanged(slot);
             setChanged();
             syncToClient();
         }
@@ -125,7 +128,8 @@ public class CatFeedingStationBlockEntity extends AbstractCatBowlBlockEntity imp
         return inventory;
     }
 
-    public ItemStackHandler getLootInventory() {
+    @Override
+    public IndexedItemStackHandler getLootInventory() {
         return lootInventory;
     }
 
@@ -149,10 +153,12 @@ public class CatFeedingStationBlockEntity extends AbstractCatBowlBlockEntity imp
         }
     }
 
+    @Override
     public int getStoredXp() {
         return storedXp;
     }
 
+    @Override
     public void addStoredXp(int delta) {
         storedXp = Math.max(0, storedXp + delta);
         setChanged();
@@ -1,8 +1,8 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.blockentity;
 
 import com.mojang.serialization.Codec;
+import net.geraldhofbauer.vanillaplusadditions.util.IndexedItemStackHandler;
 import net.minecraft.world.item.ItemStack;
-import net.neoforged.neoforge.items.ItemStackHandler;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,12 +14,13 @@ public class CatInventoryData {
     public static final int LOOT_SLOTS  = 5;
     public static final int TOTAL_SLOTS = 6; // 1 armor + 5 loot
 
-    private final ItemStackHandler inventory = new ItemStackHandler(TOTAL_SLOTS);
+    // Loot slots are indexed so kill drops merge without probing every slot
+    private final IndexedItemStackHandler inventory = new IndexedItemStackHandler(TOTAL_SLOTS, LOOT_START);
 
     public CatInventoryData() {
     }
 
-    public ItemStackHandler getInventory() {
+    public IndexedItemStackHandler getInventory() {
         return inventory;
     }
 
@@ -8,10 +8,9 @@ import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.network.*;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.animal.Cat;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.BlockHitResult;
-import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerInteractEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
@@ -22,7 +21,6 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
-@EventBusSubscriber(value = Dist.CLIENT, bus = EventBusSubscriber.Bus.GAME)
 public final class CatGuardianClientEvents {
 
     // Client-side-only glow: catEntityId → game tick when the local glow expires. The glow flag
@@ -33,8 +31,8 @@ public final class CatGuardianClientEvents {
     // catEntityId → targetEntityId; populated by SyncCatTargetPacket
     static final Map<Integer, Integer> CAT_TARGET_MAP = new HashMap<>();
 
-    // catEntityId → [xp, xpCap]; populated by SyncCatStatsPacket
-    static final Map<Integer, int[]> CAT_XP_MAP = new HashMap<>();
+    // catEntityId → [xp, xpCap, fed %]; merged from SyncCatStatsPacket diffs (-1 = not received yet)
+    static final Map<Integer, int[]> CAT_STATS_MAP = new HashMap<>();
 
     // catEntityId → path packet; populated by SyncCatPathPacket; empty arrays = no path
     static final Map<Integer,
@@ -84,6 +82,8 @@ public final class CatGuardianClientEvents {
         Minecraft mc = Minecraft.getInstance();
         if (mc.level == null || mc.player == null) {
             GLOW_EXPIRY.clear();
+            CAT_STATS_MAP.clear();
+            CatGuardianGogglesClientHandler.resetStatsSubscription();
             return;
         }
 
@@ -95,6 +95,7 @@ public final class CatGuardianClientEvents {
         // Overlay toggle + keybind are now owned by the shared debug_overlay framework
         // (CatGuardianGogglesClientHandler reads DebugOverlayState.isEnabled()).
         CatGuardianGogglesClientHandler.onClientTick(mc);
+        CatGuardianGogglesClientHandler.updateStatsSubscription();
 
         long gameTime = mc.level.getGameTime();
 
@@ -164,7 +165,23 @@ public final class CatGuardianClientEvents {
     }
 
     public static void handleSyncCatStats(SyncCatStatsPacket packet) {
-        CAT_XP_MAP.put(packet.catId(), new int[]{packet.xp(), packet.xpCap()});
+        int[] stats = CAT_STATS_MAP.computeIfAbsent(packet.catId(), id -> new int[]{-1, -1, -1});
+        if (packet.has(SyncCatStatsPacket.XP)) {
+            stats[0] = packet.xp();
+            stats[1] = packet.xpCap();
+        }
+        if (packet.has(SyncCatStatsPacket.FED)) {
+            stats[2] = packet.fedPercent();
+        }
+        // Armor durability is no longer broadcast with every hit; apply it to the synced armor copy
+        Minecraft mc = Minecraft.getInstance();
+        if (packet.has(SyncCatStatsPacket.ARMOR_DAMAGE) && mc.level != null
+                && mc.level.getEntity(packet.catId()) instanceof Cat cat) {
+            ItemStack armor = cat.getData(CatGuardianModule.CAT_INVENTORY.get()).getArmor();
+            if (!armor.isEmpty()) {
+                armor.setDamageValue(packet.armorDamage());
+            }
+        }
     }
 
     public static void handleSyncCatTarget(SyncCatTargetPacket packet) {
@@ -9,6 +9,7 @@ import net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.client.Debu
 import net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.client.GogglesUtil;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.CatGuardianModule;
 import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.blockentity.AbstractCatBowlBlockEntity;
+import net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.network.SubscribeCatStatsPacket;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.LevelRenderer;
 import net.minecraft.client.renderer.RenderStateShard;
@@ -25,16 +26,13 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
-import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.RenderGuiEvent;
 import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
-@EventBusSubscriber(value = Dist.CLIENT, bus = EventBusSubscriber.Bus.GAME)
 public final class CatGuardianGogglesClientHandler {
 
     private static final RenderType XRAY_LINES = RenderType.create(
@@ -65,7 +63,8 @@ public final class CatGuardianGogglesClientHandler {
     private static List<Component> activeTooltip = null;
     @Nullable
     private static Cat lookedAtCat = null;
-    private static long nextStatRequestTick = Long.MIN_VALUE;
+    /** Cat whose stats the server pushes to us; SubscribeCatStatsPacket.NONE = none. */
+    private static int subscribedCatId = SubscribeCatStatsPacket.NONE;
     private static final List<LivingEntity> PENDING_TARGET_OUTLINES = new ArrayList<>();
     private static final List<Cat> PENDING_CAT_OUTLINES = new ArrayList<>();
     private static final List<BlockPos> PENDING_RADIUS_POSITIONS = new ArrayList<>();
@@ -148,12 +147,6 @@ public final class CatGuardianGogglesClientHandler {
             if (popupHeld && hasLineOfSight(mc, eyePos, detectedCatHit)) {
                 // Drives the stats popup (rendered in onRenderGui) while the key is held.
                 lookedAtCat = detectedCat;
-                if (gameTime >= nextStatRequestTick) {
-                    nextStatRequestTick = gameTime + 20;
-                    net.neoforged.neoforge.network.PacketDistributor.sendToServer(
-                            new net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.network.RequestCatStatsPacket(
-                                    detectedCat.getId()));
-                }
             }
             if (boxesOn) {
                 CAT_OVERLAY_EXPIRY.put(detectedCat.getId(), gameTime + OVERLAY_TIMEOUT_TICKS);
@@ -260,6 +253,23 @@ public final class CatGuardianGogglesClientHandler {
         }
     }
 
+    /**
+     * Points the server-side stats subscription at the cat the popup shows: subscribes when the
+     * looked-at cat changes and unsubscribes when the popup closes. Runs after {@link #onClientTick}.
+     */
+    static void updateStatsSubscription() {
+        int catId = lookedAtCat != null ? lookedAtCat.getId() : SubscribeCatStatsPacket.NONE;
+        if (catId != subscribedCatId) {
+            subscribedCatId = catId;
+            net.neoforged.neoforge.network.PacketDistributor.sendToServer(new SubscribeCatStatsPacket(catId));
+        }
+    }
+
+    /** Forgets the subscription after a disconnect (the server drops it on logout). */
+    static void resetStatsSubscription() {
+        subscribedCatId = SubscribeCatStatsPacket.NONE;
+    }
+
     private static void renderCatStatsOverlay(net.minecraft.client.gui.GuiGraphics g, Minecraft mc, Cat cat) {
         int hp = Math.round(cat.getHealth());
         int maxHp = Math.round(cat.getMaxHealth());
@@ -275,14 +285,15 @@ public final class CatGuardianGogglesClientHandler {
             armorStr = "No armor";
         }
 
-        int[] xpData = CatGuardianClientEvents.CAT_XP_MAP.get(cat.getId());
-        String xpStr = xpData != null
-                ? xpData[0] + "/" + xpData[1]
+        int[] stats = CatGuardianClientEvents.CAT_STATS_MAP.get(cat.getId());
+        String xpStr = stats != null && stats[0] >= 0
+                ? stats[0] + "/" + stats[1]
                 : "?/" + CatGuardianModule.getCatXpCapacity();
+        String fedStr = stats != null && stats[2] >= 0 ? stats[2] + "%" : "?";
 
         String ownerStr = resolveOwnerName(mc, cat.getOwnerUUID());
 
-        // --- Layout: unified icon size for all three rows ---
+        // --- Layout: unified icon size for all rows ---
         net.minecraft.client.gui.Font font = mc.font;
         int iconSize = 14;                        // all icons the same size
         float itemScale = iconSize / 16f;         // scale for item icons (0.875)
@@ -293,8 +304,9 @@ public final class CatGuardianGogglesClientHandler {
         int armorGap = hasArmor ? iconGap : 0;
         int panelW = Math.max(iconGap + font.width(healthStr),
                 Math.max(armorGap + font.width(armorStr),
-                        Math.max(iconGap + font.width(xpStr), iconGap + font.width(ownerStr))));
-        int contentH = rowH * 4;
+                        Math.max(iconGap + font.width(xpStr),
+                                Math.max(iconGap + font.width(fedStr), iconGap + font.width(ownerStr)))));
+        int contentH = rowH * 5;
         int pad = 4;
 
         // Position: to the right of the crosshair, same as station tooltip
@@ -335,15 +347,25 @@ public final class CatGuardianGogglesClientHandler {
         g.pose().popPose();
         g.drawString(font, xpStr, x + panelW - font.width(xpStr), row2Y + textOff, 0xFF7BE018, false);
 
-        // Row 3: player head icon (left) + owner name (right-aligned)
+        // Row 3: fish icon (left) + fed percentage (right-aligned)
         int row3Y = y + rowH * 3;
-        ItemStack playerHead = new ItemStack(net.minecraft.world.item.Items.PLAYER_HEAD);
+        ItemStack fish = new ItemStack(net.minecraft.world.item.Items.COD);
         g.pose().pushPose();
         g.pose().translate(x, row3Y, 0);
         g.pose().scale(itemScale, itemScale, 1f);
+        g.renderItem(fish, 0, 0);
+        g.pose().popPose();
+        g.drawString(font, fedStr, x + panelW - font.width(fedStr), row3Y + textOff, 0xFFE0A040, false);
+
+        // Row 4: player head icon (left) + owner name (right-aligned)
+        int row4Y = y + rowH * 4;
+        ItemStack playerHead = new ItemStack(net.minecraft.world.item.Items.PLAYER_HEAD);
+        g.pose().pushPose();
+        g.pose().translate(x, row4Y, 0);
+        g.pose().scale(itemScale, itemScale, 1f);
         g.renderItem(playerHead, 0, 0);
         g.pose().popPose();
-        g.drawString(font, ownerStr, x + panelW - font.width(ownerStr), row3Y + textOff, 0xFFAAAAFF, false);
+        g.drawString(font, ownerStr, x + panelW - font.width(ownerStr), row4Y + textOff, 0xFFAAAAFF, false);
     }
 
     /** Resolves an owner UUID to a display name via the client's tab-list player info. */
@@ -20,6 +20,8 @@ public class CatGuardianConfig extends AbstractModuleConfig<CatGuardianModule, C
     private ModConfigSpec.IntValue defaultSharpnessLevel;
     private ModConfigSpec.IntValue defaultThornsLevel;
     private ModConfigSpec.DoubleValue thornsReflectFraction;
+    private ModConfigSpec.BooleanValue dormancyEnabled;
+    private ModConfigSpec.DoubleValue dormancyPlayerRange;
 
     public CatGuardianConfig(CatGuardianModule module) {
         super(module);
@@ -73,6 +75,13 @@ public class CatGuardianConfig extends AbstractModuleConfig<CatGuardianModule, C
                 .comment("Base fraction of absorbed damage reflected back to the attacker, scaled "
                         + "by the armor's Thorns level (0.0 = none, 1.0 = full).")
                 .defineInRange("thorns_reflect_fraction", 0.33D, 0.0D, 1.0D);
+        dormancyEnabled = builder
+                .comment("Let fed cats resting at a station with no hostile in its guard zone and no player nearby "
+                        + "go dormant: they only count down their fed time and wake as soon as a threat shows up")
+                .define("dormancy_enabled", true);
+        dormancyPlayerRange = builder
+                .comment("Cats of a station stay awake while a player is within this many blocks of the bowl")
+                .defineInRange("dormancy_player_range", 48.0D, 0.0D, 256.0D);
     }
 
     public double getAssociationRadius() {
@@ -131,4 +140,12 @@ public class CatGuardianConfig extends AbstractModuleConfig<CatGuardianModule, C
         return thornsReflectFraction != null ? thornsReflectFraction.get() : 0.33D;
     }
 
+    public boolean isDormancyEnabled() {
+        return dormancyEnabled == null || dormancyEnabled.get();
+    }
+
+    public double getDormancyPlayerRange() {
+        return dormancyPlayerRange != null ? dormancyPlayerRange.get() : 48.0D;
+    }
+
 }
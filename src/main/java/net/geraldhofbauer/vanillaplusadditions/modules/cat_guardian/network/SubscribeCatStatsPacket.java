@@ -0,0 +1,32 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.network;
+
+import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Subscribes the sending player to the stats of the cat its goggles popup shows; the server then
+ * pushes {@link SyncCatStatsPacket} diffs while they change. Replaces any earlier subscription.
+ */
+public record SubscribeCatStatsPacket(int catId) implements CustomPacketPayload {
+
+    /** catId = -1 ends the subscription (the popup closed or looks at nothing). */
+    public static final int NONE = -1;
+
+    public static final Type<SubscribeCatStatsPacket> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "subscribe_cat_stats"));
+
+    public static final StreamCodec<FriendlyByteBuf, SubscribeCatStatsPacket> STREAM_CODEC =
+            StreamCodec.composite(
+                    ByteBufCodecs.VAR_INT, SubscribeCatStatsPacket::catId,
+                    SubscribeCatStatsPacket::new
+            );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
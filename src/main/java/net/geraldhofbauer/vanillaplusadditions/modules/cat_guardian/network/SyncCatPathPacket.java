@@ -1,12 +1,16 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.network;
 
 import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
+import net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.DebugPathSync;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 
-/** Syncs a guardian cat's current navigation path nodes to nearby clients for overlay rendering. */
+/**
+ * Syncs a guardian cat's current navigation path nodes to clients with the debug overlay on, for overlay rendering.
+ * Sent by {@link DebugPathSync} only when the path changed; nodes are delta-encoded.
+ */
 public record SyncCatPathPacket(int catEntityId, int[] nodeX, int[] nodeY, int[] nodeZ, int nextNodeIndex)
         implements CustomPacketPayload {
 
@@ -17,26 +21,14 @@ public record SyncCatPathPacket(int catEntityId, int[] nodeX, int[] nodeY, int[]
 
     public static final StreamCodec<FriendlyByteBuf, SyncCatPathPacket> STREAM_CODEC = StreamCodec.of(
             (buf, pkt) -> {
-                buf.writeInt(pkt.catEntityId());
-                int n = pkt.nodeX().length;
-                buf.writeInt(n);
-                for (int i = 0; i < n; i++) {
-                    buf.writeInt(pkt.nodeX()[i]);
-                    buf.writeInt(pkt.nodeY()[i]);
-                    buf.writeInt(pkt.nodeZ()[i]);
-                }
-                buf.writeInt(pkt.nextNodeIndex());
+                buf.writeVarInt(pkt.catEntityId());
+                DebugPathSync.writeNodes(buf, pkt.nodeX(), pkt.nodeY(), pkt.nodeZ());
+                buf.writeVarInt(pkt.nextNodeIndex());
             },
             buf -> {
-                int catId = buf.readInt();
-                int n = buf.readInt();
-                int[] xs = new int[n], ys = new int[n], zs = new int[n];
-                for (int i = 0; i < n; i++) {
-                    xs[i] = buf.readInt();
-                    ys[i] = buf.readInt();
-                    zs[i] = buf.readInt();
-                }
-                return new SyncCatPathPacket(catId, xs, ys, zs, buf.readInt());
+                int catId = buf.readVarInt();
+                int[][] nodes = DebugPathSync.readNodes(buf);
+                return new SyncCatPathPacket(catId, nodes[0], nodes[1], nodes[2], buf.readVarInt());
             }
     );
 
@@ -1,24 +1,72 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.cat_guardian.network;
 
 import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
+import net.geraldhofbauer.vanillaplusadditions.util.guardian.GuardianStats;
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 
-public record SyncCatStatsPacket(int catId, int xp, int xpCap) implements CustomPacketPayload {
+/**
+ * Pushes the changed goggles-popup stats of a cat to a subscribed player. Only the fields flagged in
+ * {@code changed} are written; the client keeps the others. HP needs no field, vanilla entity data
+ * already syncs it.
+ */
+public record SyncCatStatsPacket(int catId, int changed, int xp, int xpCap, int fedPercent, int armorDamage)
+        implements CustomPacketPayload {
+
+    /** {@code xp} and {@code xpCap} are set. */
+    public static final int XP = GuardianStats.XP;
+    /** {@code fedPercent} (0-100) is set. */
+    public static final int FED = GuardianStats.FED;
+    /** {@code armorDamage} (damage value of the worn armor) is set. */
+    public static final int ARMOR_DAMAGE = GuardianStats.ARMOR_DAMAGE;
 
     public static final Type<SyncCatStatsPacket> TYPE =
             new Type<>(ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "sync_cat_stats"));
 
-    public static final StreamCodec<FriendlyByteBuf, SyncCatStatsPacket> STREAM_CODEC =
-            StreamCodec.composite(
-                    ByteBufCodecs.INT, SyncCatStatsPacket::catId,
-                    ByteBufCodecs.INT, SyncCatStatsPacket::xp,
-                    ByteBufCodecs.INT, SyncCatStatsPacket::xpCap,
-                    SyncCatStatsPacket::new
-            );
+    public static final StreamCodec<FriendlyByteBuf, SyncCatStatsPacket> STREAM_CODEC = StreamCodec.of(
+            (buf, pkt) -> {
+                buf.writeVarInt(pkt.catId());
+                buf.writeByte(pkt.changed());
+                if (pkt.has(XP)) {
+                    buf.writeVarInt(pkt.xp());
+                    buf.writeVarInt(pkt.xpCap());
+                }
+                if (pkt.has(FED)) {
+                    buf.writeByte(pkt.fedPercent());
+                }
+                if (pkt.has(ARMOR_DAMAGE)) {
+                    buf.writeVarInt(pkt.armorDamage());
+                }
+            },
+            buf -> {
+                int catId = buf.readVarInt();
+                int changed = buf.readUnsignedByte();
+                int xp = 0;
+                int xpCap = 0;
+                int fedPercent = 0;
+                int armorDamage = 0;
+                if ((changed & XP) != 0) {
+                    xp = buf.readVarInt();
+                    xpCap = buf.readVarInt();
+                }
+                if ((changed & FED) != 0) {
+                    fedPercent = buf.readUnsignedByte();
+                }
+                if ((changed & ARMOR_DAMAGE) != 0) {
+                    armorDamage = buf.readVarInt();
+                }
+                return new SyncCatStatsPacket(catId, changed, xp, xpCap, fedPercent, armorDamage);
+            }
+    );
+
+    /**
+     * @return whether the field(s) {@code flag} are set
+     */
+    public boolean has(int flag) {
+        return (changed & flag) != 0;
+    }
 
     @Override
     public Type<? extends CustomPacketPayload> type() {
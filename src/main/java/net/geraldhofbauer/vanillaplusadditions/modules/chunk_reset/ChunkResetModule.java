@@ -21,7 +21,6 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.storage.ChunkStorage;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 
 import java.lang.reflect.Method;
@@ -51,7 +50,7 @@ public class ChunkResetModule extends AbstractModule<ChunkResetModule, AbstractM
 
     @Override
     protected void onInitialize() {
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
         getLogger().info("Chunk Reset module initialized - /chunkreset command ready!");
     }
 
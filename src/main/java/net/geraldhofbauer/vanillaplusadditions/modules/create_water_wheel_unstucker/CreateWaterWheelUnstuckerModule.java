@@ -2,6 +2,7 @@ package net.geraldhofbauer.vanillaplusadditions.modules.create_water_wheel_unstu
 
 import com.mojang.brigadier.Command;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
 import net.geraldhofbauer.vanillaplusadditions.modules.create_water_wheel_unstucker.config.CreateWaterWheelUnstuckerConfig;
 import net.minecraft.commands.Commands;
 import net.minecraft.core.BlockPos;
@@ -10,7 +11,6 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.ModList;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
 import net.neoforged.neoforge.event.level.ChunkEvent;
@@ -37,6 +37,7 @@ public class CreateWaterWheelUnstuckerModule
 
     private WaterWheelRegistry registry;
     private WaterWheelStallManager stallManager;
+    private final ModuleProfiler.Probe stallProbe = ModuleProfiler.probe(getModuleId(), "stallManager.tick");
 
     /**
      * Creates the module.
@@ -68,9 +69,14 @@ public class CreateWaterWheelUnstuckerModule
     protected void onInitialize() {
         registry = new WaterWheelRegistry();
         stallManager = new WaterWheelStallManager(this, registry);
-        NeoForge.EVENT_BUS.register(this);
-        getLogger().info("Create Water Wheel Unstucker module initialized (Create reflection available: {})",
-                WaterWheelKinetics.isAvailable());
+        registerGameEventListener(this);
+        registerLifecycleListener(ChunkEvent.Unload.class, this::onChunkUnload);
+        registerLifecycleListener(RegisterCommandsEvent.class, this::onRegisterCommands);
+        registerLifecycleListener(LevelEvent.Unload.class, this::onLevelUnload);
+        registerLifecycleListener(ServerStoppedEvent.class, this::onServerStopped);
+        // Reflection is resolved on first use or the first server tick, not during mod loading
+        WaterWheelKinetics.deferInitialization();
+        getLogger().info("Create Water Wheel Unstucker module initialized");
     }
 
     /**
@@ -102,8 +108,7 @@ public class CreateWaterWheelUnstuckerModule
      *
      * @param event The chunk unload event
      */
-    @SubscribeEvent
-    public void onChunkUnload(ChunkEvent.Unload event) {
+    private void onChunkUnload(ChunkEvent.Unload event) {
         if (registry == null || !(event.getLevel() instanceof ServerLevel level)) {
             return;
         }
@@ -152,7 +157,12 @@ public class CreateWaterWheelUnstuckerModule
         if (!isModuleEnabled()) {
             return;
         }
-        stallManager.tick(event.getServer());
+        long start = stallProbe.start();
+        try {
+            stallManager.tick(event.getServer());
+        } finally {
+            stallProbe.stop(start);
+        }
     }
 
     /**
@@ -161,8 +171,7 @@ public class CreateWaterWheelUnstuckerModule
      *
      * @param event The command registration event
      */
-    @SubscribeEvent
-    public void onRegisterCommands(RegisterCommandsEvent event) {
+    private void onRegisterCommands(RegisterCommandsEvent event) {
         if (!isCreateLoaded()) {
             return;
         }
@@ -189,8 +198,7 @@ public class CreateWaterWheelUnstuckerModule
      *
      * @param event The level unload event
      */
-    @SubscribeEvent
-    public void onLevelUnload(LevelEvent.Unload event) {
+    private void onLevelUnload(LevelEvent.Unload event) {
         if (registry == null || !(event.getLevel() instanceof ServerLevel level)) {
             return;
         }
@@ -203,8 +211,7 @@ public class CreateWaterWheelUnstuckerModule
      *
      * @param event The server stopped event
      */
-    @SubscribeEvent
-    public void onServerStopped(ServerStoppedEvent event) {
+    private void onServerStopped(ServerStoppedEvent event) {
         if (registry == null) {
             return;
         }
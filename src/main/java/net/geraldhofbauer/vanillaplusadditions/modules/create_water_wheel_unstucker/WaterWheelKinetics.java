@@ -1,6 +1,7 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.create_water_wheel_unstucker;
 
 import com.mojang.logging.LogUtils;
+import net.geraldhofbauer.vanillaplusadditions.core.LazyInit;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import org.slf4j.Logger;
@@ -32,7 +33,10 @@ final class WaterWheelKinetics {
     private static final String WATER_WHEEL_BE = "com.simibubi.create.content.kinetics.waterwheel.WaterWheelBlockEntity";
     private static final String KINETIC_NETWORK = "com.simibubi.create.content.kinetics.KineticNetwork";
 
-    private static volatile boolean initialized;
+    /** Resolving the reflection handles costs a few ms of class loading; deferred off mod loading. */
+    private static final LazyInit REFLECTION = LazyInit.of("create_water_wheel_unstucker",
+            "Create water wheel reflection", WaterWheelKinetics::resolveReflection);
+
     private static volatile boolean warningLogged;
     private static Class<?> waterWheelClass;
     private static Method getSpeed;
@@ -399,39 +403,44 @@ final class WaterWheelKinetics {
         }
     }
 
+    /**
+     * Resolves the reflection handles on the first server tick at the latest instead of during mod
+     * loading. Called from the module's initialization.
+     */
+    static void deferInitialization() {
+        REFLECTION.deferToFirstServerTick();
+    }
+
     private static void ensureInitialized() {
-        if (initialized) {
-            return;
-        }
-        synchronized (WaterWheelKinetics.class) {
-            if (!initialized) {
-                try {
-                    Class<?> kinetic = Class.forName(KINETIC_BE);
-                    Class<?> generating = Class.forName(GENERATING_BE);
-                    Class<?> waterWheel = Class.forName(WATER_WHEEL_BE);
-                    getSpeed = kinetic.getMethod("getSpeed");
-                    getGeneratedSpeed = kinetic.getMethod("getGeneratedSpeed");
-                    isOverStressed = kinetic.getMethod("isOverStressed");
-                    detachKinetics = kinetic.getMethod("detachKinetics");
-                    removeSource = kinetic.getMethod("removeSource");
-                    attachKinetics = kinetic.getMethod("attachKinetics");
-                    updateGeneratedRotation = generating.getMethod("updateGeneratedRotation");
-                    determineAndApplyFlowScore = waterWheel.getMethod("determineAndApplyFlowScore");
-                    waterWheelClass = waterWheel;
-                    // Optional: the visual material (planks) applied to the wheel. Preserved across a
-                    // break+replace re-init. Its absence must NOT disable the whole layer.
-                    try {
-                        materialField = waterWheel.getField("material");
-                    } catch (NoSuchFieldException nsf) {
-                        materialField = null;
-                    }
-                    initNetworkAccess(kinetic);
-                } catch (ReflectiveOperationException | LinkageError ex) {
-                    warnOnce("Failed to initialize Create water wheel reflection"
-                            + " - the unstucker will be inactive", ex);
-                }
-                initialized = true;
+        REFLECTION.ensure();
+    }
+
+    private static void resolveReflection() {
+        try {
+            Class<?> kinetic = Class.forName(KINETIC_BE);
+            Class<?> generating = Class.forName(GENERATING_BE);
+            Class<?> waterWheel = Class.forName(WATER_WHEEL_BE);
+            getSpeed = kinetic.getMethod("getSpeed");
+            getGeneratedSpeed = kinetic.getMethod("getGeneratedSpeed");
+            isOverStressed = kinetic.getMethod("isOverStressed");
+            detachKinetics = kinetic.getMethod("detachKinetics");
+            removeSource = kinetic.getMethod("removeSource");
+            attachKinetics = kinetic.getMethod("attachKinetics");
+            updateGeneratedRotation = generating.getMethod("updateGeneratedRotation");
+            determineAndApplyFlowScore = waterWheel.getMethod("determineAndApplyFlowScore");
+            waterWheelClass = waterWheel;
+            // Optional: the visual material (planks) applied to the wheel. Preserved across a
+            // break+replace re-init. Its absence must NOT disable the whole layer.
+            try {
+                materialField = waterWheel.getField("material");
+            } catch (NoSuchFieldException nsf) {
+                materialField = null;
             }
+            initNetworkAccess(kinetic);
+            LOGGER.info("[create_water_wheel_unstucker] Create water wheel reflection available");
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            warnOnce("Failed to initialize Create water wheel reflection"
+                    + " - the unstucker will be inactive", ex);
         }
     }
 
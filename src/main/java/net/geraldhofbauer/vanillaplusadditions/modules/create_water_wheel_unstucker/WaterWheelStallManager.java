@@ -1,6 +1,8 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.create_water_wheel_unstucker;
 
 import com.mojang.logging.LogUtils;
+import net.geraldhofbauer.vanillaplusadditions.core.LoadGovernor;
+import net.geraldhofbauer.vanillaplusadditions.core.TickBudgetScheduler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.MinecraftServer;
@@ -13,6 +15,7 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -82,6 +85,10 @@ class WaterWheelStallManager {
     private record PendingCheck(ResourceKey<Level> dimension, BlockPos pos) {
     }
 
+    /** A wheel queued for the periodic sweep; the level is resolved again when its slice runs. */
+    private record SweepEntry(ResourceKey<Level> dimension, BlockPos pos) {
+    }
+
     /** Per-wheel escalation state. Mutable on purpose - server thread only. */
     private static final class FixState {
         private int attempts;
@@ -108,6 +115,8 @@ class WaterWheelStallManager {
     private final Map<ResourceKey<Level>, Map<BlockPos, PendingReplace>> pendingReplace = new HashMap<>();
     /** Wheels awaiting a post-re-init outcome log (pos -> game time to check). */
     private final Map<ResourceKey<Level>, Map<BlockPos, Long>> pendingVerify = new HashMap<>();
+    /** The periodic sweep currently spread over the next ticks, or null. */
+    private TickBudgetScheduler.Handle sweep;
 
     WaterWheelStallManager(CreateWaterWheelUnstuckerModule module, WaterWheelRegistry registry) {
         this.module = module;
@@ -129,8 +138,10 @@ class WaterWheelStallManager {
     }
 
     /**
-     * Per-tick driver: drains the post-load queue, runs due targeted checks every tick, and runs
-     * the full sweep over all tracked wheels at the configured interval.
+     * Per-tick driver: drains the post-load queue, runs due targeted checks every tick, and starts
+     * the full sweep over all tracked wheels at the configured interval. The sweep checks one wheel
+     * per {@link TickBudgetScheduler} slice, so a large wheel farm no longer spikes a single tick;
+     * a new sweep only starts once the previous one finished.
      *
      * @param server The running server
      */
@@ -140,12 +151,24 @@ class WaterWheelStallManager {
         drainIncoming(server);
         runDuePostLoadChecks(server);
 
-        if (server.getTickCount() % module.getConfig().getCheckIntervalTicks() == 0) {
+        int sweepInterval = LoadGovernor.scale(module.getModuleId(), module.getConfig().getCheckIntervalTicks());
+        if (server.getTickCount() % sweepInterval == 0
+                && (sweep == null || sweep.isDone())) {
+            List<SweepEntry> wheels = new ArrayList<>();
             for (ServerLevel level : server.getAllLevels()) {
                 for (BlockPos pos : registry.positionsIfPresent(level)) {
-                    checkWheel(level, pos);
+                    wheels.add(new SweepEntry(level.dimension(), pos));
                 }
             }
+            if (!wheels.isEmpty()) {
+                sweep = TickBudgetScheduler.submitEach(module.getModuleId(), "sweep",
+                        TickBudgetScheduler.Priority.LOW, wheels, entry -> {
+                            ServerLevel level = server.getLevel(entry.dimension());
+                            if (level != null) {
+                                checkWheel(level, entry.pos());
+                            }
+                        });
+            }
         }
     }
 
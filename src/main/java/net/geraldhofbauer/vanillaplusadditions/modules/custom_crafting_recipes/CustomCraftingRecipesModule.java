@@ -1,15 +1,12 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.custom_crafting_recipes;
 
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.RecipeContributions;
 import net.geraldhofbauer.vanillaplusadditions.modules.custom_crafting_recipes.config.CustomCraftingRecipesConfig;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.server.packs.resources.PreparableReloadListener;
-import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.tags.TagKey;
-import net.minecraft.util.profiling.ProfilerFiller;
-import net.minecraft.util.Unit;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -21,19 +18,13 @@ import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.ShapedRecipe;
 import net.minecraft.world.item.crafting.ShapedRecipePattern;
 import net.minecraft.world.item.crafting.ShapelessRecipe;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
-import net.neoforged.neoforge.event.AddReloadListenerEvent;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -51,23 +42,14 @@ public class CustomCraftingRecipesModule
 
     @Override
     protected void onInitialize() {
-        NeoForge.EVENT_BUS.register(this);
+        RecipeContributions.register(this, (recipes, registryAccess) -> addConfiguredRecipes(recipes));
     }
 
     // TODO: Migrate from code-injected recipes to proper JSON datapack recipes
     //       (data/<ns>/recipe/*.json — singular folder since MC 1.21). This RecipeManager
     //       injection is a workaround because the old plural recipes/ folder never loaded.
     //       See docs/custom_crafting_recipes.md ("TODO / Roadmap") for the correct format.
-    @SubscribeEvent
-    public void onAddReloadListener(AddReloadListenerEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-
-        event.addListener(new CustomRecipeReloadListener(event.getServerResources().getRecipeManager()));
-    }
-
-    private void applyConfiguredRecipes(RecipeManager recipeManager) {
+    private void addConfiguredRecipes(Map<ResourceLocation, RecipeHolder<?>> mergedRecipes) {
         List<RecipeHolder<?>> configuredRecipes = parseConfiguredRecipes();
         if (configuredRecipes.isEmpty()) {
             if (getConfig().shouldDebugLog()) {
@@ -76,12 +58,6 @@ public class CustomCraftingRecipesModule
             return;
         }
 
-        Map<ResourceLocation, RecipeHolder<?>> mergedRecipes = new LinkedHashMap<>();
-        Collection<RecipeHolder<?>> existingRecipes = recipeManager.getRecipes();
-        for (RecipeHolder<?> recipeHolder : existingRecipes) {
-            mergedRecipes.put(recipeHolder.id(), recipeHolder);
-        }
-
         int added = 0;
         int replaced = 0;
         for (RecipeHolder<?> configuredRecipe : configuredRecipes) {
@@ -91,8 +67,6 @@ public class CustomCraftingRecipesModule
                 replaced++;
             }
         }
-
-        recipeManager.replaceRecipes(mergedRecipes.values());
         getLogger().info("Applied {} custom recipes ({} added, {} replaced).",
                 configuredRecipes.size(), added, replaced);
     }
@@ -192,30 +166,6 @@ public class CustomCraftingRecipesModule
         return Ingredient.of(item);
     }
 
-    private final class CustomRecipeReloadListener implements PreparableReloadListener {
-        private final RecipeManager recipeManager;
-
-        private CustomRecipeReloadListener(RecipeManager recipeManager) {
-            this.recipeManager = recipeManager;
-        }
-
-        @Override
-        public CompletableFuture<Void> reload(PreparationBarrier preparationBarrier,
-                                              ResourceManager resourceManager,
-                                              ProfilerFiller preparationsProfiler,
-                                              ProfilerFiller reloadProfiler,
-                                              Executor backgroundExecutor,
-                                              Executor gameExecutor) {
-            return preparationBarrier.wait(Unit.INSTANCE)
-                    .thenRunAsync(() -> applyConfiguredRecipes(recipeManager), gameExecutor);
-        }
-
-        @Override
-        public String getName() {
-            return "vanillaplusadditions_custom_crafting_recipes";
-        }
-    }
-
     private record CustomRecipeDefinition(ResourceLocation recipeId,
                                           ResourceLocation resultItemId,
                                           int resultCount,
@@ -11,7 +11,6 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.Level;
 import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.entity.living.LivingDeathEvent;
 
 import java.util.Objects;
@@ -31,7 +30,7 @@ public class DeathCoordinatesModule extends AbstractModule<
     @Override
     protected void onInitialize() {
         // Register event listeners for this module
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
 
         getLogger().info("Death Coordinates module initialized - Player death coordinates will be announced in chat!");
     }
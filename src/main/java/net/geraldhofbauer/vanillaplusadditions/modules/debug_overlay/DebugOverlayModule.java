@@ -2,6 +2,9 @@ package net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay;
 
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModuleConfig;
+import net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.network.DebugOverlaySubscriptionPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
 
 /**
  * General client-side debug-overlay framework.
@@ -11,8 +14,9 @@ import net.geraldhofbauer.vanillaplusadditions.core.AbstractModuleConfig;
  * that other modules plug renderers into, shared goggles detection and world-render helpers.
  * Renderers only draw while the toggle is on and the player wears Engineer's Goggles.</p>
  *
- * <p>The module itself has no server-side behaviour; all logic lives in {@code client/} classes
- * that are only loaded on {@code Dist.CLIENT}.</p>
+ * <p>Server-side the module only tracks which players have the overlay switched on
+ * ({@link DebugOverlaySubscribers}), so modules can send overlay-only data to just those players.
+ * All other logic lives in {@code client/} classes that are only loaded on {@code Dist.CLIENT}.</p>
  */
 public class DebugOverlayModule
         extends AbstractModule<DebugOverlayModule, AbstractModuleConfig.DefaultModuleConfig<DebugOverlayModule>> {
@@ -27,6 +31,16 @@ public class DebugOverlayModule
     @Override
     protected void onInitialize() {
         // Client keybind/render handlers register themselves via @EventBusSubscriber(Dist.CLIENT).
-        // Nothing to wire server-side.
+        getModEventBus().addListener(this::onRegisterPayloadHandlers);
+    }
+
+    private void onRegisterPayloadHandlers(RegisterPayloadHandlersEvent event) {
+        event.registrar("1").playToServer(DebugOverlaySubscriptionPacket.TYPE, DebugOverlaySubscriptionPacket.STREAM_CODEC,
+                (packet, ctx) -> ctx.enqueueWork(() -> {
+                    if (isModuleEnabled()) {
+                        DebugOverlaySubscribers.setSubscribed((ServerPlayer) ctx.player(), packet.enabled());
+                    }
+                })
+        );
     }
 }
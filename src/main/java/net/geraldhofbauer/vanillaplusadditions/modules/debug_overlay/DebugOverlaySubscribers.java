@@ -0,0 +1,99 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay;
+
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Server-side registry of the players that have the debug overlay switched on.
+ *
+ * <p>Modules send data that only the overlay displays (e.g. guardian navigation paths) to these
+ * players only, and skip building it at all while nobody is subscribed. Clients report their
+ * toggle with {@link net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.network.DebugOverlaySubscriptionPacket}
+ * on every flip and on login. Every change bumps the {@link #getEpoch() epoch}, so change-driven
+ * senders can resend their current state to a fresh subscriber.</p>
+ *
+ * <p>Server thread only. Players are dropped on logout and when the server stops.</p>
+ */
+public final class DebugOverlaySubscribers {
+
+    private static final Set<UUID> SUBSCRIBERS = new LinkedHashSet<>();
+    private static boolean listening = false;
+    private static int epoch;
+
+    private DebugOverlaySubscribers() {
+    }
+
+    /**
+     * @return true if at least one player has the overlay switched on
+     */
+    public static boolean hasSubscribers() {
+        return !SUBSCRIBERS.isEmpty();
+    }
+
+    public static boolean isSubscribed(ServerPlayer player) {
+        return SUBSCRIBERS.contains(player.getUUID());
+    }
+
+    /**
+     * @return a counter that changes whenever a player subscribes or unsubscribes
+     */
+    public static int getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Sends {@code payload} to the subscribed players in {@code entity}'s level that are within its
+     * client tracking range.
+     */
+    public static void sendToSubscribersTracking(Entity entity, CustomPacketPayload payload) {
+        if (SUBSCRIBERS.isEmpty() || entity.getServer() == null) {
+            return;
+        }
+        double range = Math.max(1, entity.getType().clientTrackingRange()) * 16.0;
+        for (UUID id : SUBSCRIBERS) {
+            // Looked up each time: respawning replaces the ServerPlayer instance
+            ServerPlayer player = entity.getServer().getPlayerList().getPlayer(id);
+            if (player != null && player.level() == entity.level() && player.distanceToSqr(entity) <= range * range) {
+                PacketDistributor.sendToPlayer(player, payload);
+            }
+        }
+    }
+
+    static void setSubscribed(ServerPlayer player, boolean subscribed) {
+        startListening();
+        boolean changed = subscribed
+                ? SUBSCRIBERS.add(player.getUUID())
+                : SUBSCRIBERS.remove(player.getUUID());
+        if (changed) {
+            epoch++;
+        }
+    }
+
+    private static synchronized void startListening() {
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(DebugOverlaySubscribers::onPlayerLoggedOut);
+            NeoForge.EVENT_BUS.addListener(DebugOverlaySubscribers::onServerStopped);
+        }
+    }
+
+    private static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        if (SUBSCRIBERS.remove(event.getEntity().getUUID())) {
+            epoch++;
+        }
+    }
+
+    private static void onServerStopped(ServerStoppedEvent event) {
+        SUBSCRIBERS.clear();
+        epoch++;
+    }
+}
@@ -0,0 +1,184 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay;
+
+import io.netty.handler.codec.DecoderException;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * Navigation path sync for the debug overlay, used by the guardian animals (cats, axolotls).
+ *
+ * <p>Paths are only sent to players that have the debug overlay switched on
+ * ({@link DebugOverlaySubscribers}) and only when they changed since the last send - or since a
+ * player (un)subscribed. Nothing is built while nobody is subscribed. On the wire a path is its
+ * first node followed by zigzag-varint deltas, so the usual one-block steps cost 3 bytes per node
+ * instead of 12.</p>
+ *
+ * <p>Server thread only, except the codec helpers.</p>
+ */
+public final class DebugPathSync {
+
+    /** Upper bound on decoded nodes, guards against corrupt packets. */
+    private static final int MAX_NODES = 4096;
+
+    /** Creates the module's path packet; matches the constructors of the path packet records. */
+    @FunctionalInterface
+    public interface PacketFactory {
+        CustomPacketPayload create(int entityId, int[] nodeX, int[] nodeY, int[] nodeZ, int nextNodeIndex);
+    }
+
+    private static final int[] EMPTY = new int[0];
+    /** entity ID -> (subscriber epoch << 32 | path hash) of the last send. */
+    private static final Int2LongMap LAST_SENT = new Int2LongOpenHashMap();
+    private static boolean listening = false;
+
+    private DebugPathSync() {
+    }
+
+    /**
+     * Sends {@code mob}'s current path to the subscribed players tracking it if it changed since the
+     * last send. While the mob has a target, a finished or missing path is not sent: melee goals
+     * reset the path every tick, and the approach path should stay visible through those gaps.
+     */
+    public static void sync(Mob mob, PacketFactory factory) {
+        if (!DebugOverlaySubscribers.hasSubscribers()) {
+            return;
+        }
+        startListening();
+        Path path = currentPath(mob);
+        if (path == null && mob.getTarget() != null) {
+            return;
+        }
+        long state = ((long) DebugOverlaySubscribers.getEpoch() << 32) | (hash(path) & 0xFFFFFFFFL);
+        if (LAST_SENT.containsKey(mob.getId()) && LAST_SENT.get(mob.getId()) == state) {
+            return;
+        }
+        LAST_SENT.put(mob.getId(), state);
+        DebugOverlaySubscribers.sendToSubscribersTracking(mob, packet(mob, path, factory));
+    }
+
+    /**
+     * Sends {@code mob}'s current path to {@code player} if it is subscribed, e.g. when it starts
+     * tracking the mob.
+     */
+    public static void sendTo(ServerPlayer player, Mob mob, PacketFactory factory) {
+        if (DebugOverlaySubscribers.isSubscribed(player)) {
+            PacketDistributor.sendToPlayer(player, packet(mob, currentPath(mob), factory));
+        }
+    }
+
+    /**
+     * Writes path nodes as count, first node and zigzag-varint deltas.
+     */
+    public static void writeNodes(FriendlyByteBuf buf, int[] xs, int[] ys, int[] zs) {
+        int n = xs.length;
+        buf.writeVarInt(n);
+        int px = 0;
+        int py = 0;
+        int pz = 0;
+        for (int i = 0; i < n; i++) {
+            buf.writeVarInt(zigzag(xs[i] - px));
+            buf.writeVarInt(zigzag(ys[i] - py));
+            buf.writeVarInt(zigzag(zs[i] - pz));
+            px = xs[i];
+            py = ys[i];
+            pz = zs[i];
+        }
+    }
+
+    /**
+     * Reads nodes written by {@link #writeNodes}.
+     *
+     * @return {@code {xs, ys, zs}}
+     */
+    public static int[][] readNodes(FriendlyByteBuf buf) {
+        int n = buf.readVarInt();
+        if (n < 0 || n > MAX_NODES) {
+            throw new DecoderException("Invalid path node count " + n);
+        }
+        int[] xs = new int[n];
+        int[] ys = new int[n];
+        int[] zs = new int[n];
+        int px = 0;
+        int py = 0;
+        int pz = 0;
+        for (int i = 0; i < n; i++) {
+            px += unzigzag(buf.readVarInt());
+            py += unzigzag(buf.readVarInt());
+            pz += unzigzag(buf.readVarInt());
+            xs[i] = px;
+            ys[i] = py;
+            zs[i] = pz;
+        }
+        return new int[][] {xs, ys, zs};
+    }
+
+    private static Path currentPath(Mob mob) {
+        Path path = mob.getNavigation().getPath();
+        return path == null || path.isDone() ? null : path;
+    }
+
+    private static CustomPacketPayload packet(Mob mob, Path path, PacketFactory factory) {
+        if (path == null) {
+            return factory.create(mob.getId(), EMPTY, EMPTY, EMPTY, 0);
+        }
+        int n = path.getNodeCount();
+        int[] xs = new int[n];
+        int[] ys = new int[n];
+        int[] zs = new int[n];
+        for (int i = 0; i < n; i++) {
+            Node node = path.getNode(i);
+            xs[i] = node.x;
+            ys[i] = node.y;
+            zs[i] = node.z;
+        }
+        return factory.create(mob.getId(), xs, ys, zs, path.getNextNodeIndex());
+    }
+
+    private static int hash(Path path) {
+        if (path == null) {
+            return 0;
+        }
+        int hash = 31 + path.getNextNodeIndex();
+        for (int i = 0; i < path.getNodeCount(); i++) {
+            Node node = path.getNode(i);
+            hash = 31 * (31 * (31 * hash + node.x) + node.y) + node.z;
+        }
+        return hash;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static synchronized void startListening() {
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(DebugPathSync::onEntityLeaveLevel);
+            NeoForge.EVENT_BUS.addListener(DebugPathSync::onServerStopped);
+        }
+    }
+
+    private static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (!event.getLevel().isClientSide()) {
+            LAST_SENT.remove(event.getEntity().getId());
+        }
+    }
+
+    private static void onServerStopped(ServerStoppedEvent event) {
+        LAST_SENT.clear();
+    }
+}
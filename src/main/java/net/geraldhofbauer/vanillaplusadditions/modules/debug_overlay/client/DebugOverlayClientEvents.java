@@ -1,16 +1,20 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.client;
 
 import com.mojang.blaze3d.vertex.PoseStack;
+import net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.network.DebugOverlaySubscriptionPacket;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
 import net.neoforged.neoforge.client.event.RenderGuiEvent;
 import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
 
 /**
  * Drives the shared debug overlay: consumes the toggle keybind and dispatches tick/world/HUD
@@ -28,6 +32,7 @@ public final class DebugOverlayClientEvents {
 
         while (DebugOverlayKeybinds.TOGGLE.consumeClick()) {
             boolean on = DebugOverlayState.toggle();
+            sendSubscription(on);
             if (mc.player != null) {
                 mc.player.displayClientMessage(Component.translatable(on
                         ? "message.vanillaplusadditions.debug_overlay.on"
@@ -82,6 +87,25 @@ public final class DebugOverlayClientEvents {
         }
     }
 
+    @SubscribeEvent
+    public static void onLoggingIn(ClientPlayerNetworkEvent.LoggingIn event) {
+        // The toggle survives reconnects; the server's subscriber list doesn't.
+        if (DebugOverlayState.isEnabled()) {
+            sendSubscription(true);
+        }
+    }
+
+    /**
+     * Tells the server whether to send overlay-only data (guardian paths, ...) to this player. Skipped
+     * on servers without the debug overlay channel.
+     */
+    private static void sendSubscription(boolean enabled) {
+        ClientPacketListener connection = Minecraft.getInstance().getConnection();
+        if (connection != null && connection.hasChannel(DebugOverlaySubscriptionPacket.TYPE)) {
+            PacketDistributor.sendToServer(new DebugOverlaySubscriptionPacket(enabled));
+        }
+    }
+
     /** Overlay is live when toggled on, in-world, and wearing goggles. */
     private static boolean active(Minecraft mc) {
         return DebugOverlayState.isEnabled()
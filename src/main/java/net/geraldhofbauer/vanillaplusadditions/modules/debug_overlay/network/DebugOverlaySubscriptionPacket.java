@@ -0,0 +1,24 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.debug_overlay.network;
+
+import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+/** Client → server: the player switched the debug overlay on or off (subscribes to debug-only sync data). */
+public record DebugOverlaySubscriptionPacket(boolean enabled) implements CustomPacketPayload {
+
+    public static final Type<DebugOverlaySubscriptionPacket> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "debug_overlay_subscription"));
+
+    public static final StreamCodec<FriendlyByteBuf, DebugOverlaySubscriptionPacket> STREAM_CODEC = StreamCodec.of(
+            (buf, pkt) -> buf.writeBoolean(pkt.enabled()),
+            buf -> new DebugOverlaySubscriptionPacket(buf.readBoolean())
+    );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
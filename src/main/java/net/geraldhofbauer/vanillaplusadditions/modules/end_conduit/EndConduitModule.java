@@ -2,6 +2,7 @@ package net.geraldhofbauer.vanillaplusadditions.modules.end_conduit;
 
 import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.RecipeContributions;
 import net.geraldhofbauer.vanillaplusadditions.core.VanillaPlusCreativeTabs;
 import net.geraldhofbauer.vanillaplusadditions.modules.end_conduit.block.EndConduitBlock;
 import net.geraldhofbauer.vanillaplusadditions.modules.end_conduit.blockentity.EndConduitBlockEntity;
@@ -10,11 +11,7 @@ import net.minecraft.core.particles.ParticleType;
 import net.minecraft.core.particles.SimpleParticleType;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.server.packs.resources.PreparableReloadListener;
-import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.world.level.block.SoundType;
-import net.minecraft.util.Unit;
-import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -22,24 +19,17 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.CraftingBookCategory;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.ShapedRecipe;
 import net.minecraft.world.item.crafting.ShapedRecipePattern;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.material.MapColor;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
-import net.neoforged.neoforge.event.AddReloadListenerEvent;
 import net.neoforged.neoforge.registries.DeferredBlock;
 import net.neoforged.neoforge.registries.DeferredHolder;
 import net.neoforged.neoforge.registries.DeferredItem;
 import net.neoforged.neoforge.registries.DeferredRegister;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 
 /**
  * End Conduit module: an End-only conduit upgrade. A distinct, craftable item that places a block
@@ -143,27 +133,14 @@ public class EndConduitModule extends AbstractModule<EndConduitModule, EndCondui
 
         VanillaPlusCreativeTabs.addToMainTab(END_CONDUIT_ITEM);
 
-        NeoForge.EVENT_BUS.register(this);
+        RecipeContributions.register(this, (recipes, registryAccess) -> addEndConduitRecipe(recipes));
 
         getLogger().info("End Conduit module initialized");
     }
 
     // ---- Recipe injection (in-code, no JSON — see CLAUDE.md) ----
 
-    @SubscribeEvent
-    public void onAddReloadListener(AddReloadListenerEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        event.addListener(new EndConduitRecipeReloadListener(event.getServerResources().getRecipeManager()));
-    }
-
-    private void applyEndConduitRecipe(RecipeManager recipeManager) {
-        Map<ResourceLocation, RecipeHolder<?>> merged = new LinkedHashMap<>();
-        for (RecipeHolder<?> existing : recipeManager.getRecipes()) {
-            merged.put(existing.id(), existing);
-        }
-
+    private void addEndConduitRecipe(Map<ResourceLocation, RecipeHolder<?>> merged) {
         // F E F  — F = chorus fruit (corners), E = eye of ender (edges), C = vanilla conduit (centre)
         // E C E
         // F E F
@@ -176,28 +153,5 @@ public class EndConduitModule extends AbstractModule<EndConduitModule, EndCondui
                 new ItemStack(END_CONDUIT_ITEM.get()));
         ResourceLocation id = ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "end_conduit");
         merged.put(id, new RecipeHolder<>(id, recipe));
-
-        recipeManager.replaceRecipes(merged.values());
-    }
-
-    private final class EndConduitRecipeReloadListener implements PreparableReloadListener {
-        private final RecipeManager recipeManager;
-
-        private EndConduitRecipeReloadListener(RecipeManager recipeManager) {
-            this.recipeManager = recipeManager;
-        }
-
-        @Override
-        public CompletableFuture<Void> reload(PreparationBarrier preparationBarrier, ResourceManager resourceManager,
-                                              ProfilerFiller preparationsProfiler, ProfilerFiller reloadProfiler,
-                                              Executor backgroundExecutor, Executor gameExecutor) {
-            return preparationBarrier.wait(Unit.INSTANCE)
-                    .thenRunAsync(() -> applyEndConduitRecipe(recipeManager), gameExecutor);
-        }
-
-        @Override
-        public String getName() {
-            return "vanillaplusadditions_end_conduit_recipes";
-        }
     }
 }
@@ -1,6 +1,8 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.end_conduit.block;
 
 import com.mojang.serialization.MapCodec;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleManager;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
 import net.geraldhofbauer.vanillaplusadditions.modules.end_conduit.EndConduitModule;
 import net.geraldhofbauer.vanillaplusadditions.modules.end_conduit.blockentity.EndConduitBlockEntity;
 import net.minecraft.core.BlockPos;
@@ -32,6 +34,8 @@ public class EndConduitBlock extends BaseEntityBlock {
 
     public static final MapCodec<EndConduitBlock> CODEC = simpleCodec(EndConduitBlock::new);
     protected static final VoxelShape SHAPE = Block.box(5.0, 5.0, 5.0, 11.0, 11.0, 11.0);
+    private static final ModuleProfiler.Probe SERVER_TICK_PROBE =
+            ModuleProfiler.probe("end_conduit", "EndConduitBlockEntity.serverTick");
 
     public EndConduitBlock(BlockBehaviour.Properties properties) {
         super(properties);
@@ -52,8 +56,13 @@ public class EndConduitBlock extends BaseEntityBlock {
     @Override
     public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state,
                                                                   BlockEntityType<T> blockEntityType) {
+        if (level.isClientSide) {
+            return createTickerHelper(blockEntityType, EndConduitModule.END_CONDUIT_BE.get(),
+                    ModuleManager.suspendable("end_conduit", EndConduitBlockEntity::clientTick));
+        }
         return createTickerHelper(blockEntityType, EndConduitModule.END_CONDUIT_BE.get(),
-                level.isClientSide ? EndConduitBlockEntity::clientTick : EndConduitBlockEntity::serverTick);
+                ModuleManager.suspendable("end_conduit",
+                        ModuleProfiler.wrap(SERVER_TICK_PROBE, EndConduitBlockEntity::serverTick)));
     }
 
     @Override
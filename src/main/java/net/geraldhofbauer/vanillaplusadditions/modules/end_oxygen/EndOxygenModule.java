@@ -16,7 +16,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.entity.living.LivingBreatheEvent;
 
 import java.util.List;
@@ -51,7 +50,13 @@ public class EndOxygenModule extends AbstractModule<EndOxygenModule, EndOxygenCo
 
     @Override
     protected void onInitialize() {
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
+    }
+
+    @Override
+    protected void onClientSetup() {
+        registerGameEventListener(
+                net.geraldhofbauer.vanillaplusadditions.modules.end_oxygen.client.EndOxygenClientEvents.class);
     }
 
     @SubscribeEvent
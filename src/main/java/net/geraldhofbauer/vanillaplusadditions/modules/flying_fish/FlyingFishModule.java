@@ -2,6 +2,7 @@ package net.geraldhofbauer.vanillaplusadditions.modules.flying_fish;
 
 import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.RecipeContributions;
 import net.geraldhofbauer.vanillaplusadditions.core.VanillaPlusCreativeTabs;
 import net.geraldhofbauer.vanillaplusadditions.modules.flying_fish.client.FlyingFishClientHooks;
 import net.geraldhofbauer.vanillaplusadditions.modules.flying_fish.config.FlyingFishConfig;
@@ -12,10 +13,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.server.packs.resources.PreparableReloadListener;
-import net.minecraft.server.packs.resources.ResourceManager;
-import net.minecraft.util.Unit;
-import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.MobCategory;
@@ -36,7 +33,6 @@ import net.minecraft.world.food.FoodProperties;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.ShapelessRecipe;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.material.Fluids;
@@ -44,8 +40,6 @@ import net.minecraft.world.phys.Vec3;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.common.DeferredSpawnEggItem;
-import net.neoforged.neoforge.common.NeoForge;
-import net.neoforged.neoforge.event.AddReloadListenerEvent;
 import net.neoforged.neoforge.event.entity.EntityAttributeCreationEvent;
 import net.neoforged.neoforge.event.entity.living.LivingDropsEvent;
 import net.neoforged.neoforge.event.entity.RegisterSpawnPlacementsEvent;
@@ -57,11 +51,8 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.minecraft.sounds.SoundEvents;
 
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 
 public class FlyingFishModule extends AbstractModule<FlyingFishModule, FlyingFishConfig> {
     private static final DeferredRegister.Items ITEMS = DeferredRegister.createItems(VanillaPlusAdditions.MODID);
@@ -155,7 +146,8 @@ public class FlyingFishModule extends AbstractModule<FlyingFishModule, FlyingFis
             getModEventBus().addListener(FlyingFishClientHooks::onRegisterRenderers);
         }
 
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
+        RecipeContributions.register(this, (recipes, registryAccess) -> addFlyingFishRecipes(recipes));
         contentRegistered = true;
     }
 
@@ -210,24 +202,9 @@ public class FlyingFishModule extends AbstractModule<FlyingFishModule, FlyingFis
         ));
     }
 
-    @SubscribeEvent
-    public void onAddReloadListener(AddReloadListenerEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-
-        event.addListener(new FlyingFishRecipeReloadListener(event.getServerResources().getRecipeManager()));
-    }
-
-    private void applyConfiguredFlyingFishRecipes(RecipeManager recipeManager) {
-        Map<ResourceLocation, RecipeHolder<?>> mergedRecipes = new LinkedHashMap<>();
-        for (RecipeHolder<?> recipeHolder : recipeManager.getRecipes()) {
-            mergedRecipes.put(recipeHolder.id(), recipeHolder);
-        }
-
+    private void addFlyingFishRecipes(Map<ResourceLocation, RecipeHolder<?>> mergedRecipes) {
         RecipeHolder<ShapelessRecipe> bootsRecipe = createFlyingFishBootsRecipe();
         mergedRecipes.put(bootsRecipe.id(), bootsRecipe);
-        recipeManager.replaceRecipes(mergedRecipes.values());
     }
 
     private RecipeHolder<ShapelessRecipe> createFlyingFishBootsRecipe() {
@@ -240,30 +217,6 @@ public class FlyingFishModule extends AbstractModule<FlyingFishModule, FlyingFis
         return new RecipeHolder<>(FLYING_FISH_BOOTS_RECIPE_ID, recipe);
     }
 
-    private final class FlyingFishRecipeReloadListener implements PreparableReloadListener {
-        private final RecipeManager recipeManager;
-
-        private FlyingFishRecipeReloadListener(RecipeManager recipeManager) {
-            this.recipeManager = recipeManager;
-        }
-
-        @Override
-        public CompletableFuture<Void> reload(PreparationBarrier preparationBarrier,
-                                              ResourceManager resourceManager,
-                                              ProfilerFiller preparationsProfiler,
-                                              ProfilerFiller reloadProfiler,
-                                              Executor backgroundExecutor,
-                                              Executor gameExecutor) {
-            return preparationBarrier.wait(Unit.INSTANCE)
-                    .thenRunAsync(() -> applyConfiguredFlyingFishRecipes(recipeManager), gameExecutor);
-        }
-
-        @Override
-        public String getName() {
-            return "vanillaplusadditions_flying_fish_recipes";
-        }
-    }
-
     @SubscribeEvent
     public void onPlayerTick(PlayerTickEvent.Post event) {
         if (!isModuleEnabled()) {
@@ -17,7 +17,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.ModifyDefaultComponentsEvent;
 import net.neoforged.neoforge.event.entity.player.ItemTooltipEvent;
 import net.neoforged.neoforge.event.entity.living.LivingEntityUseItemEvent;
@@ -55,7 +54,7 @@ public class FoodEffectsModule extends AbstractModule<FoodEffectsModule, FoodEff
     @Override
     protected void onInitialize() {
         isTANLoaded = ModList.get().isLoaded("toughasnails");
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
         getModEventBus().addListener(this::onModifyDefaultComponents);
     }
 
@@ -11,7 +11,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.enchantment.EnchantmentHelper;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.AnvilUpdateEvent;
 
 import java.util.HashMap;
@@ -61,7 +60,7 @@ public class FreeAnvilRepairModule
 
     @Override
     protected void onInitialize() {
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
 
         getLogger().info("Free Anvil Repair module initialized - pure repairs no longer cost XP");
     }
@@ -1,7 +1,11 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.haunted_house;
 
-import it.unimi.dsi.fastutil.longs.LongSet;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.EntityTickRouter;
+import net.geraldhofbauer.vanillaplusadditions.core.LoadGovernor;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
+import net.geraldhofbauer.vanillaplusadditions.core.TickBudgetScheduler;
+import net.geraldhofbauer.vanillaplusadditions.modules.haunted_house.SpawnSpotCache.CachedSpawnSpot;
 import net.geraldhofbauer.vanillaplusadditions.modules.haunted_house.config.HauntedHouseConfig;
 import net.geraldhofbauer.vanillaplusadditions.util.MessageBroadcaster;
 import net.minecraft.core.BlockPos;
@@ -18,22 +22,26 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.Heightmap;
-import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.ModList;
-import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
 import net.neoforged.neoforge.event.entity.living.FinalizeSpawnEvent;
-import net.neoforged.neoforge.event.tick.EntityTickEvent;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
 
 import java.util.*;
-import java.util.function.Predicate;
 
 public class HauntedHouseModule extends AbstractModule<
         HauntedHouseModule,
@@ -41,11 +49,12 @@ public class HauntedHouseModule extends AbstractModule<
         > {
 
     private static final Random RANDOM = new Random();
-    private static final int REVEAL_CHECK_INTERVAL_TICKS = 10;
-    private static final int REVEAL_CHECK_BACKOFF_TICKS = 40;
-    // Track only replacement entities that are still invisible and waiting to be spotted.
-    private final HashSet<UUID> pendingInvisibleReplacementEntities = new HashSet<>();
-    private final HashMap<UUID, Integer> nextRevealCheckTick = new HashMap<>();
+    // Replacement entities that are still invisible and waiting to be spotted.
+    private final ReplacementRevealTracker revealTracker =
+            new ReplacementRevealTracker(getModuleId(), this::revealReplacementEntity);
+    private final ModuleProfiler.Probe revealProbe = ModuleProfiler.probe(getModuleId(), "reveal.pass");
+    // Players found inside a target structure by the fog check (counted only, timed by the player tick)
+    private final ModuleProfiler.Probe inStructureProbe = ModuleProfiler.probe(getModuleId(), "fog.in_structure");
 
     // Track players inside target structures for fog effect
     private final HashMap<UUID, Long> playersInStructure = new HashMap<>();
@@ -60,25 +69,24 @@ public class HauntedHouseModule extends AbstractModule<
     private final HashMap<UUID, Integer> playerFogTrailTicks = new HashMap<>();
 
     // Cache discovered indoor/garden spawn spots per dimension for direct haunted spawning.
-    private final Map<ResourceKey<Level>, Map<Long, CachedSpawnSpot>> cachedSpawnSpotsByLevel = new HashMap<>();
+    private final Map<ResourceKey<Level>, SpawnSpotCache> spawnSpotCacheByLevel = new HashMap<>();
 
-    // Chunk index for faster nearby cached-spot queries.
-    private final Map<ResourceKey<Level>, Map<Long, Set<Long>>> cachedSpawnSpotChunkIndexByLevel = new HashMap<>();
+    // Cache refreshes still scanning over the next ticks, keyed by packed scan origin.
+    private final Map<ResourceKey<Level>, Map<Long, TickBudgetScheduler.Handle>> pendingCacheRefreshesByLevel =
+            new HashMap<>();
 
     // Cache expensive direct-spot validations for a short interval.
     private final Map<ResourceKey<Level>, Map<Long, CachedSpotValidation>> cachedDirectSpotValidationByLevel = new HashMap<>();
 
-    private static final class CachedSpawnSpot {
-        private final BlockPos pos;
-        private final boolean skyAccess;
-        private long expiresAtGameTick;
+    // Target structure bounding boxes per chunk, for the "inside a haunted structure" checks.
+    private final HauntedStructureIndex structureIndex = new HauntedStructureIndex(
+            () -> getConfig().getTargetStructures(), id -> getConfig().isTargetStructure(id));
 
-        private CachedSpawnSpot(BlockPos pos, boolean skyAccess, long expiresAtGameTick) {
-            this.pos = pos;
-            this.skyAccess = skyAccess;
-            this.expiresAtGameTick = expiresAtGameTick;
-        }
-    }
+    // Structure/underground material counts per chunk section for the cave and garden heuristics.
+    private final MaterialDensityIndex materialIndex = new MaterialDensityIndex(
+            this::isStructureMaterial, this::isUndergroundMaterial,
+            () -> List.of(getConfig().getConfiguredStructureMaterialBlockIds(),
+                    getConfig().getConfiguredUndergroundMaterialBlockIds()));
 
     private static final class CachedSpotValidation {
         private final boolean blocked;
@@ -132,7 +140,16 @@ public class HauntedHouseModule extends AbstractModule<
     @Override
     protected void onInitialize() {
         // Register event listeners for this module
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
+        registerLifecycleListener(EntityJoinLevelEvent.class, this::onEntityJoinLevel);
+        registerLifecycleListener(EntityLeaveLevelEvent.class, this::onEntityLeaveLevel);
+        registerLifecycleListener(ChunkEvent.Unload.class, this::onChunkUnload);
+        registerLifecycleListener(LevelEvent.Unload.class, this::onLevelUnload);
+        registerLifecycleListener(ServerStoppedEvent.class, this::onServerStopped);
+        registerLifecycleListener(BlockEvent.NeighborNotifyEvent.class, this::onNeighborNotify);
+        registerLifecycleListener(TagsUpdatedEvent.class, this::onTagsUpdated);
+
+        EntityTickRouter.register(this, Player.class, EntityTickRouter.Phase.PRE, 20, this::onPlayerTick);
 
         getLogger().info("Haunted House module initialized - Replacement entity configured as {}",
                 getConfig().getReplacementEntityId());
@@ -184,26 +201,7 @@ public class HauntedHouseModule extends AbstractModule<
 
         // Check if we're in a target structure
         BlockPos spawnPos = event.getEntity().blockPosition();
-        Map<Structure, LongSet> allStructures = serverLevel.structureManager().getAllStructuresAt(spawnPos);
-
-        if (allStructures.isEmpty()) {
-            return;
-        }
-
-        // Check if any structure is a target
-        boolean insideTargetStructure = false;
-        for (Structure structure : allStructures.keySet()) {
-            ResourceLocation structureLocation = serverLevel.registryAccess()
-                    .registryOrThrow(net.minecraft.core.registries.Registries.STRUCTURE)
-                    .getKey(structure);
-
-            if (structureLocation != null && getConfig().isTargetStructure(structureLocation.toString())) {
-                insideTargetStructure = true;
-                break;
-            }
-        }
-
-        if (!insideTargetStructure) {
+        if (!structureIndex.isInside(serverLevel, spawnPos)) {
             return;
         }
 
@@ -275,6 +273,50 @@ public class HauntedHouseModule extends AbstractModule<
         }
     }
 
+    private void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            structureIndex.forgetChunk(level, event.getChunk().getPos());
+            materialIndex.forgetChunk(level, event.getChunk().getPos());
+        }
+    }
+
+    private void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            structureIndex.forgetLevel(level);
+            materialIndex.forgetLevel(level);
+            revealTracker.forgetLevel(level);
+            cancelCacheRefreshes(pendingCacheRefreshesByLevel.remove(level.dimension()));
+        }
+    }
+
+    private void onServerStopped(ServerStoppedEvent event) {
+        structureIndex.clear();
+        materialIndex.clear();
+        revealTracker.clear();
+        pendingCacheRefreshesByLevel.values().forEach(this::cancelCacheRefreshes);
+        pendingCacheRefreshesByLevel.clear();
+    }
+
+    /**
+     * Cancels the still-running cache refreshes of one level; their work captures the level.
+     */
+    private void cancelCacheRefreshes(Map<Long, TickBudgetScheduler.Handle> pending) {
+        if (pending != null) {
+            pending.values().forEach(TickBudgetScheduler.Handle::cancel);
+        }
+    }
+
+    private void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            materialIndex.onBlockChanged(level, event.getPos());
+        }
+    }
+
+    private void onTagsUpdated(TagsUpdatedEvent event) {
+        // Block tags feed isStructureMaterial
+        materialIndex.clear();
+    }
+
     /**
      * Event handler that replaces configured mob spawns in configured structures.
      * Uses HIGH priority to ensure we can cancel the spawn before other mods process it.
@@ -322,13 +364,11 @@ public class HauntedHouseModule extends AbstractModule<
 
         // Check if the mob is spawning inside a structure
         BlockPos spawnPos = event.getEntity().blockPosition();
-        Map<Structure, LongSet> allStructures = serverLevel.structureManager().getAllStructuresAt(spawnPos);
-
-        if (allStructures.isEmpty()) {
+        if (!structureIndex.isInside(serverLevel, spawnPos)) {
             MessageBroadcaster.broadcastDebugWithLocation(
                     serverLevel,
                     getConfig().shouldDebugLog(),
-                    "❌ Step 3: No structures found at spawn location",
+                    "❌ Step 3: Spawn location is not inside a target structure",
                     spawnPos,
                     getLogger()
             );
@@ -338,49 +378,11 @@ public class HauntedHouseModule extends AbstractModule<
         MessageBroadcaster.broadcastDebugWithLocation(
                 serverLevel,
                 getConfig().shouldDebugLog(),
-                "✅ Step 3: Found " + allStructures.size() + " structure(s) at location",
+                "✅ Step 3: Spawn location is inside a target structure",
                 spawnPos,
                 getLogger()
         );
 
-        // Check if any of the structures is in the target structure list
-        boolean insideTargetStructure = false;
-        StringBuilder structureList = new StringBuilder();
-
-        for (Structure structure : allStructures.keySet()) {
-            ResourceLocation structureLocation = serverLevel.registryAccess()
-                    .registryOrThrow(net.minecraft.core.registries.Registries.STRUCTURE)
-                    .getKey(structure);
-
-            if (structureLocation != null) {
-                if (!structureList.isEmpty()) {
-                    structureList.append(", ");
-                }
-                structureList.append(structureLocation);
-
-                if (getConfig().isTargetStructure(structureLocation.toString())) {
-                    insideTargetStructure = true;
-                    MessageBroadcaster.broadcastDebug(
-                            serverLevel,
-                            getConfig().shouldDebugLog(),
-                            "✅ Step 4: Found target structure: " + structureLocation,
-                            getLogger()
-                    );
-                    break;
-                }
-            }
-        }
-
-        if (!insideTargetStructure) {
-            MessageBroadcaster.broadcastDebug(
-                    serverLevel,
-                    getConfig().shouldDebugLog(),
-                    "❌ Step 4: None of the structures match target list. Found: " + structureList,
-                    getLogger()
-            );
-            return;
-        }
-
         if (isBlockedHauntedSpawnLocation(serverLevel, spawnPos)) {
             MessageBroadcaster.broadcastDebugWithLocation(
                     serverLevel,
@@ -470,10 +472,7 @@ public class HauntedHouseModule extends AbstractModule<
             // Make living replacements invisible by default and track reveal state.
             if (replacementEntity instanceof LivingEntity livingEntity) {
                 livingEntity.addEffect(new MobEffectInstance(MobEffects.INVISIBILITY, Integer.MAX_VALUE, 0, false, false));
-                UUID replacementEntityUuid = replacementEntity.getUUID();
-                pendingInvisibleReplacementEntities.add(replacementEntityUuid);
-                // Stagger checks a bit so many entities do not all evaluate on the same tick.
-                nextRevealCheckTick.put(replacementEntityUuid, replacementEntity.tickCount + RANDOM.nextInt(REVEAL_CHECK_INTERVAL_TICKS));
+                revealTracker.track(livingEntity);
             } else {
                 getLogger().warn(
                         "Configured replacement entity {} is not a LivingEntity - invisibility cannot be applied",
@@ -542,17 +541,7 @@ public class HauntedHouseModule extends AbstractModule<
     }
 
     private boolean isOutsideTargetStructure(ServerLevel level, BlockPos pos) {
-        Map<Structure, LongSet> structures = level.structureManager().getAllStructuresAt(pos);
-        for (Structure structure : structures.keySet()) {
-            ResourceLocation structureLocation = level.registryAccess()
-                    .registryOrThrow(net.minecraft.core.registries.Registries.STRUCTURE)
-                    .getKey(structure);
-
-            if (structureLocation != null && getConfig().isTargetStructure(structureLocation.toString())) {
-                return false;
-            }
-        }
-        return true;
+        return !structureIndex.isInside(level, pos);
     }
 
     /**
@@ -586,7 +575,7 @@ public class HauntedHouseModule extends AbstractModule<
                 pos,
                 getConfig().getMaterialScanHorizontalRadius(),
                 getConfig().getMaterialScanVerticalRadius(),
-                this::isUndergroundMaterial
+                MaterialDensityIndex.Material.UNDERGROUND
         );
 
         int nearbyStructureMaterials = countNearbyMatchingBlocks(
@@ -594,7 +583,7 @@ public class HauntedHouseModule extends AbstractModule<
                 pos,
                 getConfig().getMaterialScanHorizontalRadius(),
                 getConfig().getMaterialScanVerticalRadius(),
-                this::isStructureMaterial
+                MaterialDensityIndex.Material.STRUCTURE
         );
 
         int structureThreshold = getConfig().getStructureMaterialThreshold();
@@ -639,27 +628,15 @@ public class HauntedHouseModule extends AbstractModule<
                 origin,
                 horizontalRadius,
                 verticalRadius,
-                this::isStructureMaterial
+                MaterialDensityIndex.Material.STRUCTURE
         );
         return structureMaterials >= threshold;
     }
 
     private int countNearbyMatchingBlocks(ServerLevel level, BlockPos origin,
                                           int horizontalRadius, int verticalRadius,
-                                          Predicate<BlockState> matcher) {
-        int matches = 0;
-        for (int dx = -horizontalRadius; dx <= horizontalRadius; dx++) {
-            for (int dy = -verticalRadius; dy <= verticalRadius; dy++) {
-                for (int dz = -horizontalRadius; dz <= horizontalRadius; dz++) {
-                    BlockPos sample = origin.offset(dx, dy, dz);
-                    BlockState state = level.getBlockState(sample);
-                    if (matcher.test(state)) {
-                        matches++;
-                    }
-                }
-            }
-        }
-        return matches;
+                                          MaterialDensityIndex.Material material) {
+        return materialIndex.count(level, origin, horizontalRadius, verticalRadius, material);
     }
 
     private boolean isUndergroundMaterial(BlockState state) {
@@ -796,78 +773,75 @@ public class HauntedHouseModule extends AbstractModule<
         return !isWalkableSpawnCandidate(level, pos);
     }
 
+    /**
+     * Queues a scan of the area around {@code origin} for spawn spots. The scan runs one (x, z)
+     * column per {@link TickBudgetScheduler} slice, so a player sprinting through a large structure
+     * no longer triggers several full-area scans in one tick. A scan around an origin that is still
+     * pending is not queued twice.
+     */
     private void refreshSpawnSpotCacheAround(ServerLevel level, BlockPos origin) {
         ResourceKey<Level> levelKey = level.dimension();
-        Map<Long, CachedSpawnSpot> levelCache = cachedSpawnSpotsByLevel.computeIfAbsent(levelKey, ignored -> new HashMap<>());
-        Map<Long, Set<Long>> chunkIndex = cachedSpawnSpotChunkIndexByLevel.computeIfAbsent(levelKey, ignored -> new HashMap<>());
-
-        long now = level.getGameTime();
-        long ttlTicks = Math.max(20L, getConfig().getCacheTtlSeconds() * 20L);
-        pruneExpiredSpots(levelKey, levelCache, chunkIndex, now);
-        pruneExpiredDirectSpotValidation(level, now);
+        Map<Long, TickBudgetScheduler.Handle> pending =
+                pendingCacheRefreshesByLevel.computeIfAbsent(levelKey, ignored -> new HashMap<>());
+        long originKey = origin.asLong();
+        TickBudgetScheduler.Handle existingRefresh = pending.get(originKey);
+        if (existingRefresh != null && !existingRefresh.isDone()) {
+            return;
+        }
+        pending.values().removeIf(TickBudgetScheduler.Handle::isDone);
 
+        BlockPos scanOrigin = origin.immutable();
         int radius = getConfig().getAreaScanRadius();
         int scanStep = Math.max(1, getConfig().getCacheScanStep());
-        for (int dx = -radius; dx <= radius; dx += scanStep) {
-            for (int dz = -radius; dz <= radius; dz += scanStep) {
-                for (int dy = -2; dy <= 2; dy++) {
-                    BlockPos candidate = origin.offset(dx, dy, dz);
-                    long packedPos = candidate.asLong();
-                    CachedSpawnSpot existing = levelCache.get(packedPos);
-                    if (existing != null) {
-                        existing.expiresAtGameTick = now + ttlTicks;
-                        continue;
+        int columnsPerRow = radius * 2 / scanStep + 1;
+        int columns = columnsPerRow * columnsPerRow;
+        int[] nextColumn = {0};
+        pending.put(originKey, TickBudgetScheduler.submit(getModuleId(), "refreshSpawnSpotCache",
+                TickBudgetScheduler.Priority.NORMAL, () -> {
+                    SpawnSpotCache levelCache =
+                            spawnSpotCacheByLevel.computeIfAbsent(levelKey, ignored -> new SpawnSpotCache());
+                    long now = level.getGameTime();
+                    if (nextColumn[0] == 0) {
+                        levelCache.pruneExpired(now, packedPos -> removeDirectSpotValidation(levelKey, packedPos));
+                        pruneExpiredDirectSpotValidation(level, now);
                     }
 
-                    if (isOutsideTargetStructure(level, candidate)) {
-                        continue;
-                    }
+                    int column = nextColumn[0]++;
+                    int dx = -radius + (column / columnsPerRow) * scanStep;
+                    int dz = -radius + (column % columnsPerRow) * scanStep;
+                    scanSpawnSpotColumn(level, levelCache, scanOrigin.offset(dx, 0, dz), now);
 
-                    CachedSpotValidation validation = getDirectSpotValidation(level, candidate, now);
-                    if (validation.blocked || validation.nearbyMobs) {
-                        continue;
+                    if (nextColumn[0] < columns) {
+                        return true;
                     }
+                    levelCache.evictOverflow(getConfig().getMaxCachedSpawnSpotsPerLevel(),
+                            packedPos -> removeDirectSpotValidation(levelKey, packedPos));
+                    return false;
+                }));
+    }
 
-                    boolean skyAccess = level.canSeeSky(candidate);
-                    levelCache.put(packedPos, new CachedSpawnSpot(candidate.immutable(), skyAccess, now + ttlTicks));
-                    long chunkKey = ChunkPos.asLong(candidate.getX() >> 4, candidate.getZ() >> 4);
-                    chunkIndex.computeIfAbsent(chunkKey, ignored -> new HashSet<>()).add(packedPos);
-                }
+    private void scanSpawnSpotColumn(ServerLevel level, SpawnSpotCache levelCache, BlockPos columnOrigin, long now) {
+        long ttlTicks = Math.max(20L, getConfig().getCacheTtlSeconds() * 20L);
+        for (int dy = -2; dy <= 2; dy++) {
+            BlockPos candidate = columnOrigin.above(dy);
+            long packedPos = candidate.asLong();
+            CachedSpawnSpot existing = levelCache.get(packedPos);
+            if (existing != null) {
+                existing.refresh(now + ttlTicks);
+                continue;
             }
-        }
 
-        int maxCachedSpots = getConfig().getMaxCachedSpawnSpotsPerLevel();
-        if (levelCache.size() > maxCachedSpots) {
-            List<Map.Entry<Long, CachedSpawnSpot>> entries = new ArrayList<>(levelCache.entrySet());
-            entries.sort(Comparator.comparingLong(entry -> entry.getValue().expiresAtGameTick));
-            int overflow = levelCache.size() - maxCachedSpots;
-            for (int i = 0; i < overflow; i++) {
-                long packedPos = entries.get(i).getKey();
-                CachedSpawnSpot removed = levelCache.remove(packedPos);
-                if (removed != null) {
-                    long chunkKey = ChunkPos.asLong(removed.pos.getX() >> 4, removed.pos.getZ() >> 4);
-                    removeFromChunkIndex(chunkIndex, chunkKey, packedPos);
-                    removeDirectSpotValidation(levelKey, packedPos);
-                }
+            if (isOutsideTargetStructure(level, candidate)) {
+                continue;
             }
-        }
-    }
 
-    private void pruneExpiredSpots(ResourceKey<Level> levelKey,
-                                   Map<Long, CachedSpawnSpot> levelCache,
-                                   Map<Long, Set<Long>> chunkIndex,
-                                   long now) {
-        Iterator<Map.Entry<Long, CachedSpawnSpot>> iterator = levelCache.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<Long, CachedSpawnSpot> entry = iterator.next();
-            CachedSpawnSpot spot = entry.getValue();
-            if (spot.expiresAtGameTick >= now) {
+            CachedSpotValidation validation = getDirectSpotValidation(level, candidate, now);
+            if (validation.blocked || validation.nearbyMobs) {
                 continue;
             }
-            iterator.remove();
-            long chunkKey = ChunkPos.asLong(spot.pos.getX() >> 4, spot.pos.getZ() >> 4);
-            removeFromChunkIndex(chunkIndex, chunkKey, entry.getKey());
-            removeDirectSpotValidation(levelKey, entry.getKey());
+
+            boolean skyAccess = level.canSeeSky(candidate);
+            levelCache.put(candidate, skyAccess, now + ttlTicks);
         }
     }
 
@@ -878,46 +852,12 @@ public class HauntedHouseModule extends AbstractModule<
         }
     }
 
-    private void removeFromChunkIndex(Map<Long, Set<Long>> chunkIndex, long chunkKey, long packedPos) {
-        Set<Long> chunkSpots = chunkIndex.get(chunkKey);
-        if (chunkSpots == null) {
-            return;
-        }
-        chunkSpots.remove(packedPos);
-        if (chunkSpots.isEmpty()) {
-            chunkIndex.remove(chunkKey);
-        }
-    }
-
     private List<CachedSpawnSpot> getNearbyCachedSpots(ServerLevel level, BlockPos centerPos) {
-        ResourceKey<Level> levelKey = level.dimension();
-        Map<Long, CachedSpawnSpot> levelCache = cachedSpawnSpotsByLevel.get(levelKey);
-        Map<Long, Set<Long>> chunkIndex = cachedSpawnSpotChunkIndexByLevel.get(levelKey);
-        if (levelCache == null || levelCache.isEmpty() || chunkIndex == null || chunkIndex.isEmpty()) {
+        SpawnSpotCache levelCache = spawnSpotCacheByLevel.get(level.dimension());
+        if (levelCache == null) {
             return List.of();
         }
-
-        int chunkRadius = Math.max(0, getConfig().getCacheQueryChunkRadius());
-        int centerChunkX = centerPos.getX() >> 4;
-        int centerChunkZ = centerPos.getZ() >> 4;
-
-        List<CachedSpawnSpot> spots = new ArrayList<>();
-        for (int dx = -chunkRadius; dx <= chunkRadius; dx++) {
-            for (int dz = -chunkRadius; dz <= chunkRadius; dz++) {
-                long chunkKey = ChunkPos.asLong(centerChunkX + dx, centerChunkZ + dz);
-                Set<Long> chunkSpots = chunkIndex.get(chunkKey);
-                if (chunkSpots == null || chunkSpots.isEmpty()) {
-                    continue;
-                }
-                for (long packedPos : chunkSpots) {
-                    CachedSpawnSpot spot = levelCache.get(packedPos);
-                    if (spot != null) {
-                        spots.add(spot);
-                    }
-                }
-            }
-        }
-        return spots;
+        return levelCache.nearby(centerPos, Math.max(0, getConfig().getCacheQueryChunkRadius()));
     }
 
     private void tryDirectAreaSpawn(ServerLevel level, Player anchorPlayer) {
@@ -935,14 +875,13 @@ public class HauntedHouseModule extends AbstractModule<
         }
 
         ResourceKey<Level> levelKey = level.dimension();
-        Map<Long, CachedSpawnSpot> levelCache = cachedSpawnSpotsByLevel.get(levelKey);
-        Map<Long, Set<Long>> chunkIndex = cachedSpawnSpotChunkIndexByLevel.get(levelKey);
-        if (levelCache == null || levelCache.isEmpty() || chunkIndex == null || chunkIndex.isEmpty()) {
+        SpawnSpotCache levelCache = spawnSpotCacheByLevel.get(levelKey);
+        if (levelCache == null || levelCache.isEmpty()) {
             return;
         }
 
         long now = level.getGameTime();
-        pruneExpiredSpots(levelKey, levelCache, chunkIndex, now);
+        levelCache.pruneExpired(now, packedPos -> removeDirectSpotValidation(levelKey, packedPos));
         pruneExpiredDirectSpotValidation(level, now);
         if (levelCache.isEmpty()) {
             return;
@@ -967,26 +906,26 @@ public class HauntedHouseModule extends AbstractModule<
             }
             CachedSpawnSpot selected = spots.get(selectedIndex);
 
-            if (isOutsideTargetStructure(level, selected.pos)) {
+            if (isOutsideTargetStructure(level, selected.pos())) {
                 continue;
             }
 
-            CachedSpotValidation validation = getDirectSpotValidation(level, selected.pos, now);
+            CachedSpotValidation validation = getDirectSpotValidation(level, selected.pos(), now);
             if (validation.blocked || validation.nearbyMobs) {
                 continue;
             }
 
-            Vec3 spotCenter = Vec3.atCenterOf(selected.pos);
+            Vec3 spotCenter = Vec3.atCenterOf(selected.pos());
             double distanceSqr = anchorPlayer.distanceToSqr(spotCenter);
             if (distanceSqr < minDistanceSqr || distanceSqr > maxDistanceSqr) {
                 continue;
             }
 
-            if (!selected.skyAccess || isNearStructureGarden(level, selected.pos)) {
+            if (!selected.skyAccess() || isNearStructureGarden(level, selected.pos())) {
                 if (RANDOM.nextDouble() < getConfig().getDirectSpawnReplacementChance()) {
-                    spawnReplacementEntity(level, anchorPlayer, selected.pos);
+                    spawnReplacementEntity(level, anchorPlayer, selected.pos());
                 } else {
-                    spawnWitch(level, anchorPlayer, selected.pos);
+                    spawnWitch(level, anchorPlayer, selected.pos());
                 }
                 return;
             }
@@ -996,7 +935,8 @@ public class HauntedHouseModule extends AbstractModule<
     private void updateCacheFromPlayerMovement(ServerLevel level, Player player) {
         UUID playerId = player.getUUID();
         long now = level.getGameTime();
-        long refreshInterval = Math.max(1L, getConfig().getCacheRefreshIntervalTicks());
+        long refreshInterval = Math.max(1L, getConfig().getCacheRefreshIntervalTicks())
+                * LoadGovernor.getMultiplier(getModuleId());
         long lastRefresh = lastCacheRefreshTickByPlayer.getOrDefault(playerId, Long.MIN_VALUE);
 
         if (now - lastRefresh < refreshInterval) {
@@ -1051,9 +991,8 @@ public class HauntedHouseModule extends AbstractModule<
 
     private FogZone resolveFogZoneFromCache(ServerLevel level, BlockPos origin) {
         ResourceKey<Level> levelKey = level.dimension();
-        Map<Long, CachedSpawnSpot> levelCache = cachedSpawnSpotsByLevel.get(levelKey);
-        Map<Long, Set<Long>> chunkIndex = cachedSpawnSpotChunkIndexByLevel.get(levelKey);
-        if (levelCache == null || levelCache.isEmpty() || chunkIndex == null || chunkIndex.isEmpty()) {
+        SpawnSpotCache levelCache = spawnSpotCacheByLevel.get(levelKey);
+        if (levelCache == null || levelCache.isEmpty()) {
             return FogZone.NONE;
         }
 
@@ -1063,16 +1002,16 @@ public class HauntedHouseModule extends AbstractModule<
         int fogCacheProximityRadius = getConfig().getFogCacheProximityRadius();
         int maxDistanceSqr = fogCacheProximityRadius * fogCacheProximityRadius;
 
-        pruneExpiredSpots(levelKey, levelCache, chunkIndex, now);
+        levelCache.pruneExpired(now, packedPos -> removeDirectSpotValidation(levelKey, packedPos));
 
         List<CachedSpawnSpot> nearbySpots = getNearbyCachedSpots(level, origin);
         for (CachedSpawnSpot spot : nearbySpots) {
 
-            if (spot.pos.distSqr(origin) > maxDistanceSqr) {
+            if (spot.pos().distSqr(origin) > maxDistanceSqr) {
                 continue;
             }
 
-            if (spot.skyAccess) {
+            if (spot.skyAccess()) {
                 gardenMatches++;
             } else {
                 indoorMatches++;
@@ -1089,135 +1028,56 @@ public class HauntedHouseModule extends AbstractModule<
     }
 
     /**
-     * Event handler that checks if players are looking at invisible replacement entities and makes them visible.
+     * Level tick handler that runs the reveal pass (every
+     * {@value ReplacementRevealTracker#PASS_INTERVAL_TICKS} ticks per level): players looking at an
+     * invisible replacement entity make it visible.
      */
     @SubscribeEvent
-    public void onEntityTick(EntityTickEvent.Pre event) {
-        if (!isModuleEnabled()) {
+    public void onLevelTick(LevelTickEvent.Post event) {
+        if (!isModuleEnabled() || !(event.getLevel() instanceof ServerLevel level)) {
             return;
         }
-
-        // Only check every 10 ticks (0.5 seconds) for performance
-        if (event.getEntity().tickCount % REVEAL_CHECK_INTERVAL_TICKS != 0) {
-            return;
-        }
-
-        // Check if this is a living replacement entity we're tracking
-        if (!(event.getEntity() instanceof LivingEntity replacementEntity)) {
-            return;
-        }
-        
-        UUID replacementEntityUuid = replacementEntity.getUUID();
-        if (!pendingInvisibleReplacementEntities.contains(replacementEntityUuid)) {
-            return;
-        }
-
-        // Cleanup stale tracking if entity is gone.
-        if (!replacementEntity.isAlive() || replacementEntity.isRemoved()) {
-            pendingInvisibleReplacementEntities.remove(replacementEntityUuid);
-            nextRevealCheckTick.remove(replacementEntityUuid);
-            return;
+        long start = revealProbe.start();
+        try {
+            revealTracker.tick(level);
+        } finally {
+            revealProbe.stop(start);
         }
+    }
 
-        int nextCheckTick = nextRevealCheckTick.getOrDefault(replacementEntityUuid, 0);
-        if (replacementEntity.tickCount < nextCheckTick) {
-            return;
-        }
-        
-        // Only process on server side
-        //noinspection resource
-        if (replacementEntity.level().isClientSide) {
-            return;
-        }
-        
-        //noinspection resource
-        if (!(replacementEntity.level() instanceof ServerLevel serverLevel)) {
-            return;
+    private void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            revealTracker.onEntityJoin(level, event.getEntity());
         }
+    }
 
-        List<ServerPlayer> nearbyPlayers = serverLevel.getEntitiesOfClass(
-                ServerPlayer.class,
-                replacementEntity.getBoundingBox().inflate(32.0D),
-                player -> !player.isSpectator()
-        );
-
-        if (nearbyPlayers.isEmpty()) {
-            nextRevealCheckTick.put(replacementEntityUuid, replacementEntity.tickCount + REVEAL_CHECK_BACKOFF_TICKS);
-            return;
+    private void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            revealTracker.onEntityLeave(level, event.getEntity());
         }
+    }
 
-        nextRevealCheckTick.put(replacementEntityUuid, replacementEntity.tickCount + REVEAL_CHECK_INTERVAL_TICKS);
-        Vec3 replacementEntityPos = replacementEntity.getEyePosition();
-
-        // Check if any nearby non-spectator player is looking at the entity.
-        for (ServerPlayer player : nearbyPlayers) {
-
-            // Check if player is within reasonable distance (32 blocks)
-            if (player.distanceToSqr(replacementEntity) > 32 * 32) {
-                continue;
-            }
-            
-            // Get player's look vector
-            Vec3 playerEyePos = player.getEyePosition();
-            Vec3 playerLookVec = player.getLookAngle();
-            
-            // Calculate vector from player to replacement entity
-            Vec3 toReplacementEntity = replacementEntityPos.subtract(playerEyePos).normalize();
-
-            // Check if player is looking roughly in the direction of the murmur
-            // (dot product > 0.95 means within about 18 degrees)
-            double dotProduct = playerLookVec.dot(toReplacementEntity);
-            if (dotProduct < 0.95) {
-                continue;
-            }
-
-            if (!player.hasLineOfSight(replacementEntity)) {
-                continue;
-            }
-            
-            // Player is looking at the replacement entity! Make it visible.
-            replacementEntity.removeEffect(MobEffects.INVISIBILITY);
-            pendingInvisibleReplacementEntities.remove(replacementEntityUuid);
-            nextRevealCheckTick.remove(replacementEntityUuid);
-
-            if (getConfig().shouldDebugLog()) {
-                getLogger().debug("Player {} spotted replacement entity at {}",
-                        player.getName().getString(), replacementEntity.blockPosition());
-            }
+    private void revealReplacementEntity(ServerPlayer player, LivingEntity replacementEntity) {
+        replacementEntity.removeEffect(MobEffects.INVISIBILITY);
 
-            break; // No need to check other players
+        if (getConfig().shouldDebugLog()) {
+            getLogger().debug("Player {} spotted replacement entity at {}",
+                    player.getName().getString(), replacementEntity.blockPosition());
         }
     }
 
     /**
-     * Event handler that applies fog effect to players inside target structures.
+     * Tick handler (every 20 ticks, players only) that applies fog effect to players inside target structures.
      */
-    @SubscribeEvent
-    public void onPlayerTick(EntityTickEvent.Pre event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-
-        // Only check players
-        if (!(event.getEntity() instanceof Player player)) {
-            return;
-        }
-
-        // Only process on server side
-        //noinspection resource
-        if (player.level().isClientSide) {
-            return;
-        }
-
-        // Only check every 20 ticks (1 second) for performance
-        if (player.tickCount % 20 != 0) {
-            return;
-        }
-
+    private void onPlayerTick(Player player) {
         // Check if fog effect is enabled
         if (!getConfig().isFogEffectEnabled()) {
             return;
         }
+        // Checked every 20 ticks; less often while the server is overloaded
+        if (LoadGovernor.skip(getModuleId(), player.tickCount, 20)) {
+            return;
+        }
 
         //noinspection resource
         if (!(player.level() instanceof ServerLevel serverLevel)) {
@@ -1225,63 +1085,38 @@ public class HauntedHouseModule extends AbstractModule<
         }
         BlockPos playerPos = player.blockPosition();
 
-        // Check if player is in a target structure
-        Map<Structure, LongSet> allStructures = serverLevel.structureManager().getAllStructuresAt(playerPos);
-
+        // Check if player is in a target structure: any target structure reaching into the player's
+        // chunk whose Y-range covers the player
         boolean insideTargetStructure = false;
 
         // Skip the detection if in creative or spectator mode
-        if (!allStructures.isEmpty() && !player.isCreative() && !player.isSpectator()) {
-            outerLoop:
-            for (Map.Entry<Structure, LongSet> structureEntry : allStructures.entrySet()) {
-                Structure structure = structureEntry.getKey();
-                ResourceLocation structureLocation = serverLevel.registryAccess()
-                        .registryOrThrow(net.minecraft.core.registries.Registries.STRUCTURE)
-                        .getKey(structure);
-
-                if (structureLocation == null || !getConfig().isTargetStructure(structureLocation.toString())) {
-                    continue;
-                }
-
-                // getStructureAt(playerPos, structure) only finds the start when the player is in the
-                // structure's START chunk. For multi-chunk structures the player is usually elsewhere.
-                // Instead, iterate the LongSet (start-chunk keys) and look up the start there.
-                for (long chunkKey : structureEntry.getValue()) {
-                    int startChunkX = ChunkPos.getX(chunkKey);
-                    int startChunkZ = ChunkPos.getZ(chunkKey);
-                    BlockPos posInStartChunk = new BlockPos(
-                            startChunkX * 16 + 8, playerPos.getY(), startChunkZ * 16 + 8);
+        if (!player.isCreative() && !player.isSpectator()) {
+            int playerY = playerPos.getY();
+            for (BoundingBox boundingBox : structureIndex.boxesAt(serverLevel, playerPos)) {
+                int minY = boundingBox.minY();
+                int maxY = boundingBox.maxY();
 
-                    var structureStart = serverLevel.structureManager()
-                            .getStructureAt(posInStartChunk, structure);
+                if (playerY >= minY && playerY <= maxY) {
+                    insideTargetStructure = true;
 
-                    if (!structureStart.isValid()) {
-                        continue;
+                    if (getConfig().shouldDebugLog()) {
+                        getLogger().debug("Player {} inside structure Y-range: {} (structure Y: {} - {})",
+                                player.getName().getString(), playerY, minY, maxY);
                     }
-
-                    var boundingBox = structureStart.getBoundingBox();
-                    int playerY = playerPos.getY();
-                    int minY = boundingBox.minY();
-                    int maxY = boundingBox.maxY();
-
-                    if (playerY >= minY && playerY <= maxY) {
-                        insideTargetStructure = true;
-
-                        if (getConfig().shouldDebugLog()) {
-                            getLogger().debug("Player {} inside structure Y-range: {} (structure Y: {} - {})",
-                                    player.getName().getString(), playerY, minY, maxY);
-                        }
-                        break outerLoop;
-                    } else {
-                        if (getConfig().shouldDebugLog()) {
-                            getLogger().debug("Player {} outside structure Y-range: {} (structure Y: {} - {})",
-                                    player.getName().getString(), playerY, minY, maxY);
-                        }
+                    break;
+                } else {
+                    if (getConfig().shouldDebugLog()) {
+                        getLogger().debug("Player {} outside structure Y-range: {} (structure Y: {} - {})",
+                                player.getName().getString(), playerY, minY, maxY);
                     }
                 }
             }
         }
 
+        if (insideTargetStructure) {
+            inStructureProbe.count();
+        }
+
         UUID playerId = player.getUUID();
         int fogTrail = playerFogTrailTicks.getOrDefault(playerId, 0);
 
@@ -0,0 +1,142 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.haunted_house;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounding boxes of the haunted (target) structures that reach into a chunk, per dimension and
+ * chunk.
+ *
+ * <p>A chunk's entry is filled on the first question about it: the structure references of the
+ * chunk are filtered down to target structures and their starts resolved to bounding boxes. Whether
+ * a structure type is a target is decided once per type (registry key + config string match) and
+ * remembered until the configured target list changes. "Is this position in a haunted structure"
+ * is then a map lookup plus a containment test per box - usually none or one.</p>
+ *
+ * <p>Entries are dropped when their chunk or level unloads. Server thread only. Public for the
+ * GameTests.</p>
+ */
+public final class HauntedStructureIndex {
+
+    private static final BoundingBox[] NONE = new BoundingBox[0];
+
+    private final Supplier<List<? extends String>> targetStructures;
+    private final Predicate<String> isTargetStructureId;
+    // chunk (ChunkPos#toLong) -> boxes of the target structures referenced by the chunk, per dimension
+    private final Map<ResourceKey<Level>, Long2ObjectMap<BoundingBox[]>> boxesByLevel = new HashMap<>();
+    // Structure type -> is a target structure, for the target list in knownTargets
+    private final Reference2BooleanMap<Structure> targetByStructure = new Reference2BooleanOpenHashMap<>();
+    private List<? extends String> knownTargets = List.of();
+
+    /**
+     * @param targetStructures    the configured target structure list, read on every query to notice changes
+     * @param isTargetStructureId whether a structure ID matches the configured targets
+     */
+    public HauntedStructureIndex(Supplier<List<? extends String>> targetStructures, Predicate<String> isTargetStructureId) {
+        this.targetStructures = targetStructures;
+        this.isTargetStructureId = isTargetStructureId;
+    }
+
+    /**
+     * True if {@code pos} lies inside the bounding box of a target structure.
+     */
+    public boolean isInside(ServerLevel level, BlockPos pos) {
+        for (BoundingBox box : boxesAt(level, pos)) {
+            if (box.isInside(pos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the boxes of the target structures reaching into the chunk of {@code pos} (shared
+     *         array, don't modify)
+     */
+    public BoundingBox[] boxesAt(ServerLevel level, BlockPos pos) {
+        checkTargets();
+        Long2ObjectMap<BoundingBox[]> levelBoxes = boxesByLevel.computeIfAbsent(level.dimension(),
+                key -> new Long2ObjectOpenHashMap<>());
+        long chunkKey = ChunkPos.asLong(pos);
+        BoundingBox[] boxes = levelBoxes.get(chunkKey);
+        if (boxes == null) {
+            boxes = load(level, new ChunkPos(chunkKey));
+            levelBoxes.put(chunkKey, boxes);
+        }
+        return boxes;
+    }
+
+    /**
+     * Drops the entry of an unloading chunk.
+     */
+    void forgetChunk(ServerLevel level, ChunkPos chunk) {
+        Long2ObjectMap<BoundingBox[]> levelBoxes = boxesByLevel.get(level.dimension());
+        if (levelBoxes != null) {
+            levelBoxes.remove(chunk.toLong());
+        }
+    }
+
+    /**
+     * Drops every entry of an unloading level.
+     */
+    void forgetLevel(ServerLevel level) {
+        boxesByLevel.remove(level.dimension());
+    }
+
+    void clear() {
+        boxesByLevel.clear();
+        targetByStructure.clear();
+    }
+
+    private BoundingBox[] load(ServerLevel level, ChunkPos chunk) {
+        List<StructureStart> starts = level.structureManager().startsForStructure(chunk,
+                structure -> isTarget(level, structure));
+        if (starts.isEmpty()) {
+            return NONE;
+        }
+        BoundingBox[] boxes = new BoundingBox[starts.size()];
+        for (int i = 0; i < boxes.length; i++) {
+            boxes[i] = starts.get(i).getBoundingBox();
+        }
+        return boxes;
+    }
+
+    private boolean isTarget(ServerLevel level, Structure structure) {
+        if (targetByStructure.containsKey(structure)) {
+            return targetByStructure.getBoolean(structure);
+        }
+        ResourceLocation id = level.registryAccess().registryOrThrow(Registries.STRUCTURE).getKey(structure);
+        boolean target = id != null && isTargetStructureId.test(id.toString());
+        targetByStructure.put(structure, target);
+        return target;
+    }
+
+    /**
+     * Starts over if the configured target list changed since the entries were filled.
+     */
+    private void checkTargets() {
+        List<? extends String> targets = targetStructures.get();
+        if (targets != knownTargets && !targets.equals(knownTargets)) {
+            clear();
+        }
+        knownTargets = targets;
+    }
+}
@@ -0,0 +1,292 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.haunted_house;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Counts of structure-material and underground-material blocks per chunk section, kept as 3D
+ * prefix sums so "how many X blocks in this box" costs eight array reads per section the box
+ * touches instead of one block state lookup per block.
+ *
+ * <p>A section's table is built the first time a count needs it (one pass over its 4096 states,
+ * with the material test memoised per block state) and dropped when a block in it changes
+ * ({@link #onBlockChanged}), when its chunk or level unloads, or when nobody asked about it for
+ * {@value #EXPIRE_TICKS} ticks. Tables older than {@value #REBUILD_TICKS} ticks are rebuilt to
+ * catch changes that fire no event. Sections whose palette holds neither material need no table.</p>
+ *
+ * <p>The memoised material tests are reset when the material configuration (as reported by the
+ * {@code configKey} supplier, checked once per tick) changes or tags are reloaded. Server thread
+ * only.</p>
+ */
+final class MaterialDensityIndex {
+
+    /** Tables older than this are rebuilt on their next query. */
+    private static final long REBUILD_TICKS = 1200L;
+    /** Tables without queries for this long are dropped. */
+    private static final long EXPIRE_TICKS = 1200L;
+
+    /** Edge length of the prefix-sum table: one more than a section's edge. */
+    private static final int EDGE = 17;
+    private static final int PLANE = EDGE * EDGE;
+
+    private static final byte CLASSIFIED = 1;
+    private static final byte STRUCTURE_BIT = 2;
+    private static final byte UNDERGROUND_BIT = 4;
+
+    /**
+     * Block category counted by the index.
+     */
+    enum Material {
+        STRUCTURE,
+        UNDERGROUND
+    }
+
+    private static final class SectionCounts {
+        // Prefix sums, [x][y][z] -> blocks in [0, x) x [0, y) x [0, z); null = none in the section
+        private final short[] structure;
+        private final short[] underground;
+        private final long builtAt;
+        private long lastQueriedAt;
+
+        private SectionCounts(short[] structure, short[] underground, long builtAt) {
+            this.structure = structure;
+            this.underground = underground;
+            this.builtAt = builtAt;
+            this.lastQueriedAt = builtAt;
+        }
+
+        private short[] table(Material material) {
+            return material == Material.STRUCTURE ? structure : underground;
+        }
+    }
+
+    private final Predicate<BlockState> structureMaterial;
+    private final Predicate<BlockState> undergroundMaterial;
+    private final Supplier<Object> configKey;
+    // section (SectionPos#asLong) -> counts, per dimension
+    private final Map<ResourceKey<Level>, Long2ObjectMap<SectionCounts>> sectionsByLevel = new HashMap<>();
+    // block state -> CLASSIFIED | material bits
+    private final Reference2ByteMap<BlockState> materialByState = new Reference2ByteOpenHashMap<>();
+    private Object knownConfig;
+    private long lastConfigCheck = Long.MIN_VALUE;
+    private long lastExpiry;
+
+    /**
+     * @param structureMaterial   whether a block state counts as structure material
+     * @param undergroundMaterial whether a block state counts as underground material
+     * @param configKey           value that changes (by {@code equals}) whenever the two tests would
+     */
+    MaterialDensityIndex(Predicate<BlockState> structureMaterial, Predicate<BlockState> undergroundMaterial,
+                         Supplier<Object> configKey) {
+        this.structureMaterial = structureMaterial;
+        this.undergroundMaterial = undergroundMaterial;
+        this.configKey = configKey;
+    }
+
+    /**
+     * Number of {@code material} blocks in the box reaching {@code horizontalRadius} /
+     * {@code verticalRadius} blocks around {@code origin} (inclusive). Blocks outside the build
+     * height count as none.
+     */
+    int count(ServerLevel level, BlockPos origin, int horizontalRadius, int verticalRadius, Material material) {
+        long now = level.getGameTime();
+        checkConfig(now);
+        expire(now);
+
+        int minX = origin.getX() - horizontalRadius;
+        int maxX = origin.getX() + horizontalRadius;
+        int minY = Math.max(origin.getY() - verticalRadius, level.getMinBuildHeight());
+        int maxY = Math.min(origin.getY() + verticalRadius, level.getMaxBuildHeight() - 1);
+        int minZ = origin.getZ() - horizontalRadius;
+        int maxZ = origin.getZ() + horizontalRadius;
+        if (minY > maxY) {
+            return 0;
+        }
+
+        Long2ObjectMap<SectionCounts> sections = sectionsByLevel.computeIfAbsent(level.dimension(),
+                key -> new Long2ObjectOpenHashMap<>());
+        int total = 0;
+        for (int sx = minX >> 4; sx <= maxX >> 4; sx++) {
+            for (int sz = minZ >> 4; sz <= maxZ >> 4; sz++) {
+                for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                    short[] table = section(level, sections, sx, sy, sz, now).table(material);
+                    if (table == null) {
+                        continue;
+                    }
+                    int baseX = sx << 4;
+                    int baseY = sy << 4;
+                    int baseZ = sz << 4;
+                    total += boxSum(table,
+                            Math.max(minX, baseX) - baseX, Math.min(maxX, baseX + 15) - baseX + 1,
+                            Math.max(minY, baseY) - baseY, Math.min(maxY, baseY + 15) - baseY + 1,
+                            Math.max(minZ, baseZ) - baseZ, Math.min(maxZ, baseZ + 15) - baseZ + 1);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Drops the table of the section holding a changed block.
+     */
+    void onBlockChanged(ServerLevel level, BlockPos pos) {
+        if (sectionsByLevel.isEmpty()) {
+            return;
+        }
+        Long2ObjectMap<SectionCounts> sections = sectionsByLevel.get(level.dimension());
+        if (sections != null) {
+            sections.remove(SectionPos.asLong(pos));
+        }
+    }
+
+    /**
+     * Drops the tables of an unloading chunk.
+     */
+    void forgetChunk(ServerLevel level, ChunkPos chunk) {
+        Long2ObjectMap<SectionCounts> sections = sectionsByLevel.get(level.dimension());
+        if (sections == null || sections.isEmpty()) {
+            return;
+        }
+        for (int sy = level.getMinSection(); sy < level.getMaxSection(); sy++) {
+            sections.remove(SectionPos.asLong(chunk.x, sy, chunk.z));
+        }
+    }
+
+    /**
+     * Drops every table of an unloading level.
+     */
+    void forgetLevel(ServerLevel level) {
+        sectionsByLevel.remove(level.dimension());
+    }
+
+    /**
+     * Forgets the memoised material tests (e.g. after a tag reload) and every table built with them.
+     */
+    void clear() {
+        sectionsByLevel.clear();
+        materialByState.clear();
+    }
+
+    private SectionCounts section(ServerLevel level, Long2ObjectMap<SectionCounts> sections,
+                                  int sx, int sy, int sz, long now) {
+        long key = SectionPos.asLong(sx, sy, sz);
+        SectionCounts counts = sections.get(key);
+        if (counts == null || now - counts.builtAt >= REBUILD_TICKS || now < counts.builtAt) {
+            counts = build(level, sx, sy, sz, now);
+            sections.put(key, counts);
+        }
+        counts.lastQueriedAt = now;
+        return counts;
+    }
+
+    private SectionCounts build(ServerLevel level, int sx, int sy, int sz, long now) {
+        ChunkAccess chunk = level.getChunk(sx, sz);
+        LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sy));
+        if (section.hasOnlyAir()) {
+            return new SectionCounts(null, null, now);
+        }
+        boolean hasStructure = section.maybeHas(state -> is(state, STRUCTURE_BIT));
+        boolean hasUnderground = section.maybeHas(state -> is(state, UNDERGROUND_BIT));
+        short[] structure = hasStructure ? new short[EDGE * PLANE] : null;
+        short[] underground = hasUnderground ? new short[EDGE * PLANE] : null;
+        if (hasStructure || hasUnderground) {
+            for (int x = 0; x < 16; x++) {
+                for (int y = 0; y < 16; y++) {
+                    for (int z = 0; z < 16; z++) {
+                        byte bits = classify(section.getBlockState(x, y, z));
+                        if (structure != null) {
+                            accumulate(structure, x, y, z, (bits & STRUCTURE_BIT) != 0 ? 1 : 0);
+                        }
+                        if (underground != null) {
+                            accumulate(underground, x, y, z, (bits & UNDERGROUND_BIT) != 0 ? 1 : 0);
+                        }
+                    }
+                }
+            }
+        }
+        return new SectionCounts(structure, underground, now);
+    }
+
+    /**
+     * Fills table cell (x+1, y+1, z+1) from the block at (x, y, z) and the cells before it.
+     */
+    private static void accumulate(short[] table, int x, int y, int z, int value) {
+        int i = index(x + 1, y + 1, z + 1);
+        table[i] = (short) (value
+                + table[i - PLANE] + table[i - EDGE] + table[i - 1]
+                - table[i - PLANE - EDGE] - table[i - PLANE - 1] - table[i - EDGE - 1]
+                + table[i - PLANE - EDGE - 1]);
+    }
+
+    /**
+     * Blocks in [x0, x1) x [y0, y1) x [z0, z1) of the section.
+     */
+    private static int boxSum(short[] table, int x0, int x1, int y0, int y1, int z0, int z1) {
+        return table[index(x1, y1, z1)]
+                - table[index(x0, y1, z1)] - table[index(x1, y0, z1)] - table[index(x1, y1, z0)]
+                + table[index(x0, y0, z1)] + table[index(x0, y1, z0)] + table[index(x1, y0, z0)]
+                - table[index(x0, y0, z0)];
+    }
+
+    private static int index(int x, int y, int z) {
+        return x * PLANE + y * EDGE + z;
+    }
+
+    private boolean is(BlockState state, byte materialBit) {
+        return (classify(state) & materialBit) != 0;
+    }
+
+    private byte classify(BlockState state) {
+        byte bits = materialByState.getByte(state);
+        if (bits == 0) {
+            bits = CLASSIFIED;
+            if (structureMaterial.test(state)) {
+                bits |= STRUCTURE_BIT;
+            }
+            if (undergroundMaterial.test(state)) {
+                bits |= UNDERGROUND_BIT;
+            }
+            materialByState.put(state, bits);
+        }
+        return bits;
+    }
+
+    private void checkConfig(long now) {
+        if (now == lastConfigCheck) {
+            return;
+        }
+        lastConfigCheck = now;
+        Object config = configKey.get();
+        if (!Objects.equals(config, knownConfig)) {
+            clear();
+            knownConfig = config;
+        }
+    }
+
+    private void expire(long now) {
+        if (now - lastExpiry < EXPIRE_TICKS && now >= lastExpiry) {
+            return;
+        }
+        lastExpiry = now;
+        for (Long2ObjectMap<SectionCounts> sections : sectionsByLevel.values()) {
+            sections.values().removeIf(counts -> now - counts.lastQueriedAt >= EXPIRE_TICKS || now < counts.lastQueriedAt);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.haunted_house;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.geraldhofbauer.vanillaplusadditions.core.LoadGovernor;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Decides when a player has spotted an invisible replacement entity, in one pass per level every
+ * {@value #PASS_INTERVAL_TICKS} ticks (stretched by the {@link LoadGovernor}) instead of one player
+ * query per entity.
+ *
+ * <p>A pass puts the pending entities of the level into a spatial hash ({@value #CELL_SIZE}-block
+ * cells), then, per player, collects the entities within {@value #REVEAL_RANGE} blocks, runs the
+ * view-cone test over that batch in one loop over flat arrays, and raycasts only the entities
+ * inside the cone. At most {@value #RAYCASTS_PER_TICK} raycasts run per level and tick; a pass that
+ * runs out continues on the next tick at the player and cone candidate it stopped at.</p>
+ *
+ * <p>Pending entities are remembered by UUID, so they stay pending across chunk unloads and
+ * dimension changes; the live entity is picked up again when it joins a level. Server thread only.</p>
+ */
+final class ReplacementRevealTracker {
+
+    /** Ticks between two passes over a level. */
+    static final int PASS_INTERVAL_TICKS = 10;
+    /** Distance within which a player can spot an entity. */
+    private static final int REVEAL_RANGE = 32;
+    /** Edge length of a spatial hash cell (a power of two). */
+    private static final int CELL_SIZE = 32;
+    private static final int CELL_SHIFT = Integer.numberOfTrailingZeros(CELL_SIZE);
+    /** Line-of-sight raycasts per level and tick. */
+    private static final int RAYCASTS_PER_TICK = 64;
+    /** cos^2 of the view-cone half angle (dot product > 0.95, about 18 degrees). */
+    private static final double MIN_VIEW_DOT_SQR = 0.95 * 0.95;
+
+    private static final class LevelState {
+        // Live pending entities in this level by entity ID
+        private final Int2ObjectMap<LivingEntity> pending = new Int2ObjectLinkedOpenHashMap<>();
+        private long nextPassAt;
+        // Where the next pass starts when the last one ran out of raycasts: player list index and
+        // position in that player's cone candidates
+        private int startPlayer;
+        private int startCandidate;
+    }
+
+    private final String moduleId;
+    private final BiConsumer<ServerPlayer, LivingEntity> onReveal;
+    // Replacement entities not yet spotted, loaded or not
+    private final Set<UUID> pendingIds = new HashSet<>();
+    private final Map<ResourceKey<Level>, LevelState> levels = new HashMap<>();
+
+    // ---- Per-pass scratch space ----
+    private final Long2ObjectMap<IntArrayList> cells = new Long2ObjectOpenHashMap<>();
+    private final List<LivingEntity> batchEntities = new ArrayList<>();
+    private double[] eyeX = new double[16];
+    private double[] eyeY = new double[16];
+    private double[] eyeZ = new double[16];
+    private boolean[] revealed = new boolean[16];
+    private int[] candidates = new int[16];
+    private double[] toX = new double[16];
+    private double[] toY = new double[16];
+    private double[] toZ = new double[16];
+
+    /**
+     * @param moduleId owning module, for {@link LoadGovernor} scaling
+     * @param onReveal called once per entity, with the player who spotted it, before it stops being tracked
+     */
+    ReplacementRevealTracker(String moduleId, BiConsumer<ServerPlayer, LivingEntity> onReveal) {
+        this.moduleId = moduleId;
+        this.onReveal = onReveal;
+    }
+
+    /**
+     * Marks a replacement entity as pending; call before it is added to the level.
+     */
+    void track(LivingEntity entity) {
+        pendingIds.add(entity.getUUID());
+    }
+
+    void onEntityJoin(ServerLevel level, Entity entity) {
+        if (!pendingIds.isEmpty() && entity instanceof LivingEntity living && pendingIds.contains(entity.getUUID())) {
+            levels.computeIfAbsent(level.dimension(), key -> new LevelState()).pending.put(entity.getId(), living);
+        }
+    }
+
+    void onEntityLeave(ServerLevel level, Entity entity) {
+        LevelState state = levels.get(level.dimension());
+        if (state == null || state.pending.remove(entity.getId()) == null) {
+            return;
+        }
+        if (isDestroyed(entity)) {
+            pendingIds.remove(entity.getUUID());
+        }
+    }
+
+    /**
+     * Runs the level's pass if it is due.
+     */
+    void tick(ServerLevel level) {
+        LevelState state = levels.get(level.dimension());
+        if (state == null || state.pending.isEmpty()) {
+            return;
+        }
+        long now = level.getGameTime();
+        if (now < state.nextPassAt && state.nextPassAt - now <= PASS_INTERVAL_TICKS * 16L) {
+            return;
+        }
+        List<ServerPlayer> players = level.players();
+        if (players.isEmpty()) {
+            state.nextPassAt = now + LoadGovernor.scale(moduleId, PASS_INTERVAL_TICKS);
+            return;
+        }
+        boolean finished = runPass(state, players);
+        state.nextPassAt = finished ? now + LoadGovernor.scale(moduleId, PASS_INTERVAL_TICKS) : now + 1;
+    }
+
+    /**
+     * Drops the live entities of an unloading level (their UUIDs stay pending).
+     */
+    void forgetLevel(ServerLevel level) {
+        levels.remove(level.dimension());
+    }
+
+    void clear() {
+        pendingIds.clear();
+        levels.clear();
+    }
+
+    /**
+     * @return false if the raycast budget ran out before every player was handled
+     */
+    private boolean runPass(LevelState state, List<ServerPlayer> players) {
+        int count = buildBatch(state);
+        if (count == 0) {
+            return true;
+        }
+        int budget = RAYCASTS_PER_TICK;
+        int playerCount = players.size();
+        int first = Math.floorMod(state.startPlayer, playerCount);
+        int firstCandidate = state.startCandidate;
+        state.startPlayer = 0;
+        state.startCandidate = 0;
+        try {
+            for (int p = 0; p < playerCount; p++) {
+                int playerIndex = (first + p) % playerCount;
+                ServerPlayer player = players.get(playerIndex);
+                if (player.isSpectator()) {
+                    continue;
+                }
+                int inCone = collectInCone(player);
+                // The resumed player continues where the budget ran out (wrapping around, as the
+                // candidates may have shifted since)
+                int offset = p == 0 && inCone > 0 ? firstCandidate % inCone : 0;
+                for (int k = 0; k < inCone; k++) {
+                    int c = (offset + k) % inCone;
+                    int index = candidates[c];
+                    if (revealed[index]) {
+                        continue;
+                    }
+                    if (budget-- == 0) {
+                        state.startPlayer = playerIndex;
+                        state.startCandidate = c;
+                        return false;
+                    }
+                    LivingEntity entity = batchEntities.get(index);
+                    if (player.hasLineOfSight(entity)) {
+                        revealed[index] = true;
+                        state.pending.remove(entity.getId());
+                        pendingIds.remove(entity.getUUID());
+                        onReveal.accept(player, entity);
+                    }
+                }
+            }
+            return true;
+        } finally {
+            batchEntities.clear();
+            cells.clear();
+        }
+    }
+
+    /**
+     * Puts the level's live pending entities into the scratch arrays and the spatial hash, dropping
+     * dead ones.
+     *
+     * @return number of entities in the batch
+     */
+    private int buildBatch(LevelState state) {
+        var iterator = state.pending.values().iterator();
+        while (iterator.hasNext()) {
+            LivingEntity entity = iterator.next();
+            if (entity.isRemoved() || !entity.isAlive()) {
+                // Unloaded (e.g. its chunk unloaded while no leave event reached us): keep the UUID
+                // so the entity is picked up again when it rejoins; dead or discarded: forget it
+                iterator.remove();
+                if (isDestroyed(entity) || !entity.isRemoved()) {
+                    pendingIds.remove(entity.getUUID());
+                }
+                continue;
+            }
+            int index = batchEntities.size();
+            ensureEntityCapacity(index + 1);
+            batchEntities.add(entity);
+            Vec3 eye = entity.getEyePosition();
+            eyeX[index] = eye.x;
+            eyeY[index] = eye.y;
+            eyeZ[index] = eye.z;
+            revealed[index] = false;
+            cells.computeIfAbsent(cellKey(entity.getBlockX() >> CELL_SHIFT, entity.getBlockY() >> CELL_SHIFT,
+                    entity.getBlockZ() >> CELL_SHIFT), key -> new IntArrayList(4)).add(index);
+        }
+        return batchEntities.size();
+    }
+
+    /**
+     * Collects the batch entities within range of {@code player} whose eyes lie inside the player's
+     * view cone into {@link #candidates}.
+     *
+     * @return number of candidates
+     */
+    private int collectInCone(ServerPlayer player) {
+        double px = player.getX();
+        double py = player.getY();
+        double pz = player.getZ();
+        Vec3 eye = player.getEyePosition();
+        int minCellX = ((int) Math.floor(px) - REVEAL_RANGE) >> CELL_SHIFT;
+        int maxCellX = ((int) Math.floor(px) + REVEAL_RANGE) >> CELL_SHIFT;
+        int minCellY = ((int) Math.floor(py) - REVEAL_RANGE) >> CELL_SHIFT;
+        int maxCellY = ((int) Math.floor(py) + REVEAL_RANGE) >> CELL_SHIFT;
+        int minCellZ = ((int) Math.floor(pz) - REVEAL_RANGE) >> CELL_SHIFT;
+        int maxCellZ = ((int) Math.floor(pz) + REVEAL_RANGE) >> CELL_SHIFT;
+        double rangeSqr = (double) REVEAL_RANGE * REVEAL_RANGE;
+
+        // Gather: entities in range, as vectors from the player's eyes to theirs
+        int n = 0;
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                for (int cz = minCellZ; cz <= maxCellZ; cz++) {
+                    IntArrayList cell = cells.get(cellKey(cx, cy, cz));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size(); i++) {
+                        int index = cell.getInt(i);
+                        if (revealed[index] || player.distanceToSqr(batchEntities.get(index)) > rangeSqr) {
+                            continue;
+                        }
+                        ensureCandidateCapacity(n + 1);
+                        candidates[n] = index;
+                        toX[n] = eyeX[index] - eye.x;
+                        toY[n] = eyeY[index] - eye.y;
+                        toZ[n] = eyeZ[index] - eye.z;
+                        n++;
+                    }
+                }
+            }
+        }
+
+        // View cone over the whole batch: look . to >= 0.95 |to|, without square roots
+        Vec3 look = player.getLookAngle();
+        double lx = look.x;
+        double ly = look.y;
+        double lz = look.z;
+        int kept = 0;
+        for (int i = 0; i < n; i++) {
+            double dot = lx * toX[i] + ly * toY[i] + lz * toZ[i];
+            double lengthSqr = toX[i] * toX[i] + toY[i] * toY[i] + toZ[i] * toZ[i];
+            if (dot > 0.0 && dot * dot >= MIN_VIEW_DOT_SQR * lengthSqr) {
+                candidates[kept++] = candidates[i];
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * True if the entity is gone for good (killed or discarded), not just unloaded or moved.
+     */
+    private static boolean isDestroyed(Entity entity) {
+        Entity.RemovalReason reason = entity.getRemovalReason();
+        return reason != null && reason.shouldDestroy();
+    }
+
+    private static long cellKey(int cx, int cy, int cz) {
+        return ((long) cx & 0x3FFFFFL) << 42 | ((long) cy & 0xFFFFFL) << 22 | ((long) cz & 0x3FFFFFL);
+    }
+
+    private void ensureEntityCapacity(int size) {
+        if (size > eyeX.length) {
+            int capacity = Math.max(size, eyeX.length * 2);
+            eyeX = Arrays.copyOf(eyeX, capacity);
+            eyeY = Arrays.copyOf(eyeY, capacity);
+            eyeZ = Arrays.copyOf(eyeZ, capacity);
+            revealed = Arrays.copyOf(revealed, capacity);
+        }
+    }
+
+    private void ensureCandidateCapacity(int size) {
+        if (size > candidates.length) {
+            int capacity = Math.max(size, candidates.length * 2);
+            candidates = Arrays.copyOf(candidates, capacity);
+            toX = Arrays.copyOf(toX, capacity);
+            toY = Arrays.copyOf(toY, capacity);
+            toZ = Arrays.copyOf(toZ, capacity);
+        }
+    }
+}
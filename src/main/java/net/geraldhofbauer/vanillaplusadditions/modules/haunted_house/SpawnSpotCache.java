@@ -0,0 +1,153 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.haunted_house;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+/**
+ * Discovered indoor/garden spawn spots of one dimension, keyed by packed block position, plus a
+ * chunk index for fast nearby queries.
+ *
+ * <p>Spots expire after a TTL that is refreshed whenever a scan sees them again. Pure bookkeeping
+ * without level access, so the pruning can be benchmarked in {@code src/jmh}.</p>
+ */
+final class SpawnSpotCache {
+
+    static final class CachedSpawnSpot {
+        private final BlockPos pos;
+        private final boolean skyAccess;
+        private long expiresAtGameTick;
+
+        private CachedSpawnSpot(BlockPos pos, boolean skyAccess, long expiresAtGameTick) {
+            this.pos = pos;
+            this.skyAccess = skyAccess;
+            this.expiresAtGameTick = expiresAtGameTick;
+        }
+
+        BlockPos pos() {
+            return pos;
+        }
+
+        boolean skyAccess() {
+            return skyAccess;
+        }
+
+        /** Extends the TTL; called when a scan sees the spot again. */
+        void refresh(long expiresAtGameTick) {
+            this.expiresAtGameTick = expiresAtGameTick;
+        }
+    }
+
+    private final Map<Long, CachedSpawnSpot> spots = new HashMap<>();
+    private final Map<Long, Set<Long>> chunkIndex = new HashMap<>();
+
+    CachedSpawnSpot get(long packedPos) {
+        return spots.get(packedPos);
+    }
+
+    void put(BlockPos pos, boolean skyAccess, long expiresAtGameTick) {
+        long packedPos = pos.asLong();
+        spots.put(packedPos, new CachedSpawnSpot(pos.immutable(), skyAccess, expiresAtGameTick));
+        long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        chunkIndex.computeIfAbsent(chunkKey, ignored -> new HashSet<>()).add(packedPos);
+    }
+
+    boolean isEmpty() {
+        return spots.isEmpty();
+    }
+
+    int size() {
+        return spots.size();
+    }
+
+    /**
+     * Removes every spot whose TTL ran out before {@code now}.
+     *
+     * @param onRemoved receives the packed position of each removed spot
+     */
+    void pruneExpired(long now, LongConsumer onRemoved) {
+        Iterator<Map.Entry<Long, CachedSpawnSpot>> iterator = spots.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, CachedSpawnSpot> entry = iterator.next();
+            CachedSpawnSpot spot = entry.getValue();
+            if (spot.expiresAtGameTick >= now) {
+                continue;
+            }
+            iterator.remove();
+            removeFromChunkIndex(spot.pos, entry.getKey());
+            onRemoved.accept(entry.getKey());
+        }
+    }
+
+    /**
+     * Drops the spots closest to expiry until at most {@code maxSpots} remain.
+     *
+     * @param onRemoved receives the packed position of each removed spot
+     */
+    void evictOverflow(int maxSpots, LongConsumer onRemoved) {
+        if (spots.size() <= maxSpots) {
+            return;
+        }
+        List<Map.Entry<Long, CachedSpawnSpot>> entries = new ArrayList<>(spots.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().expiresAtGameTick));
+        int overflow = spots.size() - maxSpots;
+        for (int i = 0; i < overflow; i++) {
+            long packedPos = entries.get(i).getKey();
+            CachedSpawnSpot removed = spots.remove(packedPos);
+            if (removed != null) {
+                removeFromChunkIndex(removed.pos, packedPos);
+                onRemoved.accept(packedPos);
+            }
+        }
+    }
+
+    /**
+     * Collects the spots in the chunks within {@code chunkRadius} of {@code centerPos}'s chunk.
+     */
+    List<CachedSpawnSpot> nearby(BlockPos centerPos, int chunkRadius) {
+        if (spots.isEmpty()) {
+            return List.of();
+        }
+        int centerChunkX = centerPos.getX() >> 4;
+        int centerChunkZ = centerPos.getZ() >> 4;
+
+        List<CachedSpawnSpot> result = new ArrayList<>();
+        for (int dx = -chunkRadius; dx <= chunkRadius; dx++) {
+            for (int dz = -chunkRadius; dz <= chunkRadius; dz++) {
+                long chunkKey = ChunkPos.asLong(centerChunkX + dx, centerChunkZ + dz);
+                Set<Long> chunkSpots = chunkIndex.get(chunkKey);
+                if (chunkSpots == null || chunkSpots.isEmpty()) {
+                    continue;
+                }
+                for (long packedPos : chunkSpots) {
+                    CachedSpawnSpot spot = spots.get(packedPos);
+                    if (spot != null) {
+                        result.add(spot);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void removeFromChunkIndex(BlockPos pos, long packedPos) {
+        long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        Set<Long> chunkSpots = chunkIndex.get(chunkKey);
+        if (chunkSpots == null) {
+            return;
+        }
+        chunkSpots.remove(packedPos);
+        if (chunkSpots.isEmpty()) {
+            chunkIndex.remove(chunkKey);
+        }
+    }
+}
@@ -547,6 +547,27 @@ public class HauntedHouseConfig
         return false;
     }
 
+    /**
+     * Gets the configured target structure IDs.
+     *
+     * @return List of structure IDs, empty if the config is not loaded
+     */
+    public List<? extends String> getTargetStructures() {
+        return targetStructures != null ? targetStructures.get() : List.of();
+    }
+
+    /**
+     * Replaces the target structure IDs in memory only; the config file is not written.
+     * Used by the performance game tests to turn a vanilla structure into a haunted one.
+     *
+     * @param structureIds The new structure IDs
+     */
+    public void setTargetStructures(List<? extends String> structureIds) {
+        if (targetStructures != null) {
+            targetStructures.set(structureIds);
+        }
+    }
+
     /**
      * Gets the configured replacement entity ID.
      *
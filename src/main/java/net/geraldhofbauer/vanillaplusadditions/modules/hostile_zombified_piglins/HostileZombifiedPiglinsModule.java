@@ -1,14 +1,14 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.hostile_zombified_piglins;
 
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.EntityTickRouter;
+import net.geraldhofbauer.vanillaplusadditions.core.LoadGovernor;
 import net.geraldhofbauer.vanillaplusadditions.modules.hostile_zombified_piglins.config.HostileZombifiedPiglinsConfig;
 import net.geraldhofbauer.vanillaplusadditions.modules.hostile_zombified_piglins.models.NearestPlayerTime;
 import net.minecraft.world.entity.monster.ZombifiedPiglin;
 import net.minecraft.world.entity.player.Player;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
-import net.neoforged.neoforge.event.tick.EntityTickEvent;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
@@ -52,7 +52,11 @@ public class HostileZombifiedPiglinsModule
     @Override
     protected void onInitialize() {
         // Register event listeners for this module
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
+
+        // Only process every 20 ticks (1 second) to avoid performance issues
+        EntityTickRouter.register(this, ZombifiedPiglin.class, EntityTickRouter.Phase.PRE, 20,
+                this::maintainHostility);
 
         getLogger().info("Hostile Zombified Piglins module initialized - Nether just got more dangerous!");
     }
@@ -84,26 +88,6 @@ public class HostileZombifiedPiglinsModule
         }
     }
 
-    /**
-     * Event handler that maintains hostility over time
-     */
-    @SubscribeEvent
-    public void onEntityTick(EntityTickEvent.Pre event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-
-        // Only process every 20 ticks (1 second) to avoid performance issues
-        if (event.getEntity().tickCount % 20 != 0) {
-            return;
-        }
-
-        if (event.getEntity() instanceof ZombifiedPiglin zombifiedPiglin) {
-            // Ensure it stays angry and doesn't calm down
-            maintainHostility(zombifiedPiglin);
-        }
-    }
-
     /**
      * Makes a zombified piglin hostile to all players in the area and returns the nearest
      * player (the one that was targeted).
@@ -174,6 +158,10 @@ public class HostileZombifiedPiglinsModule
         if (zombifiedPiglin.level().isClientSide) {
             return; // Only process on server side
         }
+        // Called every 20 ticks; less often while the server is overloaded
+        if (LoadGovernor.skip(getModuleId(), zombifiedPiglin.tickCount, 20)) {
+            return;
+        }
 
         // If the piglin isn't angry, find a nearby player to be angry at
 
@@ -5,7 +5,6 @@ import net.geraldhofbauer.vanillaplusadditions.modules.idle_gamerules.config.Idl
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.server.MinecraftServer;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
 
 /**
@@ -31,7 +30,7 @@ public class IdleGamerulesModule extends AbstractModule<IdleGamerulesModule, Idl
 
     @Override
     protected void onInitialize() {
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
     }
 
     @SubscribeEvent
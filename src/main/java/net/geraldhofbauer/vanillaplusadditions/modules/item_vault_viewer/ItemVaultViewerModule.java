@@ -37,6 +37,28 @@ public class ItemVaultViewerModule extends AbstractModule<ItemVaultViewerModule,
     public static final DeferredHolder<MenuType<?>, MenuType<ItemVaultViewerMenu>> ITEM_VAULT_VIEWER_MENU =
             MENUS.register("item_vault_viewer", () -> IMenuTypeExtension.create(ItemVaultViewerMenu::new));
 
+    private static final StackMerger.Ops<ItemStack> ITEM_STACK_OPS = new StackMerger.Ops<>() {
+        @Override
+        public boolean isEmpty(ItemStack stack) {
+            return stack.isEmpty();
+        }
+
+        @Override
+        public boolean isSameStack(ItemStack a, ItemStack b) {
+            return ItemStack.isSameItemSameComponents(a, b);
+        }
+
+        @Override
+        public void grow(ItemStack target, ItemStack source) {
+            target.grow(source.getCount());
+        }
+
+        @Override
+        public ItemStack copy(ItemStack stack) {
+            return stack.copy();
+        }
+    };
+
     public ItemVaultViewerModule() {
         super(
                 "item_vault_viewer",
@@ -189,23 +211,7 @@ public class ItemVaultViewerModule extends AbstractModule<ItemVaultViewerModule,
 
     private static void collectStacks(IItemHandler handler, List<ItemStack> stacks) {
         for (int slot = 0; slot < handler.getSlots(); slot++) {
-            ItemStack stack = handler.getStackInSlot(slot);
-            if (stack.isEmpty()) {
-                continue;
-            }
-
-            boolean merged = false;
-            for (ItemStack existing : stacks) {
-                if (ItemStack.isSameItemSameComponents(existing, stack)) {
-                    existing.grow(stack.getCount());
-                    merged = true;
-                    break;
-                }
-            }
-
-            if (!merged) {
-                stacks.add(stack.copy());
-            }
+            StackMerger.mergeInto(stacks, handler.getStackInSlot(slot), ITEM_STACK_OPS);
         }
     }
 
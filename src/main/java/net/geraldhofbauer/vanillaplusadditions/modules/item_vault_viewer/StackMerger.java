@@ -0,0 +1,46 @@
+package net.geraldhofbauer.vanillaplusadditions.modules.item_vault_viewer;
+
+import java.util.List;
+
+/**
+ * The merge step behind the viewer's stack list: adds one stack to the merged list, growing an
+ * equal entry if there is one.
+ *
+ * <p>Kept generic over the stack type (via {@link Ops}) so the merge can be benchmarked in
+ * {@code src/jmh} with plain fake stacks — real {@code ItemStack}s need the item registries.
+ */
+final class StackMerger {
+
+    /**
+     * The few stack operations the merge needs.
+     */
+    interface Ops<S> {
+        boolean isEmpty(S stack);
+
+        boolean isSameStack(S a, S b);
+
+        void grow(S target, S source);
+
+        S copy(S stack);
+    }
+
+    private StackMerger() {
+    }
+
+    /**
+     * Merges {@code stack} into {@code merged}: grows the first equal entry, or appends a copy.
+     * Empty stacks are skipped.
+     */
+    static <S> void mergeInto(List<S> merged, S stack, Ops<S> ops) {
+        if (ops.isEmpty(stack)) {
+            return;
+        }
+        for (S existing : merged) {
+            if (ops.isSameStack(existing, stack)) {
+                ops.grow(existing, stack);
+                return;
+            }
+        }
+        merged.add(ops.copy(stack));
+    }
+}
@@ -2,6 +2,8 @@ package net.geraldhofbauer.vanillaplusadditions.modules.minecart_chunk_loading;
 
 import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
+import net.geraldhofbauer.vanillaplusadditions.core.RecipeContributions;
 import net.geraldhofbauer.vanillaplusadditions.core.VanillaPlusCreativeTabs;
 import net.geraldhofbauer.vanillaplusadditions.modules.minecart_chunk_loading.block.ChunkLoaderRailBlock;
 import net.geraldhofbauer.vanillaplusadditions.modules.minecart_chunk_loading.config.MinecartChunkLoadingConfig;
@@ -10,10 +12,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.packs.resources.PreparableReloadListener;
-import net.minecraft.server.packs.resources.ResourceManager;
-import net.minecraft.util.Unit;
-import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.vehicle.AbstractMinecart;
 import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.Item;
@@ -22,17 +20,14 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.CraftingBookCategory;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.ShapedRecipe;
 import net.minecraft.world.item.crafting.ShapedRecipePattern;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.material.MapColor;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.common.world.chunk.RegisterTicketControllersEvent;
 import net.neoforged.neoforge.common.world.chunk.TicketController;
-import net.neoforged.neoforge.event.AddReloadListenerEvent;
 import net.neoforged.neoforge.event.level.LevelEvent;
 import net.neoforged.neoforge.event.tick.EntityTickEvent;
 import net.neoforged.neoforge.event.tick.LevelTickEvent;
@@ -45,8 +40,6 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 
 /**
  * Adds a "Chunk Loader Rail" that keeps chunks loaded around minecarts while they travel, so
@@ -78,7 +71,9 @@ public class MinecartChunkLoadingModule
 
     private static MinecartChunkLoadingModule instance;
 
-    private final ChunkLoaderManager manager = new ChunkLoaderManager("vanillaplusadditions_chunk_loader");
+    private ChunkLoaderManager manager;
+    private final ModuleProfiler.Probe reconcileProbe = ModuleProfiler.probe(getModuleId(), "manager.reconcile");
+    private final ModuleProfiler.Probe cartTickProbe = ModuleProfiler.probe(getModuleId(), "cart tick");
 
     /** Whether force-loading is currently active (server-wide player gate). */
     private boolean forcingEnabled = false;
@@ -93,12 +88,15 @@ public class MinecartChunkLoadingModule
 
     @Override
     protected void onInitialize() {
+        manager = new ChunkLoaderManager(getModuleId(), "vanillaplusadditions_chunk_loader");
         BLOCKS.register(getModEventBus());
         ITEMS.register(getModEventBus());
         VanillaPlusCreativeTabs.addToMainTab(CHUNK_LOADER_RAIL_ITEM);
 
         getModEventBus().addListener(this::onRegisterTicketControllers);
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
+        registerLifecycleListener(LevelEvent.Unload.class, this::onLevelUnload);
+        RecipeContributions.register(this, (recipes, registryAccess) -> addChunkLoaderRailRecipe(recipes));
 
         getLogger().info("Minecart Chunk Loading module initialized");
     }
@@ -113,7 +111,7 @@ public class MinecartChunkLoadingModule
 
     private void onRegisterTicketControllers(RegisterTicketControllersEvent event) {
         TicketController controller = new TicketController(
-                ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "minecart_chunk_loading"),
+                ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, getModuleId()),
                 // On world load, drop every ticket we own: active state is rebuilt from cart movement.
                 (level, helper) -> new ArrayList<>(helper.getBlockTickets().keySet())
                         .forEach(owner -> helper.removeAllTickets(owner)));
@@ -132,9 +130,14 @@ public class MinecartChunkLoadingModule
         if (!(cart.level() instanceof ServerLevel level)) {
             return;
         }
-        BlockPos railPos = railAt(level, cart.blockPosition());
-        if (railPos != null) {
-            manager.markActive(level, railPos, level.getGameTime());
+        long start = cartTickProbe.start();
+        try {
+            BlockPos railPos = railAt(level, cart.blockPosition());
+            if (railPos != null) {
+                manager.markActive(level, railPos, level.getGameTime());
+            }
+        } finally {
+            cartTickProbe.stop(start);
         }
     }
 
@@ -150,8 +153,13 @@ public class MinecartChunkLoadingModule
         if (now % RECONCILE_INTERVAL != 0) {
             return;
         }
-        manager.reconcile(level, now, getConfig().getChunkLoadRadius(),
-                getConfig().getActiveTimeoutSeconds() * 20L);
+        long start = reconcileProbe.start();
+        try {
+            manager.reconcile(level, now, getConfig().getChunkLoadRadius(),
+                    getConfig().getActiveTimeoutSeconds() * 20L);
+        } finally {
+            reconcileProbe.stop(start);
+        }
     }
 
     /**
@@ -181,8 +189,7 @@ public class MinecartChunkLoadingModule
         forcingEnabled = shouldLoad;
     }
 
-    @SubscribeEvent
-    public void onLevelUnload(LevelEvent.Unload event) {
+    private void onLevelUnload(LevelEvent.Unload event) {
         if (event.getLevel() instanceof ServerLevel level) {
             manager.forgetLevel(level);
         }
@@ -192,16 +199,8 @@ public class MinecartChunkLoadingModule
     // Our own block's recipe lives in this module so the rail is always craftable while the
     // module is active. JSON datapack recipes don't load reliably in this mod (see CLAUDE.md).
 
-    @SubscribeEvent
-    public void onAddReloadListener(AddReloadListenerEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        event.addListener(new ChunkLoaderRecipeReloadListener(event.getServerResources().getRecipeManager()));
-    }
-
     /** 8 powered rails ringed around 1 ender pearl → 8 chunk loader rails. */
-    private void applyChunkLoaderRailRecipe(RecipeManager recipeManager) {
+    private void addChunkLoaderRailRecipe(Map<ResourceLocation, RecipeHolder<?>> merged) {
         Map<Character, Ingredient> key = new LinkedHashMap<>();
         key.put('R', Ingredient.of(Items.POWERED_RAIL));
         key.put('E', Ingredient.of(Items.ENDER_PEARL));
@@ -210,34 +209,7 @@ public class MinecartChunkLoadingModule
         ShapedRecipe recipe = new ShapedRecipe("", CraftingBookCategory.MISC, pattern, result);
         RecipeHolder<ShapedRecipe> holder = new RecipeHolder<>(
                 ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "chunk_loader_rail"), recipe);
-
-        Map<ResourceLocation, RecipeHolder<?>> merged = new LinkedHashMap<>();
-        for (RecipeHolder<?> existing : recipeManager.getRecipes()) {
-            merged.put(existing.id(), existing);
-        }
         merged.put(holder.id(), holder);
-        recipeManager.replaceRecipes(merged.values());
-    }
-
-    private final class ChunkLoaderRecipeReloadListener implements PreparableReloadListener {
-        private final RecipeManager recipeManager;
-
-        private ChunkLoaderRecipeReloadListener(RecipeManager recipeManager) {
-            this.recipeManager = recipeManager;
-        }
-
-        @Override
-        public CompletableFuture<Void> reload(PreparationBarrier barrier, ResourceManager resourceManager,
-                                              ProfilerFiller preparationsProfiler, ProfilerFiller reloadProfiler,
-                                              Executor backgroundExecutor, Executor gameExecutor) {
-            return barrier.wait(Unit.INSTANCE)
-                    .thenRunAsync(() -> applyChunkLoaderRailRecipe(recipeManager), gameExecutor);
-        }
-
-        @Override
-        public String getName() {
-            return "vanillaplusadditions_chunk_loader_rail_recipe";
-        }
     }
 
     /** Returns the loader-rail position the cart sits on (same block or directly below), or null. */
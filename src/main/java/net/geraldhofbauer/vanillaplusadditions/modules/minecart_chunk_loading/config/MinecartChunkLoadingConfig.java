@@ -63,6 +63,18 @@ public class MinecartChunkLoadingConfig
         return onlyWhilePlayersOnline == null || onlyWhilePlayersOnline.get();
     }
 
+    /**
+     * Overrides the player gate in memory (not saved to the config file).
+     * Used by the performance game tests, whose server has no players.
+     *
+     * @param value The new setting
+     */
+    public void setOnlyWhilePlayersOnline(boolean value) {
+        if (onlyWhilePlayersOnline != null) {
+            onlyWhilePlayersOnline.set(value);
+        }
+    }
+
     public int getChunkBorderScanRadius() {
         return chunkBorderScanRadius != null ? chunkBorderScanRadius.get() : 8;
     }
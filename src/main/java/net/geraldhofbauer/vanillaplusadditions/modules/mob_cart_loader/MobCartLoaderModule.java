@@ -2,6 +2,7 @@ package net.geraldhofbauer.vanillaplusadditions.modules.mob_cart_loader;
 
 import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.RecipeContributions;
 import net.geraldhofbauer.vanillaplusadditions.core.VanillaPlusCreativeTabs;
 import net.geraldhofbauer.vanillaplusadditions.modules.mob_cart_loader.block.MobLoaderBlock;
 import net.geraldhofbauer.vanillaplusadditions.modules.mob_cart_loader.block.MobUnloaderBlock;
@@ -10,10 +11,6 @@ import net.geraldhofbauer.vanillaplusadditions.modules.mob_cart_loader.blockenti
 import net.geraldhofbauer.vanillaplusadditions.modules.mob_cart_loader.config.MobCartLoaderConfig;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.server.packs.resources.PreparableReloadListener;
-import net.minecraft.server.packs.resources.ResourceManager;
-import net.minecraft.util.Unit;
-import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -21,25 +18,18 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.CraftingBookCategory;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.ShapedRecipe;
 import net.minecraft.world.item.crafting.ShapedRecipePattern;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.material.MapColor;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
-import net.neoforged.neoforge.event.AddReloadListenerEvent;
 import net.neoforged.neoforge.registries.DeferredBlock;
 import net.neoforged.neoforge.registries.DeferredHolder;
 import net.neoforged.neoforge.registries.DeferredItem;
 import net.neoforged.neoforge.registries.DeferredRegister;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 
 /**
  * Mob Cart Loader module: two blocks that automate loading/unloading mobs into minecarts on the
@@ -157,27 +147,20 @@ public class MobCartLoaderModule extends AbstractModule<MobCartLoaderModule, Mob
         VanillaPlusCreativeTabs.addToMainTab(MOB_LOADER_ITEM);
         VanillaPlusCreativeTabs.addToMainTab(MOB_UNLOADER_ITEM);
 
-        NeoForge.EVENT_BUS.register(this);
+        RecipeContributions.register(this, (recipes, registryAccess) -> addRecipes(recipes));
 
         getLogger().info("Mob Cart Loader module initialized");
     }
 
-    // ---- Recipe injection (in-code, no JSON — see CLAUDE.md) ----
-
-    @SubscribeEvent
-    public void onAddReloadListener(AddReloadListenerEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        event.addListener(new MobCartLoaderRecipeReloadListener(event.getServerResources().getRecipeManager()));
+    @Override
+    protected void onClientSetup() {
+        registerGameEventListener(
+                net.geraldhofbauer.vanillaplusadditions.modules.mob_cart_loader.client.MobCartGogglesClientHandler.class);
     }
 
-    private void applyRecipes(RecipeManager recipeManager) {
-        Map<ResourceLocation, RecipeHolder<?>> merged = new LinkedHashMap<>();
-        for (RecipeHolder<?> existing : recipeManager.getRecipes()) {
-            merged.put(existing.id(), existing);
-        }
+    // ---- Recipe injection (in-code, no JSON — see CLAUDE.md) ----
 
+    private void addRecipes(Map<ResourceLocation, RecipeHolder<?>> merged) {
         // Glass on the top and bottom rows, the functional trio in the middle.
         // Loader:  hopper | saddle | minecart  (intake).
         addShaped(merged, "mob_loader", new ItemStack(MOB_LOADER_ITEM.get()),
@@ -193,8 +176,6 @@ public class MobCartLoaderModule extends AbstractModule<MobCartLoaderModule, Mob
                         'S', Ingredient.of(Items.SADDLE),
                         'D', Ingredient.of(Items.DROPPER)),
                 "GGG", "MSD", "GGG");
-
-        recipeManager.replaceRecipes(merged.values());
     }
 
     private static void addShaped(Map<ResourceLocation, RecipeHolder<?>> merged, String path,
@@ -204,25 +185,4 @@ public class MobCartLoaderModule extends AbstractModule<MobCartLoaderModule, Mob
         ResourceLocation id = ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, path);
         merged.put(id, new RecipeHolder<>(id, recipe));
     }
-
-    private final class MobCartLoaderRecipeReloadListener implements PreparableReloadListener {
-        private final RecipeManager recipeManager;
-
-        private MobCartLoaderRecipeReloadListener(RecipeManager recipeManager) {
-            this.recipeManager = recipeManager;
-        }
-
-        @Override
-        public CompletableFuture<Void> reload(PreparationBarrier preparationBarrier, ResourceManager resourceManager,
-                                              ProfilerFiller preparationsProfiler, ProfilerFiller reloadProfiler,
-                                              Executor backgroundExecutor, Executor gameExecutor) {
-            return preparationBarrier.wait(Unit.INSTANCE)
-                    .thenRunAsync(() -> applyRecipes(recipeManager), gameExecutor);
-        }
-
-        @Override
-        public String getName() {
-            return "vanillaplusadditions_mob_cart_loader_recipes";
-        }
-    }
 }
@@ -1,5 +1,7 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.mob_cart_loader.block;
 
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleManager;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
 import net.geraldhofbauer.vanillaplusadditions.modules.mob_cart_loader.blockentity.AbstractMobCartBlockEntity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -44,6 +46,9 @@ public abstract class AbstractMobCartBlock extends BaseEntityBlock {
     /** Redstone state. Inverse semantics: powered = inactive, unpowered = active (see {@link #isActive}). */
     public static final BooleanProperty POWERED = BlockStateProperties.POWERED;
 
+    private static final ModuleProfiler.Probe TICK_PROBE =
+            ModuleProfiler.probe("mob_cart_loader", "AbstractMobCartBlockEntity.serverTick");
+
     protected AbstractMobCartBlock(Properties properties) {
         super(properties);
         this.registerDefaultState(this.stateDefinition.any()
@@ -108,7 +113,8 @@ public abstract class AbstractMobCartBlock extends BaseEntityBlock {
             return null;
         }
         return createTickerHelper(blockEntityType, getBlockEntityType(),
-                AbstractMobCartBlockEntity::serverTick);
+                ModuleManager.suspendable("mob_cart_loader",
+                        ModuleProfiler.wrap(TICK_PROBE, AbstractMobCartBlockEntity::serverTick)));
     }
 
     /**
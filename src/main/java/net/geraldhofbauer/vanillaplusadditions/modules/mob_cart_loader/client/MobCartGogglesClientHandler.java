@@ -12,9 +12,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.SpawnEggItem;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.phys.BlockHitResult;
-import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.RenderGuiEvent;
 
 /**
@@ -23,7 +21,6 @@ import net.neoforged.neoforge.client.event.RenderGuiEvent;
  * and — while sneaking — its health. No mob → a compact "empty" line. Gated purely on
  * {@link GogglesUtil}, so without Create nothing shows and nothing breaks.
  */
-@EventBusSubscriber(value = Dist.CLIENT, bus = EventBusSubscriber.Bus.GAME)
 public final class MobCartGogglesClientHandler {
 
     private static final ResourceLocation HEART_SPRITE =
@@ -10,7 +10,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.entity.living.LivingDropsEvent;
 
 import java.util.ArrayList;
@@ -48,7 +47,7 @@ public class MobDropsModule
     @Override
     protected void onInitialize() {
         // Register event listeners for this module
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
 
         getLogger().info("Mob Drops module initialized - Custom mob drops are now active!");
     }
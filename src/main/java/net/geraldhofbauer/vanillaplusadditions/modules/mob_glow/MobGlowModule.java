@@ -22,7 +22,6 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 
 import java.util.*;
@@ -68,7 +67,7 @@ public class MobGlowModule extends AbstractModule<MobGlowModule, MobGlowConfig>
     @Override
     protected void onInitialize() {
         // Register event listeners for this module
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
 
         getLogger().info("Mob Glow module initialized - /mobglow command ready!");
     }
@@ -37,10 +37,16 @@ public class MobSpawnOverlayModule
 
     @Override
     protected void onInitialize() {
-        // Client keybind/render handlers register themselves via @EventBusSubscriber(Dist.CLIENT).
         getLogger().info("Mob Spawn Overlay module initialized");
     }
 
+    @Override
+    protected void onClientSetup() {
+        // Rescan timer and marker rendering; unregistered while the module is disabled at runtime.
+        registerGameEventListener(
+                net.geraldhofbauer.vanillaplusadditions.modules.mob_spawn_overlay.client.MobSpawnOverlayClientEvents.class);
+    }
+
     /** The module instance, or {@code null} before construction. */
     public static MobSpawnOverlayModule getInstance() {
         return instance;
@@ -9,9 +9,7 @@ import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.phys.Vec3;
-import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
 import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
 
@@ -19,7 +17,6 @@ import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
  * Drives the spawn overlay: rescans on a timer while it is switched on and draws the markers in
  * world space. The toggle itself arrives from {@code KeyboardHandlerDebugKeyMixin} (F3 + M).
  */
-@EventBusSubscriber(value = Dist.CLIENT, bus = EventBusSubscriber.Bus.GAME)
 public final class MobSpawnOverlayClientEvents {
 
     private static int tickCounter;
@@ -6,7 +6,6 @@ import net.geraldhofbauer.vanillaplusadditions.modules.overpacked_extensions.con
 import net.geraldhofbauer.vanillaplusadditions.modules.overpacked_extensions.network.OpenBackpackCompartmentPacket;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
 
 /**
@@ -42,7 +41,7 @@ public class OverpackedExtensionsModule
     @Override
     protected void onInitialize() {
         // Slowdown override — no Overpacked classes referenced, safe to always register.
-        NeoForge.EVENT_BUS.register(new SlowdownFeature(this));
+        registerGameEventListener(new SlowdownFeature(this));
 
         // Backpack open/sort packets. The registrar itself links no Overpacked types; the handlers
         // gate on availability before touching the bridge.
@@ -52,7 +51,7 @@ public class OverpackedExtensionsModule
         // (and Curios) are present. isAvailable() reads cached ModList booleans and links no Overpacked
         // classes.
         if (OverpackedGuiBridge.isAvailable()) {
-            NeoForge.EVENT_BUS.register(OverpackedGuiBridge.class);
+            registerGameEventListener(OverpackedGuiBridge.class);
         }
 
         getLogger().info("Overpacked Extensions module initialized (overpacked+curios present: {})",
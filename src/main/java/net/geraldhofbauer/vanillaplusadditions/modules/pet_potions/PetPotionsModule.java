@@ -1,6 +1,7 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.pet_potions;
 
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
 import net.geraldhofbauer.vanillaplusadditions.mixin.pet_potions.AreaEffectCloudAccessor;
 import net.geraldhofbauer.vanillaplusadditions.modules.pet_potions.config.PetPotionsConfig;
 import net.geraldhofbauer.vanillaplusadditions.modules.pet_potions.models.CalmingCloud;
@@ -28,7 +29,6 @@ import net.minecraft.world.item.SplashPotionItem;
 import net.minecraft.world.item.alchemy.PotionContents;
 import net.minecraft.world.phys.AABB;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
 import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
 import net.neoforged.neoforge.event.entity.ProjectileImpactEvent;
@@ -82,6 +82,8 @@ public class PetPotionsModule extends AbstractModule<PetPotionsModule, PetPotion
 
     private int tickCounter;
 
+    private final ModuleProfiler.Probe sweepProbe = ModuleProfiler.probe(getModuleId(), "calming cloud sweep");
+
     /**
      * Creates the Pet Potions module.
      */
@@ -96,7 +98,9 @@ public class PetPotionsModule extends AbstractModule<PetPotionsModule, PetPotion
 
     @Override
     protected void onInitialize() {
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
+        registerLifecycleListener(EntityLeaveLevelEvent.class, this::onEntityLeaveLevel);
+        registerLifecycleListener(ServerStoppedEvent.class, this::onServerStopped);
         getLogger().info("Pet Potions module initialized - healing potions now count as an apology");
     }
 
@@ -219,8 +223,7 @@ public class PetPotionsModule extends AbstractModule<PetPotionsModule, PetPotion
      *
      * @param event the entity leave event
      */
-    @SubscribeEvent
-    public void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+    private void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
         if (calmingClouds.isEmpty() || !(event.getEntity() instanceof AreaEffectCloud cloud)) {
             return;
         }
@@ -241,8 +244,13 @@ public class PetPotionsModule extends AbstractModule<PetPotionsModule, PetPotion
             return;
         }
         MinecraftServer server = event.getServer();
-        expirePeaceWindows(server.overworld().getGameTime());
-        sweepCalmingClouds(server);
+        long start = sweepProbe.start();
+        try {
+            expirePeaceWindows(server.overworld().getGameTime());
+            sweepCalmingClouds(server);
+        } finally {
+            sweepProbe.stop(start);
+        }
     }
 
     private void expirePeaceWindows(long now) {
@@ -381,8 +389,7 @@ public class PetPotionsModule extends AbstractModule<PetPotionsModule, PetPotion
      *
      * @param event the server stopped event
      */
-    @SubscribeEvent
-    public void onServerStopped(ServerStoppedEvent event) {
+    private void onServerStopped(ServerStoppedEvent event) {
         peaceWindows.clear();
         calmingClouds.clear();
     }
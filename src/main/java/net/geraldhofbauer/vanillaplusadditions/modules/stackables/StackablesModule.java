@@ -9,7 +9,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.Items;
 import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.ModifyDefaultComponentsEvent;
 import net.neoforged.neoforge.registries.RegisterEvent;
 import org.slf4j.Logger;
@@ -41,7 +40,7 @@ public class StackablesModule extends AbstractModule<StackablesModule, Stackable
                 + "falling back to global event bus: {}",
                 e.getMessage()
             );
-            NeoForge.EVENT_BUS.register(this);
+            registerGameEventListener(this);
         }
     }
 
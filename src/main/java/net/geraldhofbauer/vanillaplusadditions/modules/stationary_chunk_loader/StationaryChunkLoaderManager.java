@@ -1,5 +1,6 @@
 package net.geraldhofbauer.vanillaplusadditions.modules.stationary_chunk_loader;
 
+import net.geraldhofbauer.vanillaplusadditions.core.TickBudgetScheduler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
@@ -8,6 +9,7 @@ import net.neoforged.neoforge.common.world.chunk.TicketController;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -21,10 +23,20 @@ import java.util.Set;
  */
 public final class StationaryChunkLoaderManager {
 
+    private final String moduleId;
     private TicketController controller;
 
     /** level -> (anchor pos -> set of forced chunk longs). */
     private final Map<ServerLevel, Map<BlockPos, Set<Long>>> forced = new HashMap<>();
+    /** level -> resume still re-forcing anchors over the next ticks. */
+    private final Map<ServerLevel, TickBudgetScheduler.Handle> pendingResumes = new HashMap<>();
+
+    /**
+     * @param moduleId the owning module, for the {@link TickBudgetScheduler}
+     */
+    public StationaryChunkLoaderManager(String moduleId) {
+        this.moduleId = moduleId;
+    }
 
     public void setController(TicketController controller) {
         this.controller = controller;
@@ -80,7 +92,7 @@ public final class StationaryChunkLoaderManager {
 
     /**
      * Re-forces every anchor recorded in {@link ChunkAnchorData} (server start / first player join),
-     * so anchored chunks load again.
+     * so anchored chunks load again. One anchor per slice through the {@link TickBudgetScheduler}.
      */
     public void resume(ServerLevel level, int radius) {
         if (controller == null) {
@@ -90,13 +102,17 @@ public final class StationaryChunkLoaderManager {
         if (data.anchors().isEmpty()) {
             return;
         }
+        cancelResume(level);
         Map<BlockPos, Set<Long>> lvlForced = forced.computeIfAbsent(level, k -> new HashMap<>());
-        for (long packed : new ArrayList<>(data.anchors())) {
-            BlockPos anchorPos = BlockPos.of(packed);
-            if (!lvlForced.containsKey(anchorPos)) {
-                forceChunksFor(level, lvlForced, anchorPos, radius);
-            }
-        }
+        List<Long> anchors = new ArrayList<>(data.anchors());
+        pendingResumes.put(level, TickBudgetScheduler.submitEach(moduleId, "resume",
+                TickBudgetScheduler.Priority.HIGH, anchors, packed -> {
+                    BlockPos anchorPos = BlockPos.of(packed);
+                    // Removed while the resume was pending: don't force it back
+                    if (!lvlForced.containsKey(anchorPos) && ChunkAnchorData.get(level).anchors().contains(packed)) {
+                        forceChunksFor(level, lvlForced, anchorPos, radius);
+                    }
+                }));
     }
 
     /**
@@ -104,6 +120,7 @@ public final class StationaryChunkLoaderManager {
      * persistent {@link ChunkAnchorData} set so the anchors can be resumed later.
      */
     public void releaseAll(ServerLevel level) {
+        cancelResume(level);
         Map<BlockPos, Set<Long>> lvlForced = forced.get(level);
         if (lvlForced != null && controller != null) {
             for (Map.Entry<BlockPos, Set<Long>> entry : lvlForced.entrySet()) {
@@ -118,6 +135,14 @@ public final class StationaryChunkLoaderManager {
 
     /** Drops in-memory tracking for an unloading level (tickets vanish with the level). */
     public void forgetLevel(ServerLevel level) {
+        cancelResume(level);
         forced.remove(level);
     }
+
+    private void cancelResume(ServerLevel level) {
+        TickBudgetScheduler.Handle pending = pendingResumes.remove(level);
+        if (pending != null) {
+            pending.cancel();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package net.geraldhofbauer.vanillaplusadditions.modules.stationary_chunk_loader;
 
 import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.RecipeContributions;
 import net.geraldhofbauer.vanillaplusadditions.core.VanillaPlusCreativeTabs;
 import net.geraldhofbauer.vanillaplusadditions.modules.stationary_chunk_loader.block.ChunkAnchorBlock;
 import net.geraldhofbauer.vanillaplusadditions.modules.stationary_chunk_loader.config.StationaryChunkLoaderConfig;
@@ -9,10 +10,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.packs.resources.PreparableReloadListener;
-import net.minecraft.server.packs.resources.ResourceManager;
-import net.minecraft.util.Unit;
-import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -20,17 +17,14 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.CraftingBookCategory;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.ShapedRecipe;
 import net.minecraft.world.item.crafting.ShapedRecipePattern;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.material.MapColor;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.common.world.chunk.RegisterTicketControllersEvent;
 import net.neoforged.neoforge.common.world.chunk.TicketController;
-import net.neoforged.neoforge.event.AddReloadListenerEvent;
 import net.neoforged.neoforge.event.level.LevelEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import net.neoforged.neoforge.registries.DeferredBlock;
@@ -41,8 +35,6 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 
 /**
  * Adds a "Chunk Anchor" block that permanently keeps the chunk it stands in (plus a configurable
@@ -73,7 +65,7 @@ public class StationaryChunkLoaderModule
 
     private static StationaryChunkLoaderModule instance;
 
-    private final StationaryChunkLoaderManager manager = new StationaryChunkLoaderManager();
+    private StationaryChunkLoaderManager manager;
 
     /** Whether force-loading is currently active (server-wide player gate). */
     private boolean forcingEnabled = false;
@@ -88,12 +80,15 @@ public class StationaryChunkLoaderModule
 
     @Override
     protected void onInitialize() {
+        manager = new StationaryChunkLoaderManager(getModuleId());
         BLOCKS.register(getModEventBus());
         ITEMS.register(getModEventBus());
         VanillaPlusCreativeTabs.addToMainTab(CHUNK_ANCHOR_ITEM);
 
         getModEventBus().addListener(this::onRegisterTicketControllers);
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
+        registerLifecycleListener(LevelEvent.Unload.class, this::onLevelUnload);
+        RecipeContributions.register(this, (recipes, registryAccess) -> addChunkAnchorRecipe(recipes));
 
         getLogger().info("Stationary Chunk Loader module initialized");
     }
@@ -114,7 +109,7 @@ public class StationaryChunkLoaderModule
 
     private void onRegisterTicketControllers(RegisterTicketControllersEvent event) {
         TicketController controller = new TicketController(
-                ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "stationary_chunk_loader"),
+                ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, getModuleId()),
                 // On world load, drop every ticket we own: anchors are rebuilt from persistent data.
                 (level, helper) -> new ArrayList<>(helper.getBlockTickets().keySet())
                         .forEach(owner -> helper.removeAllTickets(owner)));
@@ -149,8 +144,7 @@ public class StationaryChunkLoaderModule
         forcingEnabled = shouldLoad;
     }
 
-    @SubscribeEvent
-    public void onLevelUnload(LevelEvent.Unload event) {
+    private void onLevelUnload(LevelEvent.Unload event) {
         if (event.getLevel() instanceof ServerLevel level) {
             manager.forgetLevel(level);
         }
@@ -180,16 +174,8 @@ public class StationaryChunkLoaderModule
     // ---- Crafting recipe (registered in code, gated on the module being enabled) ----
     // JSON datapack recipes don't load reliably in this mod (see CLAUDE.md), so register in code.
 
-    @SubscribeEvent
-    public void onAddReloadListener(AddReloadListenerEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        event.addListener(new ChunkAnchorRecipeReloadListener(event.getServerResources().getRecipeManager()));
-    }
-
     /** 4 iron + 4 ender pearls ringing 1 ender eye → 1 chunk anchor. */
-    private void applyChunkAnchorRecipe(RecipeManager recipeManager) {
+    private void addChunkAnchorRecipe(Map<ResourceLocation, RecipeHolder<?>> merged) {
         Map<Character, Ingredient> key = new LinkedHashMap<>();
         key.put('I', Ingredient.of(Items.IRON_INGOT));
         key.put('P', Ingredient.of(Items.ENDER_PEARL));
@@ -199,33 +185,6 @@ public class StationaryChunkLoaderModule
         ShapedRecipe recipe = new ShapedRecipe("", CraftingBookCategory.MISC, pattern, result);
         RecipeHolder<ShapedRecipe> holder = new RecipeHolder<>(
                 ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "chunk_anchor"), recipe);
-
-        Map<ResourceLocation, RecipeHolder<?>> merged = new LinkedHashMap<>();
-        for (RecipeHolder<?> existing : recipeManager.getRecipes()) {
-            merged.put(existing.id(), existing);
-        }
         merged.put(holder.id(), holder);
-        recipeManager.replaceRecipes(merged.values());
-    }
-
-    private final class ChunkAnchorRecipeReloadListener implements PreparableReloadListener {
-        private final RecipeManager recipeManager;
-
-        private ChunkAnchorRecipeReloadListener(RecipeManager recipeManager) {
-            this.recipeManager = recipeManager;
-        }
-
-        @Override
-        public CompletableFuture<Void> reload(PreparationBarrier barrier, ResourceManager resourceManager,
-                                              ProfilerFiller preparationsProfiler, ProfilerFiller reloadProfiler,
-                                              Executor backgroundExecutor, Executor gameExecutor) {
-            return barrier.wait(Unit.INSTANCE)
-                    .thenRunAsync(() -> applyChunkAnchorRecipe(recipeManager), gameExecutor);
-        }
-
-        @Override
-        public String getName() {
-            return "vanillaplusadditions_chunk_anchor_recipe";
-        }
     }
 }
@@ -6,11 +6,19 @@ import net.minecraft.resources.ResourceLocation;
 import net.neoforged.neoforge.common.ModConfigSpec;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 public class TextureKillConfig extends AbstractModuleConfig<TextureKillModule, TextureKillConfig> {
     private ModConfigSpec.ConfigValue<List<? extends String>> killedTextures;
     private ModConfigSpec.ConfigValue<List<? extends String>> erasedRegions;
 
+    private final CompiledSnapshot<Compiled> compiled = compiledSnapshot(
+            new Compiled(Set.of(), Map.of()), this::compile);
+
+    // Parsed killed textures and erased regions; the region arrays must not be modified by readers.
+    private record Compiled(Set<ResourceLocation> killedTextures, Map<ResourceLocation, List<int[]>> erasedRegions) {
+    }
+
     public TextureKillConfig(TextureKillModule module) {
         super(module);
     }
@@ -123,43 +131,42 @@ public class TextureKillConfig extends AbstractModuleConfig<TextureKillModule, T
     }
 
     public Set<ResourceLocation> getKilledTextures() {
-        if (killedTextures == null) {
-            return Set.of();
-        }
-        Set<ResourceLocation> result = new HashSet<>();
-        for (String entry : killedTextures.get()) {
-            ResourceLocation loc = ResourceLocation.tryParse(entry);
-            if (loc != null) {
-                result.add(loc);
-            }
-        }
-        return result;
+        return compiled.get().killedTextures();
     }
 
     // Returns map of ResourceLocation → list of {x1, y1, x2, y2} regions to erase.
     public Map<ResourceLocation, List<int[]>> getErasedRegions() {
-        if (erasedRegions == null) {
-            return Map.of();
-        }
-        Map<ResourceLocation, List<int[]>> result = new HashMap<>();
-        for (String entry : erasedRegions.get()) {
-            int at = entry.indexOf('@');
-            if (at < 0) {
-                continue;
-            }
-            String locPart = entry.substring(0, at);
-            String regionPart = entry.substring(at + 1);
-            ResourceLocation loc = ResourceLocation.tryParse(locPart);
-            if (loc == null) {
-                continue;
+        return compiled.get().erasedRegions();
+    }
+
+    private Compiled compile(Consumer<String> problems) {
+        Set<ResourceLocation> killed = new HashSet<>();
+        if (killedTextures != null) {
+            for (String entry : killedTextures.get()) {
+                ResourceLocation loc = ResourceLocation.tryParse(entry);
+                if (loc == null) {
+                    problems.accept("killed_textures: invalid texture location: " + entry);
+                    continue;
+                }
+                killed.add(loc);
             }
-            int[] coords = parseRegion(regionPart);
-            if (coords == null) {
-                continue;
+        }
+
+        Map<ResourceLocation, List<int[]>> regions = new HashMap<>();
+        if (erasedRegions != null) {
+            for (String entry : erasedRegions.get()) {
+                int at = entry.indexOf('@');
+                ResourceLocation loc = at < 0 ? null : ResourceLocation.tryParse(entry.substring(0, at));
+                int[] coords = at < 0 ? null : parseRegion(entry.substring(at + 1));
+                if (loc == null || coords == null) {
+                    problems.accept("erase_regions: expected namespace:path.png@x1:y1-x2:y2: " + entry);
+                    continue;
+                }
+                regions.computeIfAbsent(loc, k -> new ArrayList<>()).add(coords);
             }
-            result.computeIfAbsent(loc, k -> new ArrayList<>()).add(coords);
         }
-        return result;
+        regions.replaceAll((loc, list) -> List.copyOf(list));
+        return new Compiled(Set.copyOf(killed), Map.copyOf(regions));
     }
 
     // Parses "x1:y1-x2:y2" into int[]{x1, y1, x2, y2}, or null on failure.
@@ -2,6 +2,8 @@ package net.geraldhofbauer.vanillaplusadditions.modules.train_chunk_loading;
 
 import net.geraldhofbauer.vanillaplusadditions.VanillaPlusAdditions;
 import net.geraldhofbauer.vanillaplusadditions.core.AbstractModule;
+import net.geraldhofbauer.vanillaplusadditions.core.ModuleProfiler;
+import net.geraldhofbauer.vanillaplusadditions.core.RecipeContributions;
 import net.geraldhofbauer.vanillaplusadditions.core.VanillaPlusCreativeTabs;
 import net.geraldhofbauer.vanillaplusadditions.modules.train_chunk_loading.compat.ChunkLoaderTrackCompat;
 import net.geraldhofbauer.vanillaplusadditions.modules.train_chunk_loading.compat.TrainChunkLoadingEvents;
@@ -11,10 +13,6 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.packs.resources.PreparableReloadListener;
-import net.minecraft.server.packs.resources.ResourceManager;
-import net.minecraft.util.Unit;
-import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -22,16 +20,13 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.CraftingBookCategory;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.ShapedRecipe;
 import net.minecraft.world.item.crafting.ShapedRecipePattern;
 import net.minecraft.world.level.block.Block;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.ModList;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.common.world.chunk.RegisterTicketControllersEvent;
 import net.neoforged.neoforge.common.world.chunk.TicketController;
-import net.neoforged.neoforge.event.AddReloadListenerEvent;
 import net.neoforged.neoforge.event.level.LevelEvent;
 import net.neoforged.neoforge.event.tick.LevelTickEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
@@ -43,8 +38,6 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 
 /**
  * Adds a "Chunk Loader Track" — a Create train track variant that keeps chunks loaded around
@@ -77,7 +70,8 @@ public class TrainChunkLoadingModule
 
     private static TrainChunkLoadingModule instance;
 
-    private final ChunkLoaderManager manager = new ChunkLoaderManager("vanillaplusadditions_train_chunk_loader");
+    private ChunkLoaderManager manager;
+    private final ModuleProfiler.Probe reconcileProbe = ModuleProfiler.probe(getModuleId(), "manager.reconcile");
 
     /** Whether force-loading is currently active (server-wide player gate). */
     private boolean forcingEnabled = false;
@@ -97,13 +91,16 @@ public class TrainChunkLoadingModule
 
     @Override
     protected void onInitialize() {
+        manager = new ChunkLoaderManager(getModuleId(), "vanillaplusadditions_train_chunk_loader");
         BLOCKS.register(getModEventBus());
         ITEMS.register(getModEventBus());
         VanillaPlusCreativeTabs.addToMainTab(CHUNK_LOADER_TRACK_ITEM);
 
         getModEventBus().addListener(this::onRegisterTicketControllers);
-        NeoForge.EVENT_BUS.register(this);
-        NeoForge.EVENT_BUS.register(new TrainChunkLoadingEvents(this));
+        registerGameEventListener(this);
+        registerLifecycleListener(LevelEvent.Unload.class, this::onLevelUnload);
+        RecipeContributions.register(this, (recipes, registryAccess) -> addChunkLoaderTrackRecipe(recipes));
+        registerGameEventListener(new TrainChunkLoadingEvents(this));
 
         getLogger().info("Train Chunk Loading module initialized");
     }
@@ -131,7 +128,7 @@ public class TrainChunkLoadingModule
 
     private void onRegisterTicketControllers(RegisterTicketControllersEvent event) {
         TicketController controller = new TicketController(
-                ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "train_chunk_loading"),
+                ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, getModuleId()),
                 // On world load, drop every ticket we own: active state is rebuilt from train movement.
                 (level, helper) -> new ArrayList<>(helper.getBlockTickets().keySet())
                         .forEach(owner -> helper.removeAllTickets(owner)));
@@ -151,8 +148,13 @@ public class TrainChunkLoadingModule
         if (now % RECONCILE_INTERVAL != 0) {
             return;
         }
-        manager.reconcile(level, now, getConfig().getChunkLoadRadius(),
-                getConfig().getActiveTimeoutSeconds() * 20L);
+        long start = reconcileProbe.start();
+        try {
+            manager.reconcile(level, now, getConfig().getChunkLoadRadius(),
+                    getConfig().getActiveTimeoutSeconds() * 20L);
+        } finally {
+            reconcileProbe.stop(start);
+        }
     }
 
     /**
@@ -182,8 +184,7 @@ public class TrainChunkLoadingModule
         forcingEnabled = shouldLoad;
     }
 
-    @SubscribeEvent
-    public void onLevelUnload(LevelEvent.Unload event) {
+    private void onLevelUnload(LevelEvent.Unload event) {
         if (event.getLevel() instanceof ServerLevel level) {
             manager.forgetLevel(level);
         }
@@ -193,16 +194,8 @@ public class TrainChunkLoadingModule
     // Our own block's recipe lives in this module so the track is always craftable while the
     // module is active. JSON datapack recipes don't load reliably in this mod (see CLAUDE.md).
 
-    @SubscribeEvent
-    public void onAddReloadListener(AddReloadListenerEvent event) {
-        if (!isModuleEnabled()) {
-            return;
-        }
-        event.addListener(new ChunkLoaderTrackRecipeReloadListener(event.getServerResources().getRecipeManager()));
-    }
-
     /** 8 Create train tracks ringed around 1 ender pearl → 8 chunk loader tracks. */
-    private void applyChunkLoaderTrackRecipe(RecipeManager recipeManager) {
+    private void addChunkLoaderTrackRecipe(Map<ResourceLocation, RecipeHolder<?>> merged) {
         Item createTrack = BuiltInRegistries.ITEM.get(
                 ResourceLocation.fromNamespaceAndPath("create", "track"));
         if (createTrack == Items.AIR) {
@@ -217,34 +210,7 @@ public class TrainChunkLoadingModule
         ShapedRecipe recipe = new ShapedRecipe("", CraftingBookCategory.MISC, pattern, result);
         RecipeHolder<ShapedRecipe> holder = new RecipeHolder<>(
                 ResourceLocation.fromNamespaceAndPath(VanillaPlusAdditions.MODID, "chunk_loader_track"), recipe);
-
-        Map<ResourceLocation, RecipeHolder<?>> merged = new LinkedHashMap<>();
-        for (RecipeHolder<?> existing : recipeManager.getRecipes()) {
-            merged.put(existing.id(), existing);
-        }
         merged.put(holder.id(), holder);
-        recipeManager.replaceRecipes(merged.values());
-    }
-
-    private final class ChunkLoaderTrackRecipeReloadListener implements PreparableReloadListener {
-        private final RecipeManager recipeManager;
-
-        private ChunkLoaderTrackRecipeReloadListener(RecipeManager recipeManager) {
-            this.recipeManager = recipeManager;
-        }
-
-        @Override
-        public CompletableFuture<Void> reload(PreparationBarrier barrier, ResourceManager resourceManager,
-                                              ProfilerFiller preparationsProfiler, ProfilerFiller reloadProfiler,
-                                              Executor backgroundExecutor, Executor gameExecutor) {
-            return barrier.wait(Unit.INSTANCE)
-                    .thenRunAsync(() -> applyChunkLoaderTrackRecipe(recipeManager), gameExecutor);
-        }
-
-        @Override
-        public String getName() {
-            return "vanillaplusadditions_chunk_loader_track_recipe";
-        }
     }
 
     // ---- Static accessors for the client renderer ----
@@ -10,7 +10,6 @@ import net.minecraft.util.StringUtil;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.AnvilUpdateEvent;
 
 import java.util.HashSet;
@@ -58,7 +57,7 @@ public class WaystoneAmethystRepairModule
 
     @Override
     protected void onInitialize() {
-        NeoForge.EVENT_BUS.register(this);
+        registerGameEventListener(this);
         getLogger().info("Waystone Amethyst Repair module initialized - Warp Stone repairable with amethyst");
     }
 
@@ -0,0 +1,159 @@
+package net.geraldhofbauer.vanillaplusadditions.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Server-side index of loaded block entities of one kind (e.g. all cat bowls and feeding stations),
+ * bucketed by chunk section per dimension.
+ *
+ * <p>The block entities keep it current themselves: they {@link #add} themselves in
+ * {@link BlockEntity#onLoad()} (chunk load and placement) and {@link #remove} themselves in
+ * {@link BlockEntity#setRemoved()} (break and chunk unload). Range queries then only visit the few
+ * sections around the query point and only the block entities that actually exist there, instead
+ * of calling {@code getBlockEntity} for every position of a cube.</p>
+ *
+ * <p>Server thread only; the methods are synchronized as a guard against stray off-thread loads.
+ * Entries of an unloading level and of a stopped server are dropped.</p>
+ *
+ * @param <T> the indexed block entity type
+ */
+public final class BlockEntitySectionIndex<T extends BlockEntity> {
+
+    /** section key ({@link SectionPos#asLong}) -> block entities, per dimension. */
+    private final Map<ResourceKey<Level>, Long2ObjectMap<List<T>>> levels = new HashMap<>();
+    private int size;
+    private boolean listening = false;
+
+    /**
+     * Indexes {@code blockEntity}. No-op on the client or if it is already indexed.
+     */
+    public synchronized void add(T blockEntity) {
+        Level level = blockEntity.getLevel();
+        if (level == null || level.isClientSide()) {
+            return;
+        }
+        startListening();
+        List<T> section = levels.computeIfAbsent(level.dimension(), key -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(SectionPos.asLong(blockEntity.getBlockPos()), key -> new ArrayList<>(2));
+        if (!section.contains(blockEntity)) {
+            section.add(blockEntity);
+            size++;
+        }
+    }
+
+    /**
+     * Removes {@code blockEntity} from the index. No-op if it is not indexed.
+     */
+    public synchronized void remove(T blockEntity) {
+        Level level = blockEntity.getLevel();
+        if (level == null || level.isClientSide()) {
+            return;
+        }
+        Long2ObjectMap<List<T>> sections = levels.get(level.dimension());
+        if (sections == null) {
+            return;
+        }
+        long sectionKey = SectionPos.asLong(blockEntity.getBlockPos());
+        List<T> section = sections.get(sectionKey);
+        if (section != null && section.remove(blockEntity)) {
+            size--;
+            if (section.isEmpty()) {
+                sections.remove(sectionKey);
+            }
+        }
+    }
+
+    /**
+     * Finds the indexed block entity nearest to {@code center} whose block center lies within
+     * {@code radius} and that passes {@code filter}.
+     *
+     * @return the nearest match, or null if there is none
+     */
+    public synchronized @Nullable T findNearest(Level level, Vec3 center, double radius, Predicate<? super T> filter) {
+        Long2ObjectMap<List<T>> sections = levels.get(level.dimension());
+        if (sections == null) {
+            return null;
+        }
+        double radiusSq = radius * radius;
+        int minX = SectionPos.blockToSectionCoord(Mth.floor(center.x - radius));
+        int minY = SectionPos.blockToSectionCoord(Mth.floor(center.y - radius));
+        int minZ = SectionPos.blockToSectionCoord(Mth.floor(center.z - radius));
+        int maxX = SectionPos.blockToSectionCoord(Mth.floor(center.x + radius));
+        int maxY = SectionPos.blockToSectionCoord(Mth.floor(center.y + radius));
+        int maxZ = SectionPos.blockToSectionCoord(Mth.floor(center.z + radius));
+
+        T nearest = null;
+        double nearestDistSq = Double.MAX_VALUE;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    List<T> section = sections.get(SectionPos.asLong(x, y, z));
+                    if (section == null) {
+                        continue;
+                    }
+                    for (T blockEntity : section) {
+                        BlockPos pos = blockEntity.getBlockPos();
+                        double distSq = center.distanceToSqr(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
+                        if (distSq <= radiusSq && distSq < nearestDistSq
+                                && !blockEntity.isRemoved() && filter.test(blockEntity)) {
+                            nearest = blockEntity;
+                            nearestDistSq = distSq;
+                        }
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * @return the number of indexed block entities over all dimensions
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void startListening() {
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(this::onLevelUnload);
+            NeoForge.EVENT_BUS.addListener(this::onServerStopped);
+        }
+    }
+
+    private synchronized void onLevelUnload(LevelEvent.Unload event) {
+        LevelAccessor level = event.getLevel();
+        if (level instanceof Level unloading && !unloading.isClientSide()) {
+            Long2ObjectMap<List<T>> sections = levels.remove(unloading.dimension());
+            if (sections != null) {
+                for (List<T> section : sections.values()) {
+                    size -= section.size();
+                }
+            }
+        }
+    }
+
+    private synchronized void onServerStopped(ServerStoppedEvent event) {
+        levels.clear();
+        size = 0;
+    }
+}
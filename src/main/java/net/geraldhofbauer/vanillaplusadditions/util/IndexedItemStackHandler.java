@@ -0,0 +1,164 @@
+package net.geraldhofbauer.vanillaplusadditions.util;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.ItemStackLinkedSet;
+import net.neoforged.neoforge.items.ItemStackHandler;
+
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * {@link ItemStackHandler} that knows where its items are: an index from item + components to the
+ * slots holding that item, plus a bitmap of the empty slots.
+ *
+ * <p>{@link #insertIndexed} uses it to merge a stack without probing every slot: it tops up the
+ * slots that already hold the item, then fills empty slots, and never touches a slot holding
+ * something else. Everything else is a plain {@code ItemStackHandler}, so menus, hoppers and Create
+ * keep working through the {@code IItemHandler} capability; every change that goes through the
+ * handler ({@code insertItem}, {@code extractItem}, {@code setStackInSlot}, loading) re-indexes the
+ * slot. Stacks changed in place (vanilla menu code shrinks and grows them directly) can leave the
+ * index stale; if an insert doesn't fit, the index is rebuilt and the insert retried before the
+ * handler counts as full.</p>
+ *
+ * <p>Subclasses overriding {@link #onContentsChanged} or {@link #onLoad} must call {@code super}.</p>
+ */
+public class IndexedItemStackHandler extends ItemStackHandler {
+
+    // First slot that insertIndexed may use; earlier slots (e.g. armor) are never indexed.
+    private final int indexedFrom;
+    // item + components (count ignored) -> indexed slots holding that item
+    private final Map<ItemStack, IntArrayList> slotsByItem =
+            new Object2ObjectOpenCustomHashMap<>(ItemStackLinkedSet.TYPE_AND_TAG);
+    // Empty indexed slots
+    private final BitSet freeSlots = new BitSet();
+    // Key each slot is indexed under (EMPTY = free, null = not indexed yet)
+    private ItemStack[] indexedAs;
+
+    public IndexedItemStackHandler(int size) {
+        this(size, 0);
+    }
+
+    /**
+     * @param indexedFrom first slot {@link #insertIndexed} may fill
+     */
+    public IndexedItemStackHandler(int size, int indexedFrom) {
+        super(size);
+        this.indexedFrom = indexedFrom;
+        this.indexedAs = new ItemStack[size];
+        rebuildIndex();
+    }
+
+    /**
+     * @return the first slot {@link #insertIndexed} may fill
+     */
+    public int getIndexedFrom() {
+        return indexedFrom;
+    }
+
+    /**
+     * Inserts {@code stack} into the indexed slots: first into slots that already hold the same item
+     * and components, then into empty slots.
+     *
+     * @return the part that didn't fit (empty if all of it did)
+     */
+    public ItemStack insertIndexed(ItemStack stack, boolean simulate) {
+        ItemStack remaining = insertUsingIndex(stack, simulate);
+        if (!remaining.isEmpty() && rebuildIndex()) {
+            remaining = insertUsingIndex(remaining, simulate);
+        }
+        return remaining;
+    }
+
+    /**
+     * Re-indexes every slot.
+     *
+     * @return true if the index was stale
+     */
+    public boolean rebuildIndex() {
+        boolean changed = false;
+        for (int slot = indexedFrom; slot < stacks.size(); slot++) {
+            changed |= reindex(slot);
+        }
+        return changed;
+    }
+
+    @Override
+    public void setSize(int size) {
+        super.setSize(size);
+        indexedAs = new ItemStack[size];
+        slotsByItem.clear();
+        freeSlots.clear();
+        rebuildIndex();
+    }
+
+    @Override
+    protected void onContentsChanged(int slot) {
+        reindex(slot);
+    }
+
+    @Override
+    protected void onLoad() {
+        rebuildIndex();
+    }
+
+    private ItemStack insertUsingIndex(ItemStack stack, boolean simulate) {
+        if (stack.isEmpty()) {
+            return ItemStack.EMPTY;
+        }
+        ItemStack remaining = stack;
+        IntArrayList holding = slotsByItem.get(stack);
+        if (holding != null) {
+            // Copy: a real insert re-indexes the slot while we iterate
+            for (int slot : holding.toIntArray()) {
+                remaining = insertItem(slot, remaining, simulate);
+                if (remaining.isEmpty()) {
+                    return ItemStack.EMPTY;
+                }
+            }
+        }
+        for (int slot = freeSlots.nextSetBit(0); slot >= 0; slot = freeSlots.nextSetBit(slot + 1)) {
+            remaining = insertItem(slot, remaining, simulate);
+            if (remaining.isEmpty()) {
+                return ItemStack.EMPTY;
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Moves {@code slot} to the bucket of its current content.
+     *
+     * @return true if the slot's bucket changed
+     */
+    private boolean reindex(int slot) {
+        if (slot < indexedFrom || slot >= indexedAs.length) {
+            return false;
+        }
+        ItemStack stack = stacks.get(slot);
+        ItemStack previous = indexedAs[slot];
+        if (previous != null && (stack.isEmpty() ? previous.isEmpty() : ItemStack.isSameItemSameComponents(previous, stack))) {
+            return false;
+        }
+        if (previous != null && !previous.isEmpty()) {
+            IntArrayList holding = slotsByItem.get(previous);
+            if (holding != null) {
+                holding.rem(slot);
+                if (holding.isEmpty()) {
+                    slotsByItem.remove(previous);
+                }
+            }
+        }
+        if (stack.isEmpty()) {
+            indexedAs[slot] = ItemStack.EMPTY;
+            freeSlots.set(slot);
+        } else {
+            ItemStack key = stack.copyWithCount(1);
+            indexedAs[slot] = key;
+            freeSlots.clear(slot);
+            slotsByItem.computeIfAbsent(key, k -> new IntArrayList(2)).add(slot);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,151 @@
+package net.geraldhofbauer.vanillaplusadditions.util;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Server side of a stats popup (e.g. the guardian goggles panel): each player subscribes to the
+ * one entity it is looking at, and the entity's stats are pushed to it only when they change.
+ *
+ * <p>The stats are a compact {@code int[]} {@linkplain Snapshot snapshot}, compared every
+ * {@value #CHECK_INTERVAL_TICKS} ticks; the module's {@link DiffSender} turns a change into
+ * packets. A subscription ends when the client subscribes to nothing (it looked away), or
+ * server-side when the entity is gone, out of {@value #MAX_DISTANCE} blocks, or the player logs
+ * out.</p>
+ *
+ * <p>Server thread only.</p>
+ *
+ * @param <E> the entity type the popup is for
+ */
+public final class StatsSubscriptions<E extends Entity> {
+
+    /** Server ticks between two snapshot comparisons. */
+    private static final int CHECK_INTERVAL_TICKS = 5;
+    /** Subscriptions to entities further away than this end. */
+    private static final double MAX_DISTANCE = 64.0;
+
+    /** Takes the current stats of an entity. */
+    @FunctionalInterface
+    public interface Snapshot<E> {
+        int[] take(E entity);
+    }
+
+    /** Sends the stats that differ between {@code previous} (null = nothing sent yet) and {@code current}. */
+    @FunctionalInterface
+    public interface DiffSender<E> {
+        void send(ServerPlayer player, E entity, @Nullable int[] previous, int[] current);
+    }
+
+    private static final class Subscription {
+        private final int entityId;
+        private int[] lastSent;
+
+        private Subscription(int entityId) {
+            this.entityId = entityId;
+        }
+    }
+
+    private final Class<E> entityClass;
+    private final Snapshot<E> snapshot;
+    private final DiffSender<E> sender;
+    private final Map<UUID, Subscription> subscriptions = new HashMap<>();
+    private boolean listening = false;
+    private long tickCounter;
+
+    public StatsSubscriptions(Class<E> entityClass, Snapshot<E> snapshot, DiffSender<E> sender) {
+        this.entityClass = entityClass;
+        this.snapshot = snapshot;
+        this.sender = sender;
+    }
+
+    /**
+     * Subscribes {@code player} to the entity with {@code entityId}, replacing its previous
+     * subscription, and pushes the full stats right away. A negative id unsubscribes.
+     */
+    public void subscribe(ServerPlayer player, int entityId) {
+        if (entityId < 0) {
+            subscriptions.remove(player.getUUID());
+            return;
+        }
+        Subscription current = subscriptions.get(player.getUUID());
+        if (current != null && current.entityId == entityId) {
+            return;
+        }
+        startListening();
+        Subscription subscription = new Subscription(entityId);
+        if (push(player, subscription)) {
+            subscriptions.put(player.getUUID(), subscription);
+        } else {
+            subscriptions.remove(player.getUUID());
+        }
+    }
+
+    /**
+     * @return the number of active subscriptions
+     */
+    public int size() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Pushes the changed stats.
+     *
+     * @return false if the subscription has ended
+     */
+    private boolean push(ServerPlayer player, Subscription subscription) {
+        Entity entity = player.level().getEntity(subscription.entityId);
+        if (!entityClass.isInstance(entity) || !entity.isAlive()
+                || player.distanceToSqr(entity) > MAX_DISTANCE * MAX_DISTANCE) {
+            return false;
+        }
+        E typed = entityClass.cast(entity);
+        int[] current = snapshot.take(typed);
+        if (subscription.lastSent == null || !Arrays.equals(subscription.lastSent, current)) {
+            sender.send(player, typed, subscription.lastSent, current);
+            subscription.lastSent = current;
+        }
+        return true;
+    }
+
+    private void startListening() {
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(this::onServerTick);
+            NeoForge.EVENT_BUS.addListener(this::onPlayerLoggedOut);
+            NeoForge.EVENT_BUS.addListener(this::onServerStopped);
+        }
+    }
+
+    private void onServerTick(ServerTickEvent.Post event) {
+        if (++tickCounter % CHECK_INTERVAL_TICKS != 0 || subscriptions.isEmpty()) {
+            return;
+        }
+        Iterator<Map.Entry<UUID, Subscription>> iterator = subscriptions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Subscription> entry = iterator.next();
+            ServerPlayer player = event.getServer().getPlayerList().getPlayer(entry.getKey());
+            if (player == null || !push(player, entry.getValue())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        subscriptions.remove(event.getEntity().getUUID());
+    }
+
+    private void onServerStopped(ServerStoppedEvent event) {
+        subscriptions.clear();
+    }
+}
@@ -1,16 +1,14 @@
 package net.geraldhofbauer.vanillaplusadditions.util.chunkload;
 
+import net.geraldhofbauer.vanillaplusadditions.core.TickBudgetScheduler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.ChunkPos;
 import net.neoforged.neoforge.common.world.chunk.TicketController;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Server-side bookkeeping for active loader blocks and their forced chunks.
@@ -26,15 +24,21 @@ import java.util.Set;
  */
 public final class ChunkLoaderManager {
 
+    private final String moduleId;
     private final String savedDataName;
     private TicketController controller;
 
-    /** level -> (loader pos -> last active game tick). */
-    private final Map<ServerLevel, Map<BlockPos, Long>> active = new HashMap<>();
-    /** level -> (loader pos -> set of forced chunk longs). */
-    private final Map<ServerLevel, Map<BlockPos, Set<Long>>> forced = new HashMap<>();
+    /** level -> active/forced loader bookkeeping. */
+    private final Map<ServerLevel, LoaderTable> tables = new HashMap<>();
+    /** level -> resume still re-forcing loaders over the next ticks. */
+    private final Map<ServerLevel, TickBudgetScheduler.Handle> pendingResumes = new HashMap<>();
 
-    public ChunkLoaderManager(String savedDataName) {
+    /**
+     * @param moduleId      the owning module, for the {@link TickBudgetScheduler}
+     * @param savedDataName name of the level's persistent loader set
+     */
+    public ChunkLoaderManager(String moduleId, String savedDataName) {
+        this.moduleId = moduleId;
         this.savedDataName = savedDataName;
     }
 
@@ -46,9 +50,27 @@ public final class ChunkLoaderManager {
         return ChunkLoaderData.get(level, savedDataName);
     }
 
+    private LoaderTable.Tickets tickets(ServerLevel level) {
+        return new LoaderTable.Tickets() {
+            @Override
+            public void forceChunk(BlockPos owner, int chunkX, int chunkZ, boolean add) {
+                controller.forceChunk(level, owner, chunkX, chunkZ, add, true);
+            }
+
+            @Override
+            public void persist(BlockPos loaderPos, boolean add) {
+                if (add) {
+                    data(level).add(loaderPos.asLong());
+                } else {
+                    data(level).remove(loaderPos.asLong());
+                }
+            }
+        };
+    }
+
     /** Marks a loader block as active (a vehicle is currently on it). */
     public void markActive(ServerLevel level, BlockPos railPos, long gameTime) {
-        active.computeIfAbsent(level, k -> new HashMap<>()).put(railPos.immutable(), gameTime);
+        tables.computeIfAbsent(level, k -> new LoaderTable()).markActive(railPos, gameTime);
     }
 
     /**
@@ -61,61 +83,11 @@ public final class ChunkLoaderManager {
         if (controller == null) {
             return;
         }
-        Map<BlockPos, Long> lvlActive = active.get(level);
-        if (lvlActive == null || lvlActive.isEmpty()) {
+        LoaderTable table = tables.get(level);
+        if (table == null || table.isEmpty()) {
             return;
         }
-        Map<BlockPos, Set<Long>> lvlForced = forced.computeIfAbsent(level, k -> new HashMap<>());
-
-        Iterator<Map.Entry<BlockPos, Long>> it = lvlActive.entrySet().iterator();
-        while (it.hasNext()) {
-            Map.Entry<BlockPos, Long> entry = it.next();
-            BlockPos railPos = entry.getKey();
-            boolean expired = now - entry.getValue() > timeoutTicks;
-
-            if (expired) {
-                releaseRail(level, lvlForced, railPos);
-                it.remove();
-            } else if (!lvlForced.containsKey(railPos)) {
-                forceRail(level, lvlForced, railPos, radius);
-            }
-        }
-    }
-
-    private void forceRail(ServerLevel level, Map<BlockPos, Set<Long>> lvlForced, BlockPos railPos, int radius) {
-        forceChunksFor(level, lvlForced, railPos, radius);
-        // Persist so the loader can be resumed after a "no players" pause or a server restart.
-        data(level).add(railPos.asLong());
-    }
-
-    private void forceChunksFor(ServerLevel level, Map<BlockPos, Set<Long>> lvlForced, BlockPos railPos, int radius) {
-        int cx = railPos.getX() >> 4;
-        int cz = railPos.getZ() >> 4;
-        Set<Long> set = new HashSet<>();
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dz = -radius; dz <= radius; dz++) {
-                int x = cx + dx;
-                int z = cz + dz;
-                controller.forceChunk(level, railPos, x, z, true, true);
-                set.add(ChunkPos.asLong(x, z));
-            }
-        }
-        lvlForced.put(railPos, set);
-    }
-
-    private void releaseRail(ServerLevel level, Map<BlockPos, Set<Long>> lvlForced, BlockPos railPos) {
-        unforceChunksFor(level, lvlForced, railPos);
-        // Vehicle left this loader for good — forget it so it isn't resumed later.
-        data(level).remove(railPos.asLong());
-    }
-
-    private void unforceChunksFor(ServerLevel level, Map<BlockPos, Set<Long>> lvlForced, BlockPos railPos) {
-        Set<Long> set = lvlForced.remove(railPos);
-        if (set != null) {
-            for (long packed : set) {
-                controller.forceChunk(level, railPos, ChunkPos.getX(packed), ChunkPos.getZ(packed), false, true);
-            }
-        }
+        table.reconcile(now, radius, timeoutTicks, tickets(level));
     }
 
     /**
@@ -123,25 +95,19 @@ public final class ChunkLoaderManager {
      * persistent {@link ChunkLoaderData} set so the loaders can be resumed later.
      */
     public void releaseAll(ServerLevel level) {
-        Map<BlockPos, Set<Long>> lvlForced = forced.get(level);
-        if (lvlForced != null) {
-            for (Map.Entry<BlockPos, Set<Long>> entry : lvlForced.entrySet()) {
-                BlockPos owner = entry.getKey();
-                for (long packed : entry.getValue()) {
-                    controller.forceChunk(level, owner, ChunkPos.getX(packed), ChunkPos.getZ(packed), false, true);
-                }
-            }
-            lvlForced.clear();
-        }
-        Map<BlockPos, Long> lvlActive = active.get(level);
-        if (lvlActive != null) {
-            lvlActive.clear();
+        cancelResume(level);
+        LoaderTable table = tables.get(level);
+        if (table != null) {
+            table.releaseAll(tickets(level));
         }
     }
 
     /**
      * Re-forces every loader recorded in {@link ChunkLoaderData} (server start / first player
      * join), so chunks with stuck vehicles load again and the vehicles continue moving.
+     *
+     * <p>One loader per slice through the {@link TickBudgetScheduler}: a world with many persisted
+     * loaders would otherwise force hundreds of chunks in a single tick.</p>
      */
     public void resume(ServerLevel level, int radius) {
         if (controller == null) {
@@ -151,21 +117,25 @@ public final class ChunkLoaderManager {
         if (data.rails().isEmpty()) {
             return;
         }
-        Map<BlockPos, Long> lvlActive = active.computeIfAbsent(level, k -> new HashMap<>());
-        Map<BlockPos, Set<Long>> lvlForced = forced.computeIfAbsent(level, k -> new HashMap<>());
-        long now = level.getGameTime();
-        for (long packed : new ArrayList<>(data.rails())) {
-            BlockPos railPos = BlockPos.of(packed);
-            lvlActive.put(railPos, now);
-            if (!lvlForced.containsKey(railPos)) {
-                forceChunksFor(level, lvlForced, railPos, radius);
-            }
-        }
+        cancelResume(level);
+        LoaderTable table = tables.computeIfAbsent(level, k -> new LoaderTable());
+        LoaderTable.Tickets tickets = tickets(level);
+        List<Long> loaders = new ArrayList<>(data.rails());
+        pendingResumes.put(level, TickBudgetScheduler.submitEach(moduleId, "resume",
+                TickBudgetScheduler.Priority.HIGH, loaders,
+                packed -> table.resume(BlockPos.of(packed), level.getGameTime(), radius, tickets)));
     }
 
     /** Drops in-memory tracking for an unloading level (tickets vanish with the level). */
     public void forgetLevel(ServerLevel level) {
-        active.remove(level);
-        forced.remove(level);
+        cancelResume(level);
+        tables.remove(level);
+    }
+
+    private void cancelResume(ServerLevel level) {
+        TickBudgetScheduler.Handle pending = pendingResumes.remove(level);
+        if (pending != null) {
+            pending.cancel();
+        }
     }
 }
@@ -0,0 +1,114 @@
+package net.geraldhofbauer.vanillaplusadditions.util.chunkload;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The active/forced bookkeeping of {@link ChunkLoaderManager} for a single level.
+ *
+ * <p>Has no reference to the level itself: ticket changes and persistence go through
+ * {@link Tickets}, which the manager binds to the level's {@code TicketController} and
+ * {@link ChunkLoaderData}. That also lets the JMH benchmarks in {@code src/jmh} drive
+ * {@link #reconcile} with a fake.</p>
+ */
+final class LoaderTable {
+
+    /**
+     * Side effects of the table: chunk tickets and the persistent loader set.
+     */
+    interface Tickets {
+        void forceChunk(BlockPos owner, int chunkX, int chunkZ, boolean add);
+
+        void persist(BlockPos loaderPos, boolean add);
+    }
+
+    /** loader pos -> last active game tick. */
+    private final Map<BlockPos, Long> active = new HashMap<>();
+    /** loader pos -> set of forced chunk longs. */
+    private final Map<BlockPos, Set<Long>> forced = new HashMap<>();
+
+    void markActive(BlockPos loaderPos, long gameTime) {
+        active.put(loaderPos.immutable(), gameTime);
+    }
+
+    /**
+     * Forces freshly-active loaders' chunks and releases expired ones.
+     */
+    void reconcile(long now, int radius, long timeoutTicks, Tickets tickets) {
+        Iterator<Map.Entry<BlockPos, Long>> it = active.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<BlockPos, Long> entry = it.next();
+            BlockPos loaderPos = entry.getKey();
+            boolean expired = now - entry.getValue() > timeoutTicks;
+
+            if (expired) {
+                unforceChunksFor(loaderPos, tickets);
+                // Vehicle left this loader for good — forget it so it isn't resumed later.
+                tickets.persist(loaderPos, false);
+                it.remove();
+            } else if (!forced.containsKey(loaderPos)) {
+                forceChunksFor(loaderPos, radius, tickets);
+                // Persist so the loader can be resumed after a "no players" pause or a server restart.
+                tickets.persist(loaderPos, true);
+            }
+        }
+    }
+
+    /**
+     * Marks a persisted loader active again and forces its chunks if they are not forced yet.
+     */
+    void resume(BlockPos loaderPos, long now, int radius, Tickets tickets) {
+        active.put(loaderPos, now);
+        if (!forced.containsKey(loaderPos)) {
+            forceChunksFor(loaderPos, radius, tickets);
+        }
+    }
+
+    /**
+     * Releases every forced chunk and forgets the active set; the persistent set is left alone.
+     */
+    void releaseAll(Tickets tickets) {
+        for (Map.Entry<BlockPos, Set<Long>> entry : forced.entrySet()) {
+            BlockPos owner = entry.getKey();
+            for (long packed : entry.getValue()) {
+                tickets.forceChunk(owner, ChunkPos.getX(packed), ChunkPos.getZ(packed), false);
+            }
+        }
+        forced.clear();
+        active.clear();
+    }
+
+    boolean isEmpty() {
+        return active.isEmpty();
+    }
+
+    private void forceChunksFor(BlockPos loaderPos, int radius, Tickets tickets) {
+        int cx = loaderPos.getX() >> 4;
+        int cz = loaderPos.getZ() >> 4;
+        Set<Long> set = new HashSet<>();
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                int x = cx + dx;
+                int z = cz + dz;
+                tickets.forceChunk(loaderPos, x, z, true);
+                set.add(ChunkPos.asLong(x, z));
+            }
+        }
+        forced.put(loaderPos, set);
+    }
+
+    private void unforceChunksFor(BlockPos loaderPos, Tickets tickets) {
+        Set<Long> set = forced.remove(loaderPos);
+        if (set != null) {
+            for (long packed : set) {
+                tickets.forceChunk(loaderPos, ChunkPos.getX(packed), ChunkPos.getZ(packed), false);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The area a guardian defends: a box centred on its bowl/station block, {@code radius} blocks out
+ * horizontally and {@code radiusY} vertically.
+ *
+ * <p>Bounds both target eligibility and how far the guardian itself may travel while pursuing, so
+ * guardians never wander off their post (e.g. chasing a mob whose only path leads through a cave
+ * mouth outside the radius). Callers add a hysteresis buffer for the checks that must not flicker
+ * at the border.</p>
+ *
+ * @param center  the bowl/station block
+ * @param radius  horizontal reach from the block centre
+ * @param radiusY vertical reach from the block centre
+ */
+public record GuardZone(BlockPos center, double radius, double radiusY) {
+
+    /**
+     * True if the position is inside the zone grown by {@code buffer} blocks on every side.
+     */
+    public boolean contains(double x, double y, double z, double buffer) {
+        return Math.abs(x - (center.getX() + 0.5)) <= radius + buffer
+                && Math.abs(z - (center.getZ() + 0.5)) <= radius + buffer
+                && Math.abs(y - (center.getY() + 0.5)) <= radiusY + buffer;
+    }
+
+    /**
+     * True if every node of {@code path} lies within the zone (zero buffer); false for no path.
+     */
+    public boolean containsPath(@Nullable Path path) {
+        if (path == null) {
+            return false;
+        }
+        for (int i = 0; i < path.getNodeCount(); i++) {
+            Node node = path.getNode(i);
+            if (!contains(node.x + 0.5, node.y, node.z + 0.5, 0.0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the box hostiles are searched in
+     */
+    public AABB searchBox() {
+        return new AABB(center).inflate(radius, radiusY, radius);
+    }
+}
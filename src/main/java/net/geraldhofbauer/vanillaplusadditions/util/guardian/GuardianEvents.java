@@ -0,0 +1,97 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.entity.EntityEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.living.LivingDropsEvent;
+import net.neoforged.neoforge.event.entity.living.LivingExperienceDropEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * The game event handlers every guardian module needs in the same form: waking stations when a
+ * hostile or player turns up, the initial client sync for players that start tracking a guardian,
+ * and loot/XP capture of kills. Register it with the module's {@code registerGameEventListener},
+ * so it is suspended together with the module.
+ *
+ * @param <G> the guardian entity type
+ */
+public final class GuardianEvents<G extends Mob> {
+
+    private final GuardianKind<G> kind;
+    private final BooleanSupplier enabled;
+    private final StationThreatTable threats;
+    private final GuardianLoot<G> loot;
+    private final Predicate<? super G> collectsLoot;
+    private final BiConsumer<ServerPlayer, G> trackingExtras;
+
+    /**
+     * @param enabled        whether the module is enabled
+     * @param collectsLoot   whether a guardian that killed a mob takes its drops and XP
+     * @param trackingExtras module-specific packets for a player that starts tracking a guardian,
+     *                       sent before {@link GuardianKind#sendTrackingState}
+     */
+    public GuardianEvents(GuardianKind<G> kind, BooleanSupplier enabled, StationThreatTable threats,
+                          GuardianLoot<G> loot, Predicate<? super G> collectsLoot,
+                          BiConsumer<ServerPlayer, G> trackingExtras) {
+        this.kind = kind;
+        this.enabled = enabled;
+        this.threats = threats;
+        this.loot = loot;
+        this.collectsLoot = collectsLoot;
+        this.trackingExtras = trackingExtras;
+    }
+
+    @SubscribeEvent
+    public void onThreatJoinLevel(EntityJoinLevelEvent event) {
+        if (!enabled.getAsBoolean() || event.getLevel().isClientSide()) {
+            return;
+        }
+        threats.onEntityJoinLevel(event.getLevel(), event.getEntity());
+    }
+
+    @SubscribeEvent
+    public void onThreatEnteringSection(EntityEvent.EnteringSection event) {
+        Entity entity = event.getEntity();
+        if (!enabled.getAsBoolean() || entity.level().isClientSide()) {
+            return;
+        }
+        threats.onEnteringSection(entity.level(), entity, event.getNewPos());
+    }
+
+    @SubscribeEvent
+    public void onStartTracking(PlayerEvent.StartTracking event) {
+        if (!enabled.getAsBoolean() || !kind.type().isInstance(event.getTarget())) {
+            return;
+        }
+        G guardian = kind.type().cast(event.getTarget());
+        ServerPlayer player = (ServerPlayer) event.getEntity();
+        trackingExtras.accept(player, guardian);
+        kind.sendTrackingState(player, guardian);
+    }
+
+    @SubscribeEvent
+    public void onLivingDrops(LivingDropsEvent event) {
+        if (!enabled.getAsBoolean()) {
+            return;
+        }
+        G guardian = loot.killer(event.getSource(), collectsLoot);
+        if (guardian != null) {
+            loot.captureDrops(event, guardian); // also records the kill for onExperienceDrop
+        }
+    }
+
+    @SubscribeEvent
+    public void onExperienceDrop(LivingExperienceDropEvent event) {
+        if (!enabled.getAsBoolean()) {
+            return;
+        }
+        loot.absorbExperience(event, kind.xpCapacity());
+    }
+}
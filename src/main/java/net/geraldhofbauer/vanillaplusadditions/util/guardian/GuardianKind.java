@@ -0,0 +1,327 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import net.geraldhofbauer.vanillaplusadditions.util.BlockEntitySectionIndex;
+import net.geraldhofbauer.vanillaplusadditions.util.StatsSubscriptions;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.neoforge.attachment.AttachmentType;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * What the duty logic shared by all guardian animals needs to know about one of them: its
+ * attachments, config values and packets. The default methods are that shared logic - guard zone,
+ * dormancy, stuck rescue, bowl association, armor bonus and client sync - so a guardian module only
+ * keeps what its animal does differently.
+ *
+ * <p>Server side. Implementations are stateless; the config values are read on every call.</p>
+ *
+ * @param <G> the guardian entity type
+ */
+public interface GuardianKind<G extends Mob> {
+
+    /** Stuck detection samples every this many ticks. */
+    int STUCK_SAMPLE_TICKS = 40;
+    /** Strikes (about 20 s without progress) after which a guardian heading home is teleported. */
+    int STUCK_TELEPORT_STRIKES = 5;
+
+    Class<G> type();
+
+    /**
+     * @return the bowl/station assignment ({@code Long.MIN_VALUE} = none)
+     */
+    Supplier<AttachmentType<Long>> bowlPos();
+
+    /**
+     * @return the remaining fed time
+     */
+    Supplier<AttachmentType<Integer>> fedTicks();
+
+    /**
+     * @return the XP buffer
+     */
+    Supplier<AttachmentType<Integer>> xp();
+
+    /**
+     * @return whether the guardian is on its way home
+     */
+    Supplier<AttachmentType<Boolean>> returning();
+
+    /**
+     * @return whether the guardian flees home at low health
+     */
+    Supplier<AttachmentType<Boolean>> fleeing();
+
+    double guardRadius();
+
+    double guardRadiusY();
+
+    int xpCapacity();
+
+    /**
+     * @return fed time of a full meal
+     */
+    int fedDurationTicks();
+
+    /**
+     * @return the worn armor, or empty
+     */
+    ItemStack armor(G guardian);
+
+    /**
+     * @return the ID of the attack damage modifier the worn armor grants
+     */
+    ResourceLocation armorModifierId();
+
+    /**
+     * @return the attack bonus of {@code armor}, 0 if it isn't armor for this guardian
+     */
+    double armorAttackBonus(ItemStack armor);
+
+    CustomPacketPayload armorPacket(G guardian, ItemStack armor);
+
+    /**
+     * @param targetId the combat target's entity ID
+     */
+    CustomPacketPayload targetPacket(G guardian, int targetId);
+
+    /**
+     * @param stats the {@link GuardianStats} snapshot
+     */
+    CustomPacketPayload statsPacket(G guardian, int changed, int[] stats);
+
+    // ---- Bowl and guard zone ----
+
+    default boolean hasBowl(G guardian) {
+        return guardian.getData(bowlPos().get()) != Long.MIN_VALUE;
+    }
+
+    /**
+     * The guardian's guard zone around its bowl, or null if it has no bowl.
+     */
+    @Nullable
+    default GuardZone guardZone(G guardian) {
+        long bowlLong = guardian.getData(bowlPos().get());
+        if (bowlLong == Long.MIN_VALUE) {
+            return null;
+        }
+        return new GuardZone(BlockPos.of(bowlLong), guardRadius(), guardRadiusY());
+    }
+
+    /**
+     * True if the given position is inside the guardian's guard zone plus the given hysteresis
+     * buffer. Returns false without a bowl.
+     */
+    default boolean isWithinGuardZone(G guardian, double x, double y, double z, double buffer) {
+        GuardZone zone = guardZone(guardian);
+        return zone != null && zone.contains(x, y, z, buffer);
+    }
+
+    /**
+     * The bowl block entity at {@code bowlPos}, or null - the bowl is gone then, and the guardian's
+     * assignment is cleared.
+     */
+    @Nullable
+    default <B extends BlockEntity> B bowlEntity(G guardian, BlockPos bowlPos, Class<B> bowlType) {
+        BlockEntity be = guardian.level().getBlockEntity(bowlPos);
+        if (bowlType.isInstance(be)) {
+            return bowlType.cast(be);
+        }
+        guardian.setData(bowlPos().get(), Long.MIN_VALUE);
+        return null;
+    }
+
+    /**
+     * Assigns the guardian to the nearest bowl within {@code radius} that accepts it. Only visits
+     * bowls that exist in the chunk sections around the guardian.
+     *
+     * @return the bowl it joined, or null
+     */
+    @Nullable
+    default <B extends BlockEntity> B autoAssociate(G guardian, BlockEntitySectionIndex<B> bowls, double radius,
+                                                    BiPredicate<B, UUID> accepts, BiConsumer<B, UUID> add) {
+        B nearest = bowls.findNearest(guardian.level(), guardian.position(), radius,
+                bowl -> accepts.test(bowl, guardian.getUUID()));
+        if (nearest != null) {
+            guardian.setData(bowlPos().get(), nearest.getBlockPos().asLong());
+            add.accept(nearest, guardian.getUUID());
+        }
+        return nearest;
+    }
+
+    // ---- Dormancy ----
+
+    default boolean isHomebound(G guardian) {
+        return guardian.getData(returning().get()) || guardian.getData(fleeing().get());
+    }
+
+    /**
+     * True if the guardian is fed, has no target, isn't heading home, is within {@code restRadius}
+     * of its bowl and its station is quiet (see {@link StationThreatTable#canRest}). The module adds
+     * its own conditions (medium, health) and the config switch.
+     */
+    default boolean canRest(G guardian, StationThreatTable threats, double restRadius, double playerRange,
+                            boolean recheck) {
+        GuardZone zone = guardZone(guardian);
+        if (zone == null || guardian.getData(fedTicks().get()) <= 0 || guardian.getTarget() != null
+                || isHomebound(guardian)) {
+            return false;
+        }
+        return threats.canRest(guardian, zone, restRadius, playerRange, recheck);
+    }
+
+    /**
+     * Lets {@code ticks} of the fed time run down.
+     */
+    default void runDownFedTime(G guardian, int ticks) {
+        int fed = guardian.getData(fedTicks().get());
+        if (fed > 0) {
+            guardian.setData(fedTicks().get(), Math.max(0, fed - ticks));
+        }
+    }
+
+    // ---- Stuck detection ----
+
+    /**
+     * Takes a stuck sample every {@value #STUCK_SAMPLE_TICKS} ticks while the guardian wants to
+     * move (combat target, or heading home); forgets the samples while it doesn't.
+     *
+     * @param states       the module's per-guardian state
+     * @param tracker      the stuck tracker in a state
+     * @param homeProgress whether trips home also count missing progress toward the bowl as a
+     *                     strike (see {@link StuckTracker})
+     * @return the strikes of this sample, 0 if there was no sample or progress
+     */
+    default <S> int sampleStuck(G guardian, GuardianStateTable<S> states, Function<S, StuckTracker> tracker,
+                                boolean homeProgress) {
+        boolean homebound = isHomebound(guardian);
+        if (guardian.getTarget() == null && !homebound) {
+            S idle = states.peek(guardian);
+            if (idle != null) {
+                tracker.apply(idle).reset();
+            }
+            return 0;
+        }
+        if (guardian.tickCount % STUCK_SAMPLE_TICKS != 0) {
+            return 0;
+        }
+        double homeDistance = Double.NaN;
+        long bowlLong = guardian.getData(bowlPos().get());
+        if (homeProgress && homebound && bowlLong != Long.MIN_VALUE) {
+            BlockPos bowl = BlockPos.of(bowlLong);
+            homeDistance = Math.sqrt(guardian.distanceToSqr(bowl.getX() + 0.5, bowl.getY() + 0.5, bowl.getZ() + 0.5));
+        }
+        return tracker.apply(states.get(guardian)).sample(guardian.position(), homeDistance);
+    }
+
+    /**
+     * Last resort after {@value #STUCK_TELEPORT_STRIKES} strikes while heading home: teleports the
+     * guardian next to its bowl - the guardian pendant of the vanilla pet owner-teleport, so no
+     * guardian stays stranded - and resets {@code tracker}.
+     *
+     * @return whether it was teleported
+     */
+    default boolean rescueStuck(G guardian, int strikes, StuckTracker tracker, BiPredicate<Level, BlockPos> fits) {
+        long bowlLong = guardian.getData(bowlPos().get());
+        if (strikes < STUCK_TELEPORT_STRIKES || !isHomebound(guardian) || bowlLong == Long.MIN_VALUE
+                || !teleportToBowl(guardian, BlockPos.of(bowlLong), fits)) {
+            return false;
+        }
+        tracker.reset();
+        return true;
+    }
+
+    /**
+     * Emergency teleport to the first block next to the bowl that {@code fits} the guardian.
+     * Returns false when none qualifies - the caller simply retries later.
+     */
+    default boolean teleportToBowl(G guardian, BlockPos bowlPos, BiPredicate<Level, BlockPos> fits) {
+        Level level = guardian.level();
+        for (BlockPos candidate : BlockPos.betweenClosed(bowlPos.offset(-2, -1, -2), bowlPos.offset(2, 1, 2))) {
+            if (candidate.equals(bowlPos) || !fits.test(level, candidate)) {
+                continue; // never into the bowl block itself
+            }
+            guardian.moveTo(candidate.getX() + 0.5, candidate.getY(), candidate.getZ() + 0.5,
+                    guardian.getYRot(), guardian.getXRot());
+            guardian.getNavigation().stop();
+            return true;
+        }
+        return false;
+    }
+
+    // ---- Armor ----
+
+    /**
+     * Sets the attack bonus of the worn armor (none without armor).
+     */
+    default void applyArmorBonus(G guardian) {
+        var attribute = guardian.getAttribute(Attributes.ATTACK_DAMAGE);
+        if (attribute == null) {
+            return;
+        }
+        attribute.removeModifier(armorModifierId());
+        double bonus = armorAttackBonus(armor(guardian));
+        if (bonus != 0.0) {
+            attribute.addPermanentModifier(new AttributeModifier(
+                    armorModifierId(), bonus, AttributeModifier.Operation.ADD_VALUE));
+        }
+    }
+
+    default void removeArmorBonus(G guardian) {
+        var attribute = guardian.getAttribute(Attributes.ATTACK_DAMAGE);
+        if (attribute != null) {
+            attribute.removeModifier(armorModifierId());
+        }
+    }
+
+    // ---- Client sync ----
+
+    default void broadcastArmor(G guardian) {
+        PacketDistributor.sendToPlayersTrackingEntityAndSelf(guardian, armorPacket(guardian, armor(guardian)));
+    }
+
+    /**
+     * Sends a player that starts tracking the guardian its armor and current combat target, so the
+     * goggles overlay shows at once when the player approaches a guardian that is already fighting.
+     */
+    default void sendTrackingState(ServerPlayer player, G guardian) {
+        ItemStack armor = armor(guardian);
+        if (!armor.isEmpty()) {
+            PacketDistributor.sendToPlayer(player, armorPacket(guardian, armor));
+        }
+        LivingEntity target = guardian.getTarget();
+        if (target != null && target.isAlive() && hasBowl(guardian)) {
+            PacketDistributor.sendToPlayer(player, targetPacket(guardian, target.getId()));
+        }
+    }
+
+    /**
+     * @return the goggles popup subscriptions of this guardian type
+     */
+    default StatsSubscriptions<G> statsSubscriptions() {
+        return new StatsSubscriptions<>(type(),
+                guardian -> GuardianStats.snapshot(guardian.getData(xp().get()), xpCapacity(),
+                        guardian.getData(fedTicks().get()), fedDurationTicks(), armor(guardian)),
+                (player, guardian, previous, current) -> {
+                    int changed = GuardianStats.changed(previous, current);
+                    if (changed != 0) {
+                        PacketDistributor.sendToPlayer(player, statsPacket(guardian, changed, current));
+                    }
+                });
+    }
+}
@@ -0,0 +1,199 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import net.geraldhofbauer.vanillaplusadditions.util.IndexedItemStackHandler;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.neoforged.neoforge.attachment.AttachmentType;
+import net.neoforged.neoforge.event.entity.living.LivingDropsEvent;
+import net.neoforged.neoforge.event.entity.living.LivingExperienceDropEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Loot and XP capture of one guardian type: drops of mobs a guardian killed go into its loot slots,
+ * their XP into its XP buffer, and both are emptied into its feeding station when it gets home.
+ *
+ * <p>XP arrives in a separate event after the drops, so the kill is recorded by entity ID in between
+ * ({@link #recordKill}, also called when a guardian hurts a mob so the record exists regardless of
+ * event order). Records of mobs that survived are dropped when they leave the level
+ * ({@link #forget}). Server thread only.</p>
+ *
+ * @param <G> the guardian entity type
+ */
+public final class GuardianLoot<G extends LivingEntity> {
+
+    private final Class<G> guardianType;
+    private final Function<G, IndexedItemStackHandler> inventory;
+    private final Supplier<AttachmentType<Integer>> xp;
+    // dead (or hurt) entity ID -> ID of the guardian that gets its XP
+    private final Int2IntMap pendingXpCapture = new Int2IntOpenHashMap();
+
+    /**
+     * @param guardianType the guardian entity class
+     * @param inventory    the guardian's inventory; its indexed slots are the loot slots
+     * @param xp           the guardian's XP buffer attachment
+     */
+    public GuardianLoot(Class<G> guardianType, Function<G, IndexedItemStackHandler> inventory,
+                        Supplier<AttachmentType<Integer>> xp) {
+        this.guardianType = guardianType;
+        this.inventory = inventory;
+        this.xp = xp;
+    }
+
+    /**
+     * The guardian behind {@code source}, directly or as the owner of a projectile, if it passes
+     * {@code isGuardian}; otherwise null.
+     */
+    @Nullable
+    public G killer(DamageSource source, Predicate<? super G> isGuardian) {
+        if (guardianType.isInstance(source.getDirectEntity())) {
+            G direct = guardianType.cast(source.getDirectEntity());
+            if (isGuardian.test(direct)) {
+                return direct;
+            }
+        }
+        if (guardianType.isInstance(source.getEntity())) {
+            G indirect = guardianType.cast(source.getEntity());
+            if (isGuardian.test(indirect)) {
+                return indirect;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Redirects the XP {@code victim} drops to {@code guardian}.
+     */
+    public void recordKill(LivingEntity victim, G guardian) {
+        pendingXpCapture.put(victim.getId(), guardian.getId());
+    }
+
+    /**
+     * Moves the drops of {@code event} into {@code guardian}'s loot slots as far as they fit (the
+     * rest stays on the ground) and records the kill for {@link #absorbExperience}.
+     */
+    public void captureDrops(LivingDropsEvent event, G guardian) {
+        recordKill(event.getEntity(), guardian);
+        IndexedItemStackHandler loot = inventory.apply(guardian);
+        Iterator<ItemEntity> iter = event.getDrops().iterator();
+        while (iter.hasNext()) {
+            ItemEntity itemEntity = iter.next();
+            ItemStack drop = loot.insertIndexed(itemEntity.getItem().copy(), false);
+            if (drop.isEmpty()) {
+                iter.remove();
+            } else {
+                itemEntity.setItem(drop);
+            }
+        }
+    }
+
+    /**
+     * Lets the guardian recorded for the dying entity absorb the dropped XP, up to
+     * {@code capacity} in its buffer.
+     */
+    public void absorbExperience(LivingExperienceDropEvent event, int capacity) {
+        int victimId = event.getEntity().getId();
+        if (!pendingXpCapture.containsKey(victimId)) {
+            return;
+        }
+        int guardianId = pendingXpCapture.remove(victimId);
+        if (!(event.getEntity().level() instanceof ServerLevel serverLevel)) {
+            return;
+        }
+        Entity entity = serverLevel.getEntity(guardianId);
+        if (!guardianType.isInstance(entity)) {
+            return;
+        }
+        G guardian = guardianType.cast(entity);
+        int dropped = event.getDroppedExperience();
+        int current = guardian.getData(xp.get());
+        int canAbsorb = capacity - current;
+        if (canAbsorb <= 0) {
+            return;
+        }
+        int absorbed = Math.min(dropped, canAbsorb);
+        guardian.setData(xp.get(), current + absorbed);
+        event.setDroppedExperience(dropped - absorbed);
+    }
+
+    /**
+     * Empties {@code guardian}'s loot slots into the station's loot inventory and its XP buffer
+     * into the station (up to {@code stationXpCapacity}), then bottles the station's XP in whole
+     * {@code xpPerBottle} steps while the loot inventory has room.
+     */
+    public void transferToStation(G guardian, GuardianStation station, int stationXpCapacity, int xpPerBottle) {
+        IndexedItemStackHandler loot = inventory.apply(guardian);
+        IndexedItemStackHandler stationLoot = station.getLootInventory();
+        for (int slot = loot.getIndexedFrom(); slot < loot.getSlots(); slot++) {
+            ItemStack stack = loot.getStackInSlot(slot);
+            if (stack.isEmpty()) {
+                continue;
+            }
+            // The station's index knows the slots holding this item and the empty ones
+            ItemStack rest = stationLoot.insertIndexed(stack, false);
+            if (rest.getCount() != stack.getCount()) {
+                loot.setStackInSlot(slot, rest);
+            }
+        }
+
+        // XP: guardian buffer → station counter
+        int guardianXp = guardian.getData(xp.get());
+        if (guardianXp > 0) {
+            int toTransfer = Math.min(guardianXp, stationXpCapacity - station.getStoredXp());
+            if (toTransfer > 0) {
+                station.addStoredXp(toTransfer);
+                guardian.setData(xp.get(), guardianXp - toTransfer);
+            }
+        }
+
+        // Convert station XP into XP Bottles in the loot inventory
+        while (station.getStoredXp() >= xpPerBottle) {
+            if (!stationLoot.insertIndexed(new ItemStack(Items.EXPERIENCE_BOTTLE), false).isEmpty()) {
+                break; // loot inventory full
+            }
+            station.addStoredXp(-xpPerBottle);
+        }
+    }
+
+    /**
+     * True if every loot slot of {@code guardian} holds something.
+     */
+    public boolean isLootFull(G guardian) {
+        IndexedItemStackHandler loot = inventory.apply(guardian);
+        for (int slot = loot.getIndexedFrom(); slot < loot.getSlots(); slot++) {
+            if (loot.getStackInSlot(slot).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drops the XP redirection of an entity leaving its level (a mob that was hurt but survived).
+     */
+    public void forget(Entity entity) {
+        pendingXpCapture.remove(entity.getId());
+    }
+
+    /**
+     * @return the number of pending XP redirections
+     */
+    public int pendingCount() {
+        return pendingXpCapture.size();
+    }
+
+    public void clear() {
+        pendingXpCapture.clear();
+    }
+}
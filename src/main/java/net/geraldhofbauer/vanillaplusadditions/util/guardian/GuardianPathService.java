@@ -0,0 +1,283 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import net.geraldhofbauer.vanillaplusadditions.core.ModulesConfig;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.pathfinder.Path;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Server-wide A* budget and path cache for guardian animals (cats, axolotls).
+ *
+ * <p>Target selection evaluates up to eight candidates by real path length, the stuck detection
+ * computes goal paths and the return trip re-paths with a doubled node limit - and during a raid all
+ * guardians of a base do this in the same tick. Every path a guardian computes goes through here:</p>
+ * <ul>
+ *   <li><b>Cache</b> - paths are kept for {@value #CACHE_TTL_TICKS} ticks, keyed by dimension,
+ *       start block, goal block, entity type and navigation type, so re-evaluating the same mob from the same
+ *       spot (several cats of one station, retries) costs nothing. Cached paths are shared and must
+ *       only be read, never handed to {@link PathNavigation#moveTo(Path, double)}.</li>
+ *   <li><b>Budget</b> - each computed path is charged the node limit of the mob's navigation
+ *       (follow range x 16 x multiplier; the pathfinder doesn't report how many nodes it actually
+ *       visited). Once {@code guardianPathNodeBudget} is used up in a tick, further requests are
+ *       {@linkplain PathResult#deferred() deferred} and the caller retries later. Guardians that
+ *       were deferred keep their charge reserved: a new requester only runs if the budget covers
+ *       it on top of everyone still waiting. The first request of a tick always runs, so every
+ *       guardian eventually gets its path.</li>
+ * </ul>
+ *
+ * <p>Server thread only.</p>
+ */
+public final class GuardianPathService {
+
+    /** Ticks a computed path is reused for. */
+    private static final long CACHE_TTL_TICKS = 20L;
+    /** Upper bound on cached paths; the oldest are dropped first. */
+    private static final int CACHE_MAX_ENTRIES = 4096;
+    /** Ticks a deferred guardian keeps its place in line without asking again. */
+    private static final long WAITING_EXPIRY_TICKS = 12L;
+
+    /**
+     * Outcome of a path request.
+     *
+     * @param path     the path, or null if none was found (or the request was deferred)
+     * @param deferred true if the tick's budget is used up; ask again next tick
+     */
+    public record PathResult(@Nullable Path path, boolean deferred) {
+        private static final PathResult DEFERRED = new PathResult(null, true);
+    }
+
+    private record PathKey(ResourceKey<Level> dimension, long start, long goal, EntityType<?> entityType,
+                           Class<?> navigationType) {
+    }
+
+    /**
+     * @param lastDeferredAt tick of the last deferral
+     * @param cost           node charge of the deferred request, reserved until it is served or expires
+     */
+    private record Waiter(long lastDeferredAt, long cost) {
+    }
+
+    private record CachedPath(@Nullable Path path, long expiresAt) {
+    }
+
+    private static final Map<PathKey, CachedPath> CACHE = new LinkedHashMap<>();
+    /** Deferred guardians in order of their first deferral. */
+    private static final Map<UUID, Waiter> WAITING = new LinkedHashMap<>();
+
+    private static boolean listening = false;
+    private static long tickCounter;
+    /** Sum of the reserved costs in {@link #WAITING}. */
+    private static long waitingNodes;
+    private static long nodesThisTick;
+    private static int computedThisTick;
+    private static int cacheHitsThisTick;
+    private static int deferredThisTick;
+    private static int lastTickComputed;
+    private static int lastTickCacheHits;
+    private static int lastTickDeferred;
+    private static long lastTickNodes;
+
+    private GuardianPathService() {
+    }
+
+    /**
+     * Path from {@code mob} to the block containing {@code (x, y, z)}, from the cache if possible.
+     * The returned path is shared: read it, don't follow it.
+     */
+    public static PathResult findPath(Mob mob, double x, double y, double z) {
+        startListening();
+        long now = tickCounter;
+        PathKey key = new PathKey(mob.level().dimension(), mob.blockPosition().asLong(), BlockPos.containing(x, y, z).asLong(),
+                mob.getType(), mob.getNavigation().getClass());
+        CachedPath cached = CACHE.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            cacheHitsThisTick++;
+            return new PathResult(cached.path(), false);
+        }
+
+        if (!acquire(mob, 1.0f)) {
+            return PathResult.DEFERRED;
+        }
+        Path path = mob.getNavigation().createPath(x, y, z, 0);
+        computedThisTick++;
+        CACHE.remove(key); // re-insert at the end so eviction order stays oldest-first
+        CACHE.put(key, new CachedPath(path, now + CACHE_TTL_TICKS));
+        if (CACHE.size() > CACHE_MAX_ENTRIES) {
+            Iterator<PathKey> oldest = CACHE.keySet().iterator();
+            oldest.next();
+            oldest.remove();
+        }
+        return new PathResult(path, false);
+    }
+
+    /**
+     * {@link PathNavigation#moveTo(double, double, double, double)} within the budget. Costs nothing
+     * if the navigation already follows a path to that block (vanilla reuses it).
+     *
+     * @param nodeMultiplier the navigation's current max-visited-nodes multiplier, for the charge
+     * @return false if the request was deferred; the navigation keeps its current path
+     */
+    public static boolean moveTo(Mob mob, double x, double y, double z, double speed, float nodeMultiplier) {
+        startListening();
+        PathNavigation navigation = mob.getNavigation();
+        Path current = navigation.getPath();
+        if (current != null && !current.isDone() && current.getTarget().equals(BlockPos.containing(x, y, z))) {
+            navigation.moveTo(x, y, z, speed);
+            return true;
+        }
+        if (!acquire(mob, nodeMultiplier)) {
+            return false;
+        }
+        computedThisTick++;
+        navigation.moveTo(x, y, z, speed);
+        return true;
+    }
+
+    /**
+     * @return paths computed in the last complete tick
+     */
+    public static int getLastTickComputed() {
+        return lastTickComputed;
+    }
+
+    /**
+     * @return cache hits in the last complete tick
+     */
+    public static int getLastTickCacheHits() {
+        return lastTickCacheHits;
+    }
+
+    /**
+     * @return requests deferred to a later tick in the last complete tick
+     */
+    public static int getLastTickDeferred() {
+        return lastTickDeferred;
+    }
+
+    /**
+     * @return nodes charged in the last complete tick
+     */
+    public static long getLastTickNodes() {
+        return lastTickNodes;
+    }
+
+    /**
+     * @return paths computed so far in the current tick
+     */
+    public static int getComputedThisTick() {
+        return computedThisTick;
+    }
+
+    /**
+     * @return cache hits so far in the current tick
+     */
+    public static int getCacheHitsThisTick() {
+        return cacheHitsThisTick;
+    }
+
+    /**
+     * @return requests deferred so far in the current tick
+     */
+    public static int getDeferredThisTick() {
+        return deferredThisTick;
+    }
+
+    /**
+     * @return nodes charged so far in the current tick
+     */
+    public static long getNodesThisTick() {
+        return nodesThisTick;
+    }
+
+    /**
+     * @return the number of cached paths
+     */
+    public static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    /**
+     * Charges the node limit of {@code mob}'s navigation if the budget allows it.
+     */
+    private static boolean acquire(Mob mob, float nodeMultiplier) {
+        UUID id = mob.getUUID();
+        Waiter waiter = WAITING.get(id);
+        long cost = Math.max(1, Mth.floor(mob.getAttributeValue(Attributes.FOLLOW_RANGE) * 16.0 * nodeMultiplier));
+        long budget = ModulesConfig.getGuardianPathNodeBudget();
+        // The first request of a tick always runs. Waiters only need the budget to cover
+        // themselves; new requesters must leave room for everyone still waiting.
+        long reserved = waiter != null ? 0L : waitingNodes;
+        boolean allowed = nodesThisTick == 0L || nodesThisTick + reserved + cost <= budget;
+        if (!allowed) {
+            deferredThisTick++;
+            // Keeps its place in line if already waiting
+            if (waiter != null) {
+                waitingNodes -= waiter.cost();
+            }
+            WAITING.put(id, new Waiter(tickCounter, cost));
+            waitingNodes += cost;
+            return false;
+        }
+        if (waiter != null) {
+            WAITING.remove(id);
+            waitingNodes -= waiter.cost();
+        }
+        nodesThisTick += cost;
+        return true;
+    }
+
+    private static synchronized void startListening() {
+        if (!listening) {
+            listening = true;
+            NeoForge.EVENT_BUS.addListener(GuardianPathService::onServerTick);
+            NeoForge.EVENT_BUS.addListener(GuardianPathService::onServerStopped);
+        }
+    }
+
+    private static void onServerTick(ServerTickEvent.Pre event) {
+        lastTickComputed = computedThisTick;
+        lastTickCacheHits = cacheHitsThisTick;
+        lastTickDeferred = deferredThisTick;
+        lastTickNodes = nodesThisTick;
+        computedThisTick = 0;
+        cacheHitsThisTick = 0;
+        deferredThisTick = 0;
+        nodesThisTick = 0L;
+        tickCounter++;
+
+        long now = tickCounter;
+        Iterator<Waiter> waiters = WAITING.values().iterator();
+        while (waiters.hasNext()) {
+            Waiter waiter = waiters.next();
+            if (now - waiter.lastDeferredAt() > WAITING_EXPIRY_TICKS) {
+                waiters.remove();
+                waitingNodes -= waiter.cost();
+            }
+        }
+        if (now % CACHE_TTL_TICKS == 0) {
+            CACHE.values().removeIf(cached -> cached.expiresAt() <= now);
+        }
+    }
+
+    private static void onServerStopped(ServerStoppedEvent event) {
+        CACHE.clear();
+        WAITING.clear();
+        waitingNodes = 0L;
+        nodesThisTick = 0L;
+    }
+}
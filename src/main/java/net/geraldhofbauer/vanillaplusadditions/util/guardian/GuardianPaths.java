@@ -0,0 +1,49 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Path checks shared by the guardian target selections, which rank candidates by real A* path
+ * length rather than straight-line distance.
+ */
+public final class GuardianPaths {
+
+    private GuardianPaths() {
+    }
+
+    /**
+     * True if the path's closest reachable end node is within {@code maxDist} of the goal, i.e. the
+     * path is neither missing nor a partial path that stops short of the goal.
+     */
+    public static boolean endNodeNear(@Nullable Path path, double gx, double gy, double gz, double maxDist) {
+        if (path == null) {
+            return false;
+        }
+        Node end = path.getEndNode();
+        if (end == null) {
+            return false;
+        }
+        double dx = (end.x + 0.5) - gx;
+        double dy = end.y - gy;
+        double dz = (end.z + 0.5) - gz;
+        return dx * dx + dy * dy + dz * dz <= maxDist * maxDist;
+    }
+
+    /**
+     * @return the summed length of the path's node-to-node segments
+     */
+    public static double length(Path path) {
+        double length = 0.0;
+        for (int i = 1; i < path.getNodeCount(); i++) {
+            Node a = path.getNode(i - 1);
+            Node b = path.getNode(i);
+            double dx = b.x - a.x;
+            double dy = b.y - a.y;
+            double dz = b.z - a.z;
+            length += Math.sqrt(dx * dx + dy * dy + dz * dz);
+        }
+        return length;
+    }
+}
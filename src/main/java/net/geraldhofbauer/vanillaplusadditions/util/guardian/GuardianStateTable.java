@@ -0,0 +1,60 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Transient per-guardian bookkeeping of a module (returning age, stuck samples, blacklist, ...),
+ * one state object per loaded guardian, keyed by entity ID.
+ *
+ * <p>The states are not saved - they are rebuilt as the guardian ticks - so the module must
+ * {@link #remove} a guardian's state when it leaves its level (death, chunk unload, dimension
+ * change); its next entity ID will be a different one. Server thread only.</p>
+ *
+ * @param <S> the module's state type
+ */
+public final class GuardianStateTable<S> {
+
+    private final Int2ObjectMap<S> states = new Int2ObjectOpenHashMap<>();
+    private final Supplier<S> factory;
+
+    public GuardianStateTable(Supplier<S> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @return the guardian's state, created on first use
+     */
+    public S get(Entity guardian) {
+        S state = states.get(guardian.getId());
+        if (state == null) {
+            state = factory.get();
+            states.put(guardian.getId(), state);
+        }
+        return state;
+    }
+
+    /**
+     * @return the guardian's state, or null if it has none yet
+     */
+    @Nullable
+    public S peek(Entity guardian) {
+        return states.get(guardian.getId());
+    }
+
+    public void remove(Entity guardian) {
+        states.remove(guardian.getId());
+    }
+
+    public void clear() {
+        states.clear();
+    }
+
+    public int size() {
+        return states.size();
+    }
+}
@@ -0,0 +1,22 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import net.geraldhofbauer.vanillaplusadditions.util.IndexedItemStackHandler;
+
+/**
+ * A feeding station its guardians empty their loot and XP into (see
+ * {@link GuardianLoot#transferToStation}).
+ */
+public interface GuardianStation {
+
+    /**
+     * @return the station's loot inventory
+     */
+    IndexedItemStackHandler getLootInventory();
+
+    /**
+     * @return the XP stored in the station that is not yet bottled
+     */
+    int getStoredXp();
+
+    void addStoredXp(int delta);
+}
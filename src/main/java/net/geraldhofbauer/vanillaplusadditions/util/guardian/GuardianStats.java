@@ -0,0 +1,51 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The goggles popup stats of a guardian, as the compact {@code int[]} snapshot a
+ * {@link net.geraldhofbauer.vanillaplusadditions.util.StatsSubscriptions} compares:
+ * {@code {xp, xpCap, fed percent, armor damage (-1 = no armor)}}.
+ */
+public final class GuardianStats {
+
+    /** {@code xp} and {@code xpCap} changed. */
+    public static final int XP = 1;
+    /** The fed percentage changed. */
+    public static final int FED = 2;
+    /** The damage value of the worn armor changed. */
+    public static final int ARMOR_DAMAGE = 4;
+
+    private GuardianStats() {
+    }
+
+    /**
+     * @param fedTicks         remaining fed time
+     * @param fedDurationTicks fed time of a full meal
+     * @param armor            the worn armor, or empty
+     */
+    public static int[] snapshot(int xp, int xpCapacity, int fedTicks, int fedDurationTicks, ItemStack armor) {
+        int fedPercent = Math.min(100, (int) Math.ceil(fedTicks * 100.0 / Math.max(1, fedDurationTicks)));
+        return new int[]{xp, xpCapacity, fedPercent, armor.isEmpty() ? -1 : armor.getDamageValue()};
+    }
+
+    /**
+     * @param previous the snapshot last sent, or null if nothing was sent yet
+     * @return the {@link #XP} / {@link #FED} / {@link #ARMOR_DAMAGE} flags of the fields that differ
+     *         (armor damage only while armor is worn), 0 if there is nothing to send
+     */
+    public static int changed(@Nullable int[] previous, int[] current) {
+        int changed = 0;
+        if (previous == null || previous[0] != current[0] || previous[1] != current[1]) {
+            changed |= XP;
+        }
+        if (previous == null || previous[2] != current[2]) {
+            changed |= FED;
+        }
+        if (current[3] >= 0 && (previous == null || previous[3] != current[3])) {
+            changed |= ARMOR_DAMAGE;
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,325 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Shared per-station list of hostile candidates in the guard zone.
+ *
+ * <p>All guardians of a bowl/station used to run their own {@code getEntitiesOfClass(Monster)} over
+ * the full guard box. Now the first guardian that asks within {@value #REFRESH_TICKS} ticks sweeps
+ * the box once for the whole station; the others reuse the result, so the sweep cost scales with
+ * stations instead of guardians. Which hostiles count at all depends on where the guardian fights
+ * (cats: not submerged, axolotls: in water) and is fixed per table; monsters that die, leave that
+ * medium or leave the box between two sweeps are filtered again on every pull. The per-guardian
+ * blacklist stays with the guardian and is applied by the caller's filter.</p>
+ *
+ * <p>The table also decides whether a station is <b>quiet</b> - no hostile in its zone and no player
+ * nearby - which lets its guardians go dormant (see {@link #updateQuiet}). Both areas are rounded out
+ * to whole chunk sections, so a hostile or player can only get into them by joining the level there
+ * or by crossing into one of their sections; either {@linkplain #wake wakes} the station at once
+ * (see {@link #onEnteringSection}). A quiet station is also rechecked every
+ * {@value #QUIET_RECHECK_TICKS} ticks, for changes no event reports (e.g. a hostile surfacing).</p>
+ *
+ * <p>Server thread only. Stations nobody asked about for {@value #EXPIRE_TICKS} ticks are dropped.</p>
+ */
+public final class StationThreatTable {
+
+    /** Maximum age of a sweep before the next pull refreshes it. */
+    private static final long REFRESH_TICKS = 10L;
+    /** Stations without pulls for this long are forgotten. */
+    private static final long EXPIRE_TICKS = 200L;
+    /** Ticks a station's quiet state is trusted before it is checked again. */
+    private static final long QUIET_RECHECK_TICKS = 40L;
+
+    private static final class Entry {
+        private boolean swept;
+        private long refreshedAt;
+        private long lastPulledAt;
+        private List<Monster> monsters = List.of();
+        private AABB searchBox;
+        // searchBox / the player range cube, rounded out to chunk sections
+        private AABB hostileSections;
+        private AABB playerSections;
+        private boolean quietChecked;
+        private boolean quiet;
+        private long quietCheckedAt;
+    }
+
+    private final Map<ResourceKey<Level>, Long2ObjectMap<Entry>> stations = new HashMap<>();
+    // Hostiles the guardians can fight at all (e.g. not submerged)
+    private final Predicate<? super Monster> engageable;
+    private long lastExpiry;
+
+    /**
+     * @param engageable which live hostiles the table's guardians can fight, e.g.
+     *                   {@code m -> !m.isUnderWater()} for land guardians
+     */
+    public StationThreatTable(Predicate<? super Monster> engageable) {
+        this.engageable = engageable;
+    }
+
+    /**
+     * Returns the live hostiles in {@code searchBox} around the station at {@code bowlPos} that pass
+     * {@code filter}, sweeping the box first if the station's list is older than
+     * {@value #REFRESH_TICKS} ticks.
+     *
+     * @return a new mutable list the caller may sort
+     */
+    public List<Monster> pull(Level level, BlockPos bowlPos, AABB searchBox, Predicate<? super Monster> filter) {
+        long now = level.getGameTime();
+        expire(now);
+
+        Entry entry = entry(level, bowlPos, searchBox, now);
+        sweepIfStale(entry, level, searchBox, now);
+        List<Monster> candidates = new ArrayList<>(entry.monsters.size());
+        for (Monster monster : entry.monsters) {
+            if (isLiveThreat(monster, level, searchBox) && filter.test(monster)) {
+                candidates.add(monster);
+            }
+        }
+        if (!candidates.isEmpty()) {
+            entry.quiet = false;
+        }
+        return candidates;
+    }
+
+    /**
+     * Whether the station at {@code bowlPos} was quiet at its last check. Only reads the cached
+     * state; stations that were never checked are not quiet.
+     */
+    public boolean isQuiet(Level level, BlockPos bowlPos) {
+        Long2ObjectMap<Entry> levelStations = stations.get(level.dimension());
+        Entry entry = levelStations != null ? levelStations.get(bowlPos.asLong()) : null;
+        return entry != null && entry.quiet;
+    }
+
+    /**
+     * Whether the station at {@code bowlPos} is quiet: no live hostile in the chunk sections
+     * overlapping {@code searchBox} and no (non-spectator) player in the sections overlapping the
+     * cube of {@code playerRange} around the bowl. The answer is cached for
+     * {@value #QUIET_RECHECK_TICKS} ticks unless {@link #onEnteringSection} or {@link #wake} clears
+     * it sooner.
+     */
+    public boolean updateQuiet(Level level, BlockPos bowlPos, AABB searchBox, double playerRange) {
+        long now = level.getGameTime();
+        expire(now);
+
+        Entry entry = entry(level, bowlPos, searchBox, now);
+        if (entry.quietChecked && now - entry.quietCheckedAt < QUIET_RECHECK_TICKS && now >= entry.quietCheckedAt) {
+            return entry.quiet;
+        }
+        sweepIfStale(entry, level, searchBox, now);
+        boolean quiet = true;
+        for (Monster monster : entry.monsters) {
+            if (isLiveThreat(monster, level, searchBox)) {
+                quiet = false;
+                break;
+            }
+        }
+        if (quiet) {
+            // Hostiles next to the zone in one of its sections could step in without an event
+            quiet = level.getEntitiesOfClass(Monster.class, entry.hostileSections,
+                    m -> !m.isDeadOrDying() && engageable.test(m)).isEmpty();
+        }
+        entry.playerSections = toSections(new AABB(bowlPos).inflate(playerRange));
+        if (quiet) {
+            for (Player player : level.players()) {
+                if (!player.isSpectator() && entry.playerSections.contains(player.position())) {
+                    quiet = false;
+                    break;
+                }
+            }
+        }
+        entry.quiet = quiet;
+        entry.quietChecked = true;
+        entry.quietCheckedAt = now;
+        return quiet;
+    }
+
+    /**
+     * Whether a guardian of the station of {@code zone} may rest (go dormant): it stands within
+     * {@code restRadius} blocks of the station block and the station is quiet. The guardian's own
+     * state (fed, no target, not heading home, ...) is the caller's to check.
+     *
+     * @param playerRange guardians stay awake while a player is this close to the station
+     * @param recheck     whether the station's quiet state may be refreshed (see {@link #updateQuiet});
+     *                    otherwise the cached state is read, which a joining hostile or player clears
+     *                    at once
+     */
+    public boolean canRest(Entity guardian, GuardZone zone, double restRadius, double playerRange, boolean recheck) {
+        BlockPos station = zone.center();
+        if (guardian.distanceToSqr(station.getX() + 0.5, station.getY(), station.getZ() + 0.5) > restRadius * restRadius) {
+            return false; // still has to get home
+        }
+        if (!recheck) {
+            return isQuiet(guardian.level(), station);
+        }
+        return updateQuiet(guardian.level(), station, zone.searchBox(), playerRange);
+    }
+
+    /**
+     * Wakes the stations a joining entity could disturb: those whose zone contains a joining
+     * hostile, or every station of the level for a joining player. Call for every entity joining a
+     * server level.
+     */
+    public void onEntityJoinLevel(Level level, Entity entity) {
+        if (entity instanceof Monster) {
+            wake(level, entity.position());
+        } else if (entity instanceof Player) {
+            wakeAll(level);
+        }
+    }
+
+    /**
+     * Wakes every station of {@code level} whose zone contains {@code pos} (a hostile joined the
+     * level there). The woken stations stay awake for at least one recheck interval and sweep again
+     * on their next pull.
+     */
+    public void wake(Level level, Vec3 pos) {
+        wakeWhere(level, entry -> entry.searchBox != null && entry.searchBox.contains(pos));
+    }
+
+    /**
+     * Wakes the quiet stations whose hostile or player area contains the chunk section {@code entity}
+     * just moved into. Call for every entity that changes section on a server level; only hostiles
+     * and players count.
+     */
+    public void onEnteringSection(Level level, Entity entity, SectionPos section) {
+        boolean player = entity instanceof Player;
+        if (!player && !(entity instanceof Monster)) {
+            return;
+        }
+        Long2ObjectMap<Entry> levelStations = stations.get(level.dimension());
+        if (levelStations == null) {
+            return;
+        }
+        double x = section.minBlockX() + 8.0;
+        double y = section.minBlockY() + 8.0;
+        double z = section.minBlockZ() + 8.0;
+        for (Entry entry : levelStations.values()) {
+            if (!entry.quiet) {
+                continue;
+            }
+            AABB area = player ? entry.playerSections : entry.hostileSections;
+            if (area != null && area.contains(x, y, z)) {
+                entry.quiet = false;
+                entry.quietCheckedAt = level.getGameTime();
+                entry.swept = false;
+            }
+        }
+    }
+
+    /**
+     * Wakes every station of {@code level} (a player joined it).
+     */
+    public void wakeAll(Level level) {
+        wakeWhere(level, entry -> true);
+    }
+
+    private void wakeWhere(Level level, Predicate<Entry> predicate) {
+        Long2ObjectMap<Entry> levelStations = stations.get(level.dimension());
+        if (levelStations == null) {
+            return;
+        }
+        long now = level.getGameTime();
+        for (Entry entry : levelStations.values()) {
+            if (predicate.test(entry)) {
+                entry.quiet = false;
+                entry.quietCheckedAt = now;
+                entry.swept = false;
+            }
+        }
+    }
+
+    /**
+     * Wakes the station at {@code bowlPos}, e.g. because one of its cats was attacked.
+     */
+    public void wake(Level level, BlockPos bowlPos) {
+        Long2ObjectMap<Entry> levelStations = stations.get(level.dimension());
+        Entry entry = levelStations != null ? levelStations.get(bowlPos.asLong()) : null;
+        if (entry != null) {
+            entry.quiet = false;
+            entry.quietCheckedAt = level.getGameTime();
+        }
+    }
+
+    private Entry entry(Level level, BlockPos bowlPos, AABB searchBox, long now) {
+        Entry entry = stations.computeIfAbsent(level.dimension(), key -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(bowlPos.asLong(), key -> new Entry());
+        entry.lastPulledAt = now;
+        if (!searchBox.equals(entry.searchBox)) {
+            entry.searchBox = searchBox;
+            entry.hostileSections = toSections(searchBox);
+        }
+        return entry;
+    }
+
+    /**
+     * {@code box} grown to the bounds of the chunk sections it overlaps.
+     */
+    private static AABB toSections(AABB box) {
+        int minX = SectionPos.blockToSectionCoord(Mth.floor(box.minX));
+        int minY = SectionPos.blockToSectionCoord(Mth.floor(box.minY));
+        int minZ = SectionPos.blockToSectionCoord(Mth.floor(box.minZ));
+        int maxX = SectionPos.blockToSectionCoord(Mth.ceil(box.maxX) - 1);
+        int maxY = SectionPos.blockToSectionCoord(Mth.ceil(box.maxY) - 1);
+        int maxZ = SectionPos.blockToSectionCoord(Mth.ceil(box.maxZ) - 1);
+        return new AABB(SectionPos.sectionToBlockCoord(minX), SectionPos.sectionToBlockCoord(minY),
+                SectionPos.sectionToBlockCoord(minZ), SectionPos.sectionToBlockCoord(maxX + 1),
+                SectionPos.sectionToBlockCoord(maxY + 1), SectionPos.sectionToBlockCoord(maxZ + 1));
+    }
+
+    /**
+     * Sweeps the station's zone again if its hostile list is older than {@value #REFRESH_TICKS} ticks.
+     */
+    private void sweepIfStale(Entry entry, Level level, AABB searchBox, long now) {
+        // now < refreshedAt: a different world was loaded into the same dimension
+        if (!entry.swept || now - entry.refreshedAt >= REFRESH_TICKS || now < entry.refreshedAt) {
+            entry.monsters = level.getEntitiesOfClass(Monster.class, searchBox,
+                    m -> !m.isDeadOrDying() && engageable.test(m));
+            entry.refreshedAt = now;
+            entry.swept = true;
+        }
+    }
+
+    private boolean isLiveThreat(Monster monster, Level level, AABB searchBox) {
+        return !monster.isRemoved() && !monster.isDeadOrDying() && engageable.test(monster)
+                && monster.level() == level && searchBox.intersects(monster.getBoundingBox());
+    }
+
+    /**
+     * Forgets all sweeps (server stopped).
+     */
+    public void clear() {
+        stations.clear();
+        lastExpiry = 0L;
+    }
+
+    private void expire(long now) {
+        if (now - lastExpiry < EXPIRE_TICKS && now >= lastExpiry) {
+            return;
+        }
+        lastExpiry = now;
+        for (Long2ObjectMap<Entry> levelStations : stations.values()) {
+            levelStations.values().removeIf(entry -> now - entry.lastPulledAt >= EXPIRE_TICKS
+                    || now < entry.lastPulledAt);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Stuck detection state of one guardian: the last sampled position (and distance to its bowl) and
+ * the number of consecutive samples without progress ("strikes"). What a guardian does on which
+ * strike is up to its module.
+ *
+ * <p>A sample is a strike if the guardian moved less than {@value #MIN_MOVE} blocks since the last
+ * one, or - on trips home - got less than {@value #MIN_HOME_PROGRESS} blocks closer to the bowl while
+ * still more than {@value #HOME_RADIUS} blocks out (a failed path degrades into circling: plenty of
+ * movement, zero progress).</p>
+ */
+public final class StuckTracker {
+
+    private static final double MIN_MOVE = 0.75;
+    private static final double MIN_HOME_PROGRESS = 0.5;
+    private static final double HOME_RADIUS = 5.0;
+
+    private Vec3 lastPos;
+    // NaN = the last sample wasn't homebound
+    private double lastHomeDistance = Double.NaN;
+    private int strikes;
+
+    /**
+     * Records a sample.
+     *
+     * @param homeDistance distance to the bowl on a trip home; {@code NaN} otherwise (or to judge
+     *                     by movement only)
+     * @return the strikes after this sample (0 = progress, or the first sample)
+     */
+    public int sample(Vec3 pos, double homeDistance) {
+        Vec3 prevPos = lastPos;
+        double prevHomeDistance = lastHomeDistance;
+        lastPos = pos;
+        lastHomeDistance = homeDistance;
+        if (prevPos == null) {
+            return 0;
+        }
+        boolean noMove = prevPos.distanceToSqr(pos) < MIN_MOVE * MIN_MOVE;
+        boolean noHomeProgress = !Double.isNaN(homeDistance) && !Double.isNaN(prevHomeDistance)
+                && homeDistance > HOME_RADIUS && prevHomeDistance - homeDistance < MIN_HOME_PROGRESS;
+        if (!noMove && !noHomeProgress) {
+            strikes = 0;
+            return 0;
+        }
+        return ++strikes;
+    }
+
+    /**
+     * Forgets the samples and strikes (the guardian stopped moving on purpose, or was teleported).
+     */
+    public void reset() {
+        lastPos = null;
+        lastHomeDistance = Double.NaN;
+        strikes = 0;
+    }
+}
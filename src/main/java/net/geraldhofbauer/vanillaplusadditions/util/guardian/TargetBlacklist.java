@@ -0,0 +1,45 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import net.minecraft.world.entity.Entity;
+
+/**
+ * Mobs one guardian has given up on for a while (unreachable, route leaves the zone, got it stuck),
+ * by entity ID. Entries expire at a game time; expired entries are dropped when they are looked at
+ * or on {@link #evictExpired}.
+ */
+public final class TargetBlacklist {
+
+    // entity ID -> game time the entry expires
+    private final Int2LongMap blockedUntil = new Int2LongOpenHashMap();
+
+    /**
+     * Blacklists {@code target} until game time {@code until}.
+     */
+    public void block(Entity target, long until) {
+        blockedUntil.put(target.getId(), until);
+    }
+
+    /**
+     * True if {@code target} is blacklisted at game time {@code now}.
+     */
+    public boolean isBlocked(Entity target, long now) {
+        int id = target.getId();
+        if (!blockedUntil.containsKey(id)) {
+            return false;
+        }
+        if (now >= blockedUntil.get(id)) {
+            blockedUntil.remove(id);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Drops every entry that has expired at game time {@code now}.
+     */
+    public void evictExpired(long now) {
+        blockedUntil.int2LongEntrySet().removeIf(entry -> now >= entry.getLongValue());
+    }
+}
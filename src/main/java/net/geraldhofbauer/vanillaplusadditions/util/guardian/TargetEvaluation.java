@@ -0,0 +1,196 @@
+package net.geraldhofbauer.vanillaplusadditions.util.guardian;
+
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Resumable choice of a guardian's next target by A* path length, one per guardian.
+ *
+ * <p>A new evaluation takes the {@value #MAX_CANDIDATES} nearest hostiles by Euclidean distance;
+ * each {@link #step} then computes the paths of at most {@code candidatesPerStep} of them and keeps
+ * the best so far, so a wave of spawning mobs doesn't cost eight A* searches in a single tick. The
+ * evaluation commits once the list is exhausted, or as soon as the best path is no longer than the
+ * straight-line distance to the next candidate - a path is never shorter than that, so none of the
+ * remaining candidates can win. Partial paths (end node further than 2 blocks from the mob) and
+ * routes leaving the guard zone are discarded. Paths come from the shared
+ * {@link GuardianPathService}; a deferred request pauses the evaluation and retries the same
+ * candidate on the next step.</p>
+ */
+public final class TargetEvaluation {
+
+    /** Nearest candidates considered per evaluation. */
+    private static final int MAX_CANDIDATES = 8;
+    /** An evaluation older than this is dropped and restarted with a fresh candidate list. */
+    private static final long MAX_AGE_TICKS = 40L;
+
+    /**
+     * Result of one {@link #step}.
+     */
+    public enum Outcome {
+        /** No hostile to evaluate. */
+        NO_CANDIDATES,
+        /** Not done yet; call {@link #step} again. */
+        RUNNING,
+        /** Done, but no candidate can be reached inside the zone. */
+        NONE_REACHABLE,
+        /** Done; the winner is {@link #chosen()}. */
+        FOUND
+    }
+
+    private final int candidatesPerStep;
+    // Candidates of the running evaluation, nearest first (null = none running)
+    private List<Monster> candidates;
+    private int index;
+    private long station;
+    private long startedAt;
+    private Monster best;
+    private double bestLength;
+    private Monster chosen;
+    // Whether the last step stopped on a deferred path request
+    private boolean deferred;
+
+    /**
+     * @param candidatesPerStep candidates evaluated by A* per {@link #step}
+     */
+    public TargetEvaluation(int candidatesPerStep) {
+        this.candidatesPerStep = candidatesPerStep;
+    }
+
+    /**
+     * Runs one step of the evaluation for {@code guardian} guarding {@code zone}, starting a new
+     * evaluation if none is running (or the running one is for another station or stale).
+     *
+     * @param hostiles supplies the hostiles to rank when a new evaluation starts (a mutable list)
+     * @param eligible whether a live candidate may still be chosen (checked again before its path is
+     *                 computed and when the winner is committed, e.g. not blacklisted)
+     */
+    public Outcome step(Mob guardian, GuardZone zone, Supplier<List<Monster>> hostiles,
+                        Predicate<? super Monster> eligible) {
+        chosen = null;
+        long now = guardian.level().getGameTime();
+        if (candidates != null && (station != zone.center().asLong()
+                || now - startedAt > MAX_AGE_TICKS || now < startedAt)) {
+            candidates = null; // station changed or the candidate list went stale
+        }
+        if (candidates == null) {
+            List<Monster> found = hostiles.get();
+            if (found.isEmpty()) {
+                return Outcome.NO_CANDIDATES;
+            }
+            found.sort(Comparator.comparingDouble(guardian::distanceToSqr));
+            candidates = new ArrayList<>(found.subList(0, Math.min(MAX_CANDIDATES, found.size())));
+            index = 0;
+            station = zone.center().asLong();
+            startedAt = now;
+            best = null;
+            bestLength = Double.MAX_VALUE;
+        }
+        if (!evaluate(guardian, zone, eligible)) {
+            return Outcome.RUNNING;
+        }
+
+        Monster winner = best;
+        reset();
+        if (winner == null || !isCandidate(winner, eligible)) {
+            return Outcome.NONE_REACHABLE; // nothing reachable, or it died / left while the rest was evaluated
+        }
+        chosen = winner;
+        return Outcome.FOUND;
+    }
+
+    /**
+     * Steps the evaluation until it completes, for a forced re-target that shouldn't wait a few ticks
+     * for its result. Every step evaluates at least one candidate, so this takes at most
+     * {@value #MAX_CANDIDATES} steps; it stops early when the path budget defers a candidate, and the
+     * evaluation then continues on the next {@link #step} as usual.
+     */
+    public Outcome finish(Mob guardian, GuardZone zone, Supplier<List<Monster>> hostiles,
+                          Predicate<? super Monster> eligible) {
+        Outcome outcome = Outcome.RUNNING;
+        for (int i = 0; i < MAX_CANDIDATES && outcome == Outcome.RUNNING; i++) {
+            deferred = false;
+            outcome = step(guardian, zone, hostiles, eligible);
+            if (deferred) {
+                break;
+            }
+        }
+        return outcome;
+    }
+
+    /**
+     * @return the target of the last {@link #step} that returned {@link Outcome#FOUND}, else null
+     */
+    @Nullable
+    public Monster chosen() {
+        return chosen;
+    }
+
+    /**
+     * @return whether an evaluation is running and the next {@link #step} continues it
+     */
+    public boolean isRunning() {
+        return candidates != null;
+    }
+
+    /**
+     * Drops the running evaluation; the next {@link #step} starts over with the current hostiles.
+     */
+    public void reset() {
+        candidates = null;
+        best = null;
+    }
+
+    /**
+     * Evaluates up to {@code candidatesPerStep} more candidates of the running evaluation.
+     *
+     * @return true once the evaluation is complete and {@link #best} can be committed
+     */
+    private boolean evaluate(Mob guardian, GuardZone zone, Predicate<? super Monster> eligible) {
+        int evaluated = 0;
+        while (index < candidates.size()) {
+            Monster mob = candidates.get(index);
+            if (!isCandidate(mob, eligible)) {
+                index++; // changed since the list was built
+                continue;
+            }
+            if (best != null && bestLength <= Math.sqrt(guardian.distanceToSqr(mob))) {
+                return true; // good enough: no remaining candidate can have a shorter path
+            }
+            if (evaluated == candidatesPerStep) {
+                return false;
+            }
+            GuardianPathService.PathResult result = GuardianPathService.findPath(guardian, mob.getX(), mob.getY(), mob.getZ());
+            if (result.deferred()) {
+                deferred = true;
+                return false; // path budget used up: retry this candidate next step
+            }
+            index++;
+            evaluated++;
+            Path path = result.path();
+            if (!GuardianPaths.endNodeNear(path, mob.getX(), mob.getY(), mob.getZ(), 2.0)) {
+                continue; // unreachable or partial path — discard early instead of running at it
+            }
+            if (!zone.containsPath(path)) {
+                continue; // route exits guard zone
+            }
+            double length = GuardianPaths.length(path);
+            if (length < bestLength) {
+                bestLength = length;
+                best = mob;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCandidate(Monster mob, Predicate<? super Monster> eligible) {
+        return mob.isAlive() && !mob.isRemoved() && eligible.test(mob);
+    }
+}